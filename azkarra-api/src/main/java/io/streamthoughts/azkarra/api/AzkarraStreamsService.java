@@ -22,6 +22,7 @@ import io.streamthoughts.azkarra.api.config.Conf;
 import io.streamthoughts.azkarra.api.errors.InvalidStreamsStateException;
 import io.streamthoughts.azkarra.api.errors.NotFoundException;
 import io.streamthoughts.azkarra.api.model.Environment;
+import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.model.Metric;
 import io.streamthoughts.azkarra.api.model.MetricGroup;
 import io.streamthoughts.azkarra.api.model.StreamsStatus;
@@ -29,6 +30,7 @@ import io.streamthoughts.azkarra.api.model.StreamsTopologyGraph;
 import io.streamthoughts.azkarra.api.monad.Tuple;
 import io.streamthoughts.azkarra.api.providers.TopologyDescriptor;
 import io.streamthoughts.azkarra.api.query.Queried;
+import io.streamthoughts.azkarra.api.query.QueryInfo;
 import io.streamthoughts.azkarra.api.query.QueryParams;
 import io.streamthoughts.azkarra.api.query.internal.Query;
 import io.streamthoughts.azkarra.api.query.result.QueryResult;
@@ -39,8 +41,11 @@ import io.streamthoughts.azkarra.api.streams.consumer.ConsumerGroupOffsets;
 import org.apache.kafka.streams.StreamsConfig;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.function.Predicate;
 
 /**
@@ -219,4 +224,58 @@ public interface AzkarraStreamsService {
                                     final Query<K, V> query,
                                     final QueryParams parameters,
                                     final Queried options);
+
+    /**
+     * Executes an interactive query for the specified streams application, without blocking the calling thread
+     * while waiting for the remote instances to respond.
+     *
+     * @param applicationId the streams application id.
+     * @param query         the {@link Query} instance.
+     * @param parameters    the query parameters.
+     * @param options       the query execution options.
+     *
+     * @return              the {@link CompletableFuture} completed with the {@link QueryResult}.
+     *
+     * @throws InvalidStreamsStateException if the streams is not running for the given applicationId.
+     */
+    <K, V> CompletableFuture<QueryResult<K, V>> queryAsync(final String applicationId,
+                                                           final Query<K, V> query,
+                                                           final QueryParams parameters,
+                                                           final Queried options);
+
+    /**
+     * Executes a batch of interactive queries, possibly on different stores, for the specified streams application,
+     * without blocking the calling thread while waiting for the remote instances to respond.
+     *
+     * The queries are executed concurrently, and the queries to be forwarded to the same remote instance
+     * are sent as a single batch.
+     *
+     * @param applicationId the streams application id.
+     * @param queries       the {@link QueryInfo} to execute with their {@link Queried} options.
+     *
+     * @return              the {@link CompletableFuture} completed with the {@link QueryResult}s,
+     *                      in the order of the given queries.
+     *
+     * @throws InvalidStreamsStateException if the streams is not running for the given applicationId.
+     */
+    CompletableFuture<List<QueryResult<Object, Object>>> queryBatchAsync(final String applicationId,
+                                                                         final List<Tuple<QueryInfo, Queried>> queries);
+
+    /**
+     * Gets a {@link Flow.Publisher} which streams the records of an interactive query
+     * for the specified streams application.
+     *
+     * @param applicationId the streams application id.
+     * @param query         the {@link Query} instance.
+     * @param parameters    the query parameters.
+     * @param options       the query execution options.
+     *
+     * @return              the {@link Flow.Publisher} instance.
+     *
+     * @throws InvalidStreamsStateException if the streams is not running for the given applicationId.
+     */
+    <K, V> Flow.Publisher<KV<K, V>> publish(final String applicationId,
+                                            final Query<K, V> query,
+                                            final QueryParams parameters,
+                                            final Queried options);
 }
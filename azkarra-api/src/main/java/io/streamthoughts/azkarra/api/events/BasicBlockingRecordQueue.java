@@ -150,6 +150,14 @@ public class BasicBlockingRecordQueue<K, V> implements BlockingRecordQueue<K, V>
         blockingQueue.drainTo(collection);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drainTo(final Collection<? super KV<K, V>> collection, final int maxRecords) {
+        return blockingQueue.drainTo(collection, maxRecords);
+    }
+
     /**
      * {@inheritDoc}
      */
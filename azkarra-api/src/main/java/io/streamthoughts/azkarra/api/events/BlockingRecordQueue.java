@@ -65,6 +65,23 @@ public interface BlockingRecordQueue<K, V> {
      */
     void drainTo(final Collection<? super KV<K, V>> collection);
 
+    /**
+     * Removes at most the given number of records from this queue and adds them to the given collection.
+     *
+     * @see BlockingQueue#drainTo(Collection, int)
+     *
+     * @return  the number of records transferred.
+     */
+    default int drainTo(final Collection<? super KV<K, V>> collection, final int maxRecords) {
+        int drained = 0;
+        KV<K, V> record;
+        while (drained < maxRecords && (record = poll()) != null) {
+            collection.add(record);
+            drained++;
+        }
+        return drained;
+    }
+
     /**
      * @return  the number of records queued.
      */
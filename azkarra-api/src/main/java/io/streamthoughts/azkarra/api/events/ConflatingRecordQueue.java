@@ -0,0 +1,300 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.events;
+
+import io.streamthoughts.azkarra.api.events.callback.QueueCallback;
+import io.streamthoughts.azkarra.api.model.KV;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link BlockingRecordQueue} which only keeps the latest record of each key.
+ *
+ * A record sent for a key which is already queued replaces the queued record, while keeping its position in
+ * the queue. Thus, records are polled in the order in which their keys were first queued, and the size of the queue
+ * is bounded by the number of distinct keys rather than by the rate of updates. Records with a {@code null} key
+ * are never conflated.
+ *
+ * Sending a record never blocks: when the queue is full and the record is for a new key, the {@link LimitHandler}
+ * is invoked, and the record is dropped if no room was made for it.
+ *
+ * @param <K>     the record-key type.
+ * @param <V>     the record-value type.
+ *
+ * @since 0.8.0
+ */
+public class ConflatingRecordQueue<K, V> implements BlockingRecordQueue<K, V> {
+
+    private static final int DEFAULT_QUEUE_SIZE_LIMIT = 10_000;
+
+    private final Map<Object, KV<K, V>> records = new LinkedHashMap<>();
+
+    private final int queueSizeLimit;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final AtomicBoolean isClosed = new AtomicBoolean(false);
+
+    private final LongAdder conflated = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile LimitHandler limitHandler = LimitHandlers.NO_OP;
+
+    private volatile QueueCallback callback;
+
+    /**
+     * Creates a new {@link ConflatingRecordQueue} instance.
+     */
+    public ConflatingRecordQueue() {
+        this(DEFAULT_QUEUE_SIZE_LIMIT);
+    }
+
+    /**
+     * Creates a new {@link ConflatingRecordQueue} instance.
+     *
+     * @param queueSizeLimit    the maximum number of distinct keys queued.
+     */
+    public ConflatingRecordQueue(final int queueSizeLimit) {
+        if (queueSizeLimit <= 0)
+            throw new IllegalArgumentException("queueSizeLimit must be superior to 0, was :" + queueSizeLimit);
+        this.queueSizeLimit = queueSizeLimit;
+    }
+
+    /**
+     * @return  the number of records replaced by a newer record for the same key before being polled.
+     */
+    public long conflated() {
+        return conflated.sum();
+    }
+
+    /**
+     * @return  the number of records dropped because the queue was full.
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLimitHandler(final LimitHandler limitHandler) {
+        this.limitHandler = Objects.requireNonNull(limitHandler, "limitHandler cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setQueueCallback(final QueueCallback callback) {
+        Objects.requireNonNull(callback, "callback cannot be null");
+        final QueueCallback parent = this.callback;
+        this.callback = parent == null ? callback : new QueueCallback() {
+            @Override
+            public void onClosed() {
+                callback.onClosed();
+                parent.onClosed();
+            }
+
+            @Override
+            public void onQueued() {
+                callback.onQueued();
+                parent.onQueued();
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KV<K, V> poll(final Duration timeout) throws InterruptedException {
+        long nanos = timeout.toNanos();
+        lock.lockInterruptibly();
+        try {
+            while (records.isEmpty()) {
+                if (nanos <= 0) return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return removeHead();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KV<K, V> poll() {
+        lock.lock();
+        try {
+            return records.isEmpty() ? null : removeHead();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private KV<K, V> removeHead() {
+        final Iterator<KV<K, V>> it = records.values().iterator();
+        final KV<K, V> head = it.next();
+        it.remove();
+        return head;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drainTo(final Collection<? super KV<K, V>> collection) {
+        drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drainTo(final Collection<? super KV<K, V>> collection, final int maxRecords) {
+        lock.lock();
+        try {
+            int drained = 0;
+            final Iterator<KV<K, V>> it = records.values().iterator();
+            while (drained < maxRecords && it.hasNext()) {
+                collection.add(it.next());
+                it.remove();
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return records.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void open() {
+        isClosed.set(false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        isClosed.set(true);
+        final QueueCallback callback = this.callback;
+        if (callback != null) callback.onClosed();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This method never blocks waiting for space to become available.
+     */
+    @Override
+    public void send(final KV<K, V> record) {
+        if (record == null || isClosed.get())
+            return;
+
+        // records with no key are never conflated.
+        final Object key = record.key() != null ? record.key() : new Object();
+
+        Offer offer = offer(key, record);
+        if (offer == Offer.FULL) {
+            limitHandler.onLimitReached(this);
+            offer = offer(key, record);
+        }
+
+        if (offer == Offer.FULL) {
+            dropped.increment();
+        } else if (offer == Offer.QUEUED) {
+            // a conflated record is already signaled by the record it replaces.
+            final QueueCallback callback = this.callback;
+            if (callback != null) callback.onQueued();
+        }
+    }
+
+    private enum Offer { QUEUED, CONFLATED, FULL }
+
+    private Offer offer(final Object key, final KV<K, V> record) {
+        lock.lock();
+        try {
+            if (records.replace(key, record) != null) {
+                conflated.increment();
+                return Offer.CONFLATED;
+            }
+            if (records.size() >= queueSizeLimit) {
+                return Offer.FULL;
+            }
+            records.put(key, record);
+            notEmpty.signal();
+            return Offer.QUEUED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            records.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
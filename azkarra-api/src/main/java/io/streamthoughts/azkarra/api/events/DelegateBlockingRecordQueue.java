@@ -76,7 +76,15 @@ public class DelegateBlockingRecordQueue<K, V> implements BlockingRecordQueue<K,
      */
     @Override
     public void drainTo(final Collection<? super KV<K, V>> collection) {
+        delegate.drainTo(collection);
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drainTo(final Collection<? super KV<K, V>> collection, final int maxRecords) {
+        return delegate.drainTo(collection, maxRecords);
     }
 
     /**
@@ -33,16 +33,66 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public class EventStream<K, V> {
 
+    /**
+     * The default number of records buffered per subscriber.
+     */
+    public static final int DEFAULT_SUBSCRIBER_BUFFER_SIZE = 1_000;
+
     private final String type;
     private final BlockingRecordQueue<K, V> queue;
+    private final int subscriberBufferSize;
+    private final OverflowPolicy subscriberOverflowPolicy;
 
     private final AtomicBoolean opened = new AtomicBoolean(false);
 
+    /**
+     * The types of {@link BlockingRecordQueue} which can be used for buffering the records of an event-stream.
+     */
+    public enum QueueType {
+        /**
+         * A {@link BasicBlockingRecordQueue}: senders wait for space to become available when the queue is full.
+         */
+        BLOCKING,
+        /**
+         * A {@link RingBufferRecordQueue}: senders never wait, records being dropped when the queue is full.
+         */
+        RING_BUFFER,
+        /**
+         * A {@link ConflatingRecordQueue}: only the latest record of each key is kept until it is sent.
+         */
+        CONFLATING
+    }
+
+    /**
+     * The policies applied when a record is dispatched to a subscriber whose buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The oldest record buffered for the subscriber is dropped.
+         */
+        DROP_OLDEST,
+        /**
+         * The new record is dropped.
+         */
+        DROP_NEWEST,
+        /**
+         * The subscriber is disconnected, i.e. the subscription is cancelled and an error is signalled.
+         */
+        DISCONNECT,
+        /**
+         * Only the latest record of each key is buffered, the oldest record being dropped when a new key is buffered.
+         */
+        CONFLATE
+    }
+
     public static class Builder {
 
         private String eventType;
         private Integer queueSize;
         private LimitHandler queueLimitHandler;
+        private QueueType queueType = QueueType.BLOCKING;
+        private int subscriberBufferSize = DEFAULT_SUBSCRIBER_BUFFER_SIZE;
+        private OverflowPolicy subscriberOverflowPolicy = OverflowPolicy.DROP_OLDEST;
 
         /**
          * Creates a new {@link Builder} instance.
@@ -63,14 +113,65 @@ public class EventStream<K, V> {
             return this;
         }
 
+        /**
+         * Sets the type of the queue used for buffering records. Default is {@link QueueType#BLOCKING}.
+         *
+         * @param queueType the {@link QueueType}.
+         * @return  {@code this}
+         */
+        public Builder withQueueType(final QueueType queueType) {
+            this.queueType = Objects.requireNonNull(queueType, "queueType cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of records buffered for each subscriber, i.e. the records dispatched to a
+         * subscriber but not yet requested. Default is {@link #DEFAULT_SUBSCRIBER_BUFFER_SIZE}.
+         *
+         * @param subscriberBufferSize the buffer size.
+         * @return  {@code this}
+         */
+        public Builder withSubscriberBufferSize(final int subscriberBufferSize) {
+            this.subscriberBufferSize = subscriberBufferSize;
+            return this;
+        }
+
+        /**
+         * Sets the policy applied when the buffer of a subscriber is full.
+         * Default is {@link OverflowPolicy#DROP_OLDEST}.
+         *
+         * @param subscriberOverflowPolicy the {@link OverflowPolicy}.
+         * @return  {@code this}
+         */
+        public Builder withSubscriberOverflowPolicy(final OverflowPolicy subscriberOverflowPolicy) {
+            this.subscriberOverflowPolicy = Objects.requireNonNull(
+                subscriberOverflowPolicy, "subscriberOverflowPolicy cannot be null");
+            return this;
+        }
+
         public <K, V> EventStream<K, V> build() {
-            var queue = queueSize != null ?
-                new BasicBlockingRecordQueue<K, V>(queueSize) :
-                new BasicBlockingRecordQueue<K, V>();
+            final BlockingRecordQueue<K, V> queue = newQueue();
 
             if (queueLimitHandler != null)
                 queue.setLimitHandler(queueLimitHandler);
-            return new EventStream<>(eventType, queue);
+            return new EventStream<>(eventType, queue, subscriberBufferSize, subscriberOverflowPolicy);
+        }
+
+        private <K, V> BlockingRecordQueue<K, V> newQueue() {
+            switch (queueType) {
+                case RING_BUFFER:
+                    return queueSize != null ?
+                        new RingBufferRecordQueue<>(queueSize) :
+                        new RingBufferRecordQueue<>();
+                case CONFLATING:
+                    return queueSize != null ?
+                        new ConflatingRecordQueue<>(queueSize) :
+                        new ConflatingRecordQueue<>();
+                default:
+                    return queueSize != null ?
+                        new BasicBlockingRecordQueue<>(queueSize) :
+                        new BasicBlockingRecordQueue<>();
+            }
         }
     }
 
@@ -81,8 +182,28 @@ public class EventStream<K, V> {
      * @param queue the {@link BlockingRecordQueue}.
      */
     public EventStream(final String type, final BlockingRecordQueue<K, V> queue) {
+        this(type, queue, DEFAULT_SUBSCRIBER_BUFFER_SIZE, OverflowPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * Creates a new {@link EventStream} instance.
+     *
+     * @param type                      the name of the events send to this stream.
+     * @param queue                     the {@link BlockingRecordQueue}.
+     * @param subscriberBufferSize      the maximum number of records buffered for each subscriber.
+     * @param subscriberOverflowPolicy  the {@link OverflowPolicy} applied when the buffer of a subscriber is full.
+     */
+    public EventStream(final String type,
+                       final BlockingRecordQueue<K, V> queue,
+                       final int subscriberBufferSize,
+                       final OverflowPolicy subscriberOverflowPolicy) {
+        if (subscriberBufferSize <= 0)
+            throw new IllegalArgumentException("subscriberBufferSize must be positive, was :" + subscriberBufferSize);
         this.type = Objects.requireNonNull(type, "eventType cannot be null");
         this.queue = Objects.requireNonNull(queue, "queue cannot be null");
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.subscriberOverflowPolicy = Objects.requireNonNull(
+            subscriberOverflowPolicy, "subscriberOverflowPolicy cannot be null");
     }
 
     /**
@@ -92,6 +213,20 @@ public class EventStream<K, V> {
         return type;
     }
 
+    /**
+     * @return  the maximum number of records buffered for each subscriber.
+     */
+    public int subscriberBufferSize() {
+        return subscriberBufferSize;
+    }
+
+    /**
+     * @return  the {@link OverflowPolicy} applied when the buffer of a subscriber is full.
+     */
+    public OverflowPolicy subscriberOverflowPolicy() {
+        return subscriberOverflowPolicy;
+    }
+
     public synchronized void open(final EventStreamPipe<K, V> pipe) {
         Objects.requireNonNull(pipe, "pipe cannot be null");
         if (opened.get()) {
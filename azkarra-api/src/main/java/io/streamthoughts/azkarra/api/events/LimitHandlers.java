@@ -56,7 +56,7 @@ public class LimitHandlers {
      * @return a new {@link LimitHandler} that retrieves and drops the head of the queue when limit is reached.
      */
     public static LimitHandler dropHeadOnLimitReached() {
-        return new FailOnLimitReached();
+        return new DropHeadOnLimitReached();
     }
 
     private static final class LogAndContinueOnLimitReached implements LimitHandler {
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.events;
+
+import io.streamthoughts.azkarra.api.events.callback.QueueCallback;
+import io.streamthoughts.azkarra.api.model.KV;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A lock-free {@link BlockingRecordQueue} backed by a preallocated ring buffer.
+ *
+ * Records can be sent concurrently by multiple threads (e.g. the StreamThreads of an application) without
+ * allocating or locking. Sending a record never blocks: when the buffer is full, the {@link LimitHandler} is invoked
+ * so that it can make room (e.g. {@link LimitHandlers#dropHeadOnLimitReached()}), and the record is dropped if
+ * the buffer is still full.
+ *
+ * The capacity of the buffer is rounded up to the next power of two.
+ *
+ * @param <K>     the record-key type.
+ * @param <V>     the record-value type.
+ *
+ * @since 0.8.0
+ */
+public class RingBufferRecordQueue<K, V> implements BlockingRecordQueue<K, V> {
+
+    private static final int DEFAULT_QUEUE_SIZE_LIMIT = 10_000;
+
+    private static final long POLL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final AtomicReferenceArray<KV<K, V>> buffer;
+
+    // the sequence of each slot, used to detect whether it is ready to be written or read.
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private final AtomicLong head = new AtomicLong();
+
+    private final AtomicBoolean isClosed = new AtomicBoolean(false);
+
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile LimitHandler limitHandler = LimitHandlers.NO_OP;
+
+    private volatile QueueCallback callback;
+
+    /**
+     * Creates a new {@link RingBufferRecordQueue} instance.
+     */
+    public RingBufferRecordQueue() {
+        this(DEFAULT_QUEUE_SIZE_LIMIT);
+    }
+
+    /**
+     * Creates a new {@link RingBufferRecordQueue} instance.
+     *
+     * @param queueSizeLimit    the queue max capacity, rounded up to the next power of two.
+     */
+    public RingBufferRecordQueue(final int queueSizeLimit) {
+        if (queueSizeLimit <= 0 || queueSizeLimit > (1 << 30))
+            throw new IllegalArgumentException("queueSizeLimit must be in [1, 2^30], was :" + queueSizeLimit);
+
+        final int capacity = queueSizeLimit == 1 ? 1 : Integer.highestOneBit(queueSizeLimit - 1) << 1;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @return  the capacity of the ring buffer.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return  the number of records dropped because the buffer was full.
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLimitHandler(final LimitHandler limitHandler) {
+        this.limitHandler = Objects.requireNonNull(limitHandler, "limitHandler cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setQueueCallback(final QueueCallback callback) {
+        Objects.requireNonNull(callback, "callback cannot be null");
+        final QueueCallback parent = this.callback;
+        this.callback = parent == null ? callback : new QueueCallback() {
+            @Override
+            public void onClosed() {
+                callback.onClosed();
+                parent.onClosed();
+            }
+
+            @Override
+            public void onQueued() {
+                callback.onQueued();
+                parent.onQueued();
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KV<K, V> poll(final Duration timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        KV<K, V> record;
+        while ((record = poll()) == null) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) break;
+            LockSupport.parkNanos(this, Math.min(remaining, POLL_PARK_NANOS));
+            if (Thread.interrupted()) throw new InterruptedException();
+        }
+        return record;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KV<K, V> poll() {
+        long pos = head.get();
+        while (true) {
+            final int index = (int) pos & mask;
+            final long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    final KV<K, V> record = buffer.get(index);
+                    buffer.lazySet(index, null);
+                    // releases the slot for the producer of the next lap.
+                    sequences.set(index, pos + mask + 1);
+                    return record;
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                return null; // empty
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drainTo(final Collection<? super KV<K, V>> collection) {
+        drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drainTo(final Collection<? super KV<K, V>> collection, final int maxRecords) {
+        int drained = 0;
+        KV<K, V> record;
+        while (drained < maxRecords && (record = poll()) != null) {
+            collection.add(record);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        // the head is read first, so that the size is never negative.
+        final long h = head.get();
+        final long size = tail.get() - h;
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void open() {
+        isClosed.set(false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        isClosed.set(true);
+        final QueueCallback callback = this.callback;
+        if (callback != null) callback.onClosed();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This method never blocks.
+     */
+    @Override
+    public void send(final KV<K, V> record) {
+        if (record == null || isClosed.get())
+            return;
+
+        if (!offer(record)) {
+            limitHandler.onLimitReached(this);
+            if (!offer(record)) {
+                dropped.increment();
+                return;
+            }
+        }
+        final QueueCallback callback = this.callback;
+        if (callback != null) callback.onQueued();
+    }
+
+    private boolean offer(final KV<K, V> record) {
+        long pos = tail.get();
+        while (true) {
+            final int index = (int) pos & mask;
+            final long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer.lazySet(index, record);
+                    // publishes the record to the consumer.
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false; // full
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        KV<K, V> record = poll();
+        while (record != null) {
+            record = poll();
+        }
+    }
+}
@@ -22,6 +22,7 @@ import io.streamthoughts.azkarra.api.events.BlockingRecordQueue;
 import io.streamthoughts.azkarra.api.events.EventStream;
 import io.streamthoughts.azkarra.api.events.callback.QueueCallback;
 import io.streamthoughts.azkarra.api.events.reactive.internal.SequentialSubscriptionIdGenerator;
+import io.streamthoughts.azkarra.api.events.reactive.internal.SubscriptionBuffer;
 import io.streamthoughts.azkarra.api.events.reactive.internal.SubscriptionId;
 import io.streamthoughts.azkarra.api.events.reactive.internal.SubscriptionIdGenerator;
 import io.streamthoughts.azkarra.api.model.KV;
@@ -29,22 +30,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * The AsyncMulticastEventStreamPublisher is an implementation of Reactive Streams {@link Flow.Publisher}
- * which executes asynchronously, using an internal single-thread {@link java.util.concurrent.Executor}.
+ * which executes asynchronously, using a single-thread event-loop of an {@link EventLoopGroup}.
  *
  * Records are produced from a given {@link EventStream} in a "multicast" configuration to its {@link Flow.Subscriber}.
  *
@@ -52,23 +56,41 @@ import static java.util.Objects.requireNonNull;
  * as soon as it perform a valid request demand. The publisher will continue to poll the event-stream buffer as long
  * as at-least one subscriber is requesting more records, i.e even if other subscriptions are applying back-pressure.
  *
+ * Records are drained from the event-stream buffer in batches, bounded by the highest demand of the subscriptions,
+ * and each batch is dispatched to all subscriptions. The signals of records queued in a burst are coalesced into
+ * a single send.
+ *
+ * Each subscription has its own bounded buffer holding the records dispatched to it but not yet requested, so that
+ * a slow subscriber neither misses records nor holds back the other ones. When the buffer of a subscriber is full
+ * the {@link EventStream.OverflowPolicy} of the event-stream is applied, a warning being logged once each time
+ * a subscriber starts dropping records, until its buffer is drained (see {@link #droppedRecords()}).
+ * Records still buffered for a subscriber when the event-stream is closed are discarded.
+ *
  * @since 0.8.0
  */
 public class AsyncMulticastEventStreamPublisher<K, V> implements EventStreamPublisher<K, V> {
 
     private static final Logger LOG = LoggerFactory.getLogger(AsyncMulticastEventStreamPublisher.class);
 
-    // The maximum number of records to try to poll from the queue on each send.
-    private static final int MAX_POLL_RECORDS = 100;
+    // The maximum number of records to drain from the queue and dispatch on each send.
+    private static final int MAX_BATCH_RECORDS = 512;
+    // The maximum number of signals to process before yielding the event-loop thread.
+    private static final int MAX_SIGNALS_PER_RUN = 64;
     private static final Duration AWAIT_TERMINATION_TIMEOUT = Duration.ofSeconds(30);
 
     private final EventStream<K, V> stream;
     private final SubscriptionIdGenerator idGenerator;
 
-    private final EventLoop eventLoop = new EventLoop();
+    private final EventLoop eventLoop;
 
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
+    // Is a Send signal pending, used for coalescing the signals of records queued in a burst.
+    private final AtomicBoolean sendSignaled = new AtomicBoolean(false);
+
+    // The number of records dropped for all subscriptions because their buffer was full.
+    private final AtomicLong dropped = new AtomicLong(0L);
+
     private BlockingRecordQueue<K, V> queue;
 
     private final ConcurrentHashMap<SubscriptionId, EventStreamSubscription<KV<K, V>>> subscriptions
@@ -80,7 +102,18 @@ public class AsyncMulticastEventStreamPublisher<K, V> implements EventStreamPubl
      * @param stream   the {@link EventStream}.
      */
     public AsyncMulticastEventStreamPublisher(final EventStream<K, V> stream) {
-        this(stream, new SequentialSubscriptionIdGenerator());
+        this(stream, EventLoopGroup.defaultGroup());
+    }
+
+    /**
+     * Creates a new {@link AsyncMulticastEventStreamPublisher} instance.
+     *
+     * @param stream   the {@link EventStream}.
+     * @param group    the {@link EventLoopGroup} to which this publisher is pinned.
+     */
+    public AsyncMulticastEventStreamPublisher(final EventStream<K, V> stream,
+                                              final EventLoopGroup group) {
+        this(stream, group, new SequentialSubscriptionIdGenerator());
     }
 
     /**
@@ -89,9 +122,11 @@ public class AsyncMulticastEventStreamPublisher<K, V> implements EventStreamPubl
      * @param stream   the {@link EventStream}.
      */
     private AsyncMulticastEventStreamPublisher(final EventStream<K, V> stream,
+                                               final EventLoopGroup group,
                                                final SubscriptionIdGenerator subscriptionIdGenerator) {
         this.stream = requireNonNull(stream, "stream cannot be null");
         this.idGenerator = requireNonNull(subscriptionIdGenerator, "subscriptionIdGenerator cannot be null");
+        this.eventLoop = new EventLoop(requireNonNull(group, "group cannot be null").next(this));
         init();
     }
 
@@ -108,7 +143,7 @@ public class AsyncMulticastEventStreamPublisher<K, V> implements EventStreamPubl
 
                 @Override
                 public void onQueued() {
-                    eventLoop.signal(Send.Instance);
+                    signalSend();
                 }
             });
         });
@@ -123,6 +158,14 @@ public class AsyncMulticastEventStreamPublisher<K, V> implements EventStreamPubl
         return stream.type();
     }
 
+    /**
+     * Gets the number of records dropped by this publisher because the buffer of a subscriber was full.
+     *
+     * @return  the number of dropped records.
+     */
+    public long droppedRecords() {
+        return dropped.get();
+    }
 
     /**
      * {@inheritDoc}
@@ -150,10 +193,9 @@ public class AsyncMulticastEventStreamPublisher<K, V> implements EventStreamPubl
         return !queue.isEmpty();
     }
 
-    private boolean hasActiveSubscriptions() {
-        return subscriptions.values()
-            .stream()
-            .anyMatch(EventStreamSubscription::canReceived);
+    private void signalSend() {
+        if (sendSignaled.compareAndSet(false, true))
+            eventLoop.signal(Send.Instance);
     }
 
     private Collection<EventStreamSubscription<KV<K, V>>> subscriptions() {
@@ -216,19 +258,30 @@ public class AsyncMulticastEventStreamPublisher<K, V> implements EventStreamPubl
 
         private final ConcurrentLinkedQueue<Signal> inboundSignals = new ConcurrentLinkedQueue<>();
 
-        private ExecutorService executor;
+        private final Executor executor;
 
         private final AtomicBoolean on = new AtomicBoolean(false);
 
+        // Is the event-loop shutdown, i.e. no more signals will be processed.
+        private volatile boolean shutdown = false;
+
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        // The records and the subscriptions of the current batch, only accessed from the event-loop.
+        private final List<KV<K, V>> batch = new ArrayList<>();
+        private final List<EventStreamSubscription<KV<K, V>>> active = new ArrayList<>();
+
         /**
          * Creates a new {@link EventLoop}.
+         *
+         * @param executor  the single-thread {@link Executor} of the event-loop.
          */
-        EventLoop() {
-            executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "event-streams-loop-publisher"));
+        EventLoop(final Executor executor) {
+            this.executor = executor;
         }
 
         public void signal(final Signal signal) {
-            if (inboundSignals.offer(signal))
+            if (!shutdown && inboundSignals.offer(signal))
                 tryScheduleToExecute();
         }
 
@@ -236,11 +289,13 @@ public class AsyncMulticastEventStreamPublisher<K, V> implements EventStreamPubl
             if(on.compareAndSet(false, true)) {
                 try {
                     executor.execute(this);
+                } catch (RejectedExecutionException exception) {
+                    // The event-loop group is closed (e.g. before the event-stream), signals are processed on the
+                    // calling thread so that the remaining records are drained and the subscriptions completed.
+                    run();
                 } catch (Throwable exception) {
-                    // The publisher is already closed or is
-                    if (closed.get()) {
-                        on.set(false);
-                    }
+                    LOG.error("Unexpected error while scheduling event-loop", exception);
+                    on.set(false);
                 }
             }
         }
@@ -249,44 +304,55 @@ public class AsyncMulticastEventStreamPublisher<K, V> implements EventStreamPubl
         public void run() {
             if (on.get()) {
                 try {
-                    final Signal s = inboundSignals.poll();
-                    if (s != null) {
-                        LOG.trace("processing: {}", s.getClass().getSimpleName());
-                        if (s == Send.Instance) {
-                            maySendNextRecords();
-                        }
-                        if (s == Complete.Instance) {
-                            try {
-                                mayDrainAllRecords();
-                            } finally {
-                                shutdown();
-                                inboundSignals.clear(); // do not process any signals after shutdown
-                            }
-                        }
-                        if (s instanceof SubscriptionSignal) {
-                            ((SubscriptionSignal)s).execute();
-                        }
+                    int processed = 0;
+                    Signal s;
+                    while (processed++ < MAX_SIGNALS_PER_RUN &&
+                           !shutdown &&
+                           (s = inboundSignals.poll()) != null) {
+                        process(s);
                     }
                 } finally {
                     on.set(false);
                     // do proceed if the last signal was not `Complete`
-                    if (!executor.isShutdown() && !inboundSignals.isEmpty()) {
+                    if (shutdown) {
+                        terminated.countDown();
+                    } else if (!inboundSignals.isEmpty()) {
                         tryScheduleToExecute();
                     }
                 }
             }
         }
 
+        private void process(final Signal s) {
+            LOG.trace("processing: {}", s.getClass().getSimpleName());
+            if (s == Send.Instance) {
+                maySendNextRecords();
+            }
+            if (s == Complete.Instance) {
+                try {
+                    mayDrainAllRecords();
+                } finally {
+                    shutdown();
+                    inboundSignals.clear(); // do not process any signals after shutdown
+                }
+            }
+            if (s instanceof SubscriptionSignal) {
+                ((SubscriptionSignal)s).execute();
+            }
+        }
+
         private void shutdown() {
             LOG.info("Shutting down event-loop");
-            executor.shutdown();
+            shutdown = true;
         }
 
         void awaitTerminationAndDoComplete(final Duration forceAfterTimeout) {
             try {
-                executor.awaitTermination(forceAfterTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                if (!terminated.await(forceAfterTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    LOG.error("EventLoop failed to terminate before timeout, unsent events: {}", queue.size());
+                }
             } catch (InterruptedException exception) {
-                executor.shutdownNow();
+                Thread.currentThread().interrupt();
                 LOG.error("EventLoop failed to terminate before timeout, unsent events: {}", queue.size());
             } finally {
                 subscriptions().forEach(EventStreamSubscription::doOnComplete);
@@ -294,34 +360,58 @@ public class AsyncMulticastEventStreamPublisher<K, V> implements EventStreamPubl
         }
 
         private void mayDrainAllRecords() {
-            if (hasActiveSubscriptions() && hasMoreRecords()) {
+            if (!collectSubscriptions() && hasMoreRecords()) {
                 // Try to send all remaining records before completing subscriptions.
-                Collection<KV<K, V>> records = new LinkedList<>();
-                queue.drainTo(records);
-                records.forEach(record -> {
-                    subscriptions().forEach(subscription -> {
-                        if (subscription.canReceived())
-                            subscription.doOnNext(record);
-                    });
-                });
+                batch.clear();
+                queue.drainTo(batch);
+                dispatch();
             }
         }
 
         private void maySendNextRecords() {
-            int sent = 0;
-            while (hasMoreRecords() && sent < MAX_POLL_RECORDS) {
-                // return immediately if no subscription can receive more records.
-                if (!hasActiveSubscriptions()) {
-                    LOG.trace("no subscription ready for next records. Signal ignored.");
-                    break;
+            // records queued from now on will trigger a new signal.
+            sendSignaled.set(false);
+            if (collectSubscriptions()) {
+                return;
+            }
+            final long demands = active.stream().mapToLong(EventStreamSubscription::demands).max().orElse(0L);
+            // return immediately if no subscription can receive more records.
+            if (demands == 0) {
+                LOG.trace("no subscription ready for next records. Signal ignored.");
+                active.clear();
+                return;
+            }
+            batch.clear();
+            queue.drainTo(batch, (int) Math.min(demands, MAX_BATCH_RECORDS));
+            dispatch();
+            // continue with the next batch once the pending signals (e.g. cancel) are processed.
+            if (hasMoreRecords()) {
+                signalSend();
+            }
+        }
+
+        /**
+         * Collects the subscriptions and sends them their buffered records.
+         *
+         * @return {@code true} if there is no subscription.
+         */
+        private boolean collectSubscriptions() {
+            active.clear();
+            for (EventStreamSubscription<KV<K, V>> subscription : subscriptions()) {
+                subscription.doOnFlush();
+                active.add(subscription);
+            }
+            return active.isEmpty();
+        }
+
+        private void dispatch() {
+            for (EventStreamSubscription<KV<K, V>> subscription : active) {
+                for (KV<K, V> record : batch) {
+                    subscription.doOnDispatch(record);
                 }
-                KV<K, V> record = queue.poll();
-                subscriptions().forEach(subscription -> {
-                    if (subscription.canReceived())
-                        subscription.doOnNext(record);
-                });
-                sent++;
             }
+            batch.clear();
+            active.clear();
         }
     }
 
@@ -331,7 +421,11 @@ public class AsyncMulticastEventStreamPublisher<K, V> implements EventStreamPubl
         // MUST be executed only from the event-loop
         void doOnSubscribe();
         // MUST be executed only from the event-loop
-        boolean canReceived();
+        void doOnDispatch(final T record);
+        // MUST be executed only from the event-loop
+        void doOnFlush();
+        // MUST be executed only from the event-loop
+        long demands();
         // MUST be executed only from the event-loop
         void doOnRequest(final long demands);
         void doOnComplete();
@@ -347,23 +441,80 @@ public class AsyncMulticastEventStreamPublisher<K, V> implements EventStreamPubl
 
         private final SubscriptionId subscriptionId;
 
+        private final SubscriptionBuffer<K, V> buffer;
+
         private long demands = 0L;
 
         private boolean completed = false;
 
         private boolean done = false;
 
+        // is the buffer dropping records since it was last drained.
+        private boolean overflowing = false;
+
         InternalEventStreamSubscription(final Flow.Subscriber<? super KV<K, V>> subscriber,
                                         final SubscriptionId subscriptionId) {
             this.subscriber = subscriber;
             this.subscriptionId = subscriptionId;
+            this.buffer = new SubscriptionBuffer<>(stream.subscriberBufferSize(), stream.subscriberOverflowPolicy());
         }
 
-        @Override
-        public boolean canReceived() {
+        private boolean canReceived() {
             return demands > 0 && !done;
         }
 
+        @Override
+        public void doOnDispatch(final KV<K, V> record) {
+            if (done) return;
+
+            if (canReceived() && buffer.isEmpty()) {
+                doOnNext(record);
+                return;
+            }
+
+            final long droppedBefore = buffer.dropped();
+            if (!buffer.offer(record)) {
+                disconnect();
+            } else if (buffer.dropped() > droppedBefore) {
+                dropped.incrementAndGet();
+                if (!overflowing) {
+                    overflowing = true;
+                    LOG.warn("Dropping records for event-stream '{}', subscriber buffer is full (policy={}, size={})",
+                        stream.type(), stream.subscriberOverflowPolicy(), buffer.size());
+                }
+            }
+        }
+
+        @Override
+        public void doOnFlush() {
+            KV<K, V> record;
+            while (canReceived() && (record = buffer.poll()) != null) {
+                doOnNext(record);
+            }
+            if (overflowing && buffer.isEmpty()) {
+                overflowing = false;
+                LOG.info("Subscriber buffer drained for event-stream '{}', records dropped so far: {}",
+                    stream.type(), buffer.dropped());
+            }
+        }
+
+        private void disconnect() {
+            LOG.warn("Disconnecting subscriber for event-stream '{}', buffer is full (size={})",
+                stream.type(), buffer.size());
+            doOnCancel();
+            try {
+                subscriber.onError(new SubscriberOverflowException(
+                    "Subscriber buffer is full for event-stream '" + stream.type() + "'"));
+            } catch (Exception e) {
+                LOG.error("Exception occurred while calling onError", e);
+            }
+        }
+
+        @Override
+        public long demands() {
+            return demands;
+        }
+
         @Override
         public void doOnRequest(final long n) {
             if (n < 1) { // rule 3.9
@@ -376,7 +527,8 @@ public class AsyncMulticastEventStreamPublisher<K, V> implements EventStreamPubl
             } else {
                 demands += n;
             }
-            eventLoop.signal(Send.Instance);
+            doOnFlush();
+            signalSend();
         }
 
         private void decrementRequested() {
@@ -406,6 +558,7 @@ public class AsyncMulticastEventStreamPublisher<K, V> implements EventStreamPubl
         @Override
         public void doOnCancel() {
             subscriptions.remove(subscriptionId); // drop any reference to this subscription/subscriber
+            buffer.clear();
             done = true;
         }
 
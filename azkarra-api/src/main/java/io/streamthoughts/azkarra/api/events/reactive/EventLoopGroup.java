@@ -0,0 +1,212 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.events.reactive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A fixed group of single-threaded event-loops shared by {@link AsyncMulticastEventStreamPublisher}s.
+ *
+ * Each publisher is pinned to one loop selected from the hash of a key, so that all its signals are processed
+ * by the same thread, in order. A publisher never processes its signals concurrently, i.e. several publishers
+ * pinned to the same loop are interleaved but the ordering of each of them is preserved.
+ *
+ * @since 0.8.0
+ */
+public class EventLoopGroup implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventLoopGroup.class);
+
+    private static final AtomicInteger GROUP_SEQUENCE = new AtomicInteger(0);
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private static EventLoopGroup DEFAULT_GROUP;
+
+    /**
+     * Gets the default {@link EventLoopGroup} used by publishers which are not attached to a group.
+     * The default group is created on first use with one loop per available processor.
+     *
+     * @return  the default {@link EventLoopGroup}.
+     */
+    public static synchronized EventLoopGroup defaultGroup() {
+        if (DEFAULT_GROUP == null) {
+            DEFAULT_GROUP = new EventLoopGroup(Runtime.getRuntime().availableProcessors());
+        }
+        return DEFAULT_GROUP;
+    }
+
+    private final List<EventLoopExecutor> loops;
+
+    /**
+     * Creates a new {@link EventLoopGroup} instance.
+     *
+     * @param numLoops  the number of event-loops, i.e. threads.
+     */
+    public EventLoopGroup(final int numLoops) {
+        if (numLoops <= 0)
+            throw new IllegalArgumentException("numLoops must be positive, was :" + numLoops);
+        final int group = GROUP_SEQUENCE.getAndIncrement();
+        final List<EventLoopExecutor> loops = new ArrayList<>(numLoops);
+        for (int i = 0; i < numLoops; i++) {
+            loops.add(new EventLoopExecutor(i, "event-streams-loop-" + group + "-" + i));
+        }
+        this.loops = Collections.unmodifiableList(loops);
+    }
+
+    /**
+     * Selects the event-loop to which the given key is pinned.
+     *
+     * @param key   the key, e.g. the publisher.
+     * @return      the {@link EventLoopExecutor}.
+     */
+    public EventLoopExecutor next(final Object key) {
+        return loops.get(Math.floorMod(key.hashCode(), loops.size()));
+    }
+
+    /**
+     * @return  all the event-loops of this group.
+     */
+    public List<EventLoopExecutor> loops() {
+        return loops;
+    }
+
+    /**
+     * @return  the number of event-loops of this group.
+     */
+    public int size() {
+        return loops.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        LOG.info("Closing event-loop group");
+        loops.forEach(EventLoopExecutor::shutdown);
+        for (EventLoopExecutor loop : loops) {
+            loop.awaitTermination(CLOSE_TIMEOUT);
+        }
+    }
+
+    /**
+     * A single-threaded {@link Executor} which records the time spent executing tasks.
+     */
+    public static final class EventLoopExecutor implements Executor {
+
+        private final int index;
+        private final ExecutorService executor;
+
+        private final AtomicInteger pending = new AtomicInteger(0);
+        private final AtomicLong executed = new AtomicLong(0L);
+        private final AtomicLong busyTimeNanos = new AtomicLong(0L);
+
+        private EventLoopExecutor(final int index, final String threadName) {
+            this.index = index;
+            this.executor = Executors.newSingleThreadExecutor(r -> {
+                final Thread thread = new Thread(r, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void execute(final Runnable task) {
+            pending.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    pending.decrementAndGet();
+                    final long start = System.nanoTime();
+                    try {
+                        task.run();
+                    } finally {
+                        busyTimeNanos.addAndGet(System.nanoTime() - start);
+                        executed.incrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                pending.decrementAndGet();
+                throw e;
+            }
+        }
+
+        /**
+         * @return  the index of this event-loop in its group.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * @return  the number of tasks waiting to be executed.
+         */
+        public int pendingTasks() {
+            return pending.get();
+        }
+
+        /**
+         * @return  the number of tasks executed.
+         */
+        public long executedTasks() {
+            return executed.get();
+        }
+
+        /**
+         * Gets the total time spent executing tasks. The utilization of this event-loop over a period of time
+         * is the increase of this value divided by the duration of the period.
+         *
+         * @return  the total time spent executing tasks, in nanoseconds.
+         */
+        public long busyTimeNanos() {
+            return busyTimeNanos.get();
+        }
+
+        private void shutdown() {
+            executor.shutdown();
+        }
+
+        private void awaitTermination(final Duration timeout) {
+            try {
+                if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
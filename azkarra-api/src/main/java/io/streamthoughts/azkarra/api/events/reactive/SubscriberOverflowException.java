@@ -0,0 +1,40 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.events.reactive;
+
+import io.streamthoughts.azkarra.api.errors.AzkarraException;
+
+/**
+ * Signalled to a subscriber which is disconnected because its buffer is full.
+ *
+ * @see io.streamthoughts.azkarra.api.events.EventStream.OverflowPolicy#DISCONNECT
+ *
+ * @since 0.8.0
+ */
+public class SubscriberOverflowException extends AzkarraException {
+
+    /**
+     * Creates a new {@link SubscriberOverflowException} instance.
+     *
+     * @param message   the error message.
+     */
+    public SubscriberOverflowException(final String message) {
+        super(message);
+    }
+}
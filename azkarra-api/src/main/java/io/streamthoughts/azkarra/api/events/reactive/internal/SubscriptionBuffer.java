@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.events.reactive.internal;
+
+import io.streamthoughts.azkarra.api.events.EventStream.OverflowPolicy;
+import io.streamthoughts.azkarra.api.model.KV;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+/**
+ * A bounded buffer of the records dispatched to a single subscription but not yet requested.
+ *
+ * This class is not thread-safe and MUST only be accessed from the event-loop of the publisher.
+ *
+ * @param <K>   the record key type.
+ * @param <V>   the record value type.
+ *
+ * @since 0.8.0
+ */
+public class SubscriptionBuffer<K, V> {
+
+    private final int capacity;
+    private final OverflowPolicy policy;
+
+    // the records buffered for all policies except CONFLATE.
+    private final ArrayDeque<KV<K, V>> records;
+    // the records buffered for the CONFLATE policy, keyed by record key.
+    private final LinkedHashMap<Object, KV<K, V>> latest;
+
+    private long dropped = 0L;
+
+    /**
+     * Creates a new {@link SubscriptionBuffer} instance.
+     *
+     * @param capacity  the maximum number of buffered records.
+     * @param policy    the {@link OverflowPolicy} applied when the buffer is full.
+     */
+    public SubscriptionBuffer(final int capacity, final OverflowPolicy policy) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be positive, was :" + capacity);
+        this.capacity = capacity;
+        this.policy = Objects.requireNonNull(policy, "policy cannot be null");
+        this.records = policy == OverflowPolicy.CONFLATE ? null : new ArrayDeque<>();
+        this.latest = policy == OverflowPolicy.CONFLATE ? new LinkedHashMap<>() : null;
+    }
+
+    /**
+     * Adds the given record to this buffer, applying the overflow policy if the buffer is full.
+     *
+     * @param record    the record to add.
+     * @return          {@code false} if the buffer is full and the policy is {@link OverflowPolicy#DISCONNECT},
+     *                  {@code true} otherwise.
+     */
+    public boolean offer(final KV<K, V> record) {
+        if (policy == OverflowPolicy.CONFLATE) {
+            // records with a null key are never conflated.
+            final Object key = record.key() != null ? record.key() : new Object();
+            if (latest.replace(key, record) != null) {
+                return true;
+            }
+            if (latest.size() == capacity) {
+                final Iterator<KV<K, V>> it = latest.values().iterator();
+                it.next();
+                it.remove();
+                dropped++;
+            }
+            latest.put(key, record);
+            return true;
+        }
+
+        if (records.size() < capacity) {
+            records.offer(record);
+            return true;
+        }
+
+        switch (policy) {
+            case DROP_OLDEST:
+                records.poll();
+                records.offer(record);
+                dropped++;
+                return true;
+            case DROP_NEWEST:
+                dropped++;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Retrieves and removes the oldest buffered record.
+     *
+     * @return  the record, or {@code null} if this buffer is empty.
+     */
+    public KV<K, V> poll() {
+        if (latest != null) {
+            final Iterator<KV<K, V>> it = latest.values().iterator();
+            if (!it.hasNext()) return null;
+            final KV<K, V> record = it.next();
+            it.remove();
+            return record;
+        }
+        return records.poll();
+    }
+
+    /**
+     * @return  the number of buffered records.
+     */
+    public int size() {
+        return latest != null ? latest.size() : records.size();
+    }
+
+    /**
+     * @return  {@code true} if no record is buffered.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return  the number of records dropped because the buffer was full.
+     */
+    public long dropped() {
+        return dropped;
+    }
+
+    /**
+     * Removes all buffered records.
+     */
+    public void clear() {
+        if (latest != null) latest.clear();
+        else records.clear();
+    }
+}
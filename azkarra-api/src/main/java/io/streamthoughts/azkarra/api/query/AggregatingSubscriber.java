@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.time.Time;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link Flow.Subscriber} which adds all the records it receives to an {@link Aggregation.Accumulator}, so that
+ * records are aggregated while they are read from the local store, without being materialized.
+ *
+ * Records not matching the given {@link RecordFilter} are ignored, and the subscription is cancelled
+ * when the given deadline is reached.
+ *
+ * @since 0.8.0
+ */
+final class AggregatingSubscriber<K, V> implements Flow.Subscriber<KV<K, V>> {
+
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    private final Aggregation.Accumulator accumulator;
+    private final RecordFilter filter;
+    private final long deadline;
+    private final CompletableFuture<Boolean> completion = new CompletableFuture<>();
+
+    private Flow.Subscription subscription;
+    private long received;
+
+    /**
+     * Creates a new {@link AggregatingSubscriber} instance.
+     *
+     * @param accumulator   the {@link Aggregation.Accumulator} to which records are added.
+     * @param filter        the {@link RecordFilter} that records must satisfy, or {@code null}.
+     * @param deadline      the absolute time at which records should no longer be read.
+     */
+    AggregatingSubscriber(final Aggregation.Accumulator accumulator,
+                          final RecordFilter filter,
+                          final long deadline) {
+        this.accumulator = Objects.requireNonNull(accumulator, "accumulator cannot be null");
+        this.filter = filter;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Gets the future completed when all records have been received.
+     *
+     * @return  a {@link CompletableFuture} completed with {@code false} if the deadline was reached before.
+     */
+    CompletableFuture<Boolean> completion() {
+        return completion;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onNext(final KV<K, V> record) {
+        if (completion.isDone()) return;
+        if (filter == null || filter.test(record)) {
+            accumulator.accumulate(record);
+        }
+        if (++received % DEADLINE_CHECK_INTERVAL == 0 && Time.SYSTEM.milliseconds() >= deadline) {
+            subscription.cancel();
+            completion.complete(false);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onError(final Throwable throwable) {
+        completion.completeExceptionally(throwable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onComplete() {
+        completion.complete(true);
+    }
+}
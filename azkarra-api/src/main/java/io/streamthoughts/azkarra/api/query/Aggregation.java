@@ -0,0 +1,298 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.model.KV;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * An aggregation computed over the records of a query, instead of returning them.
+ *
+ * <p>
+ * Each instance computes a partial aggregate over its local stores, which is returned as a (small) list of records,
+ * and the partial aggregates of all instances are then combined by the instance receiving the query:
+ * <ul>
+ *     <li>{@code count}: returns a single record {@code count} with the exact number of records.</li>
+ *     <li>{@code sum}, {@code min}, {@code max}: returns a single record named after the operator,
+ *     with the sum, the minimum or the maximum of the numeric values.</li>
+ *     <li>{@code top_n}: returns the N records with the highest numeric values, in descending order.</li>
+ * </ul>
+ *
+ * The numeric value of a record is either the value itself, or the field designated by a dot-separated path,
+ * which is resolved on maps, on objects exposing a {@code get(String)} method (e.g. Avro records),
+ * or on getter methods. Records without a numeric value are ignored, except by the {@code count} operator.
+ *
+ * @since 0.8.0
+ */
+public final class Aggregation {
+
+    public enum Operator {
+
+        COUNT, SUM, MIN, MAX, TOP_N;
+
+        public static Optional<Operator> parse(final String operator) {
+            return Arrays.stream(values()).filter(o -> o.name().equalsIgnoreCase(operator)).findFirst();
+        }
+
+        public String prettyName() {
+            return name().toLowerCase();
+        }
+    }
+
+    public static Aggregation count() {
+        return new Aggregation(Operator.COUNT, null, null);
+    }
+
+    public static Aggregation sum(final String path) {
+        return new Aggregation(Operator.SUM, path, null);
+    }
+
+    public static Aggregation min(final String path) {
+        return new Aggregation(Operator.MIN, path, null);
+    }
+
+    public static Aggregation max(final String path) {
+        return new Aggregation(Operator.MAX, path, null);
+    }
+
+    public static Aggregation topN(final int n, final String path) {
+        return new Aggregation(Operator.TOP_N, path, n);
+    }
+
+    private final Operator operator;
+    private final String path;
+    private final Integer n;
+
+    /**
+     * Creates a new {@link Aggregation} instance.
+     *
+     * @param operator  the aggregation {@link Operator}.
+     * @param path      the path of the numeric field in values, or {@code null} if values are numbers.
+     * @param n         the number of records to return, only for {@link Operator#TOP_N}.
+     */
+    public Aggregation(final Operator operator, final String path, final Integer n) {
+        this.operator = Objects.requireNonNull(operator, "operator cannot be null");
+        if (operator == Operator.TOP_N && (n == null || n <= 0)) {
+            throw new IllegalArgumentException("'n' must be a positive number for operator " + operator.prettyName());
+        }
+        this.path = path == null || path.isEmpty() ? null : path;
+        this.n = operator == Operator.TOP_N ? n : null;
+    }
+
+    public Operator operator() {
+        return operator;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public Integer n() {
+        return n;
+    }
+
+    /**
+     * Creates a new accumulator for computing this aggregation.
+     *
+     * @return  a new {@link Accumulator} instance.
+     */
+    public Accumulator newAccumulator() {
+        return new Accumulator();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Aggregation)) return false;
+        final Aggregation that = (Aggregation) o;
+        return operator == that.operator &&
+               Objects.equals(path, that.path) &&
+               Objects.equals(n, that.n);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, path, n);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "Aggregation{" +
+                "operator=" + operator +
+                ", path=" + path +
+                ", n=" + n +
+                '}';
+    }
+
+    /**
+     * Accumulates either records or partial aggregates. This class is not thread-safe.
+     */
+    public final class Accumulator {
+
+        private final FieldPath field = new FieldPath(path);
+        private final PriorityQueue<Ranked> top = new PriorityQueue<>(RANK_ORDER);
+
+        private long count;
+        private long integralSum;
+        private double decimalSum;
+        private boolean decimal;
+        private Number extremum;
+
+        private Accumulator() { }
+
+        /**
+         * Adds a queried record to this accumulator.
+         *
+         * @param record    the record to add.
+         */
+        public void accumulate(final KV<?, ?> record) {
+            if (operator == Operator.COUNT) {
+                count++;
+            } else {
+                final Number number = numberOf(record.value());
+                if (number != null) add(record, number);
+            }
+        }
+
+        /**
+         * Adds a record of a partial aggregate, as returned by {@link #result()}, to this accumulator.
+         *
+         * @param partial   the partial aggregate record to combine.
+         */
+        public void combine(final KV<?, ?> partial) {
+            if (operator == Operator.TOP_N) {
+                accumulate(partial);
+                return;
+            }
+            final Number number = toNumber(partial.value());
+            if (number == null) return;
+            if (operator == Operator.COUNT) {
+                count += number.longValue();
+            } else {
+                add(partial, number);
+            }
+        }
+
+        /**
+         * Gets the aggregate computed so far, as records.
+         *
+         * @return  the list of records.
+         */
+        @SuppressWarnings("unchecked")
+        public <K, V> List<KV<K, V>> result() {
+            final List<KV<Object, Object>> records = new ArrayList<>();
+            switch (operator) {
+                case COUNT:
+                    records.add(KV.of(operator.prettyName(), count));
+                    break;
+                case SUM:
+                    // the sum is a long unless at least one value is a decimal number.
+                    final Number sum = decimal ? (Number) (integralSum + decimalSum) : (Number) integralSum;
+                    records.add(KV.of(operator.prettyName(), sum));
+                    break;
+                case TOP_N:
+                    final List<Ranked> ranked = new ArrayList<>(top);
+                    ranked.sort(RANK_ORDER.reversed());
+                    ranked.forEach(r -> records.add((KV<Object, Object>) r.record));
+                    break;
+                default:
+                    if (extremum != null) records.add(KV.of(operator.prettyName(), extremum));
+            }
+            return (List<KV<K, V>>) (List<?>) records;
+        }
+
+        private void add(final KV<?, ?> record, final Number number) {
+            switch (operator) {
+                case SUM:
+                    if (isIntegral(number)) {
+                        integralSum += number.longValue();
+                    } else {
+                        decimalSum += number.doubleValue();
+                        decimal = true;
+                    }
+                    break;
+                case MIN:
+                    if (extremum == null || COMPARATOR.compare(number, extremum) < 0) extremum = number;
+                    break;
+                case MAX:
+                    if (extremum == null || COMPARATOR.compare(number, extremum) > 0) extremum = number;
+                    break;
+                case TOP_N:
+                    top.add(new Ranked(number, record));
+                    if (top.size() > n) top.poll();
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected operator: " + operator);
+            }
+        }
+
+        private Number numberOf(final Object value) {
+            return toNumber(field.resolve(value));
+        }
+    }
+
+    private static final Comparator<Number> COMPARATOR = (n1, n2) -> isIntegral(n1) && isIntegral(n2) ?
+        Long.compare(n1.longValue(), n2.longValue()) :
+        Double.compare(n1.doubleValue(), n2.doubleValue());
+
+    private static final Comparator<Ranked> RANK_ORDER = (r1, r2) -> COMPARATOR.compare(r1.rank, r2.rank);
+
+    private static boolean isIntegral(final Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+
+    private static Number toNumber(final Object value) {
+        if (value instanceof Number) return (Number) value;
+        if (value instanceof String) {
+            try {
+                return Double.parseDouble((String) value);
+            } catch (final NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static final class Ranked {
+
+        private final Number rank;
+        private final KV<?, ?> record;
+
+        Ranked(final Number rank, final KV<?, ?> record) {
+            this.rank = rank;
+            this.record = record;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.errors.AzkarraException;
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Tuple;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.streams.ServerHostInfo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link RemoteQueryClient} which groups the queries sent to each remote server, so that they are forwarded
+ * as a single batch once {@link #flush()} is invoked.
+ *
+ * The queries sent after the client has been flushed (e.g. retries) are forwarded directly.
+ *
+ * @since 0.8.0
+ */
+public class BatchingRemoteQueryClient implements RemoteQueryClient {
+
+    private final RemoteQueryClient delegate;
+
+    private Map<String, Batch> batches = new LinkedHashMap<>();
+
+    /**
+     * Creates a new {@link BatchingRemoteQueryClient} instance.
+     *
+     * @param delegate  the {@link RemoteQueryClient} used for sending the batches.
+     */
+    public BatchingRemoteQueryClient(final RemoteQueryClient delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> CompletableFuture<QueryResult<K, V>> query(final ServerHostInfo server,
+                                                             final QueryInfo query,
+                                                             final Queried options) {
+        synchronized (this) {
+            if (batches != null) {
+                final CompletableFuture<QueryResult<Object, Object>> future = batches
+                    .computeIfAbsent(server.hostAndPort(), k -> new Batch(server))
+                    .add(query, options);
+                return (CompletableFuture<QueryResult<K, V>>) (CompletableFuture<?>) future;
+            }
+        }
+        return delegate.query(server, query, options);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <K, V> Flow.Publisher<KV<K, V>> publish(final ServerHostInfo server,
+                                                   final QueryInfo query,
+                                                   final Queried options) {
+        return delegate.publish(server, query, options);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<QueryResult<Object, Object>>> queryBatch(
+            final ServerHostInfo server,
+            final List<Tuple<QueryInfo, Queried>> queries) {
+        return delegate.queryBatch(server, queries);
+    }
+
+    /**
+     * Sends the queries grouped so far, a single request being sent to each remote server.
+     */
+    public void flush() {
+        final Map<String, Batch> flushed;
+        synchronized (this) {
+            if (batches == null) return;
+            flushed = batches;
+            batches = null;
+        }
+        flushed.values().forEach(Batch::send);
+    }
+
+    private final class Batch {
+
+        private final ServerHostInfo server;
+        private final List<Tuple<QueryInfo, Queried>> queries = new ArrayList<>();
+        private final List<CompletableFuture<QueryResult<Object, Object>>> futures = new ArrayList<>();
+
+        Batch(final ServerHostInfo server) {
+            this.server = server;
+        }
+
+        CompletableFuture<QueryResult<Object, Object>> add(final QueryInfo query, final Queried options) {
+            final CompletableFuture<QueryResult<Object, Object>> future = new CompletableFuture<>();
+            queries.add(Tuple.of(query, options));
+            futures.add(future);
+            return future;
+        }
+
+        void send() {
+            if (queries.size() == 1) {
+                // a single query is forwarded as is, so that it can benefit from the negotiated wire format.
+                delegate.<Object, Object>query(server, queries.get(0).left(), queries.get(0).right())
+                    .whenComplete((result, t) -> complete(futures.get(0), result, t));
+                return;
+            }
+            delegate.queryBatch(server, queries).whenComplete((results, t) -> {
+                for (int i = 0; i < futures.size(); i++) {
+                    if (t == null && results.size() != futures.size()) {
+                        final String error = "Invalid batch response from remote server '"
+                            + server.hostAndPort() + "': expected " + futures.size()
+                            + " results, got " + results.size();
+                        futures.get(i).completeExceptionally(new AzkarraException(error));
+                    } else {
+                        complete(futures.get(i), t == null ? results.get(i) : null, t);
+                    }
+                }
+            });
+        }
+    }
+
+    private static void complete(final CompletableFuture<QueryResult<Object, Object>> future,
+                                 final QueryResult<Object, Object> result,
+                                 final Throwable t) {
+        if (t != null) {
+            future.completeExceptionally(t);
+        } else {
+            future.complete(result);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Flow.Publisher} that subscribes to each source publisher in sequence, one after the other completes.
+ *
+ * The outstanding demand of the downstream subscriber is forwarded to the current source, so that no elements
+ * are ever buffered. Sources are expected to signal {@code onSubscribe} synchronously (rule 2.7 is then
+ * guaranteed by the downstream subscriber).
+ *
+ * @param <T>   the element type.
+ */
+class ConcatPublisher<T> implements Flow.Publisher<T> {
+
+    private final List<Supplier<Flow.Publisher<T>>> sources;
+
+    /**
+     * Creates a new {@link ConcatPublisher} instance.
+     *
+     * @param sources   the suppliers of the publishers to concatenate.
+     */
+    ConcatPublisher(final List<Supplier<Flow.Publisher<T>>> sources) {
+        this.sources = Objects.requireNonNull(sources, "sources cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber cannot be null"); // rule 1.9
+        final ConcatSubscriber concat = new ConcatSubscriber(subscriber, sources.iterator());
+        subscriber.onSubscribe(concat);
+        concat.subscribeNext();
+    }
+
+    private final class ConcatSubscriber implements Flow.Subscriber<T>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> downstream;
+
+        private final Iterator<Supplier<Flow.Publisher<T>>> sources;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private volatile Flow.Subscription upstream;
+
+        private volatile boolean cancelled;
+
+        ConcatSubscriber(final Flow.Subscriber<? super T> downstream,
+                         final Iterator<Supplier<Flow.Publisher<T>>> sources) {
+            this.downstream = downstream;
+            this.sources = sources;
+        }
+
+        private void subscribeNext() {
+            if (cancelled) return;
+
+            upstream = null;
+            if (!sources.hasNext()) {
+                downstream.onComplete();
+                return;
+            }
+
+            final Flow.Publisher<T> next;
+            try {
+                next = sources.next().get();
+            } catch (final RuntimeException e) {
+                cancelled = true;
+                downstream.onError(e);
+                return;
+            }
+            next.subscribe(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            if (cancelled) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            final long r = requested.get();
+            if (r > 0) {
+                subscription.request(r);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onNext(final T item) {
+            requested.getAndUpdate(r -> r == Long.MAX_VALUE ? r : r - 1);
+            downstream.onNext(item);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onError(final Throwable throwable) {
+            cancelled = true;
+            downstream.onError(throwable);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onComplete() {
+            subscribeNext();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(new IllegalArgumentException("non-positive request: " + n)); // rule 3.9
+                return;
+            }
+            requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            final Flow.Subscription current = upstream;
+            if (current != null) {
+                current.request(n);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cancel() {
+            cancelled = true;
+            final Flow.Subscription current = upstream;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
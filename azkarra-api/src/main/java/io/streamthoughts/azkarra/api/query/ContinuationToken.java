@@ -0,0 +1,341 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.errors.AzkarraException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * An opaque token used to resume a paginated interactive query.
+ *
+ * A token tracks the read position for each scope of a state store, i.e. for each store partition
+ * (see {@link #partitionScope(int)}) or, when the store cannot be accessed per partition, for each host
+ * (see {@link #hostScope(String)}). A scope which is not part of the token is read from the beginning.
+ */
+public final class ContinuationToken {
+
+    // strings are written as length-prefixed UTF-8 bytes since version 2, for keys longer than 64KB.
+    private static final byte VERSION = 2;
+
+    private static final byte KEY_TYPE_NONE = 0;
+    private static final byte KEY_TYPE_STRING = 1;
+    private static final byte KEY_TYPE_LONG = 2;
+    private static final byte KEY_TYPE_INTEGER = 3;
+
+    private static final ContinuationToken EMPTY = new ContinuationToken(Collections.emptyMap());
+
+    public static ContinuationToken empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return the scope used for tracking the position of the given store partition.
+     */
+    public static String partitionScope(final int partition) {
+        return "p-" + partition;
+    }
+
+    /**
+     * @return the scope used for tracking the position of the given host.
+     */
+    public static String hostScope(final String server) {
+        return "h-" + server;
+    }
+
+    /**
+     * @return the scope used for tracking the last key returned by a query whose records are sorted by key.
+     */
+    public static String sortedScope() {
+        return "s";
+    }
+
+    /**
+     * Checks whether the given key can be tracked by a token, i.e. whether it is kept when the token is encoded.
+     *
+     * @param key   the key to check.
+     * @return      {@code true} if the key is a {@link String}, a {@link Long} or an {@link Integer}.
+     */
+    public static boolean isSupportedKey(final Object key) {
+        return key instanceof String || key instanceof Long || key instanceof Integer;
+    }
+
+    /**
+     * Decodes the given string token.
+     *
+     * @param token the string token to decode, can be {@code null}.
+     * @return      the {@link ContinuationToken} instance.
+     *
+     * @throws AzkarraException if the token is not valid.
+     */
+    public static ContinuationToken decode(final String token) {
+        if (token == null || token.isEmpty()) return EMPTY;
+
+        final byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new AzkarraException("Invalid continuation token: " + e.getMessage());
+        }
+
+        try (DataInputStream is = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            final byte version = is.readByte();
+            if (version != VERSION) {
+                throw new AzkarraException("Unsupported continuation token version: " + version);
+            }
+            final int size = is.readInt();
+            final Map<String, Position> positions = new TreeMap<>();
+            for (int i = 0; i < size; i++) {
+                final String scope = readString(is);
+                final long offset = is.readLong();
+                final boolean completed = is.readBoolean();
+                final Object lastKey = readKey(is);
+                positions.put(scope, new Position(offset, lastKey, completed));
+            }
+            return new ContinuationToken(positions);
+        } catch (IOException e) {
+            throw new AzkarraException("Invalid continuation token: " + e.getMessage());
+        }
+    }
+
+    private final Map<String, Position> positions;
+
+    /**
+     * Creates a new {@link ContinuationToken} instance.
+     *
+     * @param positions the positions per scope.
+     */
+    public ContinuationToken(final Map<String, Position> positions) {
+        this.positions = Collections.unmodifiableMap(new TreeMap<>(positions));
+    }
+
+    /**
+     * Gets the position for the given scope.
+     *
+     * @param scope the scope.
+     * @return      an optional {@link Position}.
+     */
+    public Optional<Position> position(final String scope) {
+        return Optional.ofNullable(positions.get(scope));
+    }
+
+    public Map<String, Position> positions() {
+        return positions;
+    }
+
+    public boolean isEmpty() {
+        return positions.isEmpty();
+    }
+
+    /**
+     * Checks whether at least one scope has not been read completely.
+     *
+     * @return {@code true} if more records can be read using this token.
+     */
+    public boolean hasMore() {
+        return positions.values().stream().anyMatch(p -> !p.isCompleted());
+    }
+
+    /**
+     * Merges this token with the given one. Positions of the given token take precedence.
+     *
+     * @param that  the {@link ContinuationToken} to merge.
+     * @return      a new {@link ContinuationToken}.
+     */
+    public ContinuationToken merge(final ContinuationToken that) {
+        if (that == null || that.isEmpty()) return this;
+        if (isEmpty()) return that;
+        final Map<String, Position> merged = new TreeMap<>(positions);
+        merged.putAll(that.positions);
+        return new ContinuationToken(merged);
+    }
+
+    /**
+     * Encodes this token into an url-safe string.
+     *
+     * @return the string token.
+     */
+    public String encode() {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream os = new DataOutputStream(bytes)) {
+            os.writeByte(VERSION);
+            os.writeInt(positions.size());
+            for (Map.Entry<String, Position> entry : positions.entrySet()) {
+                final Position position = entry.getValue();
+                writeString(os, entry.getKey());
+                os.writeLong(position.offset());
+                os.writeBoolean(position.isCompleted());
+                writeKey(os, position.lastKey());
+            }
+            os.flush();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+        } catch (IOException e) {
+            // should never happen while writing to an in-memory stream.
+            throw new IllegalStateException("Failed to encode continuation token", e);
+        }
+    }
+
+    private static void writeKey(final DataOutputStream os, final Object key) throws IOException {
+        if (key instanceof String) {
+            os.writeByte(KEY_TYPE_STRING);
+            writeString(os, (String) key);
+        } else if (key instanceof Long) {
+            os.writeByte(KEY_TYPE_LONG);
+            os.writeLong((Long) key);
+        } else if (key instanceof Integer) {
+            os.writeByte(KEY_TYPE_INTEGER);
+            os.writeInt((Integer) key);
+        } else {
+            // keys of other types cannot be used to seek the store, resuming will rely on the offset.
+            os.writeByte(KEY_TYPE_NONE);
+        }
+    }
+
+    private static void writeString(final DataOutputStream os, final String s) throws IOException {
+        final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        os.writeInt(bytes.length);
+        os.write(bytes);
+    }
+
+    private static String readString(final DataInputStream is) throws IOException {
+        final int length = is.readInt();
+        if (length < 0 || length > is.available()) {
+            throw new IOException("invalid string length " + length);
+        }
+        final byte[] bytes = new byte[length];
+        is.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Object readKey(final DataInputStream is) throws IOException {
+        final byte type = is.readByte();
+        switch (type) {
+            case KEY_TYPE_NONE: return null;
+            case KEY_TYPE_STRING: return readString(is);
+            case KEY_TYPE_LONG: return is.readLong();
+            case KEY_TYPE_INTEGER: return is.readInt();
+            default:
+                throw new IOException("unknown key type " + type);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ContinuationToken)) return false;
+        ContinuationToken that = (ContinuationToken) o;
+        return Objects.equals(positions, that.positions);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(positions);
+    }
+
+    @Override
+    public String toString() {
+        return "ContinuationToken{" +
+                "positions=" + positions +
+                '}';
+    }
+
+    /**
+     * The read position for a single scope.
+     */
+    public static final class Position {
+
+        public static final Position START = new Position(0L, null, false);
+
+        private final long offset;
+        private final Object lastKey;
+        private final boolean completed;
+
+        /**
+         * Creates a new {@link Position} instance.
+         *
+         * @param offset    the number of records already read.
+         * @param lastKey   the last key read, can be {@code null}.
+         * @param completed is the scope completely read.
+         */
+        public Position(final long offset, final Object lastKey, final boolean completed) {
+            this.offset = offset;
+            this.lastKey = lastKey;
+            this.completed = completed;
+        }
+
+        public long offset() {
+            return offset;
+        }
+
+        public Object lastKey() {
+            return lastKey;
+        }
+
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Position)) return false;
+            Position that = (Position) o;
+            return offset == that.offset &&
+                    completed == that.completed &&
+                    Objects.equals(lastKey, that.lastKey);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(offset, lastKey, completed);
+        }
+
+        @Override
+        public String toString() {
+            return "Position{" +
+                    "offset=" + offset +
+                    ", lastKey=" + lastKey +
+                    ", completed=" + completed +
+                    '}';
+        }
+    }
+}
@@ -19,18 +19,14 @@
 package io.streamthoughts.azkarra.api.query;
 
 import io.streamthoughts.azkarra.api.errors.AzkarraException;
-import io.streamthoughts.azkarra.api.errors.AzkarraRetriableException;
-import io.streamthoughts.azkarra.api.errors.Error;
 import io.streamthoughts.azkarra.api.errors.InvalidStreamsStateException;
 import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.monad.Either;
-import io.streamthoughts.azkarra.api.monad.Retry;
 import io.streamthoughts.azkarra.api.monad.Try;
 import io.streamthoughts.azkarra.api.query.internal.PreparedQuery;
 import io.streamthoughts.azkarra.api.query.result.ErrorResultSet;
 import io.streamthoughts.azkarra.api.query.result.QueryError;
 import io.streamthoughts.azkarra.api.query.result.QueryResult;
-import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
 import io.streamthoughts.azkarra.api.query.result.QueryStatus;
 import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
@@ -41,19 +37,31 @@ import io.streamthoughts.azkarra.api.util.FutureCollectors;
 import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.common.serialization.Serdes;
 import org.apache.kafka.common.serialization.Serializer;
-import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.state.HostInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import static io.streamthoughts.azkarra.api.query.QueryResults.buildNotAvailableResult;
+import static io.streamthoughts.azkarra.api.query.QueryResults.buildQueryResult;
+import static io.streamthoughts.azkarra.api.query.QueryResults.isTimeout;
+import static io.streamthoughts.azkarra.api.query.QueryResults.join;
+
 /**
  * Default class to query a state store either locally, remotely or globally.
  */
@@ -88,32 +96,157 @@ public class DistributedQuery<K, V> {
      * @throws  InvalidStreamsStateException if streams is not running
      */
     public QueryResult<K, V> query(final KafkaStreamsContainer streams, final Queried options) {
+        return join(queryAsync(streams, options));
+    }
+
+    /**
+     * Executes this interactive query for the given {@link org.apache.kafka.streams.KafkaStreams} instance,
+     * without waiting for the remote instances to respond.
+     *
+     * The local instance is queried by the calling thread, while the returned future is completed by the thread
+     * receiving the last remote response.
+     *
+     * @param streams    the {@link KafkaStreamsContainer} instance on which to execute this query.
+     * @param options    the {@link Queried} options.
+     *
+     * @return           a {@link CompletableFuture} completed with the {@link QueryResult}.
+     *
+     * @throws  InvalidStreamsStateException if streams is not running
+     */
+    public CompletableFuture<QueryResult<K, V>> queryAsync(final KafkaStreamsContainer streams,
+                                                           final Queried options) {
         Objects.requireNonNull(streams, "streams cannot be null");
         Objects.requireNonNull(options, "options cannot be null");
 
         long now = Time.SYSTEM.milliseconds();
 
         // Quickly check if streams instance is still running
+        checkIsRunning(streams);
+
+        final Queried bounded = withDeadline(options, now);
+        final Aggregation aggregation = bounded.aggregation();
+        CompletableFuture<QueryResult<K, V>> result;
+        if (streams.isGlobalStore(query.storeName())) {
+            result = queryGlobalStateStore(streams, bounded);
+        } else if (query.isKeyedQuery() || query.isMultiKeyedQuery()) {
+            // records of keyed queries are aggregated once returned by the instances owning the keys,
+            // so their values must be deserialized.
+            final Queried keyed = aggregation == null ?
+                bounded :
+                bounded.withAggregation(null).withProjection(null).withDecodedValues(true);
+            result = query.isKeyedQuery() ?
+                querySingleHostStateStore(streams, keyed) :
+                queryMultiKeyStateStore(streams, keyed);
+            if (aggregation != null) {
+                final QueryResultMerger<K, V> merger = newResultMerger(streams);
+                result = result.thenApply(rs -> rs.getStatus() == QueryStatus.NOT_AVAILABLE ?
+                    rs : merger.aggregate(List.of(rs), aggregation, false));
+            }
+        } else {
+            result = queryMultiHostStateStore(streams, bounded);
+        }
+        return result.thenApply(rs -> rs.took(Time.SYSTEM.milliseconds() - now));
+    }
+
+    /**
+     * Gets a {@link Flow.Publisher} which streams the records of this interactive query for the given
+     * {@link org.apache.kafka.streams.KafkaStreams} instance.
+     *
+     * Records from the local instance are emitted first, directly from the local store iterator, followed by
+     * the records of each remote instance (if remote access is allowed). Keyed queries are executed eagerly.
+     *
+     * @param streams    the {@link KafkaStreamsContainer} instance on which to execute this query.
+     * @param options    the {@link Queried} options.
+     *
+     * @return           a new {@link Flow.Publisher} instance.
+     *
+     * @throws  InvalidStreamsStateException if streams is not running
+     */
+    public Flow.Publisher<KV<K, V>> publish(final KafkaStreamsContainer streams, final Queried options) {
+        Objects.requireNonNull(streams, "streams cannot be null");
+        Objects.requireNonNull(options, "options cannot be null");
+
+        checkIsRunning(streams);
+
+        if (streams.isGlobalStore(query.storeName())) {
+            return query.publisher(streams, options.limit());
+        }
+
+        if (query.isKeyedQuery()) {
+            return IteratorPublisher.ofQueryResult(() -> join(querySingleHostStateStore(streams, options)));
+        }
+
+        if (query.isMultiKeyedQuery()) {
+            return IteratorPublisher.ofQueryResult(() -> join(queryMultiKeyStateStore(streams, options)));
+        }
+
+        final List<ServerHostInfo> servers = streams
+            .allMetadataForStore(query.storeName())
+            .stream()
+            .map(ServerMetadata::hostInfo)
+            .collect(Collectors.toList());
+
+        if (servers.isEmpty()) {
+            final String error = "no metadata available for store '" + query.storeName() + "'";
+            LOG.warn(error);
+            return IteratorPublisher.ofList(() -> Try.failure(new AzkarraException(error)));
+        }
+
+        final List<Supplier<Flow.Publisher<KV<K, V>>>> sources = new LinkedList<>();
+        servers.stream()
+            .filter(ServerHostInfo::isLocal)
+            .findFirst()
+            .ifPresent(local -> sources.add(() -> query.publisher(streams, options.limit())));
+
+        if (options.remoteAccessAllowed()) {
+            final Queried remoteOptions = options.withRemoteAccessAllowed(false);
+            servers.stream()
+                .filter(Predicate.not(ServerHostInfo::isLocal))
+                .forEach(server -> sources.add(() -> remoteQueryClient.publish(server, query, remoteOptions)));
+        }
+        return new ConcatPublisher<>(sources);
+    }
+
+    /**
+     * Computes the absolute deadline of the query from its timeout, unless the query has been forwarded
+     * by another instance with an earlier deadline.
+     */
+    private static Queried withDeadline(final Queried options, final long now) {
+        final long timeout = options.queryTimeout() == null ? 0 : options.queryTimeout().toMillis();
+        if (timeout <= 0) {
+            return options;
+        }
+        final long deadline = now + timeout;
+        return options.deadline() != null && options.deadline() <= deadline ? options : options.withDeadline(deadline);
+    }
+
+    private static void checkIsRunning(final KafkaStreamsContainer streams) {
         if (!streams.isRunning()) {
             throw new InvalidStreamsStateException(
                 "streams instance for id '" + streams.applicationId() +
                         "' is not running (" + streams.state().value() + ")"
             );
         }
+    }
 
-        QueryResult<K, V> result;
-        if (query.isKeyedQuery()) {
-            result = querySingleHostStateStore(streams, options);
-        } else {
-            result = queryMultiHostStateStore(streams, options);
-        }
-        return result.took(Time.SYSTEM.milliseconds() - now);
+    /**
+     * Executes the query on the local replica of a global store. Every instance hosts all the records
+     * of a global store, so the query is never forwarded to remote instances.
+     */
+    private CompletableFuture<QueryResult<K, V>> queryGlobalStateStore(final KafkaStreamsContainer streams,
+                                                                       final Queried options) {
+        final HostInfo local = HostInfo.buildFromEndpoint(streams.applicationServer());
+        return newLocalQueryContext(streams, options.withRemoteAccessAllowed(false))
+            .execute(local == null ? null : newServerHostInfo(streams, local), false);
     }
 
-    private QueryResult<K, V> queryMultiHostStateStore(final KafkaStreamsContainer streams,
-                                                       final Queried options) {
+    private CompletableFuture<QueryResult<K, V>> queryMultiHostStateStore(final KafkaStreamsContainer streams,
+                                                                          final Queried options) {
 
-        final List<Either<SuccessResultSet<K, V>, ErrorResultSet>> results = new LinkedList<>();
+        // fail fast if the given token is not valid.
+        final ContinuationToken incoming = ContinuationToken.decode(options.continuation());
+
+        final List<CompletableFuture<QueryResult<K, V>>> results = new LinkedList<>();
 
         var servers = streams
             .allMetadataForStore(query.storeName())
@@ -124,63 +257,59 @@ public class DistributedQuery<K, V> {
         if (servers.isEmpty()) {
             String error = "no metadata available for store '" + query.storeName() + "'";
             LOG.warn(error);
-            return buildNotAvailableResult(streams.applicationServer(), error);
+            return CompletableFuture.completedFuture(buildNotAvailableResult(streams.applicationServer(), error));
         }
 
-        List<CompletableFuture<QueryResult<K, V>>> remotes = null;
         if (options.remoteAccessAllowed()) {
             // Forward query to all remote instances
-            RemoteQueryContext context = new RemoteQueryContext(
+            RemoteQueryContext<K, V> context = new RemoteQueryContext<>(
+                remoteQueryClient,
+                query,
                 streams.applicationServer(),
                 options.withRemoteAccessAllowed(false));
-            remotes = servers.stream()
+            servers.stream()
                 .filter(Predicate.not(ServerHostInfo::isLocal))
                 .map(server -> context.executeAsyncQueryRemotely(server, false))
-                .collect(Collectors.toList());
+                .forEach(results::add);
         }
         //Execute the query locally only if the local instance own the queried store.
-        LocalQueryContext localQueryContext = new LocalQueryContext(streams, options);
+        LocalQueryContext<K, V> localQueryContext = newLocalQueryContext(streams, options);
         servers.stream()
             .filter(ServerHostInfo::isLocal)
             .findFirst()
-            .map(target -> localQueryContext.execute(target, false).getResult().unwrap().get(0)
-            ).ifPresent(results::add);
+            .map(target -> localQueryContext.execute(target, false))
+            .ifPresent(results::add);
 
-        if (remotes != null) {
-            // Blocking
-            results.addAll(waitRemoteThenGet(remotes));
-        }
+        final QueryResultMerger<K, V> merger = newResultMerger(streams);
+        return allOf(results).thenApply(executed -> merger.merge(executed, options, incoming));
+    }
 
-        return buildQueryResult(streams.applicationServer(), results);
+    private Comparator<Object> keyOrder(final KafkaStreamsContainer streams) {
+        return new SerializedKeyComparator(keySerializer(streams));
     }
 
-    private QueryResult<K, V> querySingleHostStateStore(final KafkaStreamsContainer streams,
-                                                        final Queried options) {
-        final Serializer<K> keySerializer;
-        if (query.keySerializer() != null) {
-            keySerializer = query.keySerializer();
-        } else {
-            // Let's try to get the default configured key serializer, fallback to StringSerializer otherwise.
-            @SuppressWarnings("unchecked")
-            final Serde<K> serde = (Serde<K>) streams.defaultKeySerde().orElse(Serdes.String());
-            keySerializer = serde.serializer();
+    private Serializer<K> keySerializer(final KafkaStreamsContainer streams) {
+        if (query.isKeyedQuery() && query.keySerializer() != null) {
+            return query.keySerializer();
         }
+        // Let's try to get the default configured key serializer, fallback to StringSerializer otherwise.
+        @SuppressWarnings("unchecked")
+        final Serde<K> serde = (Serde<K>) streams.defaultKeySerde().orElse(Serdes.String());
+        return serde.serializer();
+    }
 
-        // Try to query
-        final Retry retry = Retry
-            .withMaxAttempts(options.retries())
-            .withFixedWaitDuration(options.retryBackoff())
-            .stopAfterDuration(options.queryTimeout())
-            .ifExceptionOfType(AzkarraRetriableException.class);
+    private CompletableFuture<QueryResult<K, V>> querySingleHostStateStore(final KafkaStreamsContainer streams,
+                                                                           final Queried options) {
+        final Serializer<K> keySerializer = keySerializer(streams);
 
         final String server = streams.applicationServer();
-        return Try
-            .retriable(() -> querySingleHostStateStore(streams, keySerializer, options), retry)
-            .recover(t -> {
+        return QueryRetrier.retryAsync(() -> querySingleHostStateStore(streams, keySerializer, options), options)
+            .exceptionally(t -> {
                 String cause = t.getCause() != null ? t.getCause().getMessage() : t.getMessage();
                 String error = "Retries exhausted for querying state store " + query.storeName() + ". " + cause;
-                return Try.success(buildNotAvailableResult(server, error).timeout(true));
-            }).get();
+                final QueryResult<K, V> result = buildNotAvailableResult(server, error);
+                return result.timeout(true);
+            });
     }
 
     /**
@@ -197,214 +326,122 @@ public class DistributedQuery<K, V> {
      *
      *             A remote query can fail if the remote instance is down and re-balancing has not occurred yet.
      */
-    private QueryResult<K, V> querySingleHostStateStore(final KafkaStreamsContainer container,
-                                                        final Serializer<K> keySerializer ,
-                                                        final Queried options) throws AzkarraException {
+    private CompletableFuture<QueryResult<K, V>> querySingleHostStateStore(final KafkaStreamsContainer container,
+                                                                           final Serializer<K> keySerializer,
+                                                                           final Queried options)
+            throws AzkarraException {
         final String serverName = container.applicationServer();
         return container
             .findMetadataForStoreAndKey(query.storeName(), query.key(), keySerializer)
             .map(keyQueryMetadata -> {
-                var activeHost = keyQueryMetadata.getActiveHost();
-                var target = new ServerHostInfo(
-                        container.applicationId(),
-                        activeHost.host(),
-                        activeHost.port(),
-                        container.isSameHost(activeHost)
-                );
-                final QueryContext<K, V> context;
-                if (target.isLocal()) {
-                    context = new LocalQueryContext(container, options);
-                } else if (options.remoteAccessAllowed()) {
-                    context = new RemoteQueryContext(serverName, options);
-                } else {
-                    context = (t, f) -> buildQueryResult(serverName, Collections.emptyList());
-                }
-                return context.execute(target, true);
+                var target = newServerHostInfo(container, keyQueryMetadata.getActiveHost());
+                return newQueryContext(container, keyQueryMetadata, target, options).execute(target, true);
             }).orElseGet(() -> {
                 var error = "no metadata available for store '" + query.storeName() + "', key '" + query.key() + "'";
-                return buildNotAvailableResult(serverName, error);
+                return CompletableFuture.completedFuture(buildNotAvailableResult(serverName, error));
             });
     }
 
-    private QueryResult<K, V> buildNotAvailableResult(final String server,
-                                                      final String error) {
-        final QueryResultBuilder<K, V> builder = QueryResultBuilder.newBuilder();
-        return builder
-            .setServer(server)
-            .setStatus(QueryStatus.NOT_AVAILABLE)
-            .setError(error)
-            .build();
-    }
-
-    private QueryResult<K, V> buildQueryResult(final String localServerName,
-                                               final List<Either<SuccessResultSet<K, V>, ErrorResultSet>> results) {
-        final List<ErrorResultSet> errors = results.stream()
-                .filter(Either::isRight)
-                .map(e -> e.right().get()).collect(Collectors.toList());
-
-        final List<SuccessResultSet<K, V>> success = results.stream()
-                .filter(Either::isLeft)
-                .map(e -> e.left().get()).collect(Collectors.toList());
-
-        final QueryStatus status = computeStatus(errors, success);
-
-        final QueryResultBuilder<K, V> builder = QueryResultBuilder.newBuilder();
-        return builder
-            .setServer(localServerName)
-            .setStatus(status)
-            .setFailedResultSet(errors)
-            .setSuccessResultSet(success)
-            .build();
-    }
-
-    private QueryResult<K, V> buildInternalErrorResult(final String localServerName,
-                                                       final String remoteServerName,
-                                                       final Throwable t) {
-        final QueryError error = QueryError.of(t);
-        final ErrorResultSet errorResultSet = new ErrorResultSet(
-            remoteServerName,
-            true,
-            error);
-
-        final QueryResultBuilder<K, V> builder = QueryResultBuilder.newBuilder();
-        return builder
-            .setServer(localServerName)
-            .setStatus(QueryStatus.ERROR)
-            .setFailedResultSet(errorResultSet)
-            .build();
-    }
+    /**
+     * Executes this multi-key query by grouping the keys per active host, so that only one request is sent to each
+     * instance owning at least one of the keys. Remote instances are queried in parallel.
+     */
+    private CompletableFuture<QueryResult<K, V>> queryMultiKeyStateStore(final KafkaStreamsContainer streams,
+                                                                         final Queried options) {
+        final Serializer<K> keySerializer = keySerializer(streams);
+        final String serverName = streams.applicationServer();
 
-    private QueryStatus computeStatus(final List<ErrorResultSet> errors,
-                                      final List<SuccessResultSet<K, V>> success) {
-        QueryStatus status;
-        if ( !errors.isEmpty() && !success.isEmpty()) {
-            status = QueryStatus.PARTIAL;
-        } else if (!errors.isEmpty()) {
-            status = QueryStatus.ERROR;
-        } else if (!success.isEmpty()) {
-            status = QueryStatus.SUCCESS;
-        } else {
-            status = QueryStatus.NO_RESULT;
+        final List<Either<SuccessResultSet<K, V>, ErrorResultSet>> results = new LinkedList<>();
+        final Map<ServerHostInfo, List<K>> keysPerHost = new LinkedHashMap<>();
+        for (K key : query.keys()) {
+            final Optional<ServerHostInfo> target = streams
+                .findMetadataForStoreAndKey(query.storeName(), key, keySerializer)
+                .map(metadata -> new ServerHostInfo(
+                    streams.applicationId(),
+                    metadata.getActiveHost().host(),
+                    metadata.getActiveHost().port(),
+                    streams.isSameHost(metadata.getActiveHost()))
+                );
+            if (target.isPresent()) {
+                keysPerHost.computeIfAbsent(target.get(), k -> new ArrayList<>()).add(key);
+            } else {
+                var error = "no metadata available for store '" + query.storeName() + "', key '" + key + "'";
+                LOG.warn(error);
+                results.add(Either.right(new ErrorResultSet(serverName, false, new QueryError(error))));
+            }
         }
-        return status;
-    }
-
-    private static <K, V> List<Either<SuccessResultSet<K, V>, ErrorResultSet>> waitRemoteThenGet(
-            final List<CompletableFuture<QueryResult<K, V>>> futures
-    )  {
-
-        final CompletableFuture<List<QueryResult<K, V>>> future = futures
-                .stream()
-                .collect(FutureCollectors.allOf());
-        try {
-            // futures should never complete exceptionally.
-            return future.handle((results, throwable) -> {
-                if (results != null) {
-                    return results.stream()
-                        .map(QueryResult::getResult)
-                        .flatMap(o -> o.unwrap().stream())
-                        .collect(Collectors.toList());
-                }
-                LOG.error("This exception should not have happened", throwable);
-                // should never happens.
-                return Collections.<Either<SuccessResultSet<K, V>, ErrorResultSet>>emptyList();
-            }).get();
 
-        } catch (InterruptedException | ExecutionException e) {
-            LOG.error("Unexpected error happens while waiting for remote query results", e);
-            return Collections.emptyList();
-        }
-    }
-
-    private interface QueryContext<K, V>  {
-
-        default QueryResult<K, V> execute(final ServerHostInfo target) throws AzkarraException {
-            return execute(target, false);
+        final List<CompletableFuture<QueryResult<K, V>>> remotes = new ArrayList<>();
+        if (options.remoteAccessAllowed()) {
+            final Queried remoteOptions = options.withRemoteAccessAllowed(false);
+            keysPerHost.entrySet().stream()
+                .filter(e -> !e.getKey().isLocal())
+                .map(e -> new DistributedQuery<>(remoteQueryClient, query.forKeys(e.getValue()))
+                    .executeAsyncQueryRemotely(serverName, e.getKey(), remoteOptions))
+                .forEach(remotes::add);
         }
 
-        QueryResult<K, V> execute(final ServerHostInfo target, final boolean failable) throws AzkarraException;
+        keysPerHost.entrySet().stream()
+            .filter(e -> e.getKey().isLocal())
+            .findFirst()
+            .map(e -> new DistributedQuery<>(remoteQueryClient, query.forKeys(e.getValue()))
+                .executeLocally(streams, e.getKey(), options))
+            .ifPresent(local -> remotes.add(0, local));
+
+        return allOf(remotes).thenApply(executed -> {
+            executed.forEach(rs -> results.addAll(rs.getResult().unwrap()));
+            return buildQueryResult(serverName, results).timeout(isTimeout(executed));
+        });
     }
 
-    private class LocalQueryContext implements QueryContext<K, V> {
-
-        private final KafkaStreamsContainer streams;
-        private final Queried queried;
-
-        LocalQueryContext(final KafkaStreamsContainer streams, final Queried queried) {
-            this.streams = streams;
-            this.queried = queried;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public QueryResult<K, V> execute(final ServerHostInfo target, final boolean failable) {
-            Try<List<KV<K, V>>> executed = query.execute(streams, queried.limit());
-
-            if (failable && executed.isFailure()) {
-                Throwable exception = executed.getThrowable();
-                if (exception instanceof InvalidStateStoreException) {
-                    throw new AzkarraRetriableException(exception);
-                }
-                // cannot be retriable, ignored exception.
-            }
-
-            final Try<Either<List<KV<K, V>>, List<Error>>> attempt = executed
-                .transform(
-                    v -> Try.success(Either.left(v)),
-                    t -> Try.success(Either.right(Collections.singletonList(new Error(t))))
-                );
-
-            final String serverName = streams.applicationServer();
-            final Either<SuccessResultSet<K, V>, ErrorResultSet> rs = attempt.get()
-                .left()
-                .map(records -> new SuccessResultSet<>(serverName, false, records))
-                .right()
-                .map(errors -> new ErrorResultSet(serverName, false, QueryError.allOf(errors)));
+    private CompletableFuture<QueryResult<K, V>> executeLocally(final KafkaStreamsContainer streams,
+                                                                final ServerHostInfo target,
+                                                                final Queried options) {
+        return newLocalQueryContext(streams, options).execute(target, false);
+    }
 
-            return buildQueryResult(streams.applicationServer(), Collections.singletonList(rs));
-        }
+    private CompletableFuture<QueryResult<K, V>> executeAsyncQueryRemotely(final String localServerName,
+                                                                           final ServerHostInfo remote,
+                                                                           final Queried options) {
+        return new RemoteQueryContext<>(remoteQueryClient, query, localServerName, options)
+            .executeAsyncQueryRemotely(remote, false);
     }
 
-    private class RemoteQueryContext implements QueryContext<K, V>  {
+    private LocalQueryContext<K, V> newLocalQueryContext(final KafkaStreamsContainer streams,
+                                                         final Queried options) {
+        return new LocalQueryContext<>(query, streams, options, keyOrder(streams));
+    }
 
-        private final Queried options;
-        private final String localServerName;
+    private QueryResultMerger<K, V> newResultMerger(final KafkaStreamsContainer streams) {
+        return new QueryResultMerger<>(query, streams.applicationServer(), keyOrder(streams));
+    }
 
-        RemoteQueryContext(final String localServerName,
-                           final Queried options) {
-            this.localServerName = localServerName;
-            this.options = options;
-        }
+    private QueryContext<K, V> newQueryContext(final KafkaStreamsContainer container,
+                                               final KeyQueryMetadata metadata,
+                                               final ServerHostInfo target,
+                                               final Queried options) {
+        return target.isLocal() ?
+            newLocalQueryContext(container, options) :
+            KeyedQueryContexts.forRemoteKey(remoteQueryClient, query, container, metadata, options);
+    }
 
-        private CompletableFuture<QueryResult<K, V>> executeAsyncQueryRemotely(final ServerHostInfo remote,
-                                                                               final boolean failable) {
-            CompletableFuture<QueryResult<K, V>> future = remoteQueryClient.query(remote, query, options);
-            if (!failable) {
-                future = future.exceptionally(t -> buildInternalErrorResult(localServerName, remote.hostAndPort(), t));
-            }
-            return future.thenApply(rs -> rs.server(localServerName));
-        }
+    private static ServerHostInfo newServerHostInfo(final KafkaStreamsContainer container, final HostInfo host) {
+        return new ServerHostInfo(container.applicationId(), host.host(), host.port(), container.isSameHost(host));
+    }
 
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public QueryResult<K, V> execute(final ServerHostInfo remote, final boolean failable) {
-            final String remoteServerName = remote.hostAndPort();
-            QueryResult<K, V> result;
-            try {
-                result = executeAsyncQueryRemotely(remote, failable).get();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                result = buildInternalErrorResult(localServerName, remoteServerName, e);
-            } catch (ExecutionException e) {
-                // cast should be OK.
-                LOG.error("Cannot query remote state store. {}", e.getCause().getMessage());
-                throw (RuntimeException)e.getCause();
-            }
-            return result;
-        }
+    private static <K, V> CompletableFuture<List<QueryResult<K, V>>> allOf(
+            final List<CompletableFuture<QueryResult<K, V>>> futures
+    )  {
+        return futures
+            .stream()
+            .collect(FutureCollectors.allOf())
+            .handle((results, throwable) -> {
+                if (results != null) {
+                    return results;
+                }
+                // futures should never complete exceptionally.
+                LOG.error("This exception should not have happened", throwable);
+                return Collections.emptyList();
+            });
     }
-}
\ No newline at end of file
+}
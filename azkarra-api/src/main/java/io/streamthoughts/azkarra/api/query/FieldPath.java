@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A dot-separated path designating a (nested) field of a record value.
+ *
+ * Each field is resolved on maps, on objects exposing a {@code get(String)} method (e.g. Avro records),
+ * or on getter methods. An empty path designates the value itself.
+ *
+ * @since 0.8.0
+ */
+final class FieldPath {
+
+    private static final Map<String, Optional<Method>> ACCESSORS = new ConcurrentHashMap<>();
+
+    private final String path;
+    private final String[] fields;
+
+    /**
+     * Creates a new {@link FieldPath} instance.
+     *
+     * @param path  the dot-separated path, or {@code null} to designate the value itself.
+     */
+    FieldPath(final String path) {
+        this.path = path;
+        this.fields = path == null || path.isEmpty() ? new String[0] : path.split("\\.");
+    }
+
+    String path() {
+        return path;
+    }
+
+    String[] fields() {
+        return fields;
+    }
+
+    /**
+     * Resolves this path on the given value.
+     *
+     * @param value the record value.
+     * @return      the value of the field, or {@code null} if the field cannot be resolved.
+     */
+    Object resolve(final Object value) {
+        Object current = value;
+        for (int i = 0; i < fields.length && current != null; i++) {
+            current = field(current, fields[i]);
+        }
+        return current;
+    }
+
+    static Object field(final Object object, final String field) {
+        if (object instanceof Map) {
+            return ((Map<?, ?>) object).get(field);
+        }
+        final Optional<Method> accessor = ACCESSORS.computeIfAbsent(
+            object.getClass().getName() + "#" + field,
+            k -> findAccessor(object.getClass(), field)
+        );
+        if (accessor.isEmpty()) return null;
+        try {
+            final Method method = accessor.get();
+            return method.getParameterCount() == 0 ? method.invoke(object) : method.invoke(object, field);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Optional<Method> findAccessor(final Class<?> type, final String field) {
+        final String capitalized = Character.toUpperCase(field.charAt(0)) + field.substring(1);
+        for (String name : List.of("get" + capitalized, "is" + capitalized, field)) {
+            try {
+                return Optional.of(type.getMethod(name));
+            } catch (final NoSuchMethodException ignore) {
+                // try next accessor.
+            }
+        }
+        try {
+            return Optional.of(type.getMethod("get", String.class));
+        } catch (final NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FieldPath)) return false;
+        return Objects.equals(path, ((FieldPath) o).path);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(path);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return path;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.query.internal.LocalStoreScanPool;
+import io.streamthoughts.azkarra.api.query.internal.PreparedQuery;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.streams.ServerHostInfo;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.streamthoughts.azkarra.api.query.QueryResults.isAnswered;
+
+/**
+ * Executes a keyed query on the active host and, if it does not answer before the hedge delay,
+ * on a standby host. The first answer received is returned.
+ *
+ * @param <K>   the record key type.
+ * @param <V>   the record value type.
+ */
+class HedgedQueryContext<K, V> implements QueryContext<K, V> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HedgedQueryContext.class);
+
+    private final RemoteQueryClient remoteQueryClient;
+    private final PreparedQuery<K, V> query;
+    private final KafkaStreamsContainer streams;
+    private final KeyQueryMetadata metadata;
+    private final Queried options;
+
+    /**
+     * Creates a new {@link HedgedQueryContext} instance.
+     *
+     * @param remoteQueryClient the {@link RemoteQueryClient} used for forwarding the query.
+     * @param query             the {@link PreparedQuery} to execute.
+     * @param streams           the {@link KafkaStreamsContainer} instance.
+     * @param metadata          the {@link KeyQueryMetadata} of the queried key.
+     * @param options           the {@link Queried} options.
+     */
+    HedgedQueryContext(final RemoteQueryClient remoteQueryClient,
+                       final PreparedQuery<K, V> query,
+                       final KafkaStreamsContainer streams,
+                       final KeyQueryMetadata metadata,
+                       final Queried options) {
+        this.remoteQueryClient = remoteQueryClient;
+        this.query = query;
+        this.streams = streams;
+        this.metadata = metadata;
+        this.options = options.withRemoteAccessAllowed(false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<QueryResult<K, V>> execute(final ServerHostInfo active, final boolean failable) {
+        final String serverName = streams.applicationServer();
+        final RemoteQueryContext<K, V> remote = new RemoteQueryContext<>(
+            remoteQueryClient, query, serverName, options);
+        final CompletableFuture<QueryResult<K, V>> primary = remote.executeAsyncQueryRemotely(active, failable);
+
+        // the standby host is queried after the hedge delay, or as soon as the active host fails.
+        final CompletableFuture<Void> trigger = new CompletableFuture<Void>()
+            .completeOnTimeout(null, options.hedgeDelay().toMillis(), TimeUnit.MILLISECONDS);
+        primary.whenComplete((rs, t) -> {
+            if (t != null) trigger.complete(null);
+        });
+
+        final CompletableFuture<QueryResult<K, V>> secondary = trigger.thenCompose(ignored -> {
+            if (isAnswered(primary)) return primary;
+            final ServerHostInfo standby = selectStandby();
+            LOG.debug("Hedging query on state store '{}' to standby host {}", query.storeName(), standby);
+            if (standby.isLocal()) {
+                final int partition = metadata.getPartition();
+                final StandbyQueryContext<K, V> local = new StandbyQueryContext<>(query, streams, partition, options);
+                return CompletableFuture.supplyAsync(() -> local.execute(standby), LocalStoreScanPool.get())
+                    .thenCompose(Function.identity());
+            }
+            return remote.executeAsyncQueryRemotely(standby, false);
+        });
+
+        return firstAnswered(primary, secondary);
+    }
+
+    private ServerHostInfo selectStandby() {
+        // prefer a local standby replica to avoid a network round-trip.
+        final List<ServerHostInfo> standbys = metadata.getStandbyHosts()
+            .stream()
+            .map(host -> new ServerHostInfo(
+                streams.applicationId(), host.host(), host.port(), streams.isSameHost(host)))
+            .sorted(Comparator.comparing(ServerHostInfo::isLocal).reversed())
+            .collect(Collectors.toList());
+        return standbys.get(0);
+    }
+
+    /**
+     * Gets a future which is completed by the first answer of either the active or the standby host.
+     * If none of the hosts answers, the future is completed with the outcome of the active host.
+     * Once completed, the other host is no longer waited for and its future is cancelled.
+     */
+    private static <K, V> CompletableFuture<QueryResult<K, V>> firstAnswered(
+            final CompletableFuture<QueryResult<K, V>> active,
+            final CompletableFuture<QueryResult<K, V>> standby) {
+        final CompletableFuture<QueryResult<K, V>> first = new CompletableFuture<>();
+        final BiConsumer<QueryResult<K, V>, Throwable> onComplete = (rs, t) -> {
+            if (t == null && isAnswered(rs)) {
+                first.complete(rs);
+            } else if (active.isDone() && standby.isDone()) {
+                active.whenComplete((r, e) -> {
+                    if (e != null) first.completeExceptionally(e);
+                    else first.complete(r);
+                });
+            }
+        };
+        active.whenComplete(onComplete);
+        standby.whenComplete(onComplete);
+        // cancelling the standby future before the hedge delay also prevents the standby host from being queried.
+        first.whenComplete((rs, t) -> {
+            active.cancel(false);
+            standby.cancel(false);
+        });
+        return first;
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.errors.AzkarraException;
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.CheckedSupplier;
+import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.result.ErrorResultSet;
+import io.streamthoughts.azkarra.api.query.result.QueryError;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.state.KeyValueIterator;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A cold {@link Flow.Publisher} that emits the elements of an iterator which is lazily opened for each subscriber.
+ *
+ * Elements are pulled from the iterator on the thread requesting them, and only up to the requested demand,
+ * so that a slow subscriber never causes records to be buffered in memory. The iterator is closed when it is
+ * exhausted, when the limit is reached, or when the subscription is cancelled.
+ *
+ * @param <T>   the element type.
+ *
+ * @since 0.8.0
+ */
+public final class IteratorPublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * Creates a new {@link IteratorPublisher} backed by a {@link KeyValueIterator}.
+     *
+     * @param supplier  the supplier used to open a new iterator for each subscriber.
+     * @param mapper    the function used to convert each iterated record.
+     * @param limit     the maximum number of elements to emit (-1 means no limit).
+     * @return          a new {@link IteratorPublisher}.
+     */
+    public static <IK, IV, T> IteratorPublisher<T> ofKeyValueIterator(
+            final Supplier<Try<KeyValueIterator<IK, IV>>> supplier,
+            final Function<KeyValue<IK, IV>, T> mapper,
+            final long limit) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return new IteratorPublisher<>(
+            () -> supplier.get().map(it -> new KeyValueIteratorAdapter<>(it, mapper)),
+            limit
+        );
+    }
+
+    /**
+     * Creates a new {@link IteratorPublisher} backed by an already materialized list.
+     *
+     * @param supplier  the supplier of the elements to emit.
+     * @return          a new {@link IteratorPublisher}.
+     */
+    public static <T> IteratorPublisher<T> ofList(final Supplier<Try<List<T>>> supplier) {
+        return ofIterator(() -> supplier.get().map(List::iterator));
+    }
+
+    /**
+     * Creates a new {@link IteratorPublisher} backed by an {@link Iterator}.
+     * The iterator is closed after the last element is emitted if it implements {@link AutoCloseable}.
+     *
+     * @param supplier  the supplier used to open a new iterator for each subscriber.
+     * @return          a new {@link IteratorPublisher}.
+     */
+    public static <T> IteratorPublisher<T> ofIterator(final Supplier<Try<Iterator<T>>> supplier) {
+        return new IteratorPublisher<>(
+            () -> supplier.get().map(IteratorAdapter::new),
+            LocalStoreQuery.NO_LIMIT
+        );
+    }
+
+    /**
+     * Creates a new {@link IteratorPublisher} that emits all successful records of a {@link QueryResult}.
+     * The publisher fails if the query has only returned errors.
+     *
+     * @param supplier  the supplier of the {@link QueryResult}.
+     * @return          a new {@link IteratorPublisher}.
+     */
+    public static <K, V> IteratorPublisher<KV<K, V>> ofQueryResult(
+            final CheckedSupplier<QueryResult<K, V>, Exception> supplier) {
+        return ofList(() -> Try.failable(supplier).flatMap(IteratorPublisher::successRecordsOrError));
+    }
+
+    private static <K, V> Try<List<KV<K, V>>> successRecordsOrError(final QueryResult<K, V> result) {
+        final List<SuccessResultSet<K, V>> success = result.getResult().getSuccess();
+        final List<ErrorResultSet> failure = result.getResult().getFailure();
+        if ((success == null || success.isEmpty()) && failure != null && !failure.isEmpty()) {
+            final String errors = failure.stream()
+                .flatMap(rs -> rs.getErrors().stream())
+                .map(QueryError::message)
+                .collect(Collectors.joining(", "));
+            return Try.failure(new AzkarraException("Failed to query state store: " + errors));
+        }
+        if (success == null) {
+            return Try.success(List.of());
+        }
+        return Try.success(success.stream().flatMap(rs -> rs.getRecords().stream()).collect(Collectors.toList()));
+    }
+
+    private final Supplier<Try<CloseableIterator<T>>> supplier;
+
+    private final long limit;
+
+    /**
+     * Creates a new {@link IteratorPublisher} instance.
+     *
+     * @param supplier  the supplier used to open a new iterator for each subscriber.
+     * @param limit     the maximum number of elements to emit (-1 means no limit).
+     */
+    private IteratorPublisher(final Supplier<Try<CloseableIterator<T>>> supplier, final long limit) {
+        this.supplier = Objects.requireNonNull(supplier, "supplier cannot be null");
+        this.limit = limit;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber cannot be null"); // rule 1.9
+        subscriber.onSubscribe(new IteratorSubscription(subscriber));
+    }
+
+    private interface CloseableIterator<T> extends Iterator<T>, AutoCloseable {
+    }
+
+    private static final class IteratorAdapter<T> implements CloseableIterator<T> {
+
+        private final Iterator<T> iterator;
+
+        IteratorAdapter(final Iterator<T> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void close() throws Exception {
+            if (iterator instanceof AutoCloseable) {
+                ((AutoCloseable) iterator).close();
+            }
+        }
+    }
+
+    private static final class KeyValueIteratorAdapter<IK, IV, T> implements CloseableIterator<T> {
+
+        private final KeyValueIterator<IK, IV> iterator;
+        private final Function<KeyValue<IK, IV>, T> mapper;
+
+        KeyValueIteratorAdapter(final KeyValueIterator<IK, IV> iterator,
+                                final Function<KeyValue<IK, IV>, T> mapper) {
+            this.iterator = iterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return mapper.apply(iterator.next());
+        }
+
+        @Override
+        public void close() {
+            // close the underlying RocksDBs iterator (if persistent) - avoid memory leak.
+            iterator.close();
+        }
+    }
+
+    private final class IteratorSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        // guarantees that the iterator is only accessed by a single thread at a time.
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable invalidRequest;
+
+        private CloseableIterator<T> iterator;
+
+        private long emitted;
+
+        private boolean done;
+
+        IteratorSubscription(final Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("non-positive request: " + n); // rule 3.9
+            } else {
+                requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            }
+            drain();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) return;
+
+            int missed = 1;
+            do {
+                if (!done) {
+                    emit();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (cancelled) {
+                terminate();
+                return;
+            }
+
+            if (invalidRequest != null) {
+                terminate();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+
+            try {
+                if (iterator == null && !open()) return;
+                emitRequested();
+            } catch (final RuntimeException exception) {
+                terminate();
+                subscriber.onError(exception);
+            }
+        }
+
+        private boolean open() {
+            final Try<CloseableIterator<T>> opened = supplier.get();
+            if (opened.isFailure()) {
+                done = true;
+                subscriber.onError(opened.getThrowable());
+                return false;
+            }
+            iterator = opened.get();
+            return true;
+        }
+
+        private void emitRequested() {
+            final long r = requested.get();
+            long e = 0L;
+            while (e != r && !cancelled && !isExhausted()) {
+                subscriber.onNext(iterator.next());
+                emitted++;
+                e++;
+            }
+
+            if (cancelled) {
+                terminate();
+                return;
+            }
+
+            if (isExhausted()) {
+                terminate();
+                subscriber.onComplete();
+                return;
+            }
+
+            if (e != 0L && r != Long.MAX_VALUE) {
+                requested.addAndGet(-e);
+            }
+        }
+
+        private boolean isExhausted() {
+            return (limit > 0 && emitted >= limit) || !iterator.hasNext();
+        }
+
+        private void terminate() {
+            done = true;
+            if (iterator != null) {
+                try {
+                    iterator.close();
+                } catch (final Exception ignore) {
+                    // ignore
+                }
+                iterator = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.query.internal.PreparedQuery;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import org.apache.kafka.streams.KeyQueryMetadata;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Selects the {@link QueryContext} executing a keyed query whose key is owned by a remote active host.
+ */
+final class KeyedQueryContexts {
+
+    private KeyedQueryContexts() {
+    }
+
+    /**
+     * Gets the {@link QueryContext} for executing a keyed query whose active host is a remote instance.
+     * The query is either forwarded to the active host, hedged to a standby host, or answered by the local
+     * standby replica of the key's partition, depending on the given options.
+     *
+     * @param remoteQueryClient the {@link RemoteQueryClient} used for forwarding the query.
+     * @param query             the {@link PreparedQuery} to execute.
+     * @param container         the {@link KafkaStreamsContainer} instance.
+     * @param metadata          the {@link KeyQueryMetadata} of the queried key.
+     * @param options           the {@link Queried} options.
+     * @return                  a new {@link QueryContext}.
+     */
+    static <K, V> QueryContext<K, V> forRemoteKey(final RemoteQueryClient remoteQueryClient,
+                                                  final PreparedQuery<K, V> query,
+                                                  final KafkaStreamsContainer container,
+                                                  final KeyQueryMetadata metadata,
+                                                  final Queried options) {
+        final String serverName = container.applicationServer();
+        final boolean isLocalStandby = isLocalStandby(container, metadata);
+        final QueryContext<K, V> context;
+        if (options.remoteAccessAllowed() && isHedged(options, metadata)) {
+            context = new HedgedQueryContext<>(remoteQueryClient, query, container, metadata, options);
+        } else if (options.remoteAccessAllowed()) {
+            context = new RemoteQueryContext<>(remoteQueryClient, query, serverName, options);
+        } else if (isHedged(options, metadata) && isLocalStandby) {
+            // the query has been hedged by the instance which received it.
+            return new StandbyQueryContext<>(query, container, metadata.getPartition(), options);
+        } else {
+            final QueryResult<K, V> empty = QueryResults.buildQueryResult(serverName, Collections.emptyList());
+            context = (t, f) -> CompletableFuture.completedFuture(empty);
+        }
+
+        if (options.maxStaleness() == null || !isLocalStandby) {
+            return context;
+        }
+        // the local standby replica answers if it is not lagging behind, skipping the network hop to the active host.
+        final QueryContext<K, V> standby = new StandbyQueryContext<>(
+            query, container, metadata.getPartition(), options);
+        return (t, failable) -> standby.execute(t, failable).thenCompose(result ->
+            QueryResults.isAnswered(result) ? CompletableFuture.completedFuture(result) : context.execute(t, failable)
+        );
+    }
+
+    private static boolean isHedged(final Queried options, final KeyQueryMetadata metadata) {
+        return options.isHedged() && !metadata.getStandbyHosts().isEmpty();
+    }
+
+    private static boolean isLocalStandby(final KafkaStreamsContainer container, final KeyQueryMetadata metadata) {
+        return metadata.getStandbyHosts().stream().anyMatch(container::isSameHost);
+    }
+}
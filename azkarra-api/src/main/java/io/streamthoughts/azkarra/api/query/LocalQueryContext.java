@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.errors.AzkarraRetriableException;
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Either;
+import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.internal.PreparedQuery;
+import io.streamthoughts.azkarra.api.query.result.ErrorResultSet;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.streams.ServerHostInfo;
+import io.streamthoughts.azkarra.api.time.Time;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static io.streamthoughts.azkarra.api.query.QueryResults.buildQueryResult;
+import static io.streamthoughts.azkarra.api.query.QueryResults.buildResultSet;
+
+/**
+ * Executes a query on the stores of the local instance.
+ *
+ * @param <K>   the record key type.
+ * @param <V>   the record value type.
+ */
+class LocalQueryContext<K, V> implements QueryContext<K, V> {
+
+    private final PreparedQuery<K, V> query;
+    private final KafkaStreamsContainer streams;
+    private final Queried queried;
+    private final Comparator<Object> keyOrder;
+
+    /**
+     * Creates a new {@link LocalQueryContext} instance.
+     *
+     * @param query     the {@link PreparedQuery} to execute.
+     * @param streams   the {@link KafkaStreamsContainer} instance.
+     * @param queried   the {@link Queried} options.
+     * @param keyOrder  the {@link Comparator} used for sorting records by key.
+     */
+    LocalQueryContext(final PreparedQuery<K, V> query,
+                      final KafkaStreamsContainer streams,
+                      final Queried queried,
+                      final Comparator<Object> keyOrder) {
+        this.query = query;
+        this.streams = streams;
+        this.queried = queried;
+        this.keyOrder = keyOrder;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<QueryResult<K, V>> execute(final ServerHostInfo target, final boolean failable) {
+        final ContinuationToken continuation = ContinuationToken.decode(queried.continuation());
+        final long deadline = Optional.ofNullable(queried.deadline()).orElse(PaginatedLocalStoreQuery.NO_DEADLINE);
+        if (queried.aggregation() != null) {
+            return CompletableFuture.completedFuture(aggregate(queried.aggregation(), deadline));
+        }
+        final LocalScan scan = LocalScan.of(queried.limit(), continuation)
+            .withParallel(queried.parallel())
+            .withDeadline(deadline)
+            .withFilter(queried.filter());
+        final Try<LocalStorePage<K, V>> page = queried.ordered() && query.isSorted() ?
+            query.executeSorted(streams, scan, keyOrder) :
+            query.execute(streams, scan);
+        final Try<List<KV<K, V>>> executed = page.map(LocalStorePage::records)
+            .map(records -> QueryResults.project(records, queried.projection()));
+
+        if (failable && executed.isFailure()) {
+            Throwable exception = executed.getThrowable();
+            if (exception instanceof InvalidStateStoreException) {
+                return CompletableFuture.failedFuture(new AzkarraRetriableException(exception));
+            }
+            // cannot be retriable, ignored exception.
+        }
+
+        final String serverName = streams.applicationServer();
+        final Either<SuccessResultSet<K, V>, ErrorResultSet> rs = buildResultSet(serverName, executed);
+
+        final QueryResult<K, V> result = buildQueryResult(serverName, Collections.singletonList(rs));
+        if (page.isFailure() || page.get().continuation().isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+        }
+        final ContinuationToken next = page.get().continuation();
+        // the scan may have been stopped by the deadline before reading all the records.
+        final boolean timeout = next.hasMore() && Time.SYSTEM.milliseconds() >= deadline;
+        return CompletableFuture.completedFuture(result.continuation(next.encode()).timeout(timeout));
+    }
+
+    /**
+     * Computes the partial aggregate of the local records, which are streamed from the local store.
+     * The limit and the continuation of the query are ignored.
+     */
+    private QueryResult<K, V> aggregate(final Aggregation aggregation, final long deadline) {
+        final Aggregation.Accumulator accumulator = aggregation.newAccumulator();
+        final AggregatingSubscriber<K, V> subscriber = new AggregatingSubscriber<>(
+            accumulator, queried.filter(), deadline);
+        query.publisher(streams, LocalStoreQuery.NO_LIMIT).subscribe(subscriber);
+
+        final Try<Boolean> completed = Try.failable(() -> QueryResults.join(subscriber.completion()));
+        final Try<List<KV<K, V>>> executed = completed.map(ignored -> accumulator.result());
+
+        final String serverName = streams.applicationServer();
+        final QueryResult<K, V> result = buildQueryResult(
+            serverName, Collections.singletonList(buildResultSet(serverName, executed)));
+        return result.timeout(completed.isSuccess() && !completed.get());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.model.KV;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * The options used to read a single page of records from local state stores.
+ *
+ * @see PaginatedLocalStoreQuery
+ * @see SortedLocalStoreQuery
+ *
+ * @since 0.8.0
+ */
+public class LocalScan {
+
+    /**
+     * Creates a new {@link LocalScan} reading all records sequentially, without deadline.
+     *
+     * @param limit         the maximum number of records the page should be limited to (-1 means no limit).
+     * @param continuation  the {@link ContinuationToken} returned by a previous execution.
+     * @return              a new {@link LocalScan} instance.
+     */
+    public static LocalScan of(final long limit, final ContinuationToken continuation) {
+        return new LocalScan(limit, continuation, false, PaginatedLocalStoreQuery.NO_DEADLINE, null);
+    }
+
+    private final long limit;
+
+    private final ContinuationToken continuation;
+
+    private final boolean parallel;
+
+    private final long deadline;
+
+    private final Predicate<? super KV<?, ?>> filter;
+
+    private LocalScan(final long limit,
+                      final ContinuationToken continuation,
+                      final boolean parallel,
+                      final long deadline,
+                      final Predicate<? super KV<?, ?>> filter) {
+        this.limit = limit;
+        this.continuation = Objects.requireNonNull(continuation, "continuation cannot be null");
+        this.parallel = parallel;
+        this.deadline = deadline;
+        this.filter = filter;
+    }
+
+    /**
+     * @param parallel  should the local partitions of the store be scanned concurrently.
+     * @return          a new {@link LocalScan} instance.
+     */
+    public LocalScan withParallel(final boolean parallel) {
+        return new LocalScan(limit, continuation, parallel, deadline, filter);
+    }
+
+    /**
+     * @param deadline  the absolute time (epoch milliseconds) at which the scan should stop,
+     *                  or {@link PaginatedLocalStoreQuery#NO_DEADLINE}.
+     * @return          a new {@link LocalScan} instance.
+     */
+    public LocalScan withDeadline(final long deadline) {
+        return new LocalScan(limit, continuation, parallel, deadline, filter);
+    }
+
+    /**
+     * @param filter    the predicate that records must satisfy, or {@code null}.
+     * @return          a new {@link LocalScan} instance.
+     */
+    public LocalScan withFilter(final Predicate<? super KV<?, ?>> filter) {
+        return new LocalScan(limit, continuation, parallel, deadline, filter);
+    }
+
+    public long limit() {
+        return limit;
+    }
+
+    public ContinuationToken continuation() {
+        return continuation;
+    }
+
+    public boolean parallel() {
+        return parallel;
+    }
+
+    public long deadline() {
+        return deadline;
+    }
+
+    /**
+     * @return  {@code true} if only the records matching a predicate should be returned.
+     */
+    public boolean isFiltered() {
+        return filter != null;
+    }
+
+    /**
+     * @return  the predicate that records must satisfy; matches all records if this scan is not filtered.
+     */
+    public Predicate<? super KV<?, ?>> filter() {
+        return filter != null ? filter : record -> true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "LocalScan{" +
+                "limit=" + limit +
+                ", continuation=" + continuation +
+                ", parallel=" + parallel +
+                ", deadline=" + deadline +
+                ", filter=" + filter +
+                '}';
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.model.KV;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A single page of records read from local state stores.
+ *
+ * @param <K>   the record key type.
+ * @param <V>   the record value type.
+ */
+public class LocalStorePage<K, V> {
+
+    private final List<KV<K, V>> records;
+
+    private final ContinuationToken continuation;
+
+    /**
+     * Creates a new {@link LocalStorePage} instance.
+     *
+     * @param records       the records for this page.
+     * @param continuation  the {@link ContinuationToken} to be used for resuming the query.
+     */
+    public LocalStorePage(final List<KV<K, V>> records,
+                          final ContinuationToken continuation) {
+        this.records = Collections.unmodifiableList(Objects.requireNonNull(records, "records cannot be null"));
+        this.continuation = Objects.requireNonNull(continuation, "continuation cannot be null");
+    }
+
+    public List<KV<K, V>> records() {
+        return records;
+    }
+
+    public ContinuationToken continuation() {
+        return continuation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LocalStorePage)) return false;
+        LocalStorePage<?, ?> that = (LocalStorePage<?, ?>) o;
+        return Objects.equals(records, that.records) &&
+                Objects.equals(continuation, that.continuation);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(records, continuation);
+    }
+
+    @Override
+    public String toString() {
+        return "LocalStorePage{" +
+                "records=" + records +
+                ", continuation=" + continuation +
+                '}';
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.kafka.streams.state.ValueAndTimestamp;
 import java.util.List;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.Flow;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -69,6 +70,21 @@ public interface LocalStoreQuery<K, V> {
      */
     Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container, long limit);
 
+    /**
+     * Gets a {@link Flow.Publisher} which executes this query to the specified KafkaStreams application
+     * for each subscriber. Records are emitted as they are requested by the subscriber.
+     *
+     * By default, the query is fully executed before records are emitted. Queries iterating over a local
+     * store should override this method to emit records directly from the opened store iterator.
+     *
+     * @param container the {@link KafkaStreamsContainer} instance.
+     * @param limit     the maximum number of records the result should be limited to (-1 means no limit).
+     * @return          a new {@link Flow.Publisher} instance.
+     */
+    default Flow.Publisher<KV<K, V>> publisher(final KafkaStreamsContainer container, final long limit) {
+        return IteratorPublisher.ofList(() -> execute(container, limit));
+    }
+
     static <K, V> List<KV<K, V>> toKeyValueListAndClose(final KeyValueIterator<K, V> it, final long limit) {
         Stream<KV<K, V>> kvStream = StreamSupport
                 .stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false)
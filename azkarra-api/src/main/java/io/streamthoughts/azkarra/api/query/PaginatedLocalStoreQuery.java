@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+
+/**
+ * A {@link LocalStoreQuery} which can be executed page by page.
+ *
+ * @param <K>   the record key type.
+ * @param <V>   the record value type.
+ */
+public interface PaginatedLocalStoreQuery<K, V> extends LocalStoreQuery<K, V> {
+
+    long NO_DEADLINE = Long.MAX_VALUE;
+
+    /**
+     * Executes this query to the specified KafkaStreams application, starting from the token of the given scan.
+     *
+     * If the deadline of the scan is reached before the page is full, the page contains the records read so far and
+     * its {@link ContinuationToken} can be used to resume the query where it stopped. The filter of the scan is
+     * evaluated while records are read, so that only matching records are counted against the limit.
+     *
+     * @param container     the {@link KafkaStreamsContainer} instance.
+     * @param scan          the {@link LocalScan} options.
+     * @return              the {@link LocalStorePage}.
+     *
+     * @since 0.8.0
+     */
+    Try<LocalStorePage<K, V>> execute(final KafkaStreamsContainer container, final LocalScan scan);
+}
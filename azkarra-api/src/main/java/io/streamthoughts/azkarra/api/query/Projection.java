@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.model.KV;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A projection of the fields of the record values, applied by each instance before returning its records,
+ * so that only the requested fields are serialized and sent to the instance receiving the query.
+ *
+ * Each field is designated by a dot-separated path (see {@link RecordFilter}) and values are converted into
+ * nested maps keeping the structure of the original values. Thus, projecting an already projected value
+ * returns the same value.
+ *
+ * @since 0.8.0
+ */
+public final class Projection {
+
+    private final List<FieldPath> fields;
+
+    /**
+     * Creates a new {@link Projection} instance.
+     *
+     * @param fields    the paths of the fields to be returned.
+     */
+    public Projection(final List<String> fields) {
+        Objects.requireNonNull(fields, "fields cannot be null");
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("fields cannot be empty");
+        }
+        this.fields = fields.stream().map(FieldPath::new).collect(Collectors.toUnmodifiableList());
+    }
+
+    public List<String> fields() {
+        return fields.stream().map(FieldPath::path).collect(Collectors.toList());
+    }
+
+    /**
+     * Projects the values of the given records.
+     *
+     * @param records   the records to project.
+     * @return          the projected records.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> List<KV<K, V>> apply(final List<KV<K, V>> records) {
+        return records.stream()
+            .map(kv -> (KV<K, V>) KV.of(kv.key(), apply(kv.value()), kv.timestamp()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Projects the given value.
+     *
+     * @param value the value to project.
+     * @return      the projected value as a {@link Map}, or {@code null} if the value is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public Object apply(final Object value) {
+        if (value == null) return null;
+        final Map<String, Object> projected = new LinkedHashMap<>();
+        final Set<Object> created = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FieldPath field : fields) {
+            final String[] path = field.fields();
+            Map<String, Object> parent = projected;
+            for (int i = 0; i < path.length - 1 && parent != null; i++) {
+                final Object child = parent.computeIfAbsent(path[i], k -> newNestedMap(created));
+                // the parent field may already be projected as a whole.
+                parent = created.contains(child) ? (Map<String, Object>) child : null;
+            }
+            if (parent != null && path.length > 0) {
+                parent.put(path[path.length - 1], field.resolve(value));
+            }
+        }
+        return projected;
+    }
+
+    private static Map<String, Object> newNestedMap(final Set<Object> created) {
+        final Map<String, Object> nested = new LinkedHashMap<>();
+        created.add(nested);
+        return nested;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Projection)) return false;
+        return Objects.equals(fields, ((Projection) o).fields);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(fields);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "Projection{" +
+                "fields=" + fields +
+                '}';
+    }
+}
@@ -19,7 +19,8 @@
 package io.streamthoughts.azkarra.api.query;
 
 import java.time.Duration;
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.function.Consumer;
 
 public class Queried {
 
@@ -65,6 +66,58 @@ public class Queried {
      */
     private final Long limit;
 
+    /**
+     * The token returned by a previous query, used to fetch the next page of results.
+     */
+    private final String continuation;
+
+    /**
+     * Should the local partitions of the store be scanned concurrently.
+     */
+    private final boolean parallel;
+
+    /**
+     * Should the records returned by all instances be sorted by key.
+     */
+    private final boolean ordered;
+
+    /**
+     * The time to wait for the active host before sending the same keyed query to a standby host.
+     */
+    private final Duration hedgeDelay;
+
+    /**
+     * The maximum offset lag of a local standby replica for answering a keyed query
+     * instead of the active host. Also bounds the standby replicas answering hedged queries.
+     */
+    private final Long maxStaleness;
+
+    /**
+     * The absolute time (epoch milliseconds) at which the query should return with the results read so far.
+     */
+    private final Long deadline;
+
+    /**
+     * The aggregation to compute over the records, instead of returning them.
+     */
+    private final Aggregation aggregation;
+
+    /**
+     * The filter that records must satisfy to be returned or aggregated.
+     */
+    private final RecordFilter filter;
+
+    /**
+     * The fields of the record values to be returned.
+     */
+    private final Projection projection;
+
+    /**
+     * Should the values returned by remote instances be deserialized, because they are processed
+     * by the local instance instead of being returned as is.
+     */
+    private final boolean decodedValues;
+
     /**
      * Creates a new {@link Queried} instance.
      *
@@ -79,31 +132,94 @@ public class Queried {
                    final Duration queryTimeout,
                    final boolean remoteAccessAllowed,
                    final Long limit) {
-        this.retries = retries;
-        this.retryBackoff = retryBackoff;
-        this.queryTimeout = queryTimeout;
-        this.remoteAccessAllowed = remoteAccessAllowed;
-        this.limit = limit;
+        this(new Builder(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit));
+    }
+
+    private Queried(final Builder builder) {
+        this.retries = builder.retries;
+        this.retryBackoff = builder.retryBackoff;
+        this.queryTimeout = builder.queryTimeout;
+        this.remoteAccessAllowed = builder.remoteAccessAllowed;
+        this.limit = builder.limit;
+        this.continuation = builder.continuation;
+        this.parallel = builder.parallel;
+        this.ordered = builder.ordered;
+        this.hedgeDelay = builder.hedgeDelay;
+        this.maxStaleness = builder.maxStaleness;
+        this.deadline = builder.deadline;
+        this.aggregation = builder.aggregation;
+        this.filter = builder.filter;
+        this.projection = builder.projection;
+        this.decodedValues = builder.decodedValues;
+    }
+
+    /**
+     * Creates a copy of this {@link Queried} with the given changes applied.
+     */
+    private Queried with(final Consumer<Builder> changes) {
+        final Builder builder = new Builder(this);
+        changes.accept(builder);
+        return new Queried(builder);
     }
 
     public Queried withRemoteAccessAllowed(final boolean remoteAccessAllowed) {
-        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit);
+        return with(b -> b.remoteAccessAllowed = remoteAccessAllowed);
     }
 
     public Queried withQueryTimeout(final Duration timeout) {
-        return new Queried(retries, retryBackoff, timeout, remoteAccessAllowed, limit);
+        return with(b -> b.queryTimeout = timeout);
     }
 
     public Queried withRetries(final int retries) {
-        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit);
+        return with(b -> b.retries = retries);
     }
 
     public Queried withRetryBackoffMs(final Duration retryBackoff) {
-        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit);
+        return with(b -> b.retryBackoff = retryBackoff);
     }
 
     public Queried withLimit(final Long limit) {
-        return new Queried(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit);
+        return with(b -> b.limit = limit);
+    }
+
+    public Queried withContinuation(final String continuation) {
+        return with(b -> b.continuation = continuation);
+    }
+
+    public Queried withParallel(final boolean parallel) {
+        return with(b -> b.parallel = parallel);
+    }
+
+    public Queried withOrdered(final boolean ordered) {
+        return with(b -> b.ordered = ordered);
+    }
+
+    public Queried withHedgeDelay(final Duration hedgeDelay) {
+        return with(b -> b.hedgeDelay = hedgeDelay);
+    }
+
+    public Queried withMaxStaleness(final Long maxStaleness) {
+        return with(b -> b.maxStaleness = maxStaleness);
+    }
+
+    public Queried withDeadline(final Long deadline) {
+        return with(b -> b.deadline = deadline);
+    }
+
+    public Queried withAggregation(final Aggregation aggregation) {
+        return with(b -> b.aggregation = aggregation);
+    }
+
+    public Queried withFilter(final RecordFilter filter) {
+        return with(b -> b.filter = filter);
+    }
+
+    public Queried withProjection(final Projection projection) {
+        return with(b -> b.projection = projection);
+    }
+
+    public Queried withDecodedValues(final boolean decodedValues) {
+        return with(b -> b.decodedValues = decodedValues);
     }
 
     /**
@@ -151,6 +267,115 @@ public class Queried {
         return limit;
     }
 
+    /**
+     * Gets the token to resume a paginated query from.
+     *
+     * @return  the continuation token, or {@code null} to start from the first page.
+     */
+    public String continuation() {
+        return continuation;
+    }
+
+    /**
+     * Gets whether the local partitions of the store should be scanned concurrently.
+     *
+     * @return  {@code true} if the local partitions should be scanned in parallel, {@code false} otherwise.
+     */
+    public boolean parallel() {
+        return parallel;
+    }
+
+    /**
+     * Gets whether the records returned by all instances should be sorted by key.
+     *
+     * @return  {@code true} if the records should be sorted by key, {@code false} otherwise.
+     */
+    public boolean ordered() {
+        return ordered;
+    }
+
+    /**
+     * Gets the time to wait for the active host before sending a keyed query to a standby host.
+     *
+     * @return  the hedge delay, or {@code null} if hedged queries are disabled.
+     */
+    public Duration hedgeDelay() {
+        return hedgeDelay;
+    }
+
+    /**
+     * Checks whether a keyed query can be sent to a standby host if the active host does not answer in time.
+     *
+     * @return  {@code true} if hedged queries are enabled, {@code false} otherwise.
+     */
+    public boolean isHedged() {
+        return hedgeDelay != null;
+    }
+
+    /**
+     * Gets the maximum offset lag of a standby replica for answering a keyed query. If set, a keyed query is answered
+     * by the local standby replica of the key's partition when its lag is within the bound, instead of being
+     * forwarded to the active host.
+     *
+     * @return  the maximum lag, or {@code null} if stale reads are disabled (and standby replicas answering
+     *          hedged queries are not bounded).
+     */
+    public Long maxStaleness() {
+        return maxStaleness;
+    }
+
+    /**
+     * Gets the absolute time (epoch milliseconds) at which the query should return with the results read so far.
+     * The deadline is computed from the {@link #queryTimeout()} by the instance receiving the query
+     * and is propagated with the requests sent to the other instances.
+     *
+     * @return  the deadline, or {@code null} if the query is not bounded.
+     */
+    public Long deadline() {
+        return deadline;
+    }
+
+    /**
+     * Gets the aggregation to compute over the queried records. If set, each instance returns a partial aggregate
+     * computed over its local stores, and the partial aggregates are combined by the instance receiving the query.
+     *
+     * @return  the {@link Aggregation}, or {@code null} if records should be returned.
+     */
+    public Aggregation aggregation() {
+        return aggregation;
+    }
+
+    /**
+     * Gets the filter that records must satisfy. The filter is evaluated by each instance while reading
+     * its local stores, so that only matching records are returned, counted against the limit, or aggregated.
+     *
+     * @return  the {@link RecordFilter}, or {@code null} if all records should be returned.
+     */
+    public RecordFilter filter() {
+        return filter;
+    }
+
+    /**
+     * Gets the fields of the record values to be returned. The projection is applied by each instance
+     * before returning its records, and is ignored if an {@link #aggregation()} is set.
+     *
+     * @return  the {@link Projection}, or {@code null} if the whole values should be returned.
+     */
+    public Projection projection() {
+        return projection;
+    }
+
+    /**
+     * Gets whether the values of the records returned by remote instances must be deserialized, e.g. because
+     * the records are aggregated by the local instance. Otherwise, values may be read in a format in which they are
+     * passed through to the client without being deserialized. This option is not sent to remote instances.
+     *
+     * @return  {@code true} if values must be deserialized, {@code false} otherwise.
+     */
+    public boolean decodedValues() {
+        return decodedValues;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -158,12 +383,7 @@ public class Queried {
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof Queried)) return false;
-        Queried queried = (Queried) o;
-        return retries == queried.retries &&
-                remoteAccessAllowed == queried.remoteAccessAllowed &&
-                Objects.equals(retryBackoff, queried.retryBackoff) &&
-                Objects.equals(queryTimeout, queried.queryTimeout) &&
-                Objects.equals(limit, queried.limit);
+        return Arrays.equals(fields(), ((Queried) o).fields());
     }
 
     /**
@@ -171,7 +391,14 @@ public class Queried {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit);
+        return Arrays.hashCode(fields());
+    }
+
+    private Object[] fields() {
+        return new Object[]{
+            retries, retryBackoff, queryTimeout, remoteAccessAllowed, limit, continuation, parallel, ordered,
+            hedgeDelay, maxStaleness, deadline, aggregation, filter, projection, decodedValues
+        };
     }
 
     /**
@@ -185,6 +412,68 @@ public class Queried {
                 ", queryTimeout=" + queryTimeout +
                 ", remoteAccessAllowed=" + remoteAccessAllowed +
                 ", limit=" + limit +
+                ", continuation=" + continuation +
+                ", parallel=" + parallel +
+                ", ordered=" + ordered +
+                ", hedgeDelay=" + hedgeDelay +
+                ", maxStaleness=" + maxStaleness +
+                ", deadline=" + deadline +
+                ", aggregation=" + aggregation +
+                ", filter=" + filter +
+                ", projection=" + projection +
+                ", decodedValues=" + decodedValues +
                 '}';
     }
+
+    /**
+     * The mutable copy of the options used for creating new {@link Queried} instances.
+     */
+    private static final class Builder {
+
+        private int retries;
+        private Duration retryBackoff;
+        private Duration queryTimeout;
+        private boolean remoteAccessAllowed;
+        private Long limit;
+        private String continuation;
+        private boolean parallel;
+        private boolean ordered;
+        private Duration hedgeDelay;
+        private Long maxStaleness;
+        private Long deadline;
+        private Aggregation aggregation;
+        private RecordFilter filter;
+        private Projection projection;
+        private boolean decodedValues;
+
+        Builder(final int retries,
+                final Duration retryBackoff,
+                final Duration queryTimeout,
+                final boolean remoteAccessAllowed,
+                final Long limit) {
+            this.retries = retries;
+            this.retryBackoff = retryBackoff;
+            this.queryTimeout = queryTimeout;
+            this.remoteAccessAllowed = remoteAccessAllowed;
+            this.limit = limit;
+        }
+
+        Builder(final Queried queried) {
+            this(queried.retries,
+                 queried.retryBackoff,
+                 queried.queryTimeout,
+                 queried.remoteAccessAllowed,
+                 queried.limit);
+            this.continuation = queried.continuation;
+            this.parallel = queried.parallel;
+            this.ordered = queried.ordered;
+            this.hedgeDelay = queried.hedgeDelay;
+            this.maxStaleness = queried.maxStaleness;
+            this.deadline = queried.deadline;
+            this.aggregation = queried.aggregation;
+            this.filter = queried.filter;
+            this.projection = queried.projection;
+            this.decodedValues = queried.decodedValues;
+        }
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.monad.Tuple;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.time.Time;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical interactive queries executed concurrently, so that they share a single execution.
+ *
+ * Two queries are identical if they target the same application and store, with the same operation, parameters
+ * and {@link Queried} options. A query is only shared while it is in-flight; once completed, the next identical
+ * query triggers a new execution.
+ *
+ * The deadline of a query is not part of its identity, but each query still completes within its own deadline:
+ * a query with an earlier deadline than the shared execution gets a timed-out result once its deadline is reached,
+ * and a query with a later deadline is executed again if the shared execution timed out.
+ *
+ * @since 0.8.0
+ */
+public class QueryCoalescer {
+
+    private final Map<Tuple<String, QueryKey>, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Executes the given query, or joins the execution of an identical query already in-flight.
+     *
+     * @param applicationId the id of the queried application.
+     * @param server        the name of the local server, used for reporting timed-out results.
+     * @param query         the {@link QueryInfo} with its parameters.
+     * @param options       the {@link Queried} options.
+     * @param execution     the function executing the query, only invoked if no identical query is in-flight.
+     * @return              the {@link CompletableFuture} of the query.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> CompletableFuture<QueryResult<K, V>> execute(
+            final String applicationId,
+            final String server,
+            final QueryInfo query,
+            final Queried options,
+            final Supplier<CompletableFuture<QueryResult<K, V>>> execution) {
+        Objects.requireNonNull(execution, "execution cannot be null");
+        final Tuple<String, QueryKey> key = Tuple.of(applicationId, new QueryKey(query, options));
+        final InFlight leader = new InFlight(new CompletableFuture<>(), options.deadline());
+
+        final InFlight existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing, server, options.deadline(), execution);
+        }
+
+        try {
+            execution.get().whenComplete((result, throwable) -> {
+                // remove the query before completing, so that waiters never observe a completed in-flight query.
+                inFlight.remove(key, leader);
+                if (throwable != null) {
+                    leader.promise.completeExceptionally(throwable);
+                } else {
+                    leader.promise.complete(result);
+                }
+            });
+        } catch (final RuntimeException e) {
+            inFlight.remove(key, leader);
+            leader.promise.completeExceptionally(e);
+        }
+        return (CompletableFuture<QueryResult<K, V>>) (CompletableFuture<?>) leader.promise;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> CompletableFuture<QueryResult<K, V>> join(
+            final InFlight leader,
+            final String server,
+            final Long deadline,
+            final Supplier<CompletableFuture<QueryResult<K, V>>> execution) {
+        final CompletableFuture<QueryResult<K, V>> shared =
+            (CompletableFuture<QueryResult<K, V>>) (CompletableFuture<?>) leader.promise;
+
+        if (isLater(deadline, leader.deadline)) {
+            // the partial result of a timed-out execution is not returned to a query which can wait longer.
+            return shared.thenCompose(rs -> rs.isTimeout() ? execution.get() : CompletableFuture.completedFuture(rs));
+        }
+        if (isLater(leader.deadline, deadline)) {
+            final long remaining = Math.max(0, deadline - Time.SYSTEM.milliseconds());
+            return shared
+                .thenApply(Function.identity())
+                .completeOnTimeout(QueryResults.buildTimedOutResult(server, server), remaining, TimeUnit.MILLISECONDS);
+        }
+        return shared;
+    }
+
+    /**
+     * Checks whether the first deadline is later than the second one, a {@code null} deadline meaning no deadline.
+     */
+    private static boolean isLater(final Long d1, final Long d2) {
+        return d2 != null && (d1 == null || d1 > d2);
+    }
+
+    /**
+     * @return the number of queries which joined the execution of an identical in-flight query.
+     */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return the number of queries currently in-flight.
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static final class InFlight {
+
+        final CompletableFuture<QueryResult<?, ?>> promise;
+        final Long deadline;
+
+        InFlight(final CompletableFuture<QueryResult<?, ?>> promise, final Long deadline) {
+            this.promise = promise;
+            this.deadline = deadline;
+        }
+    }
+}
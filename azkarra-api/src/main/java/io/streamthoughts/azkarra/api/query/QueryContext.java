@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.errors.AzkarraRetriableException;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.streams.ServerHostInfo;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Executes a query on a given instance, on behalf of a {@link DistributedQuery}.
+ *
+ * @param <K>   the record key type.
+ * @param <V>   the record value type.
+ */
+interface QueryContext<K, V> {
+
+    default CompletableFuture<QueryResult<K, V>> execute(final ServerHostInfo target) {
+        return execute(target, false);
+    }
+
+    /**
+     * Executes the query on the given target.
+     *
+     * @param target    the {@link ServerHostInfo} to query.
+     * @param failable  {@code true} if the returned future can be completed exceptionally
+     *                  (e.g. with an {@link AzkarraRetriableException}).
+     * @return          the {@link CompletableFuture} completed with the {@link QueryResult}.
+     */
+    CompletableFuture<QueryResult<K, V>> execute(final ServerHostInfo target, final boolean failable);
+}
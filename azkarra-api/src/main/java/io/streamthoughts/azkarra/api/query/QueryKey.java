@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Identifies a query execution, i.e. a query with its parameters and its {@link Queried} options.
+ *
+ * Unlike {@link QueryInfo#equals(Object)}, the query parameters are compared.
+ *
+ * @since 0.8.0
+ */
+final class QueryKey {
+
+    private final QueryInfo query;
+    private final Map<String, Object> parameters;
+    private final Queried options;
+
+    /**
+     * Creates a new {@link QueryKey} instance.
+     *
+     * @param query     the {@link QueryInfo} with its parameters.
+     * @param options   the {@link Queried} options.
+     */
+    QueryKey(final QueryInfo query, final Queried options) {
+        this.query = new QueryInfo(query.storeName(), query.type(), query.operation(), query.parameters());
+        this.parameters = query.parameters().originals();
+        // the deadline is specific to each request and must not prevent identical queries to be shared,
+        // see QueryCoalescer for how each query is still bounded by its own deadline.
+        this.options = options.withDeadline(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof QueryKey)) return false;
+        QueryKey that = (QueryKey) o;
+        return Objects.equals(query, that.query) &&
+                Objects.equals(parameters, that.parameters) &&
+                Objects.equals(options, that.options);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, parameters, options);
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.QueryStatus;
+import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
+import io.streamthoughts.azkarra.api.time.Time;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A size-bounded cache of {@link QueryResult}, keyed on the query and its options.
+ *
+ * Results are evicted in least-recently-used order once the maximum number of entries is reached, and expire
+ * after a TTL that can be configured per store. The cache must be invalidated each time the streams instance
+ * changes state, as the local stores may have been migrated or restored.
+ *
+ * Each invalidation starts a new generation of the cache. A result computed by a query started before an
+ * invalidation is not cached (see {@link #generation()}).
+ *
+ * @since 0.8.0
+ */
+public class QueryResultCache {
+
+    private static final long ENTRY_OVERHEAD_IN_BYTES = 128L;
+    private static final long RECORD_OVERHEAD_IN_BYTES = 32L;
+    private static final long OBJECT_SIZE_IN_BYTES = 16L;
+    private static final long DEFAULT_OBJECT_SIZE_IN_BYTES = 64L;
+
+    /**
+     * @return a new {@link QueryResultCache} that never caches results.
+     */
+    public static QueryResultCache disabled() {
+        return new QueryResultCache(0, Duration.ZERO, Collections.emptyMap(), Time.SYSTEM);
+    }
+
+    /**
+     * Creates a new {@link QueryResultCache} for the given configuration.
+     *
+     * @param config    the {@link QueryResultCacheConfig}.
+     * @return          a new {@link QueryResultCache} instance.
+     */
+    public static QueryResultCache of(final QueryResultCacheConfig config) {
+        if (!config.isEnable()) {
+            return disabled();
+        }
+        return new QueryResultCache(config.getMaxEntries(), config.getTtl(), config.getStoreTtls(), Time.SYSTEM);
+    }
+
+    private final int maxEntries;
+
+    private final Duration defaultTtl;
+
+    private final Map<String, Duration> storeTtls;
+
+    private final Time time;
+
+    private final LinkedHashMap<QueryKey, Entry> entries;
+
+    private long estimatedSizeInBytes = 0L;
+
+    private long generation = 0L;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new {@link QueryResultCache} instance.
+     *
+     * @param maxEntries    the maximum number of cached results.
+     * @param defaultTtl    the time-to-live of results for stores with no specific TTL.
+     * @param storeTtls     the time-to-live of results, per store name.
+     * @param time          the {@link Time} used to expire results.
+     */
+    public QueryResultCache(final int maxEntries,
+                            final Duration defaultTtl,
+                            final Map<String, Duration> storeTtls,
+                            final Time time) {
+        this.maxEntries = maxEntries;
+        this.defaultTtl = Objects.requireNonNull(defaultTtl, "defaultTtl cannot be null");
+        this.storeTtls = Map.copyOf(Objects.requireNonNull(storeTtls, "storeTtls cannot be null"));
+        this.time = Objects.requireNonNull(time, "time cannot be null");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<QueryKey, QueryResultCache.Entry> eldest) {
+                if (size() > QueryResultCache.this.maxEntries) {
+                    estimatedSizeInBytes -= eldest.getValue().sizeInBytes;
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Checks whether this cache may hold results.
+     *
+     * @return  {@code true} if results can be cached, {@code false} otherwise.
+     */
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * Gets the cached result for the given query.
+     *
+     * @param query     the {@link QueryInfo} with its parameters.
+     * @param options   the {@link Queried} options.
+     * @return          the cached {@link QueryResult}, or {@link Optional#empty()} if missing or expired.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Optional<QueryResult<K, V>> get(final QueryInfo query, final Queried options) {
+        if (!isEnabled()) return Optional.empty();
+        final QueryKey key = new QueryKey(query, options);
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            if (entry != null && entry.expireAt > time.milliseconds()) {
+                hits.increment();
+                return Optional.of((QueryResult<K, V>) entry.result);
+            }
+            if (entry != null) {
+                remove(key);
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the current generation of this cache, which must be captured before executing a query whose result
+     * is to be cached.
+     *
+     * @return  the generation, incremented on each call to {@link #invalidateAll()}.
+     */
+    public long generation() {
+        synchronized (entries) {
+            return generation;
+        }
+    }
+
+    /**
+     * Caches the given result for the current generation of this cache.
+     *
+     * @see #put(QueryInfo, Queried, QueryResult, long)
+     */
+    public void put(final QueryInfo query, final Queried options, final QueryResult<?, ?> result) {
+        put(query, options, result, generation());
+    }
+
+    /**
+     * Caches the given result if it is complete (i.e. {@link QueryStatus#SUCCESS} or {@link QueryStatus#NO_RESULT}),
+     * if the TTL of the queried store is positive and if the cache has not been invalidated since the given
+     * generation.
+     *
+     * @param query         the {@link QueryInfo} with its parameters.
+     * @param options       the {@link Queried} options.
+     * @param result        the {@link QueryResult} to cache.
+     * @param generation    the generation of the cache when the query was started.
+     */
+    public void put(final QueryInfo query,
+                    final Queried options,
+                    final QueryResult<?, ?> result,
+                    final long generation) {
+        if (!isEnabled() || !isCacheable(result)) return;
+        final Duration ttl = storeTtls.getOrDefault(query.storeName(), defaultTtl);
+        if (ttl.isZero() || ttl.isNegative()) return;
+
+        final Entry entry = new Entry(result, time.milliseconds() + ttl.toMillis(), estimateSizeInBytes(result));
+        final QueryKey key = new QueryKey(query, options);
+        synchronized (entries) {
+            // the result may have been computed from stores that are now migrated or being restored.
+            if (generation != this.generation) return;
+            remove(key);
+            estimatedSizeInBytes += entry.sizeInBytes;
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Removes all the cached results.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            estimatedSizeInBytes = 0L;
+            generation++;
+        }
+    }
+
+    /**
+     * @return the statistics for this cache.
+     */
+    public QueryResultCacheStats stats() {
+        synchronized (entries) {
+            return new QueryResultCacheStats(
+                hits.sum(), misses.sum(), evictions.sum(), entries.size(), estimatedSizeInBytes);
+        }
+    }
+
+    private void remove(final QueryKey key) {
+        final Entry removed = entries.remove(key);
+        if (removed != null) {
+            estimatedSizeInBytes -= removed.sizeInBytes;
+        }
+    }
+
+    private static boolean isCacheable(final QueryResult<?, ?> result) {
+        return !result.isTimeout() &&
+            (result.getStatus() == QueryStatus.SUCCESS || result.getStatus() == QueryStatus.NO_RESULT);
+    }
+
+    static long estimateSizeInBytes(final QueryResult<?, ?> result) {
+        long size = ENTRY_OVERHEAD_IN_BYTES;
+        if (result.getResult() == null || result.getResult().getSuccess() == null) return size;
+        for (SuccessResultSet<?, ?> rs : result.getResult().getSuccess()) {
+            for (KV<?, ?> kv : rs.getRecords()) {
+                size += RECORD_OVERHEAD_IN_BYTES + estimateSizeInBytes(kv.key()) + estimateSizeInBytes(kv.value());
+            }
+        }
+        return size;
+    }
+
+    private static long estimateSizeInBytes(final Object o) {
+        if (o == null) return 0L;
+        if (o instanceof String) return OBJECT_SIZE_IN_BYTES + 2L * ((String) o).length();
+        if (o instanceof byte[]) return OBJECT_SIZE_IN_BYTES + ((byte[]) o).length;
+        if (o instanceof Number || o instanceof Boolean) return OBJECT_SIZE_IN_BYTES;
+        if (o instanceof Collection) {
+            long size = OBJECT_SIZE_IN_BYTES;
+            for (Object e : (Collection<?>) o) {
+                size += estimateSizeInBytes(e);
+            }
+            return size;
+        }
+        return DEFAULT_OBJECT_SIZE_IN_BYTES;
+    }
+
+    private static final class Entry {
+
+        final QueryResult<?, ?> result;
+        final long expireAt;
+        final long sizeInBytes;
+
+        Entry(final QueryResult<?, ?> result, final long expireAt, final long sizeInBytes) {
+            this.result = result;
+            this.expireAt = expireAt;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.config.Conf;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The configuration of the {@link QueryResultCache} of a streams application.
+ *
+ * @since 0.8.0
+ */
+public class QueryResultCacheConfig {
+
+    /** {@code query.result.cache.enable} */
+    public static final String QUERY_RESULT_CACHE_ENABLE_CONFIG = "query.result.cache.enable";
+    public static final boolean QUERY_RESULT_CACHE_ENABLE_DEFAULT = false;
+
+    /** {@code query.result.cache.max.entries} */
+    public static final String QUERY_RESULT_CACHE_MAX_ENTRIES_CONFIG = "query.result.cache.max.entries";
+    public static final int QUERY_RESULT_CACHE_MAX_ENTRIES_DEFAULT = 10_000;
+
+    /** {@code query.result.cache.ttl.ms} */
+    public static final String QUERY_RESULT_CACHE_TTL_MS_CONFIG = "query.result.cache.ttl.ms";
+    public static final long QUERY_RESULT_CACHE_TTL_MS_DEFAULT = 1_000L;
+
+    /** {@code query.result.cache.stores} : the TTLs in milliseconds, per store name. */
+    public static final String QUERY_RESULT_CACHE_STORES_TTL_MS_CONFIG = "query.result.cache.stores";
+
+    private final Conf originals;
+
+    /**
+     * Creates a new {@link QueryResultCacheConfig} instance.
+     *
+     * @param originals the {@link Conf}.
+     */
+    public QueryResultCacheConfig(final Conf originals) {
+        this.originals = Objects.requireNonNull(originals);
+    }
+
+    public boolean isEnable() {
+        return originals
+            .getOptionalBoolean(QUERY_RESULT_CACHE_ENABLE_CONFIG)
+            .orElse(QUERY_RESULT_CACHE_ENABLE_DEFAULT);
+    }
+
+    public int getMaxEntries() {
+        return originals
+            .getOptionalInt(QUERY_RESULT_CACHE_MAX_ENTRIES_CONFIG)
+            .orElse(QUERY_RESULT_CACHE_MAX_ENTRIES_DEFAULT);
+    }
+
+    public Duration getTtl() {
+        return Duration.ofMillis(originals
+            .getOptionalLong(QUERY_RESULT_CACHE_TTL_MS_CONFIG)
+            .orElse(QUERY_RESULT_CACHE_TTL_MS_DEFAULT));
+    }
+
+    public Map<String, Duration> getStoreTtls() {
+        final Map<String, Duration> ttls = new HashMap<>();
+        if (originals.hasPath(QUERY_RESULT_CACHE_STORES_TTL_MS_CONFIG)) {
+            final Conf stores = originals.getSubConf(QUERY_RESULT_CACHE_STORES_TTL_MS_CONFIG);
+            stores.getConfAsMap().keySet().forEach(store -> ttls.put(store, Duration.ofMillis(stores.getLong(store))));
+        }
+        return ttls;
+    }
+}
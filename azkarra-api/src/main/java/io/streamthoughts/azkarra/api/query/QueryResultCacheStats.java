@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * A snapshot of the statistics of a {@link QueryResultCache}.
+ *
+ * @since 0.8.0
+ */
+public class QueryResultCacheStats {
+
+    private final long hits;
+
+    private final long misses;
+
+    private final long evictions;
+
+    private final int size;
+
+    private final long estimatedSizeInBytes;
+
+    /**
+     * Creates a new {@link QueryResultCacheStats} instance.
+     *
+     * @param hits                  the number of cache hits.
+     * @param misses                the number of cache misses.
+     * @param evictions             the number of results evicted because the cache was full.
+     * @param size                  the number of cached results.
+     * @param estimatedSizeInBytes  the estimated memory used by the cached results.
+     */
+    public QueryResultCacheStats(final long hits,
+                                 final long misses,
+                                 final long evictions,
+                                 final int size,
+                                 final long estimatedSizeInBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+        this.estimatedSizeInBytes = estimatedSizeInBytes;
+    }
+
+    @JsonProperty
+    public long hits() {
+        return hits;
+    }
+
+    @JsonProperty
+    public long misses() {
+        return misses;
+    }
+
+    @JsonProperty
+    public long evictions() {
+        return evictions;
+    }
+
+    @JsonProperty
+    public int size() {
+        return size;
+    }
+
+    @JsonProperty
+    public long estimatedSizeInBytes() {
+        return estimatedSizeInBytes;
+    }
+
+    /**
+     * @return the ratio of lookups served from the cache, or {@code 0} if the cache was never used.
+     */
+    @JsonProperty
+    public double hitRatio() {
+        final long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof QueryResultCacheStats)) return false;
+        QueryResultCacheStats that = (QueryResultCacheStats) o;
+        return hits == that.hits &&
+                misses == that.misses &&
+                evictions == that.evictions &&
+                size == that.size &&
+                estimatedSizeInBytes == that.estimatedSizeInBytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(hits, misses, evictions, size, estimatedSizeInBytes);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryResultCacheStats{" +
+                "hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                ", size=" + size +
+                ", estimatedSizeInBytes=" + estimatedSizeInBytes +
+                '}';
+    }
+}
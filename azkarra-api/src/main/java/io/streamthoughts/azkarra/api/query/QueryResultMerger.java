@@ -0,0 +1,186 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Either;
+import io.streamthoughts.azkarra.api.query.ContinuationToken.Position;
+import io.streamthoughts.azkarra.api.query.internal.PreparedQuery;
+import io.streamthoughts.azkarra.api.query.result.ErrorResultSet;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.QueryStatus;
+import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
+import io.streamthoughts.azkarra.api.util.SortedMerge;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static io.streamthoughts.azkarra.api.query.QueryResults.buildQueryResult;
+import static io.streamthoughts.azkarra.api.query.QueryResults.isTimeout;
+
+/**
+ * Merges the {@link QueryResult}s returned by the instances queried by a {@link DistributedQuery}
+ * into the result returned to the caller.
+ *
+ * @param <K>   the record key type.
+ * @param <V>   the record value type.
+ */
+final class QueryResultMerger<K, V> {
+
+    private final PreparedQuery<K, V> query;
+    private final String server;
+    private final Comparator<Object> keyOrder;
+
+    /**
+     * Creates a new {@link QueryResultMerger} instance.
+     *
+     * @param query     the {@link PreparedQuery} executed by the instances.
+     * @param server    the name of the local server.
+     * @param keyOrder  the {@link Comparator} used for sorting records by key.
+     */
+    QueryResultMerger(final PreparedQuery<K, V> query,
+                      final String server,
+                      final Comparator<Object> keyOrder) {
+        this.query = Objects.requireNonNull(query, "query cannot be null");
+        this.server = server;
+        this.keyOrder = Objects.requireNonNull(keyOrder, "keyOrder cannot be null");
+    }
+
+    /**
+     * Merges the results returned by all the instances hosting the queried store.
+     *
+     * @param results   the results of each instance.
+     * @param options   the {@link Queried} options.
+     * @param incoming  the {@link ContinuationToken} the query was resumed from.
+     * @return          the merged {@link QueryResult}.
+     */
+    QueryResult<K, V> merge(final List<QueryResult<K, V>> results,
+                            final Queried options,
+                            final ContinuationToken incoming) {
+        if (options.aggregation() != null) {
+            return aggregate(results, options.aggregation(), true);
+        }
+
+        if (options.ordered() && query.isSorted()) {
+            return mergeSorted(results, options.limit(), incoming).timeout(isTimeout(results));
+        }
+
+        final QueryResult<K, V> result = buildQueryResult(
+            server,
+            results.stream()
+                .flatMap(rs -> rs.getResult().unwrap().stream())
+                .collect(Collectors.toList())
+        ).timeout(isTimeout(results));
+
+        if (!query.isPaginated()) return result;
+
+        // Positions which are not returned by an instance (e.g. failed) are kept from the incoming token.
+        ContinuationToken continuation = incoming;
+        for (QueryResult<K, V> rs : results) {
+            continuation = continuation.merge(ContinuationToken.decode(rs.getContinuation()));
+        }
+
+        final boolean hasMore = continuation.hasMore() ||
+            (result.getStatus() == QueryStatus.PARTIAL && !continuation.isEmpty());
+        return hasMore ? result.continuation(continuation.encode()) : result;
+    }
+
+    /**
+     * Aggregates the records returned by each instance, which are either the queried records
+     * or the partial aggregates computed by each instance, into a single result set.
+     *
+     * @param results       the results of each instance.
+     * @param aggregation   the {@link Aggregation} to compute.
+     * @param partials      {@code true} if the results are partial aggregates.
+     * @return              the aggregated {@link QueryResult}.
+     */
+    QueryResult<K, V> aggregate(final List<QueryResult<K, V>> results,
+                                final Aggregation aggregation,
+                                final boolean partials) {
+        final Aggregation.Accumulator accumulator = aggregation.newAccumulator();
+        final List<ErrorResultSet> errors = new LinkedList<>();
+        boolean answered = false;
+        for (QueryResult<K, V> rs : results) {
+            for (Either<SuccessResultSet<K, V>, ErrorResultSet> either : rs.getResult().unwrap()) {
+                if (either.isRight()) {
+                    errors.add(either.right().get());
+                    continue;
+                }
+                answered = true;
+                for (KV<K, V> record : either.left().get().getRecords()) {
+                    if (partials) accumulator.combine(record);
+                    else accumulator.accumulate(record);
+                }
+            }
+        }
+
+        final List<SuccessResultSet<K, V>> success = answered ?
+            Collections.singletonList(new SuccessResultSet<>(server, false, accumulator.result())) :
+            Collections.emptyList();
+
+        return QueryResults.<K, V>buildQueryResult(server, errors, success).timeout(isTimeout(results));
+    }
+
+    /**
+     * Merges the records returned by each instance, which are already sorted by key, into a single result set
+     * limited to the given number of records. The returned continuation token tracks the last key returned.
+     */
+    private QueryResult<K, V> mergeSorted(final List<QueryResult<K, V>> results,
+                                          final long limit,
+                                          final ContinuationToken incoming) {
+        final List<ErrorResultSet> errors = new LinkedList<>();
+        final List<List<KV<K, V>>> sources = new ArrayList<>();
+        boolean hasMore = false;
+        for (QueryResult<K, V> rs : results) {
+            hasMore |= ContinuationToken.decode(rs.getContinuation()).hasMore();
+            for (Either<SuccessResultSet<K, V>, ErrorResultSet> either : rs.getResult().unwrap()) {
+                either.left().toOptional().ifPresent(success -> sources.add(success.getRecords()));
+                either.right().toOptional().ifPresent(errors::add);
+            }
+        }
+
+        final List<KV<K, V>> records = new ArrayList<>();
+        final Comparator<KV<K, V>> recordOrder = (r1, r2) -> keyOrder.compare(r1.key(), r2.key());
+        final int[] taken = SortedMerge.merge(sources, recordOrder, limit, records);
+        for (int i = 0; i < taken.length; i++) {
+            hasMore |= taken[i] < sources.get(i).size();
+        }
+
+        final List<SuccessResultSet<K, V>> success = sources.isEmpty() ?
+            Collections.emptyList() :
+            Collections.singletonList(new SuccessResultSet<>(server, false, records));
+
+        final QueryResult<K, V> result = buildQueryResult(server, errors, success);
+
+        final Position position = incoming.position(ContinuationToken.sortedScope()).orElse(Position.START);
+        final Object lastKey = records.isEmpty() ? position.lastKey() : records.get(records.size() - 1).key();
+        if (!hasMore || (lastKey != null && !ContinuationToken.isSupportedKey(lastKey))) {
+            // records cannot be resumed by key if the key cannot be tracked by a continuation token.
+            return result;
+        }
+        final Position next = new Position(position.offset() + records.size(), lastKey, false);
+        return result.continuation(new ContinuationToken(Map.of(ContinuationToken.sortedScope(), next)).encode());
+    }
+}
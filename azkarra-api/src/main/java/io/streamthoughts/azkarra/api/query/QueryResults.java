@@ -0,0 +1,185 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.errors.Error;
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Either;
+import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.result.ErrorResultSet;
+import io.streamthoughts.azkarra.api.query.result.QueryError;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
+import io.streamthoughts.azkarra.api.query.result.QueryStatus;
+import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Helper methods for building the {@link QueryResult} of the queries executed by a {@link DistributedQuery}.
+ */
+final class QueryResults {
+
+    private QueryResults() {
+    }
+
+    static <K, V> Either<SuccessResultSet<K, V>, ErrorResultSet> buildResultSet(final String serverName,
+                                                                                final Try<List<KV<K, V>>> executed) {
+        final Try<Either<List<KV<K, V>>, List<Error>>> attempt = executed
+            .transform(
+                v -> Try.success(Either.left(v)),
+                t -> Try.success(Either.right(Collections.singletonList(new Error(t))))
+            );
+
+        return attempt.get()
+            .left()
+            .map(records -> new SuccessResultSet<>(serverName, false, records))
+            .right()
+            .map(errors -> new ErrorResultSet(serverName, false, QueryError.allOf(errors)));
+    }
+
+    static <K, V> QueryResult<K, V> buildNotAvailableResult(final String server,
+                                                            final String error) {
+        final QueryResultBuilder<K, V> builder = QueryResultBuilder.newBuilder();
+        return builder
+            .setServer(server)
+            .setStatus(QueryStatus.NOT_AVAILABLE)
+            .setError(error)
+            .build();
+    }
+
+    static <K, V> QueryResult<K, V> buildQueryResult(
+            final String localServerName,
+            final List<Either<SuccessResultSet<K, V>, ErrorResultSet>> results) {
+        final List<ErrorResultSet> errors = results.stream()
+                .filter(Either::isRight)
+                .map(e -> e.right().get()).collect(Collectors.toList());
+
+        final List<SuccessResultSet<K, V>> success = results.stream()
+                .filter(Either::isLeft)
+                .map(e -> e.left().get()).collect(Collectors.toList());
+
+        return buildQueryResult(localServerName, errors, success);
+    }
+
+    static <K, V> QueryResult<K, V> buildQueryResult(final String localServerName,
+                                                     final List<ErrorResultSet> errors,
+                                                     final List<SuccessResultSet<K, V>> success) {
+        final QueryResultBuilder<K, V> builder = QueryResultBuilder.newBuilder();
+        return builder
+            .setServer(localServerName)
+            .setStatus(computeStatus(errors, success))
+            .setFailedResultSet(errors)
+            .setSuccessResultSet(success)
+            .build();
+    }
+
+    static <K, V> QueryResult<K, V> buildInternalErrorResult(final String localServerName,
+                                                             final String remoteServerName,
+                                                             final Throwable t) {
+        final QueryError error = QueryError.of(t);
+        final ErrorResultSet errorResultSet = new ErrorResultSet(
+            remoteServerName,
+            true,
+            error);
+
+        final QueryResultBuilder<K, V> builder = QueryResultBuilder.newBuilder();
+        return builder
+            .setServer(localServerName)
+            .setStatus(QueryStatus.ERROR)
+            .setFailedResultSet(errorResultSet)
+            .build();
+    }
+
+    /**
+     * Builds the result of a remote instance which did not respond before the deadline of the query.
+     */
+    static <K, V> QueryResult<K, V> buildTimedOutResult(final String localServerName,
+                                                        final String remoteServerName) {
+        final ErrorResultSet errorResultSet = new ErrorResultSet(
+            remoteServerName,
+            true,
+            new QueryError("Timed out: no response received before the query deadline"));
+
+        final QueryResultBuilder<K, V> builder = QueryResultBuilder.newBuilder();
+        return builder
+            .setServer(localServerName)
+            .setStatus(QueryStatus.ERROR)
+            .setFailedResultSet(errorResultSet)
+            .build()
+            .timeout(true);
+    }
+
+    private static QueryStatus computeStatus(final List<ErrorResultSet> errors,
+                                             final List<? extends SuccessResultSet<?, ?>> success) {
+        QueryStatus status;
+        if ( !errors.isEmpty() && !success.isEmpty()) {
+            status = QueryStatus.PARTIAL;
+        } else if (!errors.isEmpty()) {
+            status = QueryStatus.ERROR;
+        } else if (!success.isEmpty()) {
+            status = QueryStatus.SUCCESS;
+        } else {
+            status = QueryStatus.NO_RESULT;
+        }
+        return status;
+    }
+
+    static <K, V> List<KV<K, V>> project(final List<KV<K, V>> records, final Projection projection) {
+        return projection == null ? records : projection.apply(records);
+    }
+
+    static boolean isTimeout(final List<? extends QueryResult<?, ?>> results) {
+        return results.stream().anyMatch(QueryResult::isTimeout);
+    }
+
+    static boolean isAnswered(final QueryResult<?, ?> result) {
+        return result.getStatus() == QueryStatus.SUCCESS || result.getStatus() == QueryStatus.NO_RESULT;
+    }
+
+    static boolean isAnswered(final CompletableFuture<? extends QueryResult<?, ?>> future) {
+        return future.isDone() && !future.isCompletedExceptionally() && isAnswered(future.join());
+    }
+
+    static Throwable unwrap(final Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    /**
+     * Waits for the given future, re-throwing its cause if it is a {@link RuntimeException}.
+     */
+    static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+}
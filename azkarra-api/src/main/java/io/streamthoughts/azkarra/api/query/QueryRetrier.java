@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.errors.AzkarraRetriableException;
+import io.streamthoughts.azkarra.api.time.Time;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Retries the attempts of a query which failed with an {@link AzkarraRetriableException},
+ * according to the retries, retry backoff and timeout of its {@link Queried} options.
+ */
+final class QueryRetrier {
+
+    private QueryRetrier() {
+    }
+
+    /**
+     * Executes the given attempt until it succeeds, is not retriable, or either the maximum number of attempts
+     * or the query timeout is reached. Attempts are delayed by the retry backoff without blocking the caller.
+     *
+     * @param attempt   the attempt to execute.
+     * @param options   the {@link Queried} options.
+     * @param <T>       the result type.
+     * @return          the future completed with the result of the last attempt.
+     */
+    static <T> CompletableFuture<T> retryAsync(final Supplier<CompletableFuture<T>> attempt,
+                                               final Queried options) {
+        return retryAsync(attempt, options, Time.SYSTEM.milliseconds(), 0);
+    }
+
+    private static <T> CompletableFuture<T> retryAsync(final Supplier<CompletableFuture<T>> attempt,
+                                                       final Queried options,
+                                                       final long started,
+                                                       final int failedAttempts) {
+        CompletableFuture<T> future;
+        try {
+            future = attempt.get();
+        } catch (final RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.handle((result, throwable) -> {
+            if (throwable == null) {
+                return CompletableFuture.completedFuture(result);
+            }
+            final Throwable cause = QueryResults.unwrap(throwable);
+            final long remaining = options.queryTimeout().toMillis() - (Time.SYSTEM.milliseconds() - started);
+            if (!(cause instanceof AzkarraRetriableException) ||
+                failedAttempts + 1 >= options.retries() ||
+                remaining <= 0) {
+                return CompletableFuture.<T>failedFuture(cause);
+            }
+            final long waitMs = Math.min(remaining, options.retryBackoff().toMillis());
+            final Executor delayed = CompletableFuture.delayedExecutor(waitMs, TimeUnit.MILLISECONDS);
+            return CompletableFuture
+                .runAsync(() -> { }, delayed)
+                .thenCompose(ignored -> retryAsync(attempt, options, started, failedAttempts + 1));
+        }).thenCompose(Function.identity());
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.model.KV;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A filter evaluated on each record while it is read from a local store, so that records which do not match
+ * are neither materialized, counted against the limit of the query, nor sent to the instance receiving the query.
+ *
+ * A record matches if its key starts with the given prefix (if any) and if its value satisfies all the conditions.
+ * A condition compares the field of the value designated by a dot-separated path (or the value itself if no path
+ * is given) to a constant: numbers are compared numerically, other values are compared as strings.
+ *
+ * @since 0.8.0
+ */
+public final class RecordFilter implements Predicate<KV<?, ?>> {
+
+    public enum Operator {
+
+        EQ, NE, GT, GTE, LT, LTE;
+
+        public static Optional<Operator> parse(final String operator) {
+            return Arrays.stream(values()).filter(o -> o.name().equalsIgnoreCase(operator)).findFirst();
+        }
+
+        public String prettyName() {
+            return name().toLowerCase();
+        }
+
+        private boolean test(final int compared) {
+            switch (this) {
+                case EQ: return compared == 0;
+                case NE: return compared != 0;
+                case GT: return compared > 0;
+                case GTE: return compared >= 0;
+                case LT: return compared < 0;
+                case LTE: return compared <= 0;
+                default:
+                    throw new IllegalStateException("Unexpected operator: " + this);
+            }
+        }
+    }
+
+    private final String keyPrefix;
+    private final List<Condition> conditions;
+
+    /**
+     * Creates a new {@link RecordFilter} instance.
+     *
+     * @param keyPrefix     the prefix of the record keys, or {@code null}.
+     * @param conditions    the conditions on the record values.
+     */
+    public RecordFilter(final String keyPrefix, final List<Condition> conditions) {
+        this.keyPrefix = keyPrefix;
+        this.conditions = conditions == null ? Collections.emptyList() : List.copyOf(conditions);
+    }
+
+    public String keyPrefix() {
+        return keyPrefix;
+    }
+
+    public List<Condition> conditions() {
+        return conditions;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(final KV<?, ?> record) {
+        if (keyPrefix != null && (record.key() == null || !String.valueOf(record.key()).startsWith(keyPrefix))) {
+            return false;
+        }
+        for (Condition condition : conditions) {
+            if (!condition.test(record.value())) return false;
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RecordFilter)) return false;
+        final RecordFilter that = (RecordFilter) o;
+        return Objects.equals(keyPrefix, that.keyPrefix) &&
+                Objects.equals(conditions, that.conditions);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(keyPrefix, conditions);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "RecordFilter{" +
+                "keyPrefix=" + keyPrefix +
+                ", conditions=" + conditions +
+                '}';
+    }
+
+    /**
+     * A comparison between a field of the record values and a constant.
+     */
+    public static final class Condition {
+
+        private final FieldPath field;
+        private final Operator operator;
+        private final Object value;
+
+        /**
+         * Creates a new {@link Condition} instance.
+         *
+         * @param path      the path of the field in values, or {@code null} to compare the values themselves.
+         * @param operator  the comparison {@link Operator}.
+         * @param value     the constant to compare to.
+         */
+        public Condition(final String path, final Operator operator, final Object value) {
+            this.field = new FieldPath(path);
+            this.operator = Objects.requireNonNull(operator, "operator cannot be null");
+            this.value = value;
+        }
+
+        public String path() {
+            return field.path();
+        }
+
+        public Operator operator() {
+            return operator;
+        }
+
+        public Object value() {
+            return value;
+        }
+
+        boolean test(final Object recordValue) {
+            final Object actual = recordValue == null ? null : field.resolve(recordValue);
+            if (actual == null || value == null) {
+                final boolean equal = actual == value;
+                return operator == Operator.EQ ? equal : operator == Operator.NE && !equal;
+            }
+            return operator.test(compare(actual, value));
+        }
+
+        private static int compare(final Object actual, final Object expected) {
+            final Number n1 = toNumber(actual);
+            final Number n2 = toNumber(expected);
+            if (n1 != null && n2 != null && (actual instanceof Number || expected instanceof Number)) {
+                return isIntegral(n1) && isIntegral(n2) ?
+                    Long.compare(n1.longValue(), n2.longValue()) :
+                    Double.compare(n1.doubleValue(), n2.doubleValue());
+            }
+            return String.valueOf(actual).compareTo(String.valueOf(expected));
+        }
+
+        private static boolean isIntegral(final Number number) {
+            return number instanceof Long || number instanceof Integer ||
+                number instanceof Short || number instanceof Byte;
+        }
+
+        private static Number toNumber(final Object value) {
+            if (value instanceof Number) return (Number) value;
+            if (value instanceof String) {
+                try {
+                    return Double.parseDouble((String) value);
+                } catch (final NumberFormatException e) {
+                    return null;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Condition)) return false;
+            final Condition that = (Condition) o;
+            return Objects.equals(field, that.field) &&
+                    operator == that.operator &&
+                    Objects.equals(value, that.value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, operator, value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "Condition{" +
+                    "path=" + field +
+                    ", operator=" + operator +
+                    ", value=" + value +
+                    '}';
+        }
+    }
+}
@@ -18,10 +18,15 @@
  */
 package io.streamthoughts.azkarra.api.query;
 
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Tuple;
 import io.streamthoughts.azkarra.api.query.result.QueryResult;
 import io.streamthoughts.azkarra.api.streams.ServerHostInfo;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
 
 /**
  * Default interface to query a remote streams state store.
@@ -41,4 +46,43 @@ public interface RemoteQueryClient {
     <K, V> CompletableFuture<QueryResult<K, V>> query(final ServerHostInfo server,
                                                       final QueryInfo query,
                                                       final Queried options);
+
+    /**
+     * Gets a {@link Flow.Publisher} which streams the records of a query executed on the specified server.
+     *
+     * By default, the remote query result is fully received before records are emitted.
+     *
+     * @param server     the {@link ServerHostInfo} to query.
+     * @param query      the {@link QueryInfo} to send.
+     * @param options    the {@link Queried} options.
+     *
+     * @return  a new {@link Flow.Publisher} instance.
+     */
+    default <K, V> Flow.Publisher<KV<K, V>> publish(final ServerHostInfo server,
+                                                    final QueryInfo query,
+                                                    final Queried options) {
+        return IteratorPublisher.ofQueryResult(() -> this.<K, V>query(server, query, options).get());
+    }
+
+    /**
+     * Executes a batch of queries, possibly on different stores, to the specified server.
+     *
+     * By default, each query is sent separately.
+     *
+     * @param server     the {@link ServerHostInfo} to query.
+     * @param queries    the {@link QueryInfo} to send with their {@link Queried} options.
+     *
+     * @return  a {@link CompletableFuture} of the {@link QueryResult}s, in the order of the given queries.
+     */
+    default CompletableFuture<List<QueryResult<Object, Object>>> queryBatch(
+            final ServerHostInfo server,
+            final List<Tuple<QueryInfo, Queried>> queries) {
+        final List<CompletableFuture<QueryResult<Object, Object>>> futures = queries
+            .stream()
+            .map(query -> this.<Object, Object>query(server, query.left(), query.right()))
+            .collect(Collectors.toList());
+        return CompletableFuture
+            .allOf(futures.toArray(new CompletableFuture[0]))
+            .thenApply(ignored -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
 }
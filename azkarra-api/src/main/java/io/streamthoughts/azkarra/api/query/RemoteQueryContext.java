@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.query.internal.PreparedQuery;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.streams.ServerHostInfo;
+import io.streamthoughts.azkarra.api.time.Time;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Forwards a query to a remote instance using a {@link RemoteQueryClient}.
+ *
+ * @param <K>   the record key type.
+ * @param <V>   the record value type.
+ */
+class RemoteQueryContext<K, V> implements QueryContext<K, V> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteQueryContext.class);
+
+    private final RemoteQueryClient remoteQueryClient;
+    private final PreparedQuery<K, V> query;
+    private final String localServerName;
+    private final Queried options;
+
+    /**
+     * Creates a new {@link RemoteQueryContext} instance.
+     *
+     * @param remoteQueryClient the {@link RemoteQueryClient} used for forwarding the query.
+     * @param query             the {@link PreparedQuery} to execute.
+     * @param localServerName   the name of the local server.
+     * @param options           the {@link Queried} options sent to the remote instance.
+     */
+    RemoteQueryContext(final RemoteQueryClient remoteQueryClient,
+                       final PreparedQuery<K, V> query,
+                       final String localServerName,
+                       final Queried options) {
+        this.remoteQueryClient = remoteQueryClient;
+        this.query = query;
+        this.localServerName = localServerName;
+        this.options = options;
+    }
+
+    CompletableFuture<QueryResult<K, V>> executeAsyncQueryRemotely(final ServerHostInfo remote,
+                                                                   final boolean failable) {
+        CompletableFuture<QueryResult<K, V>> future = remoteQueryClient.query(remote, query, options);
+        if (options.deadline() != null) {
+            // the remote instance is not waited for after the deadline.
+            final long remaining = Math.max(0, options.deadline() - Time.SYSTEM.milliseconds());
+            future = failable ?
+                future.orTimeout(remaining, TimeUnit.MILLISECONDS) :
+                future.completeOnTimeout(
+                    QueryResults.buildTimedOutResult(localServerName, remote.hostAndPort()),
+                    remaining,
+                    TimeUnit.MILLISECONDS);
+        }
+        if (!failable) {
+            future = future.exceptionally(t ->
+                QueryResults.buildInternalErrorResult(localServerName, remote.hostAndPort(), t));
+        }
+        return future.thenApply(rs -> rs.server(localServerName));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<QueryResult<K, V>> execute(final ServerHostInfo remote, final boolean failable) {
+        return executeAsyncQueryRemotely(remote, failable).whenComplete((rs, t) -> {
+            if (t != null) LOG.error("Cannot query remote state store. {}", QueryResults.unwrap(t).getMessage());
+        });
+    }
+}
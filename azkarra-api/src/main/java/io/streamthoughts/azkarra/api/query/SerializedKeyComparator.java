@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.utils.Bytes;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A {@link Comparator} which orders record keys by their serialized bytes, i.e. the order in which
+ * the keys are iterated from a single partition of a state store.
+ *
+ * Keys returned by a remote instance may not have the expected type (e.g. a {@code Long} deserialized from JSON as
+ * an {@code Integer}). Such numbers are serialized as long values. Keys that still cannot be serialized are
+ * compared using their string representation.
+ *
+ * @since 0.8.0
+ */
+public final class SerializedKeyComparator implements Comparator<Object> {
+
+    private final Serializer<Object> serializer;
+
+    /**
+     * Creates a new {@link SerializedKeyComparator} instance.
+     *
+     * @param serializer    the {@link Serializer} used to serialize keys.
+     */
+    @SuppressWarnings("unchecked")
+    public SerializedKeyComparator(final Serializer<?> serializer) {
+        this.serializer = (Serializer<Object>) Objects.requireNonNull(serializer, "serializer cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compare(final Object k1, final Object k2) {
+        return Bytes.BYTES_LEXICO_COMPARATOR.compare(toBytes(k1), toBytes(k2));
+    }
+
+    private byte[] toBytes(final Object key) {
+        try {
+            return serializer.serialize(null, key);
+        } catch (final ClassCastException e) {
+            if (key instanceof Number) {
+                try {
+                    return serializer.serialize(null, ((Number) key).longValue());
+                } catch (final ClassCastException ignore) {
+                    // fallback to string representation.
+                }
+            }
+            return String.valueOf(key).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+
+import java.util.Comparator;
+
+/**
+ * A {@link LocalStoreQuery} which can return the records of all local partitions sorted by key.
+ *
+ * @param <K>   the record key type.
+ * @param <V>   the record value type.
+ *
+ * @since 0.8.0
+ */
+public interface SortedLocalStoreQuery<K, V> extends LocalStoreQuery<K, V> {
+
+    /**
+     * Executes this query to the specified KafkaStreams application, returning the records sorted by key.
+     *
+     * The query is resumed after the last key tracked by the {@link ContinuationToken#sortedScope()} of the token
+     * of the given scan, and the returned page tracks the last key returned in the same scope.
+     *
+     * @param container     the {@link KafkaStreamsContainer} instance.
+     * @param scan          the {@link LocalScan} options.
+     * @param keyOrder      the order of keys, which must be consistent with the order of the store iterators.
+     * @return              the {@link LocalStorePage}.
+     */
+    Try<LocalStorePage<K, V>> executeSorted(final KafkaStreamsContainer container,
+                                            final LocalScan scan,
+                                            final Comparator<Object> keyOrder);
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.errors.AzkarraException;
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.internal.PreparedQuery;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.streams.ServerHostInfo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static io.streamthoughts.azkarra.api.query.QueryResults.buildQueryResult;
+import static io.streamthoughts.azkarra.api.query.QueryResults.buildResultSet;
+
+/**
+ * Executes a keyed query on the local standby replica of the store partition, as long as its
+ * offset lag does not exceed the one allowed by the query options. The lag is read from the
+ * snapshot maintained by the container, so that no request is sent to the brokers.
+ *
+ * @param <K>   the record key type.
+ * @param <V>   the record value type.
+ */
+class StandbyQueryContext<K, V> implements QueryContext<K, V> {
+
+    private final PreparedQuery<K, V> query;
+    private final KafkaStreamsContainer streams;
+    private final int partition;
+    private final Queried options;
+
+    /**
+     * Creates a new {@link StandbyQueryContext} instance.
+     *
+     * @param query     the {@link PreparedQuery} to execute.
+     * @param streams   the {@link KafkaStreamsContainer} instance.
+     * @param partition the store partition hosting the queried key.
+     * @param options   the {@link Queried} options.
+     */
+    StandbyQueryContext(final PreparedQuery<K, V> query,
+                        final KafkaStreamsContainer streams,
+                        final int partition,
+                        final Queried options) {
+        this.query = query;
+        this.streams = streams;
+        this.partition = partition;
+        this.options = options;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<QueryResult<K, V>> execute(final ServerHostInfo target, final boolean failable) {
+        final String serverName = streams.applicationServer();
+        final Optional<Long> lag = streams.localStorePartitionLag(query.storeName(), partition);
+
+        final Try<List<KV<K, V>>> executed;
+        if (lag.isEmpty()) {
+            executed = Try.failure(new AzkarraException(
+                "no local replica for store '" + query.storeName() + "', partition " + partition));
+        } else if (options.maxStaleness() != null && lag.get() > options.maxStaleness()) {
+            executed = Try.failure(new AzkarraException(
+                "standby replica for store '" + query.storeName() + "', partition " + partition +
+                " is lagging behind (lag=" + lag.get() + ", max=" + options.maxStaleness() + ")"));
+        } else {
+            final RecordFilter filter = options.filter();
+            executed = query.executeOnReplica(streams, partition).map(records -> QueryResults.project(
+                filter == null ? records : records.stream().filter(filter).collect(Collectors.toList()),
+                options.projection()));
+        }
+        return CompletableFuture.completedFuture(
+            buildQueryResult(serverName, Collections.singletonList(buildResultSet(serverName, executed))));
+    }
+}
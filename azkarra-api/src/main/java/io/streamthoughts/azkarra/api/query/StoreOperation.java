@@ -25,7 +25,7 @@ import java.util.Optional;
 
 public enum StoreOperation {
 
-    GET, ALL, FETCH, FETCH_KEY_RANGE, FETCH_TIME_RANGE, FETCH_ALL, RANGE, COUNT;
+    GET, ALL, FETCH, FETCH_KEY_RANGE, FETCH_TIME_RANGE, FETCH_ALL, RANGE, COUNT, MULTI_GET, PREFIX_SCAN;
 
     private static final Map<String, StoreOperation> CACHE = new HashMap<>();
 
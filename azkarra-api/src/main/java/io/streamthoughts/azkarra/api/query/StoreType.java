@@ -21,6 +21,7 @@ package io.streamthoughts.azkarra.api.query;
 import io.streamthoughts.azkarra.api.query.internal.KeyValueQueryBuilder;
 import io.streamthoughts.azkarra.api.query.internal.Query;
 import io.streamthoughts.azkarra.api.query.internal.QueryBuilder;
+import io.streamthoughts.azkarra.api.query.internal.RawKeyValueQueryBuilder;
 import io.streamthoughts.azkarra.api.query.internal.SessionQueryBuilder;
 import io.streamthoughts.azkarra.api.query.internal.TimestampedKeyValueQueryBuilder;
 import io.streamthoughts.azkarra.api.query.internal.TimestampedWindowQueryBuilder;
@@ -90,6 +91,17 @@ public enum StoreType {
             TimestampedWindowQueryBuilder builder = new QueryBuilder(storeName).timestampedWindow();
             return builder.operation(operation);
         }
+    },
+    /**
+     * Key-Value store read as bytes, i.e. without using the store serdes.
+     */
+    RAW_KEY_VALUE {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Query<K, V> buildQuery(final String storeName, final StoreOperation operation) {
+            RawKeyValueQueryBuilder builder = new QueryBuilder(storeName).rawKeyValue();
+            return builder.operation(operation);
+        }
     };
 
     private static final Map<String, StoreType> CACHE = new HashMap<>();
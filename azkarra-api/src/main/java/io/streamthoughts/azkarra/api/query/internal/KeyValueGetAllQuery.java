@@ -21,17 +21,24 @@ package io.streamthoughts.azkarra.api.query.internal;
 import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.monad.Reader;
 import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.IteratorPublisher;
+import io.streamthoughts.azkarra.api.query.LocalScan;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.query.LocalStorePage;
 import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.PaginatedLocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.SortedLocalStoreQuery;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
 import org.apache.kafka.streams.state.KeyValueIterator;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Flow;
 
-public class KeyValueGetAllQuery<K, V> implements LocalStoreQuery<K, V> {
+public class KeyValueGetAllQuery<K, V> implements PaginatedLocalStoreQuery<K, V>, SortedLocalStoreQuery<K, V> {
 
     private String storeName;
 
@@ -74,6 +81,55 @@ public class KeyValueGetAllQuery<K, V> implements LocalStoreQuery<K, V> {
         return new LocalStoreQueryExecutor<>(accessor).execute(reader);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<LocalStorePage<K, V>> execute(final KafkaStreamsContainer container, final LocalScan scan) {
+        return paginatedReader()
+            .withDeadline(scan.deadline())
+            .withFilter(scan.filter())
+            .read(container, scan.limit(), scan.continuation(), scan.parallel());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<LocalStorePage<K, V>> executeSorted(final KafkaStreamsContainer container,
+                                                   final LocalScan scan,
+                                                   final Comparator<Object> keyOrder) {
+        return paginatedReader()
+            .withDeadline(scan.deadline())
+            .withFilter(scan.filter())
+            .readSorted(container, scan.limit(), scan.continuation(), keyOrder, scan.parallel());
+    }
+
+    private PaginatedLocalStoreReader<ReadOnlyKeyValueStore<K, V>, K, V, K, V> paginatedReader() {
+        return new PaginatedLocalStoreReader<ReadOnlyKeyValueStore<K, V>, K, V, K, V>(
+            storeName,
+            c -> c.localKeyValueStore(storeName),
+            (c, partition) -> c.localKeyValueStore(storeName, partition),
+            (store, position) -> store.all(),
+            kv -> KV.of(kv.key, kv.value)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flow.Publisher<KV<K, V>> publisher(final KafkaStreamsContainer container, final long limit) {
+        final LocalStoreAccessor<ReadOnlyKeyValueStore<K, V>> accessor = container.localKeyValueStore(storeName);
+
+        return IteratorPublisher.ofKeyValueIterator(
+            () -> accessor.get()
+                .flatMap(store -> Try.failable(() -> reader().apply(store))),
+            kv -> KV.of(kv.key, kv.value),
+            limit
+        );
+    }
+
     private Reader<ReadOnlyKeyValueStore<K, V>, KeyValueIterator<K, V>> reader() {
         return Reader.of(ReadOnlyKeyValueStore::all);
     }
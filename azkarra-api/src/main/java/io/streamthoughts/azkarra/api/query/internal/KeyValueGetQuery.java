@@ -26,6 +26,7 @@ import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
 import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 
 import java.util.Collections;
@@ -68,9 +69,18 @@ public class KeyValueGetQuery<K, V> extends KeyedLocalStoreQuery<K, K, V> {
      */
     @Override
     public Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container, final long limit) {
+        return execute(container.localKeyValueStore(storeName()));
+    }
 
-        final LocalStoreAccessor<ReadOnlyKeyValueStore<K, V>> accessor = container.localKeyValueStore(storeName());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<List<KV<K, V>>> executeOnReplica(final KafkaStreamsContainer container, final int partition) {
+        return execute(container.localStoreReplica(storeName(), QueryableStoreTypes.keyValueStore(), partition));
+    }
 
+    private Try<List<KV<K, V>>> execute(final LocalStoreAccessor<ReadOnlyKeyValueStore<K, V>> accessor) {
         final Reader<ReadOnlyKeyValueStore<K, V>, List<KV<K, V>>> reader =
             reader(key()).map(value -> Optional.ofNullable(value)
                 .map(v -> Collections.singletonList(new KV<>(key(), v)))
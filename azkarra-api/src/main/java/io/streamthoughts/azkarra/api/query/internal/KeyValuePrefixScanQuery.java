@@ -0,0 +1,216 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query.internal;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Reader;
+import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.ContinuationToken.Position;
+import io.streamthoughts.azkarra.api.query.LocalScan;
+import io.streamthoughts.azkarra.api.query.LocalStorePage;
+import io.streamthoughts.azkarra.api.query.PaginatedLocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.StoreOperation;
+import io.streamthoughts.azkarra.api.query.StoreType;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.streams.store.RawKeyValueStore;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.StateSerdes;
+import org.apache.kafka.streams.state.ValueAndTimestamp;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads the records of a key-value store whose key starts with a given prefix.
+ *
+ * The prefix is serialized with the key serde, and only the matching range of serialized keys is read from the
+ * byte-level stores, records being then deserialized. Thus, the prefix must be a key of the store type
+ * (e.g. a string prefix of a string key).
+ *
+ * Keys and values are serialized with the {@link NamedSerde} requested by the caller, if any; otherwise,
+ * with the serdes resolved from the store, which may not be available.
+ *
+ * @param <K>   the record key type.
+ * @param <V>   the record value type.
+ *
+ * @since 0.8.0
+ */
+public class KeyValuePrefixScanQuery<K, V> implements PaginatedLocalStoreQuery<K, V> {
+
+    private final String store;
+    private final K prefix;
+    private final boolean timestamped;
+    private final NamedSerde keySerde;
+    private final NamedSerde valueSerde;
+
+    /**
+     * Creates a new {@link KeyValuePrefixScanQuery} instance.
+     *
+     * @param store         the name of the store.
+     * @param prefix        the key prefix.
+     * @param timestamped   should the timestamp of records be returned.
+     * @param keySerde      the serde of keys, or {@code null} to use the serdes of the store.
+     * @param valueSerde    the serde of values, or {@code null} to use the serdes of the store.
+     */
+    KeyValuePrefixScanQuery(final String store,
+                            final K prefix,
+                            final boolean timestamped,
+                            final NamedSerde keySerde,
+                            final NamedSerde valueSerde) {
+        this.store = Objects.requireNonNull(store, "store cannot be null");
+        this.prefix = Objects.requireNonNull(prefix, "prefix cannot be null");
+        this.timestamped = timestamped;
+        this.keySerde = keySerde;
+        this.valueSerde = valueSerde;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StoreType storeType() {
+        return timestamped ? StoreType.TIMESTAMPED_KEY_VALUE : StoreType.KEY_VALUE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StoreOperation operationType() {
+        return StoreOperation.PREFIX_SCAN;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container, final long limit) {
+        final Reader<RawKeyValueStore, List<KV<K, V>>> reader =
+            Reader.<RawKeyValueStore, KeyValueIterator<Bytes, KV<K, V>>>of(store -> scan(store, Position.START))
+                .map(iterator -> RawRecordDecoder.toListAndClose(iterator, limit));
+
+        return new LocalStoreQueryExecutor<>(container.localRawKeyValueStore(store)).execute(reader);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<LocalStorePage<K, V>> execute(final KafkaStreamsContainer container, final LocalScan scan) {
+        return new PaginatedLocalStoreReader<RawKeyValueStore, Bytes, KV<K, V>, K, V>(
+            store,
+            c -> c.localRawKeyValueStore(store),
+            (c, partition) -> c.localRawKeyValueStore(store, partition),
+            this::scan,
+            kv -> kv.value
+        )
+        // serialized keys are tracked in the continuation token as base64 strings.
+        .withSeek(position -> position.lastKey() instanceof String, KeyValuePrefixScanQuery::encode)
+        .withDeadline(scan.deadline())
+        .withFilter(scan.filter())
+        .read(container, scan.limit(), scan.continuation(), scan.parallel());
+    }
+
+    private KeyValueIterator<Bytes, KV<K, V>> scan(final RawKeyValueStore rawStore, final Position position) {
+        final StateSerdes<Object, Object> serdes = keySerde == null || valueSerde == null ? rawStore.serdes() : null;
+        if ((keySerde == null || valueSerde == null) && serdes == null) {
+            throw new InvalidStateStoreException("Cannot resolve the serdes of store '" + store + "', the '"
+                + RawKeyValueQueryBuilder.QUERY_PARAM_KEY_SERDE + "' and '"
+                + RawKeyValueQueryBuilder.QUERY_PARAM_VALUE_SERDE + "' parameters must be set");
+        }
+        final Bytes from = position.lastKey() instanceof String ? decode((String) position.lastKey()) : null;
+        final byte[] serializedPrefix = keySerde != null ? keySerde.serialize(prefix) : serdes.rawKey(prefix);
+        return RawRecordDecoder.map(
+            rawStore.prefixScan(Bytes.wrap(serializedPrefix), from),
+            kv -> toKV(serdes, rawStore.isTimestamped(), kv)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private KV<K, V> toKV(final StateSerdes<Object, Object> serdes,
+                          final boolean timestampedStore,
+                          final KeyValue<Bytes, byte[]> kv) {
+        final K key = (K) (keySerde != null ? keySerde.deserialize(kv.key.get()) : serdes.keyFrom(kv.key.get()));
+        if (valueSerde != null) {
+            byte[] valueBytes = kv.value;
+            Long timestamp = null;
+            if (timestampedStore && valueBytes != null && valueBytes.length >= RawKeyValueStore.TIMESTAMP_SIZE) {
+                timestamp = ByteBuffer.wrap(valueBytes).getLong();
+                valueBytes = Arrays.copyOfRange(valueBytes, RawKeyValueStore.TIMESTAMP_SIZE, valueBytes.length);
+            }
+            return KV.of(key, (V) valueSerde.deserialize(valueBytes), timestamped ? timestamp : null);
+        }
+        final Object value = serdes.valueFrom(kv.value);
+        if (value instanceof ValueAndTimestamp) {
+            final ValueAndTimestamp<V> vt = (ValueAndTimestamp<V>) value;
+            return KV.of(key, vt.value(), timestamped ? vt.timestamp() : null);
+        }
+        return KV.of(key, (V) value);
+    }
+
+    private static String encode(final Bytes key) {
+        return Base64.getEncoder().encodeToString(key.get());
+    }
+
+    private static Bytes decode(final String key) {
+        return Bytes.wrap(Base64.getDecoder().decode(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof KeyValuePrefixScanQuery)) return false;
+        final KeyValuePrefixScanQuery<?, ?> that = (KeyValuePrefixScanQuery<?, ?>) o;
+        return timestamped == that.timestamped &&
+               keySerde == that.keySerde &&
+               valueSerde == that.valueSerde &&
+               Objects.equals(store, that.store) &&
+               Objects.equals(prefix, that.prefix);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(store, prefix, timestamped, keySerde, valueSerde);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "KeyValuePrefixScanQuery{" +
+                "prefix=" + prefix +
+                ", timestamped=" + timestamped +
+                ", keySerde=" + keySerde +
+                ", valueSerde=" + valueSerde +
+                '}';
+    }
+}
@@ -23,6 +23,10 @@ import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
 import io.streamthoughts.azkarra.api.query.QueryParams;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 public class KeyValueQueryBuilder implements QueryOperationBuilder {
@@ -30,6 +34,8 @@ public class KeyValueQueryBuilder implements QueryOperationBuilder {
     public static final String QUERY_PARAM_KEY = "key";
     public static final String QUERY_PARAM_KEY_FROM = "keyFrom";
     public static final String QUERY_PARAM_KEY_TO = "keyTo";
+    public static final String QUERY_PARAM_KEYS = "keys";
+    public static final String QUERY_PARAM_PREFIX = "prefix";
 
     protected final String storeName;
 
@@ -56,6 +62,10 @@ public class KeyValueQueryBuilder implements QueryOperationBuilder {
             return all();
         if (operation == StoreOperation.COUNT)
             return count();
+        if (operation == StoreOperation.MULTI_GET)
+            return multiGet();
+        if (operation == StoreOperation.PREFIX_SCAN)
+            return prefixScan();
 
         throw new InvalidQueryException("Operation not supported '" + operation.name() + "'");
     }
@@ -72,6 +82,14 @@ public class KeyValueQueryBuilder implements QueryOperationBuilder {
         return new Query<>(storeName, new GetKeyValueRangeQueryBuilder<>());
     }
 
+    public <K, V> Query<K, V> multiGet() {
+        return new Query<>(storeName, new MultiGetKeyValueQueryBuilder<>());
+    }
+
+    public <K, V> Query<K, V> prefixScan() {
+        return new Query<>(storeName, new PrefixScanKeyValueQueryBuilder<>(false));
+    }
+
     public Query<String, Long> count() {
         return new Query<>(storeName, (store, parameters) -> new KeyValueCountQuery(store));
     }
@@ -123,4 +141,77 @@ public class KeyValueQueryBuilder implements QueryOperationBuilder {
             );
         }
     }
+
+    static class PrefixScanKeyValueQueryBuilder<K, V> implements LocalStoreQueryBuilder<K, V>  {
+
+        private final boolean timestamped;
+
+        /**
+         * Creates a new {@link PrefixScanKeyValueQueryBuilder} instance.
+         *
+         * @param timestamped   should the timestamp of records be returned.
+         */
+        PrefixScanKeyValueQueryBuilder(final boolean timestamped) {
+            this.timestamped = timestamped;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Validator<QueryParams> validates(final QueryParams parameters) {
+            return RawKeyValueQueryBuilder.validatesSerdes(parameters)
+                    .validates(p -> p.contains(QUERY_PARAM_PREFIX), MissingRequiredKeyError.of(QUERY_PARAM_PREFIX));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public LocalStoreQuery<K, V> build(final String store, final QueryParams parameters) {
+            final QueryParams p = validates(parameters).getOrThrow(LocalStoreQueryBuilder::toInvalidQueryException);
+            return new KeyValuePrefixScanQuery<>(
+                store,
+                p.getValue(QUERY_PARAM_PREFIX),
+                timestamped,
+                RawKeyValueQueryBuilder.serde(p, RawKeyValueQueryBuilder.QUERY_PARAM_KEY_SERDE),
+                RawKeyValueQueryBuilder.serde(p, RawKeyValueQueryBuilder.QUERY_PARAM_VALUE_SERDE)
+            );
+        }
+    }
+
+    static class MultiGetKeyValueQueryBuilder<K, V> implements LocalStoreQueryBuilder<K, V>  {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Validator<QueryParams> validates(final QueryParams parameters) {
+            return Validator.of(parameters)
+                    .validates(p -> !getKeys(p).isEmpty(), MissingRequiredKeyError.of(QUERY_PARAM_KEYS));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public LocalStoreQuery<K, V> build(final String store, final QueryParams parameters) {
+            final QueryParams p = validates(parameters).getOrThrow(LocalStoreQueryBuilder::toInvalidQueryException);
+            return new KeyValueMultiGetQuery<>(store, getKeys(p), null);
+        }
+
+        /**
+         * Gets the keys to lookup. The parameter can be passed either as a collection or as a single value.
+         */
+        @SuppressWarnings("unchecked")
+        static <K> List<K> getKeys(final QueryParams parameters) {
+            if (!parameters.contains(QUERY_PARAM_KEYS))
+                return Collections.emptyList();
+
+            final Object keys = parameters.getValue(QUERY_PARAM_KEYS);
+            if (keys instanceof Collection)
+                return new ArrayList<>((Collection<K>) keys);
+            return keys == null ? Collections.emptyList() : Collections.singletonList((K) keys);
+        }
+    }
 }
@@ -18,9 +18,13 @@
  */
 package io.streamthoughts.azkarra.api.query.internal;
 
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Try;
 import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
 import org.apache.kafka.common.serialization.Serializer;
 
+import java.util.List;
 import java.util.Objects;
 
 public abstract class KeyedLocalStoreQuery<T, K, V> implements LocalStoreQuery<K, V> {
@@ -57,6 +61,14 @@ public abstract class KeyedLocalStoreQuery<T, K, V> implements LocalStoreQuery<K
         return keySerializer;
     }
 
+    /**
+     * Executes this query on the local replica of the given store partition, which may be a standby replica.
+     *
+     * @param container the {@link KafkaStreamsContainer} instance.
+     * @param partition the store partition the key belongs to.
+     */
+    public abstract Try<List<KV<K, V>>> executeOnReplica(final KafkaStreamsContainer container, final int partition);
+
     /**
      * {@inheritDoc}
      */
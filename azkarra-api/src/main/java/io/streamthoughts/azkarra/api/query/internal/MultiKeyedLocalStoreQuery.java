@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query.internal;
+
+import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link LocalStoreQuery} which looks up several keys at once.
+ *
+ * @param <K>   the record key type.
+ * @param <V>   the record value type.
+ *
+ * @since 0.8.0
+ */
+public abstract class MultiKeyedLocalStoreQuery<K, V> implements LocalStoreQuery<K, V> {
+
+    private final String storeName;
+    private final List<K> keys;
+    private final Serializer<K> keySerializer;
+
+    /**
+     * Creates a new {@link MultiKeyedLocalStoreQuery} instance.
+     *
+     * @param storeName     the storeName name.
+     * @param keys          the record keys.
+     * @param keySerializer the key serializer.
+     */
+    MultiKeyedLocalStoreQuery(final String storeName,
+                              final List<K> keys,
+                              final Serializer<K> keySerializer) {
+        this.storeName = storeName;
+        this.keys = Collections.unmodifiableList(Objects.requireNonNull(keys, "keys cannot be null"));
+        this.keySerializer = keySerializer;
+    }
+
+    public List<K> keys() {
+        return keys;
+    }
+
+    public String storeName() {
+        return storeName;
+    }
+
+    public Serializer<K> keySerializer() {
+        return keySerializer;
+    }
+
+    /**
+     * Creates a new query of the same type for the given subset of keys.
+     *
+     * @param keys  the record keys.
+     * @return      a new {@link MultiKeyedLocalStoreQuery} instance.
+     */
+    public abstract MultiKeyedLocalStoreQuery<K, V> withKeys(final List<K> keys);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MultiKeyedLocalStoreQuery)) return false;
+        MultiKeyedLocalStoreQuery<?, ?> that = (MultiKeyedLocalStoreQuery<?, ?>) o;
+        return Objects.equals(storeName, that.storeName) &&
+               Objects.equals(keys, that.keys);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(storeName, keys);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query.internal;
+
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The built-in serdes that can be referenced by name to decode the records of a raw key-value query.
+ *
+ * @since 0.8.0
+ */
+enum NamedSerde {
+
+    STRING(Serdes.String(), String::valueOf),
+
+    LONG(Serdes.Long(), o -> o instanceof Number ? ((Number) o).longValue() : Long.parseLong(o.toString())),
+
+    INTEGER(Serdes.Integer(), o -> o instanceof Number ? ((Number) o).intValue() : Integer.parseInt(o.toString())),
+
+    SHORT(Serdes.Short(), o -> o instanceof Number ? ((Number) o).shortValue() : Short.parseShort(o.toString())),
+
+    FLOAT(Serdes.Float(), o -> o instanceof Number ? ((Number) o).floatValue() : Float.parseFloat(o.toString())),
+
+    DOUBLE(Serdes.Double(), o -> o instanceof Number ? ((Number) o).doubleValue() : Double.parseDouble(o.toString())),
+
+    UUID(Serdes.UUID(), o -> java.util.UUID.fromString(o.toString()));
+
+    private static final Map<String, NamedSerde> CACHE = new HashMap<>();
+
+    static {
+        Arrays.stream(NamedSerde.values())
+              .forEach(s -> CACHE.put(s.prettyName(), s));
+    }
+
+    private final Serde<Object> serde;
+    private final Function<Object, Object> converter;
+
+    @SuppressWarnings("unchecked")
+    NamedSerde(final Serde<?> serde, final Function<Object, Object> converter) {
+        this.serde = (Serde<Object>) serde;
+        this.converter = converter;
+    }
+
+    public static Optional<NamedSerde> parse(final String name) {
+        return Optional.ofNullable(CACHE.get(name.toLowerCase()));
+    }
+
+    public static String supportedNames() {
+        return Arrays.stream(values()).map(NamedSerde::prettyName).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Deserializes the given bytes.
+     *
+     * @param data  the bytes to deserialize, can be {@code null}.
+     * @return      the deserialized object.
+     */
+    Object deserialize(final byte[] data) {
+        return serde.deserializer().deserialize(null, data);
+    }
+
+    /**
+     * Serializes the given query parameter after converting it to the type supported by this serde.
+     *
+     * @param param the query parameter, e.g. a range bound.
+     * @return      the serialized bytes.
+     */
+    byte[] serialize(final Object param) {
+        return serde.serializer().serialize(null, converter.apply(param));
+    }
+
+    public String prettyName() {
+        return name().toLowerCase();
+    }
+}
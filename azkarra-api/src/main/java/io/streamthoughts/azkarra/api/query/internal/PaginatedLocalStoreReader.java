@@ -0,0 +1,488 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query.internal;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.ContinuationToken;
+import io.streamthoughts.azkarra.api.query.ContinuationToken.Position;
+import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.query.LocalStorePage;
+import io.streamthoughts.azkarra.api.query.PaginatedLocalStoreQuery;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.util.SortedMerge;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.state.KeyValueIterator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Reads a page of records from the local instances of a state store.
+ *
+ * Local partitions are read one after the other in ascending order, each partition being tracked as a distinct
+ * scope of the {@link ContinuationToken}. When the active partitions for the store cannot be resolved,
+ * all local partitions are read through a single composite store tracked as a host scope.
+ *
+ * A partition scope is resumed either by seeking to the last key read (if the query supports it) or by skipping
+ * the number of records already read. A host scope is always resumed by skipping the number of records already
+ * read, as seeking each partition of the composite store to the same key would skip records.
+ * Local partitions can optionally be scanned concurrently.
+ *
+ * If a deadline is set, the scan stops as soon as it is reached and the page only contains the records
+ * read so far, the {@link ContinuationToken} being positioned so that the next page resumes where the scan stopped.
+ *
+ * If a filter is set, it is evaluated on each record read: records which do not match are skipped without being
+ * added to the page, but are still accounted for by the {@link ContinuationToken}.
+ *
+ * @param <S>   the read-only store type.
+ * @param <IK>  the store iterator key type.
+ * @param <IV>  the store iterator value type.
+ * @param <K>   the record key type.
+ * @param <V>   the record value type.
+ */
+class PaginatedLocalStoreReader<S, IK, IV, K, V> {
+
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    private final String storeName;
+    private final Function<KafkaStreamsContainer, LocalStoreAccessor<S>> storeAccessor;
+    private final BiFunction<KafkaStreamsContainer, Integer, LocalStoreAccessor<S>> partitionAccessor;
+    private final BiFunction<S, Position, KeyValueIterator<IK, IV>> iterator;
+    private final Function<KeyValue<IK, IV>, KV<K, V>> mapper;
+    private Predicate<Position> seekable = position -> false;
+    private Function<IK, Object> positionKey = key -> null;
+    private long deadline = PaginatedLocalStoreQuery.NO_DEADLINE;
+    private Predicate<? super KV<K, V>> filter = record -> true;
+
+    /**
+     * Creates a new {@link PaginatedLocalStoreReader} instance.
+     *
+     * @param storeName         the name of the store.
+     * @param storeAccessor     the function used to access all local partitions of the store.
+     * @param partitionAccessor the function used to access a single local partition of the store.
+     * @param iterator          the function used to open a new iterator for a given position.
+     * @param mapper            the function used to convert each iterated record.
+     */
+    PaginatedLocalStoreReader(final String storeName,
+                              final Function<KafkaStreamsContainer, LocalStoreAccessor<S>> storeAccessor,
+                              final BiFunction<KafkaStreamsContainer, Integer,
+                                      LocalStoreAccessor<S>> partitionAccessor,
+                              final BiFunction<S, Position, KeyValueIterator<IK, IV>> iterator,
+                              final Function<KeyValue<IK, IV>, KV<K, V>> mapper) {
+        this.storeName = Objects.requireNonNull(storeName, "storeName cannot be null");
+        this.storeAccessor = Objects.requireNonNull(storeAccessor, "storeAccessor cannot be null");
+        this.partitionAccessor = Objects.requireNonNull(partitionAccessor, "partitionAccessor cannot be null");
+        this.iterator = Objects.requireNonNull(iterator, "iterator cannot be null");
+        this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
+    }
+
+    /**
+     * Specifies that iterators opened for a position satisfying the given predicate are positioned
+     * on the last key read, which is extracted from each record using the given function.
+     *
+     * @param seekable      the predicate used to check whether a position can be resumed by seeking.
+     * @param positionKey   the function used to extract the key to be tracked.
+     * @return              {@code this}
+     */
+    PaginatedLocalStoreReader<S, IK, IV, K, V> withSeek(final Predicate<Position> seekable,
+                                                        final Function<IK, Object> positionKey) {
+        this.seekable = Objects.requireNonNull(seekable, "seekable cannot be null");
+        this.positionKey = Objects.requireNonNull(positionKey, "positionKey cannot be null");
+        return this;
+    }
+
+    /**
+     * Specifies the absolute time (epoch milliseconds) at which the scan should stop.
+     *
+     * @param deadline  the deadline, or {@link PaginatedLocalStoreQuery#NO_DEADLINE}.
+     * @return          {@code this}
+     */
+    PaginatedLocalStoreReader<S, IK, IV, K, V> withDeadline(final long deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+
+    /**
+     * Specifies the predicate that records must satisfy to be added to the page.
+     *
+     * @param filter    the filter to apply on each record read.
+     * @return          {@code this}
+     */
+    PaginatedLocalStoreReader<S, IK, IV, K, V> withFilter(final Predicate<? super KV<K, V>> filter) {
+        this.filter = Objects.requireNonNull(filter, "filter cannot be null");
+        return this;
+    }
+
+    /**
+     * Reads the next page of records.
+     *
+     * When reading in parallel, each local partition is scanned by a distinct task running on the shared
+     * {@link LocalStoreScanPool} bounded to the number of available processors. Each partition is read up to the limit,
+     * then records are merged in partition order, so that the page is the same as for a sequential read.
+     *
+     * @param container     the {@link KafkaStreamsContainer} instance.
+     * @param limit         the maximum number of records to read (-1 means no limit).
+     * @param continuation  the {@link ContinuationToken} to resume from.
+     * @param parallel      should local partitions be scanned concurrently.
+     * @return              the {@link LocalStorePage}.
+     */
+    Try<LocalStorePage<K, V>> read(final KafkaStreamsContainer container,
+                                   final long limit,
+                                   final ContinuationToken continuation,
+                                   final boolean parallel) {
+        final Map<String, LocalStoreAccessor<S>> scopes = localScopes(container);
+        final boolean partitioned = !scopes.containsKey(ContinuationToken.hostScope(container.applicationServer()));
+        return parallel && scopes.size() > 1 ?
+            readConcurrently(scopes, limit, continuation, partitioned) :
+            readSequentially(scopes, limit, continuation, partitioned);
+    }
+
+    /**
+     * Reads the next page of records sorted by key.
+     *
+     * Each local partition is read from the last key returned by the previous page (see
+     * {@link ContinuationToken#sortedScope()}) and up to the limit, then partitions are merged by key.
+     * Records of a partition are expected to be iterated in the given key order.
+     *
+     * @param container     the {@link KafkaStreamsContainer} instance.
+     * @param limit         the maximum number of records to read (-1 means no limit).
+     * @param continuation  the {@link ContinuationToken} to resume from.
+     * @param keyOrder      the order of keys.
+     * @param parallel      should local partitions be scanned concurrently.
+     * @return              the {@link LocalStorePage}.
+     */
+    Try<LocalStorePage<K, V>> readSorted(final KafkaStreamsContainer container,
+                                         final long limit,
+                                         final ContinuationToken continuation,
+                                         final Comparator<Object> keyOrder,
+                                         final boolean parallel) {
+        final String sortedScope = ContinuationToken.sortedScope();
+        final Position position = continuation.position(sortedScope).orElse(Position.START);
+        if (position.isCompleted()) {
+            return Try.success(new LocalStorePage<>(Collections.emptyList(), continuation));
+        }
+
+        final Collection<LocalStoreAccessor<S>> scopes = localScopes(container).values();
+        final List<Try<ScopeChunk>> chunks;
+        if (parallel && scopes.size() > 1) {
+            final List<ForkJoinTask<Try<ScopeChunk>>> tasks = scopes.stream()
+                .map(scope -> LocalStoreScanPool.get().submit(() -> readScopeAfter(scope, position, keyOrder, limit)))
+                .collect(Collectors.toList());
+            chunks = tasks.stream().map(ForkJoinTask::join).collect(Collectors.toList());
+        } else {
+            chunks = scopes.stream()
+                .map(scope -> readScopeAfter(scope, position, keyOrder, limit))
+                .collect(Collectors.toList());
+        }
+
+        final List<List<KV<K, V>>> sources = new ArrayList<>(chunks.size());
+        for (Try<ScopeChunk> chunk : chunks) {
+            if (chunk.isFailure()) {
+                return Try.failure(chunk.getThrowable());
+            }
+            sources.add(chunk.get().records);
+        }
+
+        final List<KV<K, V>> records = new ArrayList<>();
+        final Comparator<KV<K, V>> recordOrder = (r1, r2) -> keyOrder.compare(r1.key(), r2.key());
+        final int[] taken = SortedMerge.merge(sources, recordOrder, limit, records);
+
+        truncateExpired(chunks, position, records, taken, sources, keyOrder);
+
+        boolean hasMore = false;
+        for (int i = 0; i < taken.length; i++) {
+            hasMore |= taken[i] < sources.get(i).size() || !chunks.get(i).get().exhausted;
+        }
+        final Object lastKey = records.isEmpty() ? position.lastKey() : records.get(records.size() - 1).key();
+        final Position next = new Position(position.offset() + records.size(), lastKey, !hasMore);
+        return Try.success(new LocalStorePage<>(records, new ContinuationToken(Map.of(sortedScope, next))));
+    }
+
+    /**
+     * A partition whose scan stopped on the deadline may contain keys lower than the records merged
+     * from other partitions: the page must end on the last key read from that partition.
+     */
+    private void truncateExpired(final List<Try<ScopeChunk>> chunks,
+                                 final Position position,
+                                 final List<KV<K, V>> records,
+                                 final int[] taken,
+                                 final List<List<KV<K, V>>> sources,
+                                 final Comparator<Object> keyOrder) {
+        for (Try<ScopeChunk> attempt : chunks) {
+            final ScopeChunk chunk = attempt.get();
+            if (chunk.expired) {
+                final Object bound = chunk.scanned == 0 ? position.lastKey() : chunk.lastScannedKey;
+                truncateAfter(records, taken, sources, bound, keyOrder);
+            }
+        }
+    }
+
+    private void truncateAfter(final List<KV<K, V>> records,
+                               final int[] taken,
+                               final List<List<KV<K, V>>> sources,
+                               final Object bound,
+                               final Comparator<Object> keyOrder) {
+        while (!records.isEmpty()) {
+            final KV<K, V> last = records.get(records.size() - 1);
+            if (bound != null && keyOrder.compare(last.key(), bound) <= 0) {
+                return;
+            }
+            records.remove(records.size() - 1);
+            // the removed record is the last one taken from one of the sources.
+            for (int i = 0; i < sources.size(); i++) {
+                if (taken[i] > 0 && sources.get(i).get(taken[i] - 1) == last) {
+                    taken[i]--;
+                    break;
+                }
+            }
+        }
+    }
+
+    private Map<String, LocalStoreAccessor<S>> localScopes(final KafkaStreamsContainer container) {
+        final Map<String, LocalStoreAccessor<S>> scopes = new LinkedHashMap<>();
+        final Set<Integer> partitions = container.localActivePartitionsForStore(storeName);
+        if (partitions == null || partitions.isEmpty()) {
+            final String scope = ContinuationToken.hostScope(container.applicationServer());
+            scopes.put(scope, storeAccessor.apply(container));
+        } else {
+            for (Integer partition : partitions) {
+                scopes.put(ContinuationToken.partitionScope(partition), partitionAccessor.apply(container, partition));
+            }
+        }
+        return scopes;
+    }
+
+    private Try<LocalStorePage<K, V>> readSequentially(final Map<String, LocalStoreAccessor<S>> scopes,
+                                                       final long limit,
+                                                       final ContinuationToken continuation,
+                                                       final boolean partitioned) {
+        final List<KV<K, V>> records = new ArrayList<>();
+        final Map<String, Position> positions = new TreeMap<>();
+        for (Map.Entry<String, LocalStoreAccessor<S>> scope : scopes.entrySet()) {
+            final Position position = continuation.position(scope.getKey()).orElse(Position.START);
+            if (position.isCompleted() || isFull(records.size(), limit) || isExpired()) {
+                positions.put(scope.getKey(), position);
+                continue;
+            }
+
+            final long remaining = limit > 0 ? limit - records.size() : limit;
+            final Try<ScopeChunk> chunk = readScope(scope.getValue(), position, remaining, partitioned);
+            if (chunk.isFailure()) {
+                return Try.failure(chunk.getThrowable());
+            }
+            positions.put(scope.getKey(), chunk.get().take(records, limit));
+        }
+        return Try.success(new LocalStorePage<>(records, new ContinuationToken(positions)));
+    }
+
+    private Try<LocalStorePage<K, V>> readConcurrently(final Map<String, LocalStoreAccessor<S>> scopes,
+                                                       final long limit,
+                                                       final ContinuationToken continuation,
+                                                       final boolean partitioned) {
+        final Map<String, ForkJoinTask<Try<ScopeChunk>>> tasks = new LinkedHashMap<>();
+        for (Map.Entry<String, LocalStoreAccessor<S>> scope : scopes.entrySet()) {
+            final Position position = continuation.position(scope.getKey()).orElse(Position.START);
+            if (!position.isCompleted()) {
+                tasks.put(scope.getKey(), LocalStoreScanPool.get().submit(
+                    () -> readScope(scope.getValue(), position, limit, partitioned)));
+            }
+        }
+
+        final List<KV<K, V>> records = new ArrayList<>();
+        final Map<String, Position> positions = new TreeMap<>();
+        for (String scope : scopes.keySet()) {
+            final ForkJoinTask<Try<ScopeChunk>> task = tasks.get(scope);
+            if (task == null) {
+                positions.put(scope, continuation.position(scope).orElse(Position.START));
+                continue;
+            }
+
+            final Try<ScopeChunk> chunk = task.join();
+            if (chunk.isFailure()) {
+                tasks.values().forEach(t -> t.cancel(false));
+                return Try.failure(chunk.getThrowable());
+            }
+            positions.put(scope, chunk.get().take(records, limit));
+        }
+        return Try.success(new LocalStorePage<>(records, new ContinuationToken(positions)));
+    }
+
+    private Try<ScopeChunk> readScope(final LocalStoreAccessor<S> accessor,
+                                      final Position position,
+                                      final long limit,
+                                      final boolean partitioned) {
+        return accessor.get().flatMap(store -> Try.failable(() -> readScope(store, position, limit, partitioned)));
+    }
+
+    private ScopeChunk readScope(final S store,
+                                 final Position position,
+                                 final long limit,
+                                 final boolean partitioned) {
+        final boolean seek = partitioned && seekable.test(position);
+        // the last key is not passed to the iterator when resuming by offset.
+        final Position from = seek ? position : new Position(position.offset(), null, position.isCompleted());
+        try (KeyValueIterator<IK, IV> it = iterator.apply(store, from)) {
+            if (!seek) {
+                long skipped = 0;
+                while (skipped < position.offset() && it.hasNext()) {
+                    if (isExpired(skipped)) {
+                        return new ScopeChunk(position);
+                    }
+                    it.next();
+                    skipped++;
+                }
+            }
+
+            final ScopeChunk chunk = new ScopeChunk(position);
+            boolean first = true;
+            while (!isFull(chunk.records.size(), limit) && !isExpired(chunk.scanned) && it.hasNext()) {
+                final KeyValue<IK, IV> kv = it.next();
+                final Object key = positionKey.apply(kv.key);
+                // the iterator is positioned on the last key returned by the previous page.
+                if (seek && first && Objects.equals(key, position.lastKey())) {
+                    first = false;
+                    continue;
+                }
+                first = false;
+                final KV<K, V> record = mapper.apply(kv);
+                chunk.scan(key);
+                if (filter.test(record)) {
+                    chunk.add(record, key);
+                }
+            }
+            chunk.exhausted = !it.hasNext();
+            return chunk;
+        }
+    }
+
+    private Try<ScopeChunk> readScopeAfter(final LocalStoreAccessor<S> accessor,
+                                           final Position position,
+                                           final Comparator<Object> keyOrder,
+                                           final long limit) {
+        return accessor.get().flatMap(store -> Try.failable(() -> readScopeAfter(store, position, keyOrder, limit)));
+    }
+
+    private ScopeChunk readScopeAfter(final S store,
+                                      final Position position,
+                                      final Comparator<Object> keyOrder,
+                                      final long limit) {
+        final Object after = position.lastKey();
+        // the iterator is positioned on the last key returned if the query supports it, otherwise
+        // records are skipped until the last key returned.
+        try (KeyValueIterator<IK, IV> it = iterator.apply(store, new Position(0L, after, false))) {
+            final ScopeChunk chunk = new ScopeChunk(position);
+            long read = 0;
+            while (!isFull(chunk.records.size(), limit) && it.hasNext()) {
+                if (isExpired(read++)) {
+                    chunk.expired = true;
+                    break;
+                }
+                final KV<K, V> record = mapper.apply(it.next());
+                if (after == null || keyOrder.compare(record.key(), after) > 0) {
+                    chunk.scan(record.key());
+                    if (filter.test(record)) {
+                        chunk.add(record, record.key());
+                    }
+                }
+            }
+            chunk.exhausted = !it.hasNext();
+            return chunk;
+        }
+    }
+
+    private boolean isExpired() {
+        return deadline != PaginatedLocalStoreQuery.NO_DEADLINE && System.currentTimeMillis() >= deadline;
+    }
+
+    private boolean isExpired(final long read) {
+        // the clock is only checked every DEADLINE_CHECK_INTERVAL records.
+        return read % DEADLINE_CHECK_INTERVAL == 0 && isExpired();
+    }
+
+    private static boolean isFull(final int size, final long limit) {
+        return limit > 0 && size >= limit;
+    }
+
+    /**
+     * The records read from a single scope.
+     */
+    private final class ScopeChunk {
+
+        private final Position position;
+        private final List<KV<K, V>> records = new ArrayList<>();
+        private final List<Object> keys = new ArrayList<>();
+        // the number of records scanned up to each record added, including the ones rejected by the filter.
+        private final List<Long> offsets = new ArrayList<>();
+        private long scanned;
+        private Object lastScannedKey;
+        private boolean exhausted;
+        private boolean expired;
+
+        ScopeChunk(final Position position) {
+            this.position = position;
+        }
+
+        void scan(final Object key) {
+            scanned++;
+            lastScannedKey = key;
+        }
+
+        void add(final KV<K, V> record, final Object key) {
+            records.add(record);
+            keys.add(key);
+            offsets.add(scanned);
+        }
+
+        /**
+         * Adds the records of this chunk to the given page, up to the limit.
+         *
+         * @return the new {@link Position} of the scope, which only accounts for the records added to the page
+         *         and for the records rejected by the filter before them.
+         */
+        Position take(final List<KV<K, V>> page, final long limit) {
+            final int taken = limit > 0 ? (int) Math.min(records.size(), Math.max(0, limit - page.size())) :
+                records.size();
+            if (taken == records.size()) {
+                page.addAll(records);
+                return scanned == 0 ?
+                    new Position(position.offset(), position.lastKey(), exhausted) :
+                    new Position(position.offset() + scanned, lastScannedKey, exhausted);
+            }
+            if (taken == 0) {
+                return position;
+            }
+            page.addAll(records.subList(0, taken));
+            return new Position(position.offset() + offsets.get(taken - 1), keys.get(taken - 1), false);
+        }
+    }
+}
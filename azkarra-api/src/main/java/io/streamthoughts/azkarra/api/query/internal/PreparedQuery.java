@@ -20,15 +20,26 @@ package io.streamthoughts.azkarra.api.query.internal;
 
 import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.ContinuationToken;
+import io.streamthoughts.azkarra.api.query.LocalScan;
+import io.streamthoughts.azkarra.api.query.LocalStorePage;
 import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.PaginatedLocalStoreQuery;
 import io.streamthoughts.azkarra.api.query.QueryInfo;
 import io.streamthoughts.azkarra.api.query.QueryParams;
+import io.streamthoughts.azkarra.api.query.SortedLocalStoreQuery;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
 import org.apache.kafka.common.serialization.Serializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 public class PreparedQuery<K, V> extends QueryInfo {
 
@@ -58,9 +69,36 @@ public class PreparedQuery<K, V> extends QueryInfo {
     }
 
     public Serializer<K> keySerializer() {
+        if (isMultiKeyedQuery()) {
+            return ((MultiKeyedLocalStoreQuery<K, V>)localStoreQuery).keySerializer();
+        }
         return ((KeyedLocalStoreQuery<K, ?, V>)localStoreQuery).keySerializer();
     }
 
+    public boolean isMultiKeyedQuery() {
+        return localStoreQuery instanceof MultiKeyedLocalStoreQuery;
+    }
+
+    public List<K> keys() {
+        return ((MultiKeyedLocalStoreQuery<K, V>)localStoreQuery).keys();
+    }
+
+    /**
+     * Creates a new {@link PreparedQuery} looking up only the given subset of keys.
+     *
+     * @param keys  the record keys.
+     * @return      a new {@link PreparedQuery} instance.
+     */
+    public PreparedQuery<K, V> forKeys(final List<K> keys) {
+        final Map<String, Object> params = new HashMap<>(parameters.originals());
+        params.put(KeyValueQueryBuilder.QUERY_PARAM_KEYS, keys);
+        return new PreparedQuery<>(
+            new QueryParams(params),
+            storeName,
+            ((MultiKeyedLocalStoreQuery<K, V>)localStoreQuery).withKeys(keys)
+        );
+    }
+
     /**
      * Executes this query locally on the specified streams instance.
      *
@@ -70,6 +108,90 @@ public class PreparedQuery<K, V> extends QueryInfo {
         return logFailure(Try.success(localStoreQuery).flatMap(q -> q.execute(container, limit)));
     }
 
+    /**
+     * Executes this keyed query on the local replica of the given store partition, which may be a standby replica.
+     *
+     * @param container the {@link KafkaStreamsContainer} instance.
+     * @param partition the store partition the key belongs to.
+     */
+    public Try<List<KV<K, V>>> executeOnReplica(final KafkaStreamsContainer container, final int partition) {
+        return logFailure(Try.success((KeyedLocalStoreQuery<?, K, V>) localStoreQuery)
+            .flatMap(q -> q.executeOnReplica(container, partition)));
+    }
+
+    /**
+     * Executes this query locally on the specified streams instance, starting from the token of the given scan
+     * and only returning the records matching its filter. If the query does not support pagination,
+     * all the matching records are returned with an empty token.
+     *
+     * @param container the {@link KafkaStreamsContainer} instance.
+     * @param scan      the {@link LocalScan} options.
+     */
+    public Try<LocalStorePage<K, V>> execute(final KafkaStreamsContainer container, final LocalScan scan) {
+        if (!isPaginated() && !scan.isFiltered()) {
+            return execute(container, scan.limit())
+                .map(records -> new LocalStorePage<>(records, ContinuationToken.empty()));
+        }
+        if (!isPaginated()) {
+            return execute(container, LocalStoreQuery.NO_LIMIT)
+                .map(records -> filter(records, scan.filter(), scan.limit()))
+                .map(records -> new LocalStorePage<>(records, ContinuationToken.empty()));
+        }
+        final PaginatedLocalStoreQuery<K, V> paginated = (PaginatedLocalStoreQuery<K, V>) localStoreQuery;
+        final Try<LocalStorePage<K, V>> executed = paginated.execute(container, scan);
+        logFailure(executed.map(LocalStorePage::records));
+        return executed;
+    }
+
+    /**
+     * Executes this query locally on the specified streams instance, returning the records sorted by key.
+     *
+     * @param container the {@link KafkaStreamsContainer} instance.
+     * @param scan      the {@link LocalScan} options.
+     * @param keyOrder  the order of keys.
+     *
+     * @throws UnsupportedOperationException if this query cannot return sorted records.
+     */
+    public Try<LocalStorePage<K, V>> executeSorted(final KafkaStreamsContainer container,
+                                                   final LocalScan scan,
+                                                   final Comparator<Object> keyOrder) {
+        if (!isSorted()) {
+            throw new UnsupportedOperationException(
+                "Query '" + localStoreQuery.operationType() + "' cannot return records sorted by key");
+        }
+        final SortedLocalStoreQuery<K, V> sorted = (SortedLocalStoreQuery<K, V>) localStoreQuery;
+        final Try<LocalStorePage<K, V>> executed = sorted.executeSorted(container, scan, keyOrder);
+        logFailure(executed.map(LocalStorePage::records));
+        return executed;
+    }
+
+    /**
+     * Gets a {@link Flow.Publisher} which executes this query locally on the specified streams instance.
+     *
+     * @param container the {@link KafkaStreamsContainer} instance.
+     * @param limit     the maximum number of records to emit (-1 means no limit).
+     */
+    public Flow.Publisher<KV<K, V>> publisher(final KafkaStreamsContainer container, final long limit) {
+        return localStoreQuery.publisher(container, limit);
+    }
+
+    private static <K, V> List<KV<K, V>> filter(final List<KV<K, V>> records,
+                                                final Predicate<? super KV<K, V>> filter,
+                                                final long limit) {
+        return records.stream()
+            .filter(filter)
+            .limit(limit > 0 ? limit : Long.MAX_VALUE)
+            .collect(Collectors.toList());
+    }
+
+    public boolean isPaginated() {
+        return localStoreQuery instanceof PaginatedLocalStoreQuery;
+    }
+
+    public boolean isSorted() {
+        return localStoreQuery instanceof SortedLocalStoreQuery;
+    }
+
     private Try<List<KV<K, V>>> logFailure(final Try<List<KV<K, V>>> executed) {
         if (executed.isFailure()) {
             LOG.error("Error happens while executing query '{}' on state store '{}' with params '{}': {}",
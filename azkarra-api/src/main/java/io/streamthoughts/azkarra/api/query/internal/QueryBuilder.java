@@ -69,6 +69,13 @@ public class QueryBuilder {
         return new TimestampedWindowQueryBuilder(storeName);
     }
 
+    /**
+     * Raw (bytes) Key-Value store.
+     */
+    public RawKeyValueQueryBuilder rawKeyValue() {
+        return new RawKeyValueQueryBuilder(storeName);
+    }
+
 
 
 
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query.internal;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Reader;
+import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.LocalScan;
+import io.streamthoughts.azkarra.api.query.LocalStorePage;
+import io.streamthoughts.azkarra.api.query.PaginatedLocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.StoreOperation;
+import io.streamthoughts.azkarra.api.query.StoreType;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.streams.store.RawKeyValueStore;
+import org.apache.kafka.common.utils.Bytes;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads all the records of a key-value store without deserializing them through the store serdes.
+ *
+ * @since 0.8.0
+ */
+public class RawKeyValueGetAllQuery implements PaginatedLocalStoreQuery<Object, Object> {
+
+    private final String storeName;
+    private final RawRecordDecoder decoder;
+
+    /**
+     * Creates a new {@link RawKeyValueGetAllQuery} instance.
+     *
+     * @param storeName     the name of the store.
+     * @param decoder       the {@link RawRecordDecoder} used to convert records.
+     */
+    RawKeyValueGetAllQuery(final String storeName, final RawRecordDecoder decoder) {
+        this.storeName = storeName;
+        this.decoder = decoder;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StoreType storeType() {
+        return StoreType.RAW_KEY_VALUE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StoreOperation operationType() {
+        return StoreOperation.ALL;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<List<KV<Object, Object>>> execute(final KafkaStreamsContainer container, final long limit) {
+        final Reader<RawKeyValueStore, List<KV<Object, Object>>> reader =
+            Reader.<RawKeyValueStore, RawKeyValueStore>of(store -> store)
+                .map(store -> decoder.decode(store.all(), store.isTimestamped()))
+                .map(iterator -> RawRecordDecoder.toListAndClose(iterator, limit));
+
+        return new LocalStoreQueryExecutor<>(container.localRawKeyValueStore(storeName)).execute(reader);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<LocalStorePage<Object, Object>> execute(final KafkaStreamsContainer container, final LocalScan scan) {
+        return new PaginatedLocalStoreReader<RawKeyValueStore, Bytes, KV<Object, Object>, Object, Object>(
+            storeName,
+            c -> c.localRawKeyValueStore(storeName),
+            (c, partition) -> c.localRawKeyValueStore(storeName, partition),
+            (store, position) -> decoder.decode(store.all(), store.isTimestamped()),
+            kv -> kv.value
+        )
+        .withDeadline(scan.deadline())
+        .withFilter(scan.filter())
+        .read(container, scan.limit(), scan.continuation(), scan.parallel());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RawKeyValueGetAllQuery)) return false;
+        final RawKeyValueGetAllQuery that = (RawKeyValueGetAllQuery) o;
+        return Objects.equals(storeName, that.storeName) &&
+               Objects.equals(decoder, that.decoder);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(storeName, decoder);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query.internal;
+
+import io.streamthoughts.azkarra.api.errors.Error;
+import io.streamthoughts.azkarra.api.monad.Validator;
+import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.QueryParams;
+import io.streamthoughts.azkarra.api.query.StoreOperation;
+
+import java.util.Objects;
+
+import static io.streamthoughts.azkarra.api.query.internal.KeyValueQueryBuilder.QUERY_PARAM_KEY_FROM;
+import static io.streamthoughts.azkarra.api.query.internal.KeyValueQueryBuilder.QUERY_PARAM_KEY_TO;
+
+/**
+ * Builds queries reading the bytes of a key-value store.
+ *
+ * <p>
+ * By default, both keys and values are returned as bytes. The optional parameters {@link #QUERY_PARAM_KEY_SERDE}
+ * and {@link #QUERY_PARAM_VALUE_SERDE} can be used to decode them using a built-in serde (e.g. 'string', 'long').
+ * Range bounds are either serialized using the key serde or, if no key serde is given, expected to be base64 strings.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+public class RawKeyValueQueryBuilder implements QueryOperationBuilder {
+
+    public static final String QUERY_PARAM_KEY_SERDE = "keySerde";
+    public static final String QUERY_PARAM_VALUE_SERDE = "valueSerde";
+
+    private final String storeName;
+
+    /**
+     * Creates a new {@link RawKeyValueQueryBuilder} instance.
+     * @param storeName     the name of the store.
+     */
+    RawKeyValueQueryBuilder(final String storeName) {
+        Objects.requireNonNull(storeName, "storeName cannot be null");
+        this.storeName = storeName;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Query operation(final StoreOperation operation) {
+
+        if (operation == StoreOperation.RANGE)
+            return range();
+        if (operation == StoreOperation.ALL)
+            return all();
+
+        throw new InvalidQueryException("Operation not supported '" + operation.name() + "'");
+    }
+
+    public Query<Object, Object> all() {
+        return new Query<>(storeName, new RawGetAllQueryBuilder());
+    }
+
+    public Query<Object, Object> range() {
+        return new Query<>(storeName, new RawGetRangeQueryBuilder());
+    }
+
+    static class RawGetAllQueryBuilder implements LocalStoreQueryBuilder<Object, Object> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Validator<QueryParams> validates(final QueryParams parameters) {
+            return validatesSerdes(parameters);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public LocalStoreQuery<Object, Object> build(final String store, final QueryParams parameters) {
+            final QueryParams p = validates(parameters).getOrThrow(LocalStoreQueryBuilder::toInvalidQueryException);
+            return new RawKeyValueGetAllQuery(store, decoder(p));
+        }
+    }
+
+    static class RawGetRangeQueryBuilder implements LocalStoreQueryBuilder<Object, Object> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Validator<QueryParams> validates(final QueryParams parameters) {
+            return validatesSerdes(parameters)
+                .validates(p -> p.contains(QUERY_PARAM_KEY_FROM), MissingRequiredKeyError.of(QUERY_PARAM_KEY_FROM))
+                .validates(p -> p.contains(QUERY_PARAM_KEY_TO), MissingRequiredKeyError.of(QUERY_PARAM_KEY_TO));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public LocalStoreQuery<Object, Object> build(final String store, final QueryParams parameters) {
+            final QueryParams p = validates(parameters).getOrThrow(LocalStoreQueryBuilder::toInvalidQueryException);
+            final RawRecordDecoder decoder = decoder(p);
+            try {
+                return new RawKeyValueGetRangeQuery(
+                    store,
+                    decoder.encodeKey(p.getValue(QUERY_PARAM_KEY_FROM)),
+                    decoder.encodeKey(p.getValue(QUERY_PARAM_KEY_TO)),
+                    decoder
+                );
+            } catch (final IllegalArgumentException e) {
+                throw new InvalidQueryException("Invalid range bounds : " + e.getMessage());
+            }
+        }
+    }
+
+    static Validator<QueryParams> validatesSerdes(final QueryParams parameters) {
+        return Validator.of(parameters)
+            .validates(p -> isValidSerde(p, QUERY_PARAM_KEY_SERDE), new UnknownSerdeError(QUERY_PARAM_KEY_SERDE))
+            .validates(p -> isValidSerde(p, QUERY_PARAM_VALUE_SERDE), new UnknownSerdeError(QUERY_PARAM_VALUE_SERDE));
+    }
+
+    private static boolean isValidSerde(final QueryParams parameters, final String key) {
+        final Object name = parameters.getValue(key);
+        return name == null || NamedSerde.parse(name.toString()).isPresent();
+    }
+
+    private static RawRecordDecoder decoder(final QueryParams parameters) {
+        return new RawRecordDecoder(
+            serde(parameters, QUERY_PARAM_KEY_SERDE),
+            serde(parameters, QUERY_PARAM_VALUE_SERDE)
+        );
+    }
+
+    static NamedSerde serde(final QueryParams parameters, final String key) {
+        final Object name = parameters.getValue(key);
+        return name == null ? null : NamedSerde.parse(name.toString()).orElse(null);
+    }
+
+    private static final class UnknownSerdeError extends Error {
+
+        UnknownSerdeError(final String key) {
+            super("unknown serde for parameter '" + key + "', supported serdes are: " + NamedSerde.supportedNames());
+        }
+    }
+}
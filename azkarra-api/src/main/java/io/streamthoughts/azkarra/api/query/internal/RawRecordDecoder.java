@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query.internal;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.streams.store.RawKeyValueStore;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.state.KeyValueIterator;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Converts the records read from a {@link RawKeyValueStore}.
+ *
+ * <p>
+ * Keys and values are either returned as bytes (which are rendered as base64 strings) or deserialized
+ * using the {@link NamedSerde} requested by the caller. For timestamped stores, the timestamp prefixing
+ * each value is extracted and returned as the record timestamp.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+final class RawRecordDecoder {
+
+    private final NamedSerde keySerde;
+    private final NamedSerde valueSerde;
+
+    /**
+     * Creates a new {@link RawRecordDecoder} instance.
+     *
+     * @param keySerde      the serde used to decode keys, or {@code null} to return bytes.
+     * @param valueSerde    the serde used to decode values, or {@code null} to return bytes.
+     */
+    RawRecordDecoder(final NamedSerde keySerde, final NamedSerde valueSerde) {
+        this.keySerde = keySerde;
+        this.valueSerde = valueSerde;
+    }
+
+    /**
+     * Encodes a key passed as a query parameter. Without a key serde, the key is expected
+     * to be the base64 representation of the serialized key.
+     *
+     * @param key   the key parameter.
+     * @return      the {@link Bytes} key.
+     */
+    Bytes encodeKey(final Object key) {
+        if (key == null) return null;
+        return Bytes.wrap(keySerde != null ? keySerde.serialize(key) : Base64.getDecoder().decode(key.toString()));
+    }
+
+    /**
+     * Converts a single raw record.
+     *
+     * @param record        the record to convert.
+     * @param timestamped   whether the value is prefixed with a timestamp.
+     * @return              the new {@link KV}.
+     */
+    KV<Object, Object> decode(final KeyValue<Bytes, byte[]> record, final boolean timestamped) {
+        final byte[] keyBytes = record.key.get();
+        final Object key = keySerde != null ? keySerde.deserialize(keyBytes) : keyBytes;
+
+        byte[] valueBytes = record.value;
+        Long timestamp = null;
+        if (timestamped && valueBytes != null && valueBytes.length >= RawKeyValueStore.TIMESTAMP_SIZE) {
+            timestamp = ByteBuffer.wrap(valueBytes).getLong();
+            valueBytes = Arrays.copyOfRange(valueBytes, RawKeyValueStore.TIMESTAMP_SIZE, valueBytes.length);
+        }
+        final Object value = valueSerde != null ? valueSerde.deserialize(valueBytes) : valueBytes;
+        return new KV<>(key, value, timestamp);
+    }
+
+    /**
+     * Wraps the given iterator so that each record is converted lazily.
+     *
+     * @param iterator      the raw iterator.
+     * @param timestamped   whether the values are prefixed with a timestamp.
+     * @return              a new {@link KeyValueIterator}; the value of each record being the converted {@link KV}.
+     */
+    KeyValueIterator<Bytes, KV<Object, Object>> decode(final KeyValueIterator<Bytes, byte[]> iterator,
+                                                       final boolean timestamped) {
+        return map(iterator, record -> decode(record, timestamped));
+    }
+
+    /**
+     * Wraps the given iterator so that each record is converted lazily using the given function.
+     *
+     * @param iterator  the raw iterator.
+     * @param mapper    the function used to convert each raw record.
+     * @return          a new {@link KeyValueIterator}; the value of each record being the converted record.
+     */
+    static <T> KeyValueIterator<Bytes, T> map(final KeyValueIterator<Bytes, byte[]> iterator,
+                                              final Function<KeyValue<Bytes, byte[]>, T> mapper) {
+        return new KeyValueIterator<>() {
+            @Override
+            public void close() {
+                iterator.close();
+            }
+
+            @Override
+            public Bytes peekNextKey() {
+                return iterator.peekNextKey();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public KeyValue<Bytes, T> next() {
+                final KeyValue<Bytes, byte[]> next = iterator.next();
+                return KeyValue.pair(next.key, mapper.apply(next));
+            }
+        };
+    }
+
+    /**
+     * Collects the converted records of the given iterator and closes it.
+     *
+     * @param iterator  the iterator to read.
+     * @param limit     the maximum number of records to read.
+     * @return          the list of records.
+     */
+    static <K, V> List<KV<K, V>> toListAndClose(final KeyValueIterator<Bytes, KV<K, V>> iterator,
+                                                final long limit) {
+        try (iterator) {
+            final List<KV<K, V>> records = new ArrayList<>();
+            while (iterator.hasNext() && (limit <= 0 || records.size() < limit)) {
+                records.add(iterator.next().value);
+            }
+            return records;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RawRecordDecoder)) return false;
+        final RawRecordDecoder that = (RawRecordDecoder) o;
+        return keySerde == that.keySerde && valueSerde == that.valueSerde;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(keySerde, valueSerde);
+    }
+}
@@ -29,6 +29,7 @@ import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
 import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.streams.kstream.Windowed;
 import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
 import org.apache.kafka.streams.state.ReadOnlySessionStore;
 
 import java.util.List;
@@ -67,10 +68,24 @@ public class SessionFetchQuery<K, V>  extends KeyedLocalStoreQuery<K, Windowed<K
      * {@inheritDoc}
      */
     @Override
-    public Try<List<KV<Windowed<K>, V>>>  execute(final KafkaStreamsContainer container, final long limit) {
+    public Try<List<KV<Windowed<K>, V>>> execute(final KafkaStreamsContainer container, final long limit) {
+        return execute(container.localSessionStore(storeName()), limit);
+    }
 
-        final LocalStoreAccessor<ReadOnlySessionStore<K, V>> accessor = container.localSessionStore(storeName());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<List<KV<Windowed<K>, V>>> executeOnReplica(final KafkaStreamsContainer container,
+                                                          final int partition) {
+        return execute(
+            container.localStoreReplica(storeName(), QueryableStoreTypes.sessionStore(), partition),
+            NO_LIMIT
+        );
+    }
 
+    private Try<List<KV<Windowed<K>, V>>> execute(final LocalStoreAccessor<ReadOnlySessionStore<K, V>> accessor,
+                                                  final long limit) {
         final Reader<ReadOnlySessionStore<K, V>, List<KV<Windowed<K>, V>>> reader =
             reader(key())
            .map(iterator -> LocalStoreQuery.toKeyValueListAndClose(iterator, limit));
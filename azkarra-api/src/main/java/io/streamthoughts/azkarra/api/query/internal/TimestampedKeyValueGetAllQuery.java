@@ -21,8 +21,13 @@ package io.streamthoughts.azkarra.api.query.internal;
 import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.monad.Reader;
 import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.IteratorPublisher;
+import io.streamthoughts.azkarra.api.query.LocalScan;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.query.LocalStorePage;
 import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.PaginatedLocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.SortedLocalStoreQuery;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
@@ -30,9 +35,12 @@ import org.apache.kafka.streams.state.KeyValueIterator;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.apache.kafka.streams.state.ValueAndTimestamp;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Flow;
 
-public class TimestampedKeyValueGetAllQuery<K, V> implements LocalStoreQuery<K, V> {
+public class TimestampedKeyValueGetAllQuery<K, V>
+        implements PaginatedLocalStoreQuery<K, V>, SortedLocalStoreQuery<K, V> {
 
     private String storeName;
 
@@ -76,6 +84,58 @@ public class TimestampedKeyValueGetAllQuery<K, V> implements LocalStoreQuery<K,
         return new LocalStoreQueryExecutor<>(accessor).execute(reader);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<LocalStorePage<K, V>> execute(final KafkaStreamsContainer container, final LocalScan scan) {
+        return paginatedReader()
+            .withDeadline(scan.deadline())
+            .withFilter(scan.filter())
+            .read(container, scan.limit(), scan.continuation(), scan.parallel());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<LocalStorePage<K, V>> executeSorted(final KafkaStreamsContainer container,
+                                                   final LocalScan scan,
+                                                   final Comparator<Object> keyOrder) {
+        return paginatedReader()
+            .withDeadline(scan.deadline())
+            .withFilter(scan.filter())
+            .readSorted(container, scan.limit(), scan.continuation(), keyOrder, scan.parallel());
+    }
+
+    private PaginatedLocalStoreReader<
+            ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>, K, ValueAndTimestamp<V>, K, V> paginatedReader() {
+        return new PaginatedLocalStoreReader<
+                ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>, K, ValueAndTimestamp<V>, K, V>(
+            storeName,
+            c -> c.localTimestampedKeyValueStore(storeName),
+            (c, partition) -> c.localTimestampedKeyValueStore(storeName, partition),
+            (store, position) -> store.all(),
+            kv -> KV.of(kv.key, kv.value.value(), kv.value.timestamp())
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flow.Publisher<KV<K, V>> publisher(final KafkaStreamsContainer container, final long limit) {
+        final LocalStoreAccessor<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>> accessor =
+                container.localTimestampedKeyValueStore(storeName);
+
+        return IteratorPublisher.ofKeyValueIterator(
+            () -> accessor.get()
+                .flatMap(store -> Try.failable(() -> reader().apply(store))),
+            kv -> KV.of(kv.key, kv.value.value(), kv.value.timestamp()),
+            limit
+        );
+    }
+
     private Reader<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>, KeyValueIterator<K, ValueAndTimestamp<V>>> reader() {
         return Reader.of(ReadOnlyKeyValueStore::all);
     }
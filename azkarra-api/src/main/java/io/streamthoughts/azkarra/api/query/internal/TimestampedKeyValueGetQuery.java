@@ -26,6 +26,7 @@ import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
 import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.apache.kafka.streams.state.ValueAndTimestamp;
 
@@ -69,10 +70,21 @@ public class TimestampedKeyValueGetQuery<K, V> extends KeyedLocalStoreQuery<K, K
      */
     @Override
     public Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container, final long limit) {
+        return execute(container.localTimestampedKeyValueStore(storeName()));
+    }
 
-        LocalStoreAccessor<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>> accessor =
-                container.localTimestampedKeyValueStore(storeName());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<List<KV<K, V>>> executeOnReplica(final KafkaStreamsContainer container, final int partition) {
+        return execute(
+            container.localStoreReplica(storeName(), QueryableStoreTypes.timestampedKeyValueStore(), partition)
+        );
+    }
 
+    private Try<List<KV<K, V>>> execute(
+            final LocalStoreAccessor<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>> accessor) {
         final Reader<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>, List<KV<K, V>>> reader =
             reader(key()).map(value -> Optional.ofNullable(value)
                 .map(v -> Collections.singletonList(KV.of(key(), v.value(), v.timestamp())))
@@ -21,8 +21,14 @@ package io.streamthoughts.azkarra.api.query.internal;
 import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.monad.Reader;
 import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.IteratorPublisher;
+import io.streamthoughts.azkarra.api.query.ContinuationToken.Position;
+import io.streamthoughts.azkarra.api.query.LocalScan;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.query.LocalStorePage;
 import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.PaginatedLocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.SortedLocalStoreQuery;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
@@ -30,10 +36,13 @@ import org.apache.kafka.streams.state.KeyValueIterator;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.apache.kafka.streams.state.ValueAndTimestamp;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Flow;
 
-public class TimestampedKeyValueGetRangeQuery<K, V> implements LocalStoreQuery<K, V> {
+public class TimestampedKeyValueGetRangeQuery<K, V>
+        implements PaginatedLocalStoreQuery<K, V>, SortedLocalStoreQuery<K, V> {
 
     private final String store;
     private final K keyFrom;
@@ -104,6 +113,65 @@ public class TimestampedKeyValueGetRangeQuery<K, V> implements LocalStoreQuery<K
         return new LocalStoreQueryExecutor<>(accessor).execute(reader);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<LocalStorePage<K, V>> execute(final KafkaStreamsContainer container, final LocalScan scan) {
+        return paginatedReader()
+            .withDeadline(scan.deadline())
+            .withFilter(scan.filter())
+            .read(container, scan.limit(), scan.continuation(), scan.parallel());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<LocalStorePage<K, V>> executeSorted(final KafkaStreamsContainer container,
+                                                   final LocalScan scan,
+                                                   final Comparator<Object> keyOrder) {
+        return paginatedReader()
+            .withDeadline(scan.deadline())
+            .withFilter(scan.filter())
+            .readSorted(container, scan.limit(), scan.continuation(), keyOrder, scan.parallel());
+    }
+
+    @SuppressWarnings("unchecked")
+    private PaginatedLocalStoreReader<
+            ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>, K, ValueAndTimestamp<V>, K, V> paginatedReader() {
+        return new PaginatedLocalStoreReader<
+                ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>, K, ValueAndTimestamp<V>, K, V>(
+            store,
+            c -> c.localTimestampedKeyValueStore(store),
+            (c, partition) -> c.localTimestampedKeyValueStore(store, partition),
+            (store, position) -> store.range(isSeekable(position) ? (K) position.lastKey() : keyFrom, keyTo),
+            kv -> KV.of(kv.key, kv.value.value(), kv.value.timestamp())
+        )
+        .withSeek(this::isSeekable, key -> key);
+    }
+
+    private boolean isSeekable(final Position position) {
+        // keys are encoded in the continuation token only for primitive types (e.g. String, Long, Integer).
+        return keyFrom != null && keyFrom.getClass().isInstance(position.lastKey());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flow.Publisher<KV<K, V>> publisher(final KafkaStreamsContainer container, final long limit) {
+        final LocalStoreAccessor<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>> accessor =
+                container.localTimestampedKeyValueStore(store);
+
+        return IteratorPublisher.ofKeyValueIterator(
+            () -> accessor.get()
+                .flatMap(store -> Try.failable(() -> reader(keyFrom, keyTo).apply(store))),
+            kv -> KV.of(kv.key, kv.value.value(), kv.value.timestamp()),
+            limit
+        );
+    }
+
     private Reader<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>, KeyValueIterator<K, ValueAndTimestamp<V>>> reader(
             final K keyFrom,
            final K keyTo) {
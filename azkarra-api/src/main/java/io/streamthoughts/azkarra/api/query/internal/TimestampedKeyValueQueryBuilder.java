@@ -44,6 +44,14 @@ public class TimestampedKeyValueQueryBuilder extends KeyValueQueryBuilder {
         return new Query<>(storeName, new TimestampedGetKeyValueRangeQueryBuilder<>());
     }
 
+    public <K, V> Query<K, V> multiGet() {
+        return new Query<>(storeName, new TimestampedMultiGetKeyValueQueryBuilder<>());
+    }
+
+    public <K, V> Query<K, V> prefixScan() {
+        return new Query<>(storeName, new PrefixScanKeyValueQueryBuilder<>(true));
+    }
+
     static class TimestampedGetKeyValueQueryBuilder<K, V> extends KeyValueQueryBuilder.GetKeyValueQueryBuilder<K, V> {
 
         /**
@@ -72,4 +80,16 @@ public class TimestampedKeyValueQueryBuilder extends KeyValueQueryBuilder {
             );
         }
     }
+
+    static class TimestampedMultiGetKeyValueQueryBuilder<K, V> extends MultiGetKeyValueQueryBuilder<K, V> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public LocalStoreQuery<K, V> build(final String store, final QueryParams parameters) {
+            final QueryParams p = validates(parameters).getOrThrow(LocalStoreQueryBuilder::toInvalidQueryException);
+            return new TimestampedKeyValueMultiGetQuery<>(store, getKeys(p), null);
+        }
+    }
 }
@@ -21,8 +21,12 @@ package io.streamthoughts.azkarra.api.query.internal;
 import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.monad.Reader;
 import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.IteratorPublisher;
+import io.streamthoughts.azkarra.api.query.LocalScan;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.query.LocalStorePage;
 import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.PaginatedLocalStoreQuery;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
@@ -33,8 +37,9 @@ import org.apache.kafka.streams.state.ValueAndTimestamp;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.Flow;
 
-public class TimestampedWindowFetchAllQuery<K, V> implements LocalStoreQuery<Windowed<K>, V> {
+public class TimestampedWindowFetchAllQuery<K, V> implements PaginatedLocalStoreQuery<Windowed<K>, V> {
 
     private final String store;
     private final Instant timeFrom;
@@ -87,6 +92,40 @@ public class TimestampedWindowFetchAllQuery<K, V> implements LocalStoreQuery<Win
         return new LocalStoreQueryExecutor<>(accessor).execute(reader);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<LocalStorePage<Windowed<K>, V>> execute(final KafkaStreamsContainer container, final LocalScan scan) {
+        return new PaginatedLocalStoreReader<
+                ReadOnlyWindowStore<K, ValueAndTimestamp<V>>, Windowed<K>, ValueAndTimestamp<V>, Windowed<K>, V>(
+            store,
+            c -> c.localTimestampedWindowStore(store),
+            (c, partition) -> c.localTimestampedWindowStore(store, partition),
+            (store, position) -> store.fetchAll(timeFrom, timeTo),
+            kv -> KV.of(kv.key, kv.value.value(), kv.value.timestamp())
+        )
+        .withDeadline(scan.deadline())
+        .withFilter(scan.filter())
+        .read(container, scan.limit(), scan.continuation(), scan.parallel());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flow.Publisher<KV<Windowed<K>, V>> publisher(final KafkaStreamsContainer container, final long limit) {
+        final LocalStoreAccessor<ReadOnlyWindowStore<K, ValueAndTimestamp<V>>> accessor =
+                container.localTimestampedWindowStore(store);
+
+        return IteratorPublisher.ofKeyValueIterator(
+            () -> accessor.get()
+                .flatMap(store -> Try.failable(() -> reader(timeFrom, timeTo).apply(store))),
+            kv -> KV.of(kv.key, kv.value.value(), kv.value.timestamp()),
+            limit
+        );
+    }
+
     private Reader<ReadOnlyWindowStore<K, ValueAndTimestamp<V>>, KeyValueIterator<Windowed<K>, ValueAndTimestamp<V>>>
         reader(final Instant timeFrom, final Instant timeTo) {
         return Reader.of(store -> store.fetchAll(timeFrom, timeTo));
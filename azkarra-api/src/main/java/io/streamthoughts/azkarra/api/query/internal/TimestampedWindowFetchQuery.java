@@ -26,6 +26,7 @@ import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
 import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
 import org.apache.kafka.streams.state.ReadOnlyWindowStore;
 import org.apache.kafka.streams.state.ValueAndTimestamp;
 
@@ -73,10 +74,21 @@ public class TimestampedWindowFetchQuery<K, V> extends KeyedLocalStoreQuery<K, K
      */
     @Override
     public Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container, final long limit) {
+        return execute(container.localTimestampedWindowStore(storeName()));
+    }
 
-        final LocalStoreAccessor<ReadOnlyWindowStore<K, ValueAndTimestamp<V>>> accessor =
-                container.localTimestampedWindowStore(storeName());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<List<KV<K, V>>> executeOnReplica(final KafkaStreamsContainer container, final int partition) {
+        return execute(
+            container.localStoreReplica(storeName(), QueryableStoreTypes.timestampedWindowStore(), partition)
+        );
+    }
 
+    private Try<List<KV<K, V>>> execute(
+            final LocalStoreAccessor<ReadOnlyWindowStore<K, ValueAndTimestamp<V>>> accessor) {
         final Reader<ReadOnlyWindowStore<K, ValueAndTimestamp<V>>, List<KV<K, V>>> reader =
             reader(key(), time).map(value -> Optional.ofNullable(value)
                 .map(v -> Collections.singletonList(new KV<>(key(), v.value(), v.timestamp())))
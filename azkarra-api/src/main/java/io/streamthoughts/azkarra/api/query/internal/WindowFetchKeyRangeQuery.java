@@ -21,8 +21,12 @@ package io.streamthoughts.azkarra.api.query.internal;
 import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.monad.Reader;
 import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.IteratorPublisher;
+import io.streamthoughts.azkarra.api.query.LocalScan;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.query.LocalStorePage;
 import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.PaginatedLocalStoreQuery;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
@@ -32,8 +36,9 @@ import org.apache.kafka.streams.state.ReadOnlyWindowStore;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.Flow;
 
-public class WindowFetchKeyRangeQuery<K, V> implements LocalStoreQuery<Windowed<K>, V> {
+public class WindowFetchKeyRangeQuery<K, V> implements PaginatedLocalStoreQuery<Windowed<K>, V> {
 
     private final String store;
     private final K keyFrom;
@@ -93,6 +98,38 @@ public class WindowFetchKeyRangeQuery<K, V> implements LocalStoreQuery<Windowed<
         return new LocalStoreQueryExecutor<>(accessor).execute(reader);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<LocalStorePage<Windowed<K>, V>> execute(final KafkaStreamsContainer container, final LocalScan scan) {
+        return new PaginatedLocalStoreReader<ReadOnlyWindowStore<K, V>, Windowed<K>, V, Windowed<K>, V>(
+            store,
+            c -> c.localWindowStore(store),
+            (c, partition) -> c.localWindowStore(store, partition),
+            (store, position) -> store.fetch(keyFrom, keyTo, timeFrom, timeTo),
+            kv -> KV.of(kv.key, kv.value)
+        )
+        .withDeadline(scan.deadline())
+        .withFilter(scan.filter())
+        .read(container, scan.limit(), scan.continuation(), scan.parallel());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flow.Publisher<KV<Windowed<K>, V>> publisher(final KafkaStreamsContainer container, final long limit) {
+        final LocalStoreAccessor<ReadOnlyWindowStore<K, V>> accessor = container.localWindowStore(store);
+
+        return IteratorPublisher.ofKeyValueIterator(
+            () -> accessor.get()
+                .flatMap(store -> Try.failable(() -> reader(keyFrom, keyTo, timeFrom, timeTo).apply(store))),
+            kv -> KV.of(kv.key, kv.value),
+            limit
+        );
+    }
+
     private Reader<ReadOnlyWindowStore<K, V>, KeyValueIterator<Windowed<K>, V>> reader(final K keyFrom,
                                                                                        final K keyTo,
                                                                                        final Instant timeFrom,
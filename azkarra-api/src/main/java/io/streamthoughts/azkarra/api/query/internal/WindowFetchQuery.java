@@ -26,6 +26,7 @@ import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
 import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
 import org.apache.kafka.streams.state.ReadOnlyWindowStore;
 
 import java.util.Collections;
@@ -72,9 +73,18 @@ public class WindowFetchQuery<K, V> extends KeyedLocalStoreQuery<K, K, V> {
      */
     @Override
     public Try<List<KV<K, V>>> execute(final KafkaStreamsContainer container, final long limit) {
+        return execute(container.localWindowStore(storeName()));
+    }
 
-        final LocalStoreAccessor<ReadOnlyWindowStore<K, V>> accessor = container.localWindowStore(storeName());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Try<List<KV<K, V>>> executeOnReplica(final KafkaStreamsContainer container, final int partition) {
+        return execute(container.localStoreReplica(storeName(), QueryableStoreTypes.windowStore(), partition));
+    }
 
+    private Try<List<KV<K, V>>> execute(final LocalStoreAccessor<ReadOnlyWindowStore<K, V>> accessor) {
         final Reader<ReadOnlyWindowStore<K, V>, List<KV<K, V>>> reader =
             reader(key(), time).map(value -> Optional.ofNullable(value)
                 .map(v -> Collections.singletonList(new KV<>(key(), v)))
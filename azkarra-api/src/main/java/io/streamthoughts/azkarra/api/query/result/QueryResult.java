@@ -53,6 +53,11 @@ public class QueryResult<K, V> implements Serializable {
      */
     private final GlobalResultSet<K, V> result;
 
+    /**
+     * The token to be used for fetching the next page of results.
+     */
+    private final String continuation;
+
     /**
      * Creates a new {@link QueryResult} instance.
      */
@@ -61,12 +66,14 @@ public class QueryResult<K, V> implements Serializable {
                 @JsonProperty("timeout")final boolean timeout,
                 @JsonProperty("server")final String server,
                 @JsonProperty("status")final QueryStatus status,
-                @JsonProperty("result")final GlobalResultSet<K, V> result) {
+                @JsonProperty("result")final GlobalResultSet<K, V> result,
+                @JsonProperty("continuation")final String continuation) {
         this.took = took;
         this.timeout = timeout;
         this.server = server;
         this.status = status;
         this.result = result;
+        this.continuation = continuation;
     }
 
     public long getTook() {
@@ -89,6 +96,10 @@ public class QueryResult<K, V> implements Serializable {
         return result;
     }
 
+    public String getContinuation() {
+        return continuation;
+    }
+
     /**
      * Sets the server information.
      *
@@ -101,7 +112,8 @@ public class QueryResult<K, V> implements Serializable {
                 timeout,
                 server,
                 status,
-                result
+                result,
+                continuation
         );
     }
     /**
@@ -116,7 +128,8 @@ public class QueryResult<K, V> implements Serializable {
                 timeout,
                 server,
                 status,
-                result
+                result,
+                continuation
         );
     }
     /**
@@ -131,7 +144,25 @@ public class QueryResult<K, V> implements Serializable {
                 timeout,
                 server,
                 status,
-                result
+                result,
+                continuation
+        );
+    }
+
+    /**
+     * Sets the continuation token.
+     *
+     * @param continuation  the token to be used for fetching the next page of results.
+     * @return              a new {@link QueryResult} instance.
+     */
+    public  QueryResult<K, V> continuation(final String continuation) {
+        return new QueryResult<>(
+                took,
+                timeout,
+                server,
+                status,
+                result,
+                continuation
         );
     }
 
@@ -147,7 +178,8 @@ public class QueryResult<K, V> implements Serializable {
                 timeout == that.timeout &&
                 Objects.equals(server, that.server) &&
                 status == that.status &&
-                Objects.equals(result, that.result);
+                Objects.equals(result, that.result) &&
+                Objects.equals(continuation, that.continuation);
     }
 
     /**
@@ -155,7 +187,7 @@ public class QueryResult<K, V> implements Serializable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(took, timeout, server, status, result);
+        return Objects.hash(took, timeout, server, status, result, continuation);
     }
 
     @Override
@@ -166,6 +198,7 @@ public class QueryResult<K, V> implements Serializable {
                 ", server='" + server + '\'' +
                 ", status=" + status +
                 ", result=" + result +
+                ", continuation=" + continuation +
                 '}';
     }
 }
\ No newline at end of file
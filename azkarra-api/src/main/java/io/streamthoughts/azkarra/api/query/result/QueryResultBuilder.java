@@ -50,6 +50,8 @@ public final class QueryResultBuilder<K, V> {
 
     private QueryStatus status;
 
+    private String continuation;
+
     public QueryResultBuilder<K, V> setError(final String error) {
         this.error = error;
         return this;
@@ -99,6 +101,11 @@ public final class QueryResultBuilder<K, V> {
         return this;
     }
 
+    public QueryResultBuilder<K, V> setContinuation(final String continuation) {
+        this.continuation = continuation;
+        return this;
+    }
+
     public QueryResult<K, V> build() {
         return new QueryResult<>(
                 took,
@@ -111,7 +118,8 @@ public final class QueryResultBuilder<K, V> {
                     error,
                     failedResultSetList,
                     successResultSetList
-                )
+                ),
+                continuation
         );
     }
 }
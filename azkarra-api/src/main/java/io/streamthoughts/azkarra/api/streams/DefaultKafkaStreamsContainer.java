@@ -25,18 +25,29 @@ import io.streamthoughts.azkarra.api.config.Conf;
 import io.streamthoughts.azkarra.api.errors.AzkarraException;
 import io.streamthoughts.azkarra.api.events.EventStream;
 import io.streamthoughts.azkarra.api.events.reactive.AsyncMulticastEventStreamPublisher;
+import io.streamthoughts.azkarra.api.events.reactive.EventLoopGroup;
 import io.streamthoughts.azkarra.api.events.reactive.EventStreamPublisher;
 import io.streamthoughts.azkarra.api.model.TimestampedValue;
 import io.streamthoughts.azkarra.api.monad.Try;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.query.QueryResultCache;
+import io.streamthoughts.azkarra.api.streams.admin.AdminClientUtils;
 import io.streamthoughts.azkarra.api.streams.consumer.ConsumerClientOffsets;
 import io.streamthoughts.azkarra.api.streams.consumer.ConsumerGroupOffsets;
 import io.streamthoughts.azkarra.api.streams.consumer.ConsumerLogOffsets;
 import io.streamthoughts.azkarra.api.streams.consumer.GlobalConsumerOffsetsRegistry;
 import io.streamthoughts.azkarra.api.streams.consumer.LogOffsetsFetcher;
 import io.streamthoughts.azkarra.api.streams.internal.InternalStreamsLifeCycleChain;
+import io.streamthoughts.azkarra.api.streams.store.LocalStoreAccessorCache;
+import io.streamthoughts.azkarra.api.streams.store.LocalStoreAccessorCacheStats;
 import io.streamthoughts.azkarra.api.streams.store.LocalStorePartitionLags;
+import io.streamthoughts.azkarra.api.streams.store.LocalStorePartitionLagsSnapshot;
 import io.streamthoughts.azkarra.api.streams.store.PartitionLogOffsetsAndLag;
+import io.streamthoughts.azkarra.api.streams.store.RawKeyValueStore;
+import io.streamthoughts.azkarra.api.streams.store.RawKeyValueStoreType;
+import io.streamthoughts.azkarra.api.streams.store.StoreRoutingTable;
+import io.streamthoughts.azkarra.api.streams.store.StoreRoutingTableCache;
+import io.streamthoughts.azkarra.api.streams.store.StoreRoutingTableCacheStats;
 import io.streamthoughts.azkarra.api.streams.topology.TopologyDefinition;
 import io.streamthoughts.azkarra.api.streams.topology.TopologyMetadata;
 import io.streamthoughts.azkarra.api.time.Time;
@@ -60,6 +71,7 @@ import org.apache.kafka.streams.KeyQueryMetadata;
 import org.apache.kafka.streams.StreamsConfig;
 import org.apache.kafka.streams.TopologyDescription;
 import org.apache.kafka.streams.errors.StreamsException;
+import org.apache.kafka.streams.processor.TaskId;
 import org.apache.kafka.streams.processor.ThreadMetadata;
 import org.apache.kafka.streams.state.HostInfo;
 import org.apache.kafka.streams.state.QueryableStoreType;
@@ -86,11 +98,16 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.joining;
@@ -102,6 +119,8 @@ public class DefaultKafkaStreamsContainer implements KafkaStreamsContainer {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultKafkaStreamsContainer.class);
 
+    private static final Duration STORE_LAGS_REFRESH_INTERVAL = Duration.ofSeconds(1);
+
     private final KafkaStreamsFactory streamsFactory;
 
     private KafkaStreams kafkaStreams;
@@ -118,6 +137,16 @@ public class DefaultKafkaStreamsContainer implements KafkaStreamsContainer {
 
     private volatile Set<ThreadMetadata> threadMetadata = Collections.emptySet();
 
+    /**
+     * The sub-topology id of each state store, lazily resolved from the topology description.
+     */
+    private volatile Map<String, Integer> storeSubTopologies;
+
+    /**
+     * The names of the global stores, lazily resolved from the topology description.
+     */
+    private volatile Set<String> globalStores;
+
     private final String applicationServer;
 
     private final LinkedBlockingQueue<StateChangeWatcher> stateChangeWatchers = new LinkedBlockingQueue<>();
@@ -135,6 +164,38 @@ public class DefaultKafkaStreamsContainer implements KafkaStreamsContainer {
 
     private final Map<String, EventStreamPublisher> publishers = new LinkedHashMap<>();
 
+    /**
+     * The {@link LocalStoreAccessor}s cached across interactive queries; invalidated when streams leaves RUNNING.
+     */
+    private final LocalStoreAccessorCache localStoreAccessorCache = new LocalStoreAccessorCache();
+
+    /**
+     * The {@link StoreRoutingTable}s used to route keyed queries; invalidated on each state change.
+     */
+    private final StoreRoutingTableCache storeRoutingTableCache = new StoreRoutingTableCache();
+
+    /**
+     * The results of interactive queries; invalidated on each state change.
+     */
+    private final QueryResultCache queryResultCache;
+
+    /**
+     * The offset lags of the local store partitions; refreshed in background while streams is RUNNING.
+     */
+    private final LocalStorePartitionLagsSnapshot storePartitionLags = new LocalStorePartitionLagsSnapshot();
+
+    /**
+     * The number of partitions of the store source topics; resolved in background each time streams is RUNNING.
+     */
+    private volatile Map<String, Integer> sourceTopicPartitions = Collections.emptyMap();
+
+    private final EventLoopGroup eventLoopGroup;
+
+    /**
+     * The {@link ScheduledExecutorService} used to refresh the metadata of the container in background.
+     */
+    private ScheduledExecutorService scheduler;
+
     /**
      * The {@link Executor} which is used top start/stop the internal streams in a non-blocking way.
      */
@@ -171,17 +232,23 @@ public class DefaultKafkaStreamsContainer implements KafkaStreamsContainer {
      *
      * @param topologyDefinition the {@link TopologyDefinition} instance.
      * @param streamsFactory     the {@link KafkaStreamsFactory} instance.
+     * @param queryResultCache   the {@link QueryResultCache} instance.
+     * @param eventLoopGroup     the {@link EventLoopGroup} used for publishing the event-streams.
      */
     DefaultKafkaStreamsContainer(final Conf streamsConfig,
                                  final TopologyDefinition topologyDefinition,
                                  final KafkaStreamsFactory streamsFactory,
-                                 final List<StreamsLifecycleInterceptor> interceptors) {
+                                 final List<StreamsLifecycleInterceptor> interceptors,
+                                 final QueryResultCache queryResultCache,
+                                 final EventLoopGroup eventLoopGroup) {
         Objects.requireNonNull(topologyDefinition, "topologyDefinition cannot be null");
         Objects.requireNonNull(streamsFactory, "streamsFactory cannot be null");
         this.streamsConfig = Objects.requireNonNull(streamsConfig, "streamConfigs cannot be null");
         containerState = ContainerState.CREATED;
         setState(State.Standards.NOT_CREATED);
         this.interceptors = interceptors;
+        this.queryResultCache = Objects.requireNonNull(queryResultCache, "queryResultCache cannot be null");
+        this.eventLoopGroup = Objects.requireNonNull(eventLoopGroup, "eventLoopGroup cannot be null");
         this.streamsFactory = streamsFactory;
         this.topologyDefinition = topologyDefinition;
         this.containerId = UUID.randomUUID();
@@ -216,10 +283,17 @@ public class DefaultKafkaStreamsContainer implements KafkaStreamsContainer {
             topologyDefinition.getTopology(),
             streamsConfig
         );
+        scheduler = newScheduler();
+        scheduler.scheduleWithFixedDelay(
+            this::refreshStorePartitionLags,
+            STORE_LAGS_REFRESH_INTERVAL.toMillis(),
+            STORE_LAGS_REFRESH_INTERVAL.toMillis(),
+            TimeUnit.MILLISECONDS
+        );
 
         for (EventStream<? ,?> stream : eventStreams) {
             var eventType = stream.type();
-            if (publishers.put(eventType, new AsyncMulticastEventStreamPublisher<>(stream)) != null) {
+            if (publishers.put(eventType, new AsyncMulticastEventStreamPublisher<>(stream, eventLoopGroup)) != null) {
                 throw new AzkarraException("Cannot register two event-streams for type: " + eventType);
             }
         }
@@ -279,6 +353,7 @@ public class DefaultKafkaStreamsContainer implements KafkaStreamsContainer {
     private void reset() {
         lastObservedException = null;
         publishers.clear();
+        localStoreAccessorCache.invalidateAll();
     }
 
     /**
@@ -682,6 +757,57 @@ public class DefaultKafkaStreamsContainer implements KafkaStreamsContainer {
             .collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Long> localStorePartitionLag(final String storeName, final int partition) {
+        return storePartitionLags.offsetLag(storeName, partition);
+    }
+
+    private void refreshStorePartitionLags() {
+        if (state.value() != State.Standards.RUNNING) return;
+        try {
+            storePartitionLags.update(allLocalStorePartitionLags());
+        } catch (Exception e) {
+            LOG.debug("Cannot refresh local store partition lags (id={}): {}", applicationId(), e.getMessage());
+        }
+    }
+
+    private void resolveSourceTopicPartitions() {
+        if (state.value() != State.Standards.RUNNING) return;
+        try {
+            final TopologyDescription description = topologyDescription();
+            final Set<String> topics = storeSubTopologies().keySet()
+                .stream()
+                .flatMap(store -> StoreRoutingTable.sourceTopicsForStore(description, store, applicationId()).stream())
+                .collect(Collectors.toSet());
+            if (topics.isEmpty()) return;
+            sourceTopicPartitions = Map.copyOf(AdminClientUtils.numPartitions(getAdminClient(), topics));
+            // tables built before the partition counts were known may be missing partitions without replicas.
+            storeRoutingTableCache.invalidateAll();
+        } catch (Exception e) {
+            LOG.warn("Cannot resolve partitions of source topics (id={}): {}", applicationId(), e.getMessage());
+        }
+    }
+
+    private ScheduledExecutorService newScheduler() {
+        final String threadName = applicationId() + "-container-scheduler";
+        return Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void scheduleNow(final Runnable task) {
+        try {
+            if (scheduler != null) scheduler.execute(task);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Cannot schedule task, container is closed (id={})", applicationId());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -715,6 +841,10 @@ public class DefaultKafkaStreamsContainer implements KafkaStreamsContainer {
         Objects.requireNonNull(storeName, "storeName cannot be null");
         if (!isRunning()) return Collections.emptySet();
 
+        if (isRoutingTableCacheable()) {
+            return storeRoutingTableCache.getOrBuild(storeName, this::newStoreRoutingTable).servers();
+        }
+
         Collection<StreamsMetadata> metadata = kafkaStreams.allMetadataForStore(storeName);
         return metadata.stream()
             .map(this::newServerInfoFor)
@@ -734,11 +864,33 @@ public class DefaultKafkaStreamsContainer implements KafkaStreamsContainer {
 
         if (!initialized()) return Optional.empty();
 
+        if (isRoutingTableCacheable()) {
+            final StoreRoutingTable table = storeRoutingTableCache.getOrBuild(storeName, this::newStoreRoutingTable);
+            if (table.isPartitioned()) {
+                return Optional.of(table.metadataForKey(keySerializer.serialize(table.topic(), key)));
+            }
+        }
+
         KeyQueryMetadata metadata = kafkaStreams.queryMetadataForKey(storeName, key, keySerializer);
         return metadata == null || metadata.equals(KeyQueryMetadata.NOT_AVAILABLE) ?
             Optional.empty(): Optional.of(metadata);
     }
 
+    private boolean isRoutingTableCacheable() {
+        // streams metadata may be changing while streams is rebalancing.
+        return state.value() == State.Standards.RUNNING;
+    }
+
+    private StoreRoutingTable newStoreRoutingTable(final String storeName) {
+        return StoreRoutingTable.build(
+            storeName,
+            StoreRoutingTable.sourceTopicsForStore(topologyDescription(), storeName, applicationId()),
+            kafkaStreams.allMetadataForStore(storeName),
+            this::newServerInfoFor,
+            sourceTopicPartitions::get
+        );
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -773,6 +925,123 @@ public class DefaultKafkaStreamsContainer implements KafkaStreamsContainer {
         return getLocalStoreAccess(storeName, QueryableStoreTypes.timestampedWindowStore());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <K, V> LocalStoreAccessor<ReadOnlyKeyValueStore<K, V>> localKeyValueStore(final String storeName,
+                                                                                     final int partition) {
+        return getLocalStoreAccess(storeName, QueryableStoreTypes.keyValueStore(), partition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <K, V> LocalStoreAccessor<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>> localTimestampedKeyValueStore(
+            final String storeName,
+            final int partition) {
+        return getLocalStoreAccess(storeName, QueryableStoreTypes.timestampedKeyValueStore(), partition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <K, V> LocalStoreAccessor<ReadOnlyWindowStore<K, V>> localWindowStore(final String storeName,
+                                                                                 final int partition) {
+        return getLocalStoreAccess(storeName, QueryableStoreTypes.windowStore(), partition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <K, V> LocalStoreAccessor<ReadOnlyWindowStore<K, ValueAndTimestamp<V>>> localTimestampedWindowStore(
+            final String storeName,
+            final int partition) {
+        return getLocalStoreAccess(storeName, QueryableStoreTypes.timestampedWindowStore(), partition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LocalStoreAccessor<RawKeyValueStore> localRawKeyValueStore(final String storeName) {
+        return getLocalStoreAccess(storeName, new RawKeyValueStoreType());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LocalStoreAccessor<RawKeyValueStore> localRawKeyValueStore(final String storeName, final int partition) {
+        return getLocalStoreAccess(storeName, new RawKeyValueStoreType(), partition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> localActivePartitionsForStore(final String storeName) {
+        final Integer subTopologyId = storeSubTopologies().get(storeName);
+        if (subTopologyId == null) return Collections.emptySet();
+
+        return threadMetadata()
+            .stream()
+            .flatMap(t -> t.activeTasks().stream())
+            .map(t -> TaskId.parse(t.taskId()))
+            .filter(id -> id.topicGroupId == subTopologyId)
+            .map(id -> id.partition)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isGlobalStore(final String storeName) {
+        if (globalStores == null) {
+            globalStores = topologyDescription().globalStores()
+                .stream()
+                .flatMap(store -> store.processor().stores().stream())
+                .collect(Collectors.toUnmodifiableSet());
+        }
+        return globalStores.contains(storeName);
+    }
+
+    private Map<String, Integer> storeSubTopologies() {
+        if (storeSubTopologies == null) {
+            final Map<String, Integer> subTopologies = new HashMap<>();
+            for (TopologyDescription.Subtopology subTopology : topologyDescription().subtopologies()) {
+                subTopology.nodes()
+                    .stream()
+                    .filter(node -> node instanceof TopologyDescription.Processor)
+                    .flatMap(node -> ((TopologyDescription.Processor) node).stores().stream())
+                    .forEach(store -> subTopologies.put(store, subTopology.id()));
+            }
+            storeSubTopologies = subTopologies;
+        }
+        return storeSubTopologies;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> LocalStoreAccessor<T> localStoreReplica(final String storeName,
+                                                       final QueryableStoreType<T> storeType,
+                                                       final int partition) {
+        return localStoreAccessorCache.getOrCreate(
+            storeName,
+            storeType,
+            partition,
+            true,
+            () -> new LocalStoreAccessor<>(() -> kafkaStreams.store(
+                fromNameAndType(storeName, storeType).withPartition(partition).enableStaleStores()))
+        );
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -781,10 +1050,49 @@ public class DefaultKafkaStreamsContainer implements KafkaStreamsContainer {
         return getLocalStoreAccess(storeName, QueryableStoreTypes.sessionStore());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LocalStoreAccessorCacheStats localStoreAccessorCacheStats() {
+        return localStoreAccessorCache.stats();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StoreRoutingTableCacheStats storeRoutingTableCacheStats() {
+        return storeRoutingTableCache.stats();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public QueryResultCache queryResultCache() {
+        return queryResultCache;
+    }
+
     private <T> LocalStoreAccessor<T> getLocalStoreAccess(final String storeName,
                                                           final QueryableStoreType<T> storeType) {
+        return localStoreAccessorCache.getOrCreate(
+            storeName,
+            storeType,
+            () -> new LocalStoreAccessor<>(() -> kafkaStreams.store(fromNameAndType(storeName, storeType)))
+        );
+    }
 
-        return new LocalStoreAccessor<>(() -> kafkaStreams.store(fromNameAndType(storeName, storeType)));
+    private <T> LocalStoreAccessor<T> getLocalStoreAccess(final String storeName,
+                                                          final QueryableStoreType<T> storeType,
+                                                          final int partition) {
+        return localStoreAccessorCache.getOrCreate(
+            storeName,
+            storeType,
+            partition,
+            () -> new LocalStoreAccessor<>(
+                () -> kafkaStreams.store(fromNameAndType(storeName, storeType).withPartition(partition)))
+        );
     }
 
     Logger logger() {
@@ -814,10 +1122,19 @@ public class DefaultKafkaStreamsContainer implements KafkaStreamsContainer {
 
     void stateChanges(final StateChangeEvent stateChangeEvent) {
         state = new TimestampedValue<>(stateChangeEvent.timestamp(), stateChangeEvent.newState());
+        // routing tables are rebuilt on first access once streams is RUNNING again (e.g. after a rebalance).
+        storeRoutingTableCache.invalidateAll();
+        // cached results may have been computed from stores that are now migrated or being restored.
+        queryResultCache.invalidateAll();
         if (state.value() == State.Standards.RUNNING) {
             threadMetadata = kafkaStreams.localThreadsMetadata();
+            scheduleNow(this::refreshStorePartitionLags);
+            scheduleNow(this::resolveSourceTopicPartitions);
         } else {
             threadMetadata = Collections.emptySet();
+            // local stores may be migrated while streams is not running, cached accessors must be discarded.
+            localStoreAccessorCache.invalidateAll();
+            storePartitionLags.clear();
         }
 
         if (!stateChangeWatchers.isEmpty()) {
@@ -915,11 +1232,13 @@ public class DefaultKafkaStreamsContainer implements KafkaStreamsContainer {
     private void closeInternals() {
         LOG.info("Closing internal clients for Kafka Streams container (application.id={})", applicationId());
         try {
+            if (scheduler != null) scheduler.shutdownNow();
             if (consumer != null) consumer.close();
             if (adminClient != null) adminClient.close();
         } catch (Exception e) {
             LOG.error("Unexpected error occurred while closing internal resources", e);
         } finally {
+            scheduler = null;
             consumer = null;
             adminClient = null;
         }
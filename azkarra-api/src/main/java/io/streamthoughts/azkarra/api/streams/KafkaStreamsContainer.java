@@ -23,8 +23,12 @@ import io.streamthoughts.azkarra.api.events.EventStream;
 import io.streamthoughts.azkarra.api.events.reactive.EventStreamPublisher;
 import io.streamthoughts.azkarra.api.model.TimestampedValue;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.query.QueryResultCache;
 import io.streamthoughts.azkarra.api.streams.consumer.ConsumerGroupOffsets;
+import io.streamthoughts.azkarra.api.streams.store.LocalStoreAccessorCacheStats;
 import io.streamthoughts.azkarra.api.streams.store.LocalStorePartitionLags;
+import io.streamthoughts.azkarra.api.streams.store.RawKeyValueStore;
+import io.streamthoughts.azkarra.api.streams.store.StoreRoutingTableCacheStats;
 import io.streamthoughts.azkarra.api.streams.topology.TopologyMetadata;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.producer.Producer;
@@ -38,6 +42,7 @@ import org.apache.kafka.streams.StreamsConfig;
 import org.apache.kafka.streams.TopologyDescription;
 import org.apache.kafka.streams.processor.ThreadMetadata;
 import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.QueryableStoreType;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.apache.kafka.streams.state.ReadOnlySessionStore;
 import org.apache.kafka.streams.state.ReadOnlyWindowStore;
@@ -201,6 +206,17 @@ public interface KafkaStreamsContainer {
      */
     List<LocalStorePartitionLags> allLocalStorePartitionLags();
 
+    /**
+     * Gets the offset lag of a local state store partition from the last known snapshot of the lags,
+     * which is refreshed in background. Unlike {@link #allLocalStorePartitionLags()}, this method never
+     * sends a request to the brokers.
+     *
+     * @param storeName the name of the store.
+     * @param partition the store partition.
+     * @return          the offset lag, or {@link Optional#empty()} if the partition is not known to be local.
+     */
+    Optional<Long> localStorePartitionLag(final String storeName, final int partition);
+
     Optional<ServerMetadata> localServerMetadata();
 
     /**
@@ -256,6 +272,104 @@ public interface KafkaStreamsContainer {
      */
     <K, V> LocalStoreAccessor<ReadOnlyWindowStore<K, ValueAndTimestamp<V>>> localTimestampedWindowStore(final String store);
 
+    /**
+     * Gets a read-only access to a single partition of a local key-value store.
+     *
+     * @param store     the name of the store to access.
+     * @param partition the store partition to access.
+     * @param <K>       the type of the key.
+     * @param <V>       the type of the value.
+     * @return          the {@link LocalStoreAccessor} instance.
+     */
+    <K, V> LocalStoreAccessor<ReadOnlyKeyValueStore<K, V>> localKeyValueStore(final String store,
+                                                                              final int partition);
+
+    /**
+     * Gets a read-only access to a single partition of a local timestamped key-value store.
+     *
+     * @param store     the name of the store to access.
+     * @param partition the store partition to access.
+     * @param <K>       the type of the key.
+     * @param <V>       the type of the value.
+     * @return          the {@link LocalStoreAccessor} instance.
+     */
+    <K, V> LocalStoreAccessor<ReadOnlyKeyValueStore<K, ValueAndTimestamp<V>>> localTimestampedKeyValueStore(
+            final String store,
+            final int partition);
+
+    /**
+     * Gets a read-only access to a single partition of a local window store.
+     *
+     * @param store     the name of the store to access.
+     * @param partition the store partition to access.
+     * @param <K>       the type of the key.
+     * @param <V>       the type of the value.
+     * @return          the {@link LocalStoreAccessor} instance.
+     */
+    <K, V> LocalStoreAccessor<ReadOnlyWindowStore<K, V>> localWindowStore(final String store,
+                                                                          final int partition);
+
+    /**
+     * Gets a read-only access to a single partition of a local timestamped window store.
+     *
+     * @param store     the name of the store to access.
+     * @param partition the store partition to access.
+     * @param <K>       the type of the key.
+     * @param <V>       the type of the value.
+     * @return          the {@link LocalStoreAccessor} instance.
+     */
+    <K, V> LocalStoreAccessor<ReadOnlyWindowStore<K, ValueAndTimestamp<V>>> localTimestampedWindowStore(
+            final String store,
+            final int partition);
+
+    /**
+     * Gets a read-only access to the byte-level stores of a local key-value store, i.e. without deserialization.
+     *
+     * @param store     the name of the store to access.
+     * @return          the {@link LocalStoreAccessor} instance.
+     */
+    LocalStoreAccessor<RawKeyValueStore> localRawKeyValueStore(final String store);
+
+    /**
+     * Gets a read-only access to the byte-level store of a single partition of a local key-value store.
+     *
+     * @param store     the name of the store to access.
+     * @param partition the store partition to access.
+     * @return          the {@link LocalStoreAccessor} instance.
+     */
+    LocalStoreAccessor<RawKeyValueStore> localRawKeyValueStore(final String store, final int partition);
+
+    /**
+     * Gets a read-only access to the local replica of a single store partition. Stale stores are enabled,
+     * so the replica may be either an active or a standby replica (which may be lagging behind the active one).
+     *
+     * @param store     the name of the store to access.
+     * @param storeType the {@link QueryableStoreType} of the store.
+     * @param partition the store partition to access.
+     * @param <T>       the read-only store type.
+     * @return          the {@link LocalStoreAccessor} instance.
+     */
+    <T> LocalStoreAccessor<T> localStoreReplica(final String store,
+                                                final QueryableStoreType<T> storeType,
+                                                final int partition);
+
+    /**
+     * Gets the partitions of the given store for which this instance is currently hosting an active task.
+     *
+     * @param store the name of the store.
+     * @return      the sorted set of partitions, or an empty set if the partitions cannot be resolved.
+     */
+    Set<Integer> localActivePartitionsForStore(final String store);
+
+    /**
+     * Checks whether the given store is a global store (e.g. a store backed by a {@code GlobalKTable}),
+     * which is fully replicated on every instance of the application.
+     *
+     * @param store the name of the store.
+     * @return      {@code true} if the store is a global store, {@code false} otherwise.
+     */
+    boolean isGlobalStore(final String store);
+
     /**
      * Gets a read-only access to a local session store.
      *
@@ -266,6 +380,27 @@ public interface KafkaStreamsContainer {
      */
     <K, V> LocalStoreAccessor<ReadOnlySessionStore<K, V>> localSessionStore(final String store);
 
+    /**
+     * Gets the hit/miss statistics of the cache used for accessing local state stores.
+     *
+     * @return the {@link LocalStoreAccessorCacheStats} instance.
+     */
+    LocalStoreAccessorCacheStats localStoreAccessorCacheStats();
+
+    /**
+     * Gets the statistics of the cache used for routing queries to the instances hosting a store.
+     *
+     * @return the {@link StoreRoutingTableCacheStats} instance.
+     */
+    StoreRoutingTableCacheStats storeRoutingTableCacheStats();
+
+    /**
+     * Gets the cache of the interactive query results served by this instance.
+     *
+     * @return the {@link QueryResultCache} instance.
+     */
+    QueryResultCache queryResultCache();
+
     /**
      * Creates a new {@link Producer} instance using the same configs that the Kafka Streams instance.
      *
@@ -20,6 +20,8 @@ package io.streamthoughts.azkarra.api.streams;
 
 import io.streamthoughts.azkarra.api.StreamsLifecycleInterceptor;
 import io.streamthoughts.azkarra.api.config.Conf;
+import io.streamthoughts.azkarra.api.events.reactive.EventLoopGroup;
+import io.streamthoughts.azkarra.api.query.QueryResultCache;
 import io.streamthoughts.azkarra.api.streams.consumer.MonitorOffsetsConsumerInterceptor;
 import io.streamthoughts.azkarra.api.streams.errors.DelegatingUncaughtExceptionHandler;
 import io.streamthoughts.azkarra.api.streams.errors.StreamThreadExceptionHandler;
@@ -58,6 +60,8 @@ public class KafkaStreamsContainerBuilder {
     private List<KafkaStreams.StateListener> stateListeners = Collections.emptyList();
     private List<StreamThreadExceptionHandler> exceptionHandlers = Collections.emptyList();
     private List<StreamsLifecycleInterceptor> interceptors = Collections.emptyList();
+    private QueryResultCache queryResultCache = QueryResultCache.disabled();
+    private EventLoopGroup eventLoopGroup;
 
     public KafkaStreamsContainerBuilder withStreamsConfig(final Conf streamsConfig) {
         this.streamsConfig = streamsConfig;
@@ -69,6 +73,16 @@ public class KafkaStreamsContainerBuilder {
         return this;
     }
 
+    public KafkaStreamsContainerBuilder withQueryResultCache(final QueryResultCache queryResultCache) {
+        this.queryResultCache = queryResultCache;
+        return this;
+    }
+
+    public KafkaStreamsContainerBuilder withEventLoopGroup(final EventLoopGroup eventLoopGroup) {
+        this.eventLoopGroup = eventLoopGroup;
+        return this;
+    }
+
     public KafkaStreamsContainerBuilder withKafkaStreamsFactory(final KafkaStreamsFactory kafkaStreamsFactory) {
         this.kafkaStreamsFactory = kafkaStreamsFactory;
         return this;
@@ -111,7 +125,9 @@ public class KafkaStreamsContainerBuilder {
             enrichedStreamsConfig,
             topologyDefinition,
             delegatingKafkaStreamsFactory,
-            interceptors
+            interceptors,
+            queryResultCache,
+            eventLoopGroup != null ? eventLoopGroup : EventLoopGroup.defaultGroup()
         );
         delegatingKafkaStreamsFactory.setKafkaStreamsContainer(container);
         return container;
@@ -24,15 +24,19 @@ import io.streamthoughts.azkarra.api.time.Time;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
@@ -122,6 +126,34 @@ public class AdminClientUtils {
         });
     }
 
+    /**
+     * Gets the number of partitions of the specified topics.
+     *
+     * @param client        the {@link AdminClient} instance to be used.
+     * @param topics        the name of the topics.
+     * @return              the number of partitions of each topic, topics which cannot be described are missing.
+     */
+    public static Map<String, Integer> numPartitions(final AdminClient client, final Collection<String> topics) {
+        final Map<String, Integer> partitions = new HashMap<>();
+        final Map<String, KafkaFuture<TopicDescription>> descriptions = client.describeTopics(topics).values();
+        for (Map.Entry<String, KafkaFuture<TopicDescription>> description : descriptions.entrySet()) {
+            try {
+                final TopicDescription topic = description.getValue().get(5, TimeUnit.SECONDS);
+                partitions.put(description.getKey(), topic.partitions().size());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (final ExecutionException e) {
+                if (!(e.getCause() instanceof UnknownTopicOrPartitionException)) {
+                    LOG.warn("Error while describing topic '{}' from broker: {}", description.getKey(), e.getMessage());
+                }
+            } catch (final TimeoutException e) {
+                LOG.warn("Error while describing topic '{}' from broker: {}", description.getKey(), e.getMessage());
+            }
+        }
+        return partitions;
+    }
+
     private static Set<String> checkTopicsMissing(final AdminClient client, final Set<String> topicsToVerify)
             throws InterruptedException {
 
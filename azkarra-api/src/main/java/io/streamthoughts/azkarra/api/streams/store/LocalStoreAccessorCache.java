@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.store;
+
+import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import org.apache.kafka.streams.state.QueryableStoreType;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe cache of {@link LocalStoreAccessor} instances, keyed on store name, {@link QueryableStoreType}
+ * and (optionally) store partition.
+ *
+ * Accessors are re-used across interactive queries so that the underlying read-only store is only looked up once.
+ * The cache must be invalidated each time the local store assignment may change (i.e. on rebalance).
+ */
+public class LocalStoreAccessorCache {
+
+    private final Map<CacheKey, LocalStoreAccessor<?>> accessors = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Gets the cached {@link LocalStoreAccessor} for the given store, or creates a new one.
+     *
+     * @param storeName the name of the store.
+     * @param storeType the {@link QueryableStoreType}.
+     * @param supplier  the supplier used to create a new {@link LocalStoreAccessor} on cache miss.
+     * @param <T>       the read-only store type.
+     * @return          the {@link LocalStoreAccessor} instance.
+     */
+    public <T> LocalStoreAccessor<T> getOrCreate(final String storeName,
+                                                 final QueryableStoreType<T> storeType,
+                                                 final Supplier<LocalStoreAccessor<T>> supplier) {
+        return getOrCreate(storeName, storeType, null, supplier);
+    }
+
+    /**
+     * Gets the cached {@link LocalStoreAccessor} for the given store partition, or creates a new one.
+     *
+     * @param storeName the name of the store.
+     * @param storeType the {@link QueryableStoreType}.
+     * @param partition the store partition, or {@code null} to access all local partitions.
+     * @param supplier  the supplier used to create a new {@link LocalStoreAccessor} on cache miss.
+     * @param <T>       the read-only store type.
+     * @return          the {@link LocalStoreAccessor} instance.
+     */
+    public <T> LocalStoreAccessor<T> getOrCreate(final String storeName,
+                                                 final QueryableStoreType<T> storeType,
+                                                 final Integer partition,
+                                                 final Supplier<LocalStoreAccessor<T>> supplier) {
+        return getOrCreate(storeName, storeType, partition, false, supplier);
+    }
+
+    /**
+     * Gets the cached {@link LocalStoreAccessor} for the given store partition, or creates a new one.
+     *
+     * @param storeName     the name of the store.
+     * @param storeType     the {@link QueryableStoreType}.
+     * @param partition     the store partition, or {@code null} to access all local partitions.
+     * @param staleStores   is the accessor allowed to query standby replicas.
+     * @param supplier      the supplier used to create a new {@link LocalStoreAccessor} on cache miss.
+     * @param <T>           the read-only store type.
+     * @return              the {@link LocalStoreAccessor} instance.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> LocalStoreAccessor<T> getOrCreate(final String storeName,
+                                                 final QueryableStoreType<T> storeType,
+                                                 final Integer partition,
+                                                 final boolean staleStores,
+                                                 final Supplier<LocalStoreAccessor<T>> supplier) {
+        Objects.requireNonNull(storeName, "storeName cannot be null");
+        Objects.requireNonNull(storeType, "storeType cannot be null");
+        final CacheKey key = new CacheKey(storeName, storeType.getClass(), partition, staleStores);
+        LocalStoreAccessor<?> accessor = accessors.get(key);
+        if (accessor != null) {
+            hits.increment();
+            return (LocalStoreAccessor<T>) accessor;
+        }
+        misses.increment();
+        return (LocalStoreAccessor<T>) accessors.computeIfAbsent(key, k -> supplier.get());
+    }
+
+    /**
+     * Removes all the cached {@link LocalStoreAccessor}.
+     */
+    public void invalidateAll() {
+        accessors.clear();
+    }
+
+    /**
+     * @return the statistics for this cache.
+     */
+    public LocalStoreAccessorCacheStats stats() {
+        return new LocalStoreAccessorCacheStats(hits.sum(), misses.sum(), accessors.size());
+    }
+
+    private static final class CacheKey {
+
+        private final String storeName;
+        private final Class<?> storeType;
+        private final Integer partition;
+        private final boolean staleStores;
+
+        CacheKey(final String storeName,
+                 final Class<?> storeType,
+                 final Integer partition,
+                 final boolean staleStores) {
+            this.storeName = storeName;
+            this.storeType = storeType;
+            this.partition = partition;
+            this.staleStores = staleStores;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey)) return false;
+            CacheKey that = (CacheKey) o;
+            return Objects.equals(storeName, that.storeName) &&
+                   Objects.equals(storeType, that.storeType) &&
+                   Objects.equals(partition, that.partition) &&
+                   staleStores == that.staleStores;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(storeName, storeType, partition, staleStores);
+        }
+    }
+}
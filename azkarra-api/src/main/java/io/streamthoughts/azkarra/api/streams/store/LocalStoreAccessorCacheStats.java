@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.store;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * A snapshot of the statistics of a {@link LocalStoreAccessorCache}.
+ */
+public class LocalStoreAccessorCacheStats {
+
+    private final long hits;
+
+    private final long misses;
+
+    private final int size;
+
+    /**
+     * Creates a new {@link LocalStoreAccessorCacheStats} instance.
+     *
+     * @param hits      the number of cache hits.
+     * @param misses    the number of cache misses.
+     * @param size      the number of cached accessors.
+     */
+    public LocalStoreAccessorCacheStats(final long hits,
+                                        final long misses,
+                                        final int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.size = size;
+    }
+
+    @JsonProperty
+    public long hits() {
+        return hits;
+    }
+
+    @JsonProperty
+    public long misses() {
+        return misses;
+    }
+
+    @JsonProperty
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LocalStoreAccessorCacheStats)) return false;
+        LocalStoreAccessorCacheStats that = (LocalStoreAccessorCacheStats) o;
+        return hits == that.hits &&
+                misses == that.misses &&
+                size == that.size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(hits, misses, size);
+    }
+
+    @Override
+    public String toString() {
+        return "LocalStoreAccessorCacheStats{" +
+                "hits=" + hits +
+                ", misses=" + misses +
+                ", size=" + size +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.store;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A thread-safe snapshot of the offset lags of the local state store partitions.
+ *
+ * Fetching the lags requires a round-trip to the brokers, so the snapshot is meant to be updated in background
+ * and read on the query path.
+ *
+ * @since 0.8.0
+ */
+public class LocalStorePartitionLagsSnapshot {
+
+    private volatile Map<String, Map<Integer, Long>> lags = Collections.emptyMap();
+
+    /**
+     * Replaces this snapshot with the given lags.
+     *
+     * @param storeLags the lags of all local state stores.
+     */
+    public void update(final Collection<LocalStorePartitionLags> storeLags) {
+        Objects.requireNonNull(storeLags, "storeLags cannot be null");
+        final Map<String, Map<Integer, Long>> updated = new HashMap<>();
+        for (LocalStorePartitionLags store : storeLags) {
+            final Map<Integer, Long> partitions = updated.computeIfAbsent(store.name(), name -> new HashMap<>());
+            store.positions().forEach(position -> partitions.put(position.partition(), position.offsetLag()));
+        }
+        lags = updated;
+    }
+
+    /**
+     * Gets the offset lag of the given local store partition.
+     *
+     * @param storeName the name of the store.
+     * @param partition the store partition.
+     * @return          the offset lag, or {@link Optional#empty()} if the partition is not part of the snapshot.
+     */
+    public Optional<Long> offsetLag(final String storeName, final int partition) {
+        return Optional.ofNullable(lags.getOrDefault(storeName, Collections.emptyMap()).get(partition));
+    }
+
+    /**
+     * Removes all the lags of this snapshot.
+     */
+    public void clear() {
+        lags = Collections.emptyMap();
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.store;
+
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.apache.kafka.streams.state.StateSerdes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A read-only view over the byte-level stores that sit beneath the metered layer of
+ * one or more local key-value store partitions.
+ *
+ * <p>
+ * Keys and values are returned exactly as they are persisted, i.e. without being deserialized.
+ * For timestamped stores, each value is prefixed with the 8-byte record timestamp.
+ * </p>
+ *
+ * <p>
+ * The serdes configured on the metered layer are exposed (when they can be resolved) so that
+ * records can be read at the byte level and still be converted as the store would do it.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+public class RawKeyValueStore implements ReadOnlyKeyValueStore<Bytes, byte[]> {
+
+    /**
+     * The size of the timestamp prefixing each value of a timestamped store.
+     */
+    public static final int TIMESTAMP_SIZE = Long.BYTES;
+
+    private final List<KeyValueStore<Bytes, byte[]>> stores;
+    private final boolean timestamped;
+    private final StateSerdes<Object, Object> serdes;
+
+    /**
+     * Creates a new {@link RawKeyValueStore} instance.
+     *
+     * @param stores        the byte-level stores, one per local partition.
+     * @param timestamped   whether the underlying stores are timestamped.
+     */
+    public RawKeyValueStore(final List<KeyValueStore<Bytes, byte[]>> stores,
+                            final boolean timestamped) {
+        this(stores, timestamped, null);
+    }
+
+    /**
+     * Creates a new {@link RawKeyValueStore} instance.
+     *
+     * @param stores        the byte-level stores, one per local partition.
+     * @param timestamped   whether the underlying stores are timestamped.
+     * @param serdes        the serdes of the metered stores, or {@code null} if unknown.
+     */
+    public RawKeyValueStore(final List<KeyValueStore<Bytes, byte[]>> stores,
+                            final boolean timestamped,
+                            final StateSerdes<Object, Object> serdes) {
+        this.stores = Collections.unmodifiableList(Objects.requireNonNull(stores, "stores cannot be null"));
+        this.timestamped = timestamped;
+        this.serdes = serdes;
+    }
+
+    /**
+     * Checks whether each value is prefixed with the record timestamp.
+     *
+     * @return  {@code true} if the underlying stores are timestamped.
+     */
+    public boolean isTimestamped() {
+        return timestamped;
+    }
+
+    /**
+     * Gets the serdes used by the metered layer to serialize keys and values. For timestamped stores,
+     * values are deserialized as {@link org.apache.kafka.streams.state.ValueAndTimestamp}.
+     *
+     * @return  the {@link StateSerdes}, or {@code null} if they cannot be resolved.
+     */
+    public StateSerdes<Object, Object> serdes() {
+        return serdes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] get(final Bytes key) {
+        for (final KeyValueStore<Bytes, byte[]> store : stores) {
+            final byte[] value = store.get(key);
+            if (value != null) return value;
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KeyValueIterator<Bytes, byte[]> range(final Bytes from, final Bytes to) {
+        return new CompositeKeyValueIterator(stores.iterator(), store -> store.range(from, to));
+    }
+
+    /**
+     * Gets an iterator over the records whose serialized key starts with the given prefix.
+     *
+     * Only the range of keys between the prefix and its upper bound is read from each store,
+     * records being returned in key order for each store.
+     *
+     * @param prefix    the serialized key prefix.
+     * @param from      the serialized key to start from (inclusive), or {@code null} to start from the prefix.
+     * @return          a new {@link KeyValueIterator}.
+     */
+    public KeyValueIterator<Bytes, byte[]> prefixScan(final Bytes prefix, final Bytes from) {
+        Objects.requireNonNull(prefix, "prefix cannot be null");
+        final Bytes start = from == null || from.compareTo(prefix) < 0 ? prefix : from;
+        final Bytes end = upperBound(prefix);
+        return new CompositeKeyValueIterator(stores.iterator(), store -> new PrefixKeyValueIterator(
+            end == null ? store.all() : store.range(start, end), prefix, start)
+        );
+    }
+
+    /**
+     * Computes the smallest key greater than all the keys starting with the given prefix.
+     *
+     * @return  the upper bound, or {@code null} if there is none (i.e. the prefix only contains {@code 0xFF} bytes).
+     */
+    static Bytes upperBound(final Bytes prefix) {
+        final byte[] bytes = prefix.get();
+        int last = bytes.length - 1;
+        while (last >= 0 && bytes[last] == (byte) 0xFF) {
+            last--;
+        }
+        if (last < 0) return null;
+        final byte[] upper = Arrays.copyOf(bytes, last + 1);
+        upper[last]++;
+        return Bytes.wrap(upper);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KeyValueIterator<Bytes, byte[]> all() {
+        return new CompositeKeyValueIterator(stores.iterator(), ReadOnlyKeyValueStore::all);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long approximateNumEntries() {
+        long total = 0;
+        for (final KeyValueStore<Bytes, byte[]> store : stores) {
+            total += store.approximateNumEntries();
+            if (total < 0) return Long.MAX_VALUE;
+        }
+        return total;
+    }
+
+    /**
+     * An iterator which stops on the first key not starting with the prefix, the upper bound of a range being
+     * inclusive. Keys lower than the start key are skipped, which only happens when the range cannot be bounded.
+     */
+    private static final class PrefixKeyValueIterator implements KeyValueIterator<Bytes, byte[]> {
+
+        private final KeyValueIterator<Bytes, byte[]> iterator;
+        private final byte[] prefix;
+        private final Bytes start;
+        private KeyValue<Bytes, byte[]> next;
+        private boolean done;
+
+        PrefixKeyValueIterator(final KeyValueIterator<Bytes, byte[]> iterator,
+                               final Bytes prefix,
+                               final Bytes start) {
+            this.iterator = iterator;
+            this.prefix = prefix.get();
+            this.start = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !done && iterator.hasNext()) {
+                final KeyValue<Bytes, byte[]> kv = iterator.next();
+                if (kv.key.compareTo(start) < 0) continue;
+                if (startsWith(kv.key.get())) {
+                    next = kv;
+                } else {
+                    done = true;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public KeyValue<Bytes, byte[]> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            final KeyValue<Bytes, byte[]> kv = next;
+            next = null;
+            return kv;
+        }
+
+        @Override
+        public Bytes peekNextKey() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return next.key;
+        }
+
+        @Override
+        public void close() {
+            iterator.close();
+        }
+
+        private boolean startsWith(final byte[] key) {
+            if (key.length < prefix.length) return false;
+            for (int i = 0; i < prefix.length; i++) {
+                if (key[i] != prefix[i]) return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * An iterator which lazily opens and chains the iterators of each store.
+     */
+    private static final class CompositeKeyValueIterator implements KeyValueIterator<Bytes, byte[]> {
+
+        private final Iterator<KeyValueStore<Bytes, byte[]>> stores;
+        private final Function<ReadOnlyKeyValueStore<Bytes, byte[]>, KeyValueIterator<Bytes, byte[]>> opener;
+        private final List<KeyValueIterator<Bytes, byte[]>> opened = new ArrayList<>();
+        private KeyValueIterator<Bytes, byte[]> current;
+
+        CompositeKeyValueIterator(
+                final Iterator<KeyValueStore<Bytes, byte[]>> stores,
+                final Function<ReadOnlyKeyValueStore<Bytes, byte[]>, KeyValueIterator<Bytes, byte[]>> opener) {
+            this.stores = stores;
+            this.opener = opener;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while ((current == null || !current.hasNext()) && stores.hasNext()) {
+                current = opener.apply(stores.next());
+                opened.add(current);
+            }
+            return current != null && current.hasNext();
+        }
+
+        @Override
+        public KeyValue<Bytes, byte[]> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return current.next();
+        }
+
+        @Override
+        public Bytes peekNextKey() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return current.peekNextKey();
+        }
+
+        @Override
+        public void close() {
+            opened.forEach(KeyValueIterator::close);
+            opened.clear();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.store;
+
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.processor.StateStore;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.QueryableStoreType;
+import org.apache.kafka.streams.state.StateSerdes;
+import org.apache.kafka.streams.state.internals.MeteredKeyValueStore;
+import org.apache.kafka.streams.state.internals.StateStoreProvider;
+import org.apache.kafka.streams.state.internals.WrappedStateStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link QueryableStoreType} that gives access to the byte-level stores of a local key-value store.
+ *
+ * <p>
+ * Unlike the built-in store types, the stores are not wrapped into a deserializing facade: the
+ * metered layer is stripped off so that keys and values can be read without any serde. The serdes of the
+ * metered layer are still passed to the {@link RawKeyValueStore}, for the queries that need to convert records.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+public class RawKeyValueStoreType implements QueryableStoreType<RawKeyValueStore> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RawKeyValueStoreType.class);
+
+    private static final AtomicBoolean SERDES_WARNED = new AtomicBoolean(false);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean accepts(final StateStore stateStore) {
+        return stateStore instanceof KeyValueStore && stateStore instanceof WrappedStateStore;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public RawKeyValueStore create(final StateStoreProvider storeProvider, final String storeName) {
+        // Custom store types are given the top-level stores as they are registered in each task.
+        final List<?> stores = storeProvider.stores(storeName, this);
+        final List<KeyValueStore<Bytes, byte[]>> bytesStores = new ArrayList<>(stores.size());
+        boolean timestamped = false;
+        StateSerdes<Object, Object> serdes = null;
+        for (final Object store : stores) {
+            final StateStore wrapped = ((WrappedStateStore<?, ?, ?>) store).wrapped();
+            if (!(wrapped instanceof KeyValueStore)) {
+                throw new InvalidStateStoreException(
+                    "Cannot access bytes of store '" + storeName + "', unexpected inner store: "
+                    + wrapped.getClass().getName());
+            }
+            bytesStores.add((KeyValueStore<Bytes, byte[]>) wrapped);
+            timestamped |= WrappedStateStore.isTimestamped((StateStore) store);
+            if (serdes == null) {
+                serdes = serdesOf(store);
+            }
+        }
+        return new RawKeyValueStore(bytesStores, timestamped, serdes);
+    }
+
+    /**
+     * The serdes of a metered store are only initialized with the store, and are not exposed: they are read
+     * from a private field, which may not exist in other Kafka Streams versions. Queries needing to convert records
+     * should accept built-in serdes from the caller and only fall back on these ones.
+     */
+    @SuppressWarnings("unchecked")
+    private static StateSerdes<Object, Object> serdesOf(final Object store) {
+        if (!(store instanceof MeteredKeyValueStore)) return null;
+        try {
+            final Field field = MeteredKeyValueStore.class.getDeclaredField("serdes");
+            field.setAccessible(true);
+            return (StateSerdes<Object, Object>) field.get(store);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            if (SERDES_WARNED.compareAndSet(false, true)) {
+                LOG.warn("Cannot resolve the serdes of key-value stores, records can only be converted "
+                    + "using the serdes passed as query parameters: {}", e.toString());
+            }
+            return null;
+        }
+    }
+}
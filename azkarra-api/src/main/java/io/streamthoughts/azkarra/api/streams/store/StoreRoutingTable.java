@@ -0,0 +1,224 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.store;
+
+import io.streamthoughts.azkarra.api.streams.ServerMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Utils;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.TopologyDescription;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.StreamsMetadata;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * An immutable snapshot of the hosts of a state store, used to route queries without looking up
+ * the {@link org.apache.kafka.streams.KafkaStreams} metadata on each query.
+ *
+ * The partition of a key is computed the same way as the default partitioner of Kafka Streams, so a table
+ * is only partitioned if the store is fed by topics and all of its partitions are assigned to an active host.
+ *
+ * @since 0.8.0
+ */
+public class StoreRoutingTable {
+
+    private final String storeName;
+    private final String topic;
+    private final KeyQueryMetadata[] partitions;
+    private final List<ServerMetadata> servers;
+
+    /**
+     * Builds a new {@link StoreRoutingTable} from the given streams metadata.
+     *
+     * @see #build(String, Set, Collection, Function, Function)
+     */
+    public static StoreRoutingTable build(final String storeName,
+                                          final Set<String> sourceTopics,
+                                          final Collection<StreamsMetadata> metadata,
+                                          final Function<StreamsMetadata, ServerMetadata> mapper) {
+        return build(storeName, sourceTopics, metadata, mapper, topic -> null);
+    }
+
+    /**
+     * Builds a new {@link StoreRoutingTable} from the given streams metadata.
+     *
+     * The table is only partitioned if all the partitions of the routing topic are assigned to an active host.
+     * When the number of partitions of a topic is unknown, the highest partition assigned to either an active
+     * or a standby host is used.
+     *
+     * @param storeName         the name of the store.
+     * @param sourceTopics      the source topics of the store.
+     * @param metadata          the metadata of the instances hosting the store.
+     * @param mapper            the function used to convert a {@link StreamsMetadata} into {@link ServerMetadata}.
+     * @param partitionCounts   the function used to get the number of partitions of a topic, or {@code null}.
+     * @return                  a new {@link StoreRoutingTable} instance.
+     */
+    public static StoreRoutingTable build(final String storeName,
+                                          final Set<String> sourceTopics,
+                                          final Collection<StreamsMetadata> metadata,
+                                          final Function<StreamsMetadata, ServerMetadata> mapper,
+                                          final Function<String, Integer> partitionCounts) {
+        final List<ServerMetadata> servers = metadata.stream().map(mapper).collect(Collectors.toList());
+
+        final Map<String, Map<Integer, HostInfo>> actives = new HashMap<>();
+        final Map<String, Map<Integer, Set<HostInfo>>> standbys = new HashMap<>();
+        for (StreamsMetadata md : metadata) {
+            for (TopicPartition tp : md.topicPartitions()) {
+                if (sourceTopics.contains(tp.topic()))
+                    actives.computeIfAbsent(tp.topic(), t -> new HashMap<>()).put(tp.partition(), md.hostInfo());
+            }
+            for (TopicPartition tp : md.standbyTopicPartitions()) {
+                if (sourceTopics.contains(tp.topic()))
+                    standbys.computeIfAbsent(tp.topic(), t -> new HashMap<>())
+                        .computeIfAbsent(tp.partition(), p -> new HashSet<>())
+                        .add(md.hostInfo());
+            }
+        }
+
+        // source topics are co-partitioned, keys are routed using the topic having the most partitions.
+        final Optional<Map.Entry<String, Map<Integer, HostInfo>>> routing = actives.entrySet()
+            .stream()
+            .max(Map.Entry.comparingByValue((p1, p2) -> Integer.compare(p1.size(), p2.size())));
+
+        if (routing.isEmpty()) {
+            return new StoreRoutingTable(storeName, null, null, servers);
+        }
+
+        final String topic = routing.get().getKey();
+        final Map<Integer, HostInfo> active = routing.get().getValue();
+        final Map<Integer, Set<HostInfo>> standby = standbys.getOrDefault(topic, Collections.emptyMap());
+        final Integer count = partitionCounts.apply(topic);
+        final int numPartitions = count != null ? count : maxPartition(active.keySet(), standby.keySet()) + 1;
+
+        if (!isComplete(active, numPartitions)) {
+            return new StoreRoutingTable(storeName, null, null, servers);
+        }
+
+        final KeyQueryMetadata[] partitions = new KeyQueryMetadata[numPartitions];
+        for (int p = 0; p < partitions.length; p++) {
+            partitions[p] = new KeyQueryMetadata(active.get(p), standby.getOrDefault(p, Collections.emptySet()), p);
+        }
+        return new StoreRoutingTable(storeName, topic, partitions, servers);
+    }
+
+    /**
+     * Gets the source topics of the given store from the topology description. Internal topics are prefixed
+     * with the application id.
+     *
+     * @param description   the {@link TopologyDescription}.
+     * @param storeName     the name of the store.
+     * @param applicationId the application id.
+     * @return              the set of source topics, or an empty set if the store is not fed by named topics.
+     */
+    public static Set<String> sourceTopicsForStore(final TopologyDescription description,
+                                                   final String storeName,
+                                                   final String applicationId) {
+        for (TopologyDescription.Subtopology subTopology : description.subtopologies()) {
+            final boolean hasStore = subTopology.nodes()
+                .stream()
+                .filter(node -> node instanceof TopologyDescription.Processor)
+                .anyMatch(node -> ((TopologyDescription.Processor) node).stores().contains(storeName));
+            if (hasStore) {
+                return subTopology.nodes()
+                    .stream()
+                    .filter(node -> node instanceof TopologyDescription.Source)
+                    .map(node -> ((TopologyDescription.Source) node).topicSet())
+                    .filter(Objects::nonNull)
+                    .flatMap(Set::stream)
+                    .flatMap(topic -> List.of(topic, applicationId + "-" + topic).stream())
+                    .collect(Collectors.toSet());
+            }
+        }
+        return Collections.emptySet();
+    }
+
+    private static int maxPartition(final Set<Integer> actives, final Set<Integer> standbys) {
+        final int active = actives.stream().max(Integer::compare).orElse(-1);
+        final int standby = standbys.stream().max(Integer::compare).orElse(-1);
+        return Math.max(active, standby);
+    }
+
+    private static boolean isComplete(final Map<Integer, HostInfo> partitions, final int numPartitions) {
+        if (partitions.size() != numPartitions) return false;
+        for (int p = 0; p < numPartitions; p++) {
+            if (!partitions.containsKey(p)) return false;
+        }
+        return true;
+    }
+
+    private StoreRoutingTable(final String storeName,
+                              final String topic,
+                              final KeyQueryMetadata[] partitions,
+                              final List<ServerMetadata> servers) {
+        this.storeName = storeName;
+        this.topic = topic;
+        this.partitions = partitions;
+        this.servers = Collections.unmodifiableList(servers);
+    }
+
+    public String storeName() {
+        return storeName;
+    }
+
+    /**
+     * @return the metadata of all the instances hosting the store.
+     */
+    public List<ServerMetadata> servers() {
+        return servers;
+    }
+
+    /**
+     * @return {@code true} if keys can be routed using this table, {@code false} otherwise.
+     */
+    public boolean isPartitioned() {
+        return partitions != null;
+    }
+
+    /**
+     * @return the topic used for serializing keys.
+     */
+    public String topic() {
+        return topic;
+    }
+
+    /**
+     * Gets the hosts of the store partition for the given serialized key.
+     *
+     * @param keyBytes  the serialized key.
+     * @return          the {@link KeyQueryMetadata}.
+     * @throws IllegalStateException if this table is not partitioned.
+     */
+    public KeyQueryMetadata metadataForKey(final byte[] keyBytes) {
+        if (!isPartitioned()) {
+            throw new IllegalStateException("Cannot route keys for store '" + storeName + "'");
+        }
+        return partitions[Utils.toPositive(Utils.murmur2(keyBytes)) % partitions.length];
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.store;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache of {@link StoreRoutingTable} instances, keyed on store name.
+ *
+ * Tables are lazily built on first access and must be invalidated each time the assignment
+ * of the store partitions may change (i.e. on rebalance).
+ *
+ * @since 0.8.0
+ */
+public class StoreRoutingTableCache {
+
+    private final Map<String, StoreRoutingTable> tables = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder rebuilds = new LongAdder();
+
+    /**
+     * Gets the cached {@link StoreRoutingTable} for the given store, or builds a new one.
+     *
+     * @param storeName the name of the store.
+     * @param builder   the function used to build a new {@link StoreRoutingTable} on cache miss.
+     * @return          the {@link StoreRoutingTable} instance.
+     */
+    public StoreRoutingTable getOrBuild(final String storeName,
+                                        final Function<String, StoreRoutingTable> builder) {
+        Objects.requireNonNull(storeName, "storeName cannot be null");
+        StoreRoutingTable table = tables.get(storeName);
+        if (table != null) {
+            hits.increment();
+            return table;
+        }
+        return tables.computeIfAbsent(storeName, name -> {
+            rebuilds.increment();
+            return builder.apply(name);
+        });
+    }
+
+    /**
+     * Removes all the cached {@link StoreRoutingTable}.
+     */
+    public void invalidateAll() {
+        tables.clear();
+    }
+
+    /**
+     * @return the statistics for this cache.
+     */
+    public StoreRoutingTableCacheStats stats() {
+        return new StoreRoutingTableCacheStats(hits.sum(), rebuilds.sum(), tables.size());
+    }
+}
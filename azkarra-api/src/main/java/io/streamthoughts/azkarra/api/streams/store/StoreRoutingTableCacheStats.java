@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.store;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * A snapshot of the statistics of a {@link StoreRoutingTableCache}.
+ *
+ * @since 0.8.0
+ */
+public class StoreRoutingTableCacheStats {
+
+    private final long hits;
+
+    private final long rebuilds;
+
+    private final int size;
+
+    /**
+     * Creates a new {@link StoreRoutingTableCacheStats} instance.
+     *
+     * @param hits      the number of cache hits.
+     * @param rebuilds  the number of routing tables built.
+     * @param size      the number of cached routing tables.
+     */
+    public StoreRoutingTableCacheStats(final long hits,
+                                       final long rebuilds,
+                                       final int size) {
+        this.hits = hits;
+        this.rebuilds = rebuilds;
+        this.size = size;
+    }
+
+    @JsonProperty
+    public long hits() {
+        return hits;
+    }
+
+    @JsonProperty
+    public long rebuilds() {
+        return rebuilds;
+    }
+
+    @JsonProperty
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StoreRoutingTableCacheStats)) return false;
+        StoreRoutingTableCacheStats that = (StoreRoutingTableCacheStats) o;
+        return hits == that.hits &&
+                rebuilds == that.rebuilds &&
+                size == that.size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(hits, rebuilds, size);
+    }
+
+    @Override
+    public String toString() {
+        return "StoreRoutingTableCacheStats{" +
+                "hits=" + hits +
+                ", rebuilds=" + rebuilds +
+                ", size=" + size +
+                '}';
+    }
+}
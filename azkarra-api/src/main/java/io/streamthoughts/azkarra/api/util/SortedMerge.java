@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.util;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Helper class to merge several sorted lists into a single sorted list (k-way merge).
+ *
+ * @since 0.8.0
+ */
+public class SortedMerge {
+
+    private SortedMerge() { }
+
+    /**
+     * Merges the given lists, each of which must already be sorted according to the given order.
+     * On equal elements, the element of the first list is taken first.
+     *
+     * @param sources   the sorted lists to merge.
+     * @param order     the order of elements.
+     * @param limit     the maximum number of elements to merge (-1 means no limit).
+     * @param into      the list to which the merged elements are added.
+     * @param <T>       the element type.
+     * @return          the number of elements taken from each source list.
+     */
+    public static <T> int[] merge(final List<? extends List<? extends T>> sources,
+                                  final Comparator<? super T> order,
+                                  final long limit,
+                                  final List<? super T> into) {
+        final int[] taken = new int[sources.size()];
+
+        final Comparator<Integer> bySourceHead = (i, j) -> order.compare(
+            sources.get(i).get(taken[i]),
+            sources.get(j).get(taken[j])
+        );
+        final PriorityQueue<Integer> heads = new PriorityQueue<>(
+            Math.max(1, sources.size()),
+            bySourceHead.thenComparing(Comparator.naturalOrder())
+        );
+
+        for (int i = 0; i < sources.size(); i++) {
+            if (!sources.get(i).isEmpty()) heads.add(i);
+        }
+
+        long merged = 0;
+        while (!heads.isEmpty() && (limit <= 0 || merged < limit)) {
+            final int source = heads.poll();
+            into.add(sources.get(source).get(taken[source]));
+            taken[source]++;
+            merged++;
+            if (taken[source] < sources.get(source).size()) {
+                heads.add(source);
+            }
+        }
+        return taken;
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.kafka.streams.state.ValueAndTimestamp;
 
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * In-memory {@link KeyValueIterator} which can be used for testing purpose.
@@ -35,6 +36,8 @@ public class InMemoryKeyValueIterator <K, V> implements KeyValueIterator<K, V> {
 
     private final Iterator<KeyValue<K, V>> iterator;
 
+    private boolean closed;
+
     /**
      * Creates a new {@link InMemoryKeyValueIterator} for the specified key-value pair.
      *
@@ -45,8 +48,22 @@ public class InMemoryKeyValueIterator <K, V> implements KeyValueIterator<K, V> {
         this.iterator = Collections.singletonList(KeyValue.pair(key, value)).iterator();
     }
 
+    /**
+     * Creates a new {@link InMemoryKeyValueIterator} for the specified key-value pairs.
+     *
+     * @param records   the records to iterate over.
+     */
+    public InMemoryKeyValueIterator(final List<KeyValue<K, V>> records)  {
+        this.iterator = records.iterator();
+    }
+
     @Override
     public void close() {
+        closed = true;
+    }
+
+    public boolean isClosed() {
+        return closed;
     }
 
     @Override
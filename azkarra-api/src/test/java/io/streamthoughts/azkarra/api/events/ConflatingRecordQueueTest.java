@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.events;
+
+import io.streamthoughts.azkarra.api.events.callback.QueueCallback;
+import io.streamthoughts.azkarra.api.model.KV;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConflatingRecordQueueTest {
+
+    @Test
+    public void shouldKeepOnlyLatestRecordPerKeyInInsertionOrder() {
+        // Given
+        var queue = new ConflatingRecordQueue<String, Integer>();
+        // When
+        queue.send(KV.of("a", 1));
+        queue.send(KV.of("b", 1));
+        queue.send(KV.of("a", 2));
+        queue.send(KV.of("c", 1));
+        queue.send(KV.of("a", 3));
+        // Then
+        final List<KV<String, Integer>> records = new ArrayList<>();
+        queue.drainTo(records);
+        Assertions.assertEquals(List.of(KV.of("a", 3), KV.of("b", 1), KV.of("c", 1)), records);
+        Assertions.assertEquals(2, queue.conflated());
+    }
+
+    @Test
+    public void shouldNotConflateRecordsGivenNullKeys() {
+        var queue = new ConflatingRecordQueue<String, Integer>();
+        queue.send(KV.of(null, 1));
+        queue.send(KV.of(null, 2));
+        Assertions.assertEquals(2, queue.size());
+    }
+
+    @Test
+    public void shouldQueueNewKeyAgainOncePolled() {
+        var queue = new ConflatingRecordQueue<String, Integer>();
+        queue.send(KV.of("a", 1));
+        Assertions.assertEquals(KV.of("a", 1), queue.poll());
+        queue.send(KV.of("a", 2));
+        Assertions.assertEquals(KV.of("a", 2), queue.poll());
+        Assertions.assertNull(queue.poll());
+    }
+
+    @Test
+    public void shouldInvokeLimitHandlerGivenNewKeyWhenQueueIsFull() {
+        // Given
+        var queue = new ConflatingRecordQueue<String, Integer>(1);
+        var limitReached = new AtomicBoolean(false);
+        queue.setLimitHandler(new LimitHandler() {
+            @Override
+            public <K, V> void onLimitReached(final BlockingRecordQueue<K, V> queue) {
+                limitReached.set(true);
+            }
+        });
+        // When
+        queue.send(KV.of("a", 1));
+        queue.send(KV.of("a", 2));
+        Assertions.assertFalse(limitReached.get());
+        queue.send(KV.of("b", 1));
+        // Then
+        Assertions.assertTrue(limitReached.get());
+        Assertions.assertEquals(1, queue.dropped());
+        Assertions.assertEquals(KV.of("a", 2), queue.poll());
+    }
+
+    @Test
+    public void shouldInvokeQueueCallbackOnlyWhenNewKeyIsQueued() {
+        var queue = new ConflatingRecordQueue<String, Integer>();
+        var queued = new AtomicInteger();
+        queue.setQueueCallback(new QueueCallback() {
+            @Override
+            public void onClosed() {
+            }
+
+            @Override
+            public void onQueued() {
+                queued.incrementAndGet();
+            }
+        });
+        queue.send(KV.of("a", 1));
+        queue.send(KV.of("a", 2));
+        queue.send(KV.of("b", 1));
+        Assertions.assertEquals(2, queued.get());
+    }
+}
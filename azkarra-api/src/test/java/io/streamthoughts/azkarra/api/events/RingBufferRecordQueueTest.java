@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.events;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class RingBufferRecordQueueTest {
+
+    private static final KV<Object, Object> TEST_KV = KV.of("key", "value1");
+
+    @Test
+    public void shouldRoundUpCapacityToPowerOfTwo() {
+        Assertions.assertEquals(1, new RingBufferRecordQueue<>(1).capacity());
+        Assertions.assertEquals(1024, new RingBufferRecordQueue<>(1000).capacity());
+        Assertions.assertEquals(1024, new RingBufferRecordQueue<>(1024).capacity());
+    }
+
+    @Test
+    public void shouldReturnRecordsInInsertionOrder() {
+        var queue = new RingBufferRecordQueue<String, Integer>(4);
+        for (int i = 0; i < 10; i++) {
+            // wraps around the buffer.
+            queue.send(KV.of("key", i));
+            Assertions.assertEquals(i, queue.poll().value());
+        }
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertNull(queue.poll());
+    }
+
+    @Test
+    public void shouldInvokeLimitHandlerAndDropRecordWhenQueueIsFull() {
+        // Given
+        var queue = new RingBufferRecordQueue<>(2);
+        var limitReached = new AtomicBoolean(false);
+        queue.setLimitHandler(new LimitHandler() {
+            @Override
+            public <K, V> void onLimitReached(final BlockingRecordQueue<K, V> queue) {
+                limitReached.set(true);
+            }
+        });
+        // When
+        queue.send(TEST_KV);
+        queue.send(TEST_KV);
+        Assertions.assertFalse(limitReached.get());
+        queue.send(KV.of("key", "value2"));
+        // Then
+        Assertions.assertTrue(limitReached.get());
+        Assertions.assertEquals(2, queue.size());
+        Assertions.assertEquals(1, queue.dropped());
+    }
+
+    @Test
+    public void shouldDropHeadRecordWhenQueueIsFullGivenDropHeadLimitHandler() {
+        var queue = new RingBufferRecordQueue<String, Integer>(2);
+        queue.setLimitHandler(LimitHandlers.dropHeadOnLimitReached());
+        queue.send(KV.of("key", 1));
+        queue.send(KV.of("key", 2));
+        queue.send(KV.of("key", 3));
+
+        final List<KV<String, Integer>> records = new ArrayList<>();
+        queue.drainTo(records);
+        Assertions.assertEquals(List.of(KV.of("key", 2), KV.of("key", 3)), records);
+        Assertions.assertEquals(0, queue.dropped());
+    }
+
+    @Test
+    public void shouldDrainAtMostMaxRecords() {
+        var queue = new RingBufferRecordQueue<String, Integer>(8);
+        for (int i = 0; i < 5; i++) {
+            queue.send(KV.of("key", i));
+        }
+        final List<KV<String, Integer>> records = new ArrayList<>();
+        Assertions.assertEquals(3, queue.drainTo(records, 3));
+        Assertions.assertEquals(3, records.size());
+        Assertions.assertEquals(2, queue.size());
+    }
+
+    @Test
+    public void shouldNotAddRecordWhenQueueIsClosed() {
+        var queue = new RingBufferRecordQueue<>();
+        queue.close();
+        queue.send(TEST_KV);
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void shouldNotLoseRecordsGivenConcurrentProducers() throws InterruptedException {
+        final int producers = 4;
+        final int recordsPerProducer = 10_000;
+        var queue = new RingBufferRecordQueue<Integer, Integer>(producers * recordsPerProducer);
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            threads.add(new Thread(() -> {
+                try {
+                    started.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < recordsPerProducer; i++) {
+                    queue.send(KV.of(producer, i));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        started.countDown();
+
+        // records are consumed while being produced.
+        final int[] next = new int[producers];
+        final List<KV<Integer, Integer>> batch = new ArrayList<>();
+        int received = 0;
+        final long deadline = System.currentTimeMillis() + 30_000;
+        while (received < producers * recordsPerProducer && System.currentTimeMillis() < deadline) {
+            batch.clear();
+            queue.drainTo(batch, 128);
+            for (KV<Integer, Integer> record : batch) {
+                // records of each producer are received in order.
+                Assertions.assertEquals(next[record.key()], record.value());
+                next[record.key()]++;
+            }
+            received += batch.size();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(producers * recordsPerProducer, received);
+        Assertions.assertEquals(0, queue.dropped());
+        Assertions.assertTrue(queue.isEmpty());
+    }
+}
@@ -47,6 +47,107 @@ public class AsyncMulticastEventStreamPublisherTest {
         waitAndAssertReceived(subscriber, 4);
     }
 
+    @Test
+    public void shouldDispatchSameRecordInstancesToAllSubscribersGivenBatch() {
+        var stream = new EventStream<>("test", new BasicBlockingRecordQueue<String, Long>(Integer.MAX_VALUE));
+        var publisher = new AsyncMulticastEventStreamPublisher<>(stream);
+        CaptureSubscriber<String, Long> first = new CaptureSubscriber<>();
+        CaptureSubscriber<String, Long> second = new CaptureSubscriber<>();
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        SystemTime.SYSTEM.sleep(Duration.ofMillis(DEFAULT_TIMEOUT_MS));
+        first.subscription.request(1000);
+        second.subscription.request(10);
+        SystemTime.SYSTEM.sleep(Duration.ofMillis(DEFAULT_TIMEOUT_MS));
+        for (long l = 0; l < 1000; l++) {
+            stream.send(KV.of("key", l));
+        }
+        waitAndAssertReceived(first, 1000);
+        waitAndAssertReceived(second, 10);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertSame(first.received.get(i), second.received.get(i));
+        }
+    }
+
+    @Test
+    public void shouldBufferRecordsForSlowSubscriberGivenFastSubscriber() {
+        var stream = new EventStream<>("test", new BasicBlockingRecordQueue<String, Long>(Integer.MAX_VALUE));
+        var publisher = new AsyncMulticastEventStreamPublisher<>(stream);
+        CaptureSubscriber<String, Long> fast = new CaptureSubscriber<>();
+        CaptureSubscriber<String, Long> slow = new CaptureSubscriber<>();
+        publisher.subscribe(fast);
+        publisher.subscribe(slow);
+        SystemTime.SYSTEM.sleep(Duration.ofMillis(DEFAULT_TIMEOUT_MS));
+        fast.subscription.request(Long.MAX_VALUE);
+        SystemTime.SYSTEM.sleep(Duration.ofMillis(DEFAULT_TIMEOUT_MS));
+        for (long l = 0; l < 100; l++) {
+            stream.send(KV.of("key", l));
+        }
+        waitAndAssertReceived(fast, 100);
+        waitAndAssertReceived(slow, 0);
+        slow.subscription.request(100);
+        waitAndAssertReceived(slow, 100);
+        Assertions.assertEquals(fast.received, slow.received);
+    }
+
+    @Test
+    public void shouldDisconnectSubscriberGivenFullBufferAndDisconnectPolicy() {
+        var queue = new BasicBlockingRecordQueue<String, Long>(Integer.MAX_VALUE);
+        var stream = new EventStream<>("test", queue, 10, EventStream.OverflowPolicy.DISCONNECT);
+        var publisher = new AsyncMulticastEventStreamPublisher<>(stream);
+        CaptureSubscriber<String, Long> fast = new CaptureSubscriber<>();
+        CaptureSubscriber<String, Long> slow = new CaptureSubscriber<>();
+        publisher.subscribe(fast);
+        publisher.subscribe(slow);
+        SystemTime.SYSTEM.sleep(Duration.ofMillis(DEFAULT_TIMEOUT_MS));
+        fast.subscription.request(Long.MAX_VALUE);
+        SystemTime.SYSTEM.sleep(Duration.ofMillis(DEFAULT_TIMEOUT_MS));
+        for (long l = 0; l < 100; l++) {
+            stream.send(KV.of("key", l));
+        }
+        waitAndAssertReceived(fast, 100);
+        Assertions.assertTrue(slow.throwable instanceof SubscriberOverflowException);
+    }
+
+    @Test
+    public void shouldCountDroppedRecordsGivenFullBufferAndDropNewestPolicy() {
+        var queue = new BasicBlockingRecordQueue<String, Long>(Integer.MAX_VALUE);
+        var stream = new EventStream<>("test", queue, 10, EventStream.OverflowPolicy.DROP_NEWEST);
+        var publisher = new AsyncMulticastEventStreamPublisher<>(stream);
+        CaptureSubscriber<String, Long> fast = new CaptureSubscriber<>();
+        CaptureSubscriber<String, Long> slow = new CaptureSubscriber<>();
+        publisher.subscribe(fast);
+        publisher.subscribe(slow);
+        SystemTime.SYSTEM.sleep(Duration.ofMillis(DEFAULT_TIMEOUT_MS));
+        fast.subscription.request(Long.MAX_VALUE);
+        SystemTime.SYSTEM.sleep(Duration.ofMillis(DEFAULT_TIMEOUT_MS));
+        for (long l = 0; l < 100; l++) {
+            stream.send(KV.of("key", l));
+        }
+        waitAndAssertReceived(fast, 100);
+        Assertions.assertEquals(90, publisher.droppedRecords());
+        slow.subscription.request(100);
+        waitAndAssertReceived(slow, 10);
+    }
+
+    @Test
+    public void shouldDrainRecordsAndCompleteSubscribersGivenClosedEventLoopGroup() {
+        var group = new EventLoopGroup(1);
+        var stream = new EventStream<>("test", new BasicBlockingRecordQueue<String, Long>(Integer.MAX_VALUE));
+        var publisher = new AsyncMulticastEventStreamPublisher<>(stream, group);
+        CaptureSubscriber<String, Long> subscriber = new CaptureSubscriber<>();
+        publisher.subscribe(subscriber);
+        SystemTime.SYSTEM.sleep(Duration.ofMillis(DEFAULT_TIMEOUT_MS));
+        subscriber.subscription.request(Long.MAX_VALUE);
+        SystemTime.SYSTEM.sleep(Duration.ofMillis(DEFAULT_TIMEOUT_MS));
+
+        group.close();
+        stream.send(KV.of("key", 1L));
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), stream::close);
+        Assertions.assertEquals(List.of(KV.of("key", 1L)), subscriber.received);
+        Assertions.assertTrue(subscriber.complete);
+    }
+
     private void waitAndAssertReceived(final CaptureSubscriber<String, Long> subscriber, int expected) {
         SystemTime.SYSTEM.sleep(Duration.ofMillis(DEFAULT_TIMEOUT_MS));
         Assertions.assertEquals(expected, subscriber.received.size());
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.events.reactive;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class EventLoopGroupTest {
+
+    @Test
+    public void shouldPinSameKeyToSameLoop() {
+        try (var group = new EventLoopGroup(4)) {
+            Assertions.assertEquals(4, group.size());
+            var key = new Object();
+            Assertions.assertSame(group.next(key), group.next(key));
+            Assertions.assertSame(group.next(1), group.loops().get(1));
+            Assertions.assertSame(group.next(5), group.loops().get(1));
+        }
+    }
+
+    @Test
+    public void shouldExecuteTasksInSubmissionOrderAndRecordMetrics() throws InterruptedException {
+        try (var group = new EventLoopGroup(2)) {
+            var loop = group.next("key");
+            var executed = Collections.synchronizedList(new ArrayList<Integer>());
+            var latch = new CountDownLatch(100);
+            for (int i = 0; i < 100; i++) {
+                final int task = i;
+                loop.execute(() -> {
+                    executed.add(task);
+                    latch.countDown();
+                });
+            }
+            Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+            final List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 100; i++) expected.add(i);
+            Assertions.assertEquals(expected, executed);
+            Assertions.assertEquals(100, waitForExecutedTasks(loop, 100));
+            Assertions.assertTrue(loop.busyTimeNanos() > 0);
+        }
+    }
+
+    @Test
+    public void shouldThrowGivenInvalidNumLoops() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new EventLoopGroup(0));
+    }
+
+    private static long waitForExecutedTasks(final EventLoopGroup.EventLoopExecutor loop, final long expected)
+            throws InterruptedException {
+        // the counter is updated right after the task completes.
+        final long deadline = System.currentTimeMillis() + 5_000;
+        while (loop.executedTasks() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return loop.executedTasks();
+    }
+}
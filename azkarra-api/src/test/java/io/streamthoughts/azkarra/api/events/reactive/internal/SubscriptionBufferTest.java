@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.events.reactive.internal;
+
+import io.streamthoughts.azkarra.api.events.EventStream.OverflowPolicy;
+import io.streamthoughts.azkarra.api.model.KV;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SubscriptionBufferTest {
+
+    @Test
+    public void shouldDropOldestRecordGivenFullBufferAndDropOldestPolicy() {
+        var buffer = new SubscriptionBuffer<String, Integer>(2, OverflowPolicy.DROP_OLDEST);
+        Assertions.assertTrue(buffer.offer(KV.of("a", 1)));
+        Assertions.assertTrue(buffer.offer(KV.of("b", 2)));
+        Assertions.assertTrue(buffer.offer(KV.of("c", 3)));
+        Assertions.assertEquals(List.of(KV.of("b", 2), KV.of("c", 3)), pollAll(buffer));
+        Assertions.assertEquals(1, buffer.dropped());
+    }
+
+    @Test
+    public void shouldDropNewestRecordGivenFullBufferAndDropNewestPolicy() {
+        var buffer = new SubscriptionBuffer<String, Integer>(2, OverflowPolicy.DROP_NEWEST);
+        buffer.offer(KV.of("a", 1));
+        buffer.offer(KV.of("b", 2));
+        Assertions.assertTrue(buffer.offer(KV.of("c", 3)));
+        Assertions.assertEquals(List.of(KV.of("a", 1), KV.of("b", 2)), pollAll(buffer));
+        Assertions.assertEquals(1, buffer.dropped());
+    }
+
+    @Test
+    public void shouldRejectRecordGivenFullBufferAndDisconnectPolicy() {
+        var buffer = new SubscriptionBuffer<String, Integer>(1, OverflowPolicy.DISCONNECT);
+        Assertions.assertTrue(buffer.offer(KV.of("a", 1)));
+        Assertions.assertFalse(buffer.offer(KV.of("b", 2)));
+        Assertions.assertEquals(1, buffer.size());
+    }
+
+    @Test
+    public void shouldKeepLatestRecordPerKeyGivenConflatePolicy() {
+        var buffer = new SubscriptionBuffer<String, Integer>(2, OverflowPolicy.CONFLATE);
+        buffer.offer(KV.of("a", 1));
+        buffer.offer(KV.of("b", 1));
+        buffer.offer(KV.of("a", 2));
+        Assertions.assertEquals(2, buffer.size());
+        buffer.offer(KV.of("c", 1));
+        Assertions.assertEquals(List.of(KV.of("b", 1), KV.of("c", 1)), pollAll(buffer));
+        Assertions.assertEquals(1, buffer.dropped());
+    }
+
+    private static List<KV<String, Integer>> pollAll(final SubscriptionBuffer<String, Integer> buffer) {
+        final List<KV<String, Integer>> records = new ArrayList<>();
+        KV<String, Integer> record;
+        while ((record = buffer.poll()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
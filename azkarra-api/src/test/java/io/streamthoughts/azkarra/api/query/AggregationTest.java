@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class AggregationTest {
+
+    @Test
+    public void shouldCountAllRecordsAndCombinePartialCounts() {
+        Aggregation.Accumulator local = Aggregation.count().newAccumulator();
+        local.accumulate(KV.of("k1", "v1"));
+        local.accumulate(KV.of("k2", null));
+        Assertions.assertEquals(List.of(KV.of("count", 2L)), local.result());
+
+        Aggregation.Accumulator global = Aggregation.count().newAccumulator();
+        global.combine(local.result().get(0));
+        global.combine(KV.of("count", 3));
+        Assertions.assertEquals(List.of(KV.of("count", 5L)), global.result());
+    }
+
+    @Test
+    public void shouldAggregateNumericFieldGivenPath() {
+        Aggregation.Accumulator sum = Aggregation.sum("order.amount").newAccumulator();
+        Aggregation.Accumulator min = Aggregation.min("order.amount").newAccumulator();
+        Aggregation.Accumulator max = Aggregation.max("order.amount").newAccumulator();
+        for (Aggregation.Accumulator accumulator : List.of(sum, min, max)) {
+            accumulator.accumulate(KV.of("k1", Map.of("order", Map.of("amount", 10))));
+            accumulator.accumulate(KV.of("k2", Map.of("order", Map.of("amount", 2.5))));
+            accumulator.accumulate(KV.of("k3", Map.of("order", Map.of("other", 100))));
+        }
+        Assertions.assertEquals(List.of(KV.of("sum", 12.5)), sum.result());
+        Assertions.assertEquals(List.of(KV.of("min", 2.5)), min.result());
+        Assertions.assertEquals(List.of(KV.of("max", 10)), max.result());
+    }
+
+    @Test
+    public void shouldReturnRecordsWithHighestValuesGivenTopN() {
+        Aggregation.Accumulator local = Aggregation.topN(2, null).newAccumulator();
+        local.accumulate(KV.of("k1", 1L));
+        local.accumulate(KV.of("k2", 5L));
+        local.accumulate(KV.of("k3", 3L));
+        Assertions.assertEquals(List.of(KV.of("k2", 5L), KV.of("k3", 3L)), local.result());
+
+        Aggregation.Accumulator global = Aggregation.topN(2, null).newAccumulator();
+        local.result().forEach(global::combine);
+        global.combine(KV.of("k4", 4L));
+        Assertions.assertEquals(List.of(KV.of("k2", 5L), KV.of("k4", 4L)), global.result());
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionGivenTopNWithoutN() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new Aggregation(Aggregation.Operator.TOP_N, null, null));
+    }
+}
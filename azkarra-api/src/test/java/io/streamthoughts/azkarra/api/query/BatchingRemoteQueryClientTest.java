@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.monad.Tuple;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
+import io.streamthoughts.azkarra.api.query.result.QueryStatus;
+import io.streamthoughts.azkarra.api.streams.ServerHostInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchingRemoteQueryClientTest {
+
+    private static final ServerHostInfo SERVER_1 = new ServerHostInfo("app", "server-1", 1234, false);
+    private static final ServerHostInfo SERVER_2 = new ServerHostInfo("app", "server-2", 1234, false);
+
+    private static final QueryInfo QUERY_1 = new QueryInfo(
+        "store-1", StoreType.KEY_VALUE, StoreOperation.ALL, QueryParams.empty());
+    private static final QueryInfo QUERY_2 = new QueryInfo(
+        "store-2", StoreType.KEY_VALUE, StoreOperation.COUNT, QueryParams.empty());
+
+    private RemoteQueryClient delegate;
+
+    private BatchingRemoteQueryClient client;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = mock(RemoteQueryClient.class);
+        client = new BatchingRemoteQueryClient(delegate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldSendQueriesToSameServerAsSingleBatchWhenFlushed() {
+        final QueryResult<Object, Object> result1 = newQueryResult("store-1");
+        final QueryResult<Object, Object> result2 = newQueryResult("store-2");
+        when(delegate.queryBatch(eq(SERVER_1), any()))
+            .thenReturn(CompletableFuture.completedFuture(List.of(result1, result2)));
+
+        final CompletableFuture<QueryResult<Object, Object>> f1 =
+            client.query(SERVER_1, QUERY_1, Queried.immediately());
+        final CompletableFuture<QueryResult<Object, Object>> f2 =
+            client.query(SERVER_1, QUERY_2, Queried.immediately());
+        assertFalse(f1.isDone());
+        verify(delegate, never()).queryBatch(any(), any());
+
+        client.flush();
+
+        final ArgumentCaptor<List> queries = ArgumentCaptor.forClass(List.class);
+        verify(delegate, times(1)).queryBatch(eq(SERVER_1), queries.capture());
+        assertEquals(List.of(Tuple.of(QUERY_1, Queried.immediately()), Tuple.of(QUERY_2, Queried.immediately())),
+            queries.getValue());
+        assertSame(result1, f1.join());
+        assertSame(result2, f2.join());
+    }
+
+    @Test
+    public void shouldSendSingleQueryToServerWithoutBatchWhenFlushed() {
+        final QueryResult<Object, Object> result = newQueryResult("store-1");
+        when(delegate.query(SERVER_2, QUERY_1, Queried.immediately()))
+            .thenReturn(CompletableFuture.completedFuture(result));
+
+        final CompletableFuture<QueryResult<Object, Object>> future =
+            client.query(SERVER_2, QUERY_1, Queried.immediately());
+        client.flush();
+
+        assertSame(result, future.join());
+        verify(delegate, never()).queryBatch(any(), any());
+    }
+
+    @Test
+    public void shouldForwardQueriesDirectlyOnceFlushed() {
+        final QueryResult<Object, Object> result = newQueryResult("store-1");
+        when(delegate.query(SERVER_1, QUERY_1, Queried.immediately()))
+            .thenReturn(CompletableFuture.completedFuture(result));
+        client.flush();
+
+        final CompletableFuture<QueryResult<Object, Object>> future =
+            client.query(SERVER_1, QUERY_1, Queried.immediately());
+
+        assertSame(result, future.join());
+    }
+
+    private static QueryResult<Object, Object> newQueryResult(final String store) {
+        return QueryResultBuilder.newBuilder()
+            .setServer(SERVER_1.hostAndPort())
+            .setStoreName(store)
+            .setStatus(QueryStatus.SUCCESS)
+            .setTook(0L)
+            .build();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.errors.AzkarraException;
+import io.streamthoughts.azkarra.api.query.ContinuationToken.Position;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+public class ContinuationTokenTest {
+
+    @Test
+    public void shouldEncodeAndDecodeToken() {
+        final ContinuationToken token = new ContinuationToken(Map.of(
+            ContinuationToken.partitionScope(0), new Position(10, "key", false),
+            ContinuationToken.partitionScope(1), new Position(5, 42L, true),
+            ContinuationToken.hostScope("localhost:8080"), new Position(1, null, false)
+        ));
+        Assertions.assertEquals(token, ContinuationToken.decode(token.encode()));
+    }
+
+    @Test
+    public void shouldEncodeAndDecodeTokenGivenKeyLargerThan64KB() {
+        final String key = "\u00e9".repeat(70_000);
+        final ContinuationToken token = new ContinuationToken(Map.of(
+            ContinuationToken.sortedScope(), new Position(1, key, false)
+        ));
+        Assertions.assertEquals(token, ContinuationToken.decode(token.encode()));
+    }
+
+    @Test
+    public void shouldReturnEmptyTokenGivenNullString() {
+        Assertions.assertTrue(ContinuationToken.decode(null).isEmpty());
+    }
+
+    @Test
+    public void shouldThrowExceptionGivenInvalidToken() {
+        Assertions.assertThrows(AzkarraException.class, () -> ContinuationToken.decode("invalid!"));
+    }
+
+    @Test
+    public void shouldMergeTokensGivenPrecedenceToLatestPositions() {
+        final ContinuationToken previous = new ContinuationToken(Map.of(
+            ContinuationToken.partitionScope(0), new Position(2, "k2", false),
+            ContinuationToken.partitionScope(1), new Position(2, "k4", false)
+        ));
+        final ContinuationToken next = new ContinuationToken(Map.of(
+            ContinuationToken.partitionScope(0), new Position(3, "k3", true)
+        ));
+        final ContinuationToken merged = previous.merge(next);
+        Assertions.assertEquals(new Position(3, "k3", true), merged.position("p-0").get());
+        Assertions.assertEquals(new Position(2, "k4", false), merged.position("p-1").get());
+        Assertions.assertTrue(merged.hasMore());
+    }
+}
@@ -33,23 +33,34 @@ import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
 import io.streamthoughts.azkarra.api.streams.ServerHostInfo;
 import io.streamthoughts.azkarra.api.streams.ServerMetadata;
 import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.state.HostInfo;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.matches;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class DistributedQueryTest {
@@ -135,6 +146,30 @@ public class DistributedQueryTest {
         assertEquals(42L, success.get(0).getRecords().get(0).value());
     }
 
+    @Test
+    public void shouldNotWaitForRemoteHostGivenAsyncKeyQuery() {
+        distributed = new DistributedQuery<>(client, buildKeyValueQuery());
+        when(streams.applicationServer()).thenReturn("local:1234");
+        when(streams.findMetadataForStoreAndKey(any(), any(), any()))
+            .thenReturn(Optional.of(newKeyQueryMetadata("remote")));
+        when(streams.isSameHost(new HostInfo("remote", 1234))).thenReturn(false);
+
+        final CompletableFuture<QueryResult<Object, Object>> remote = new CompletableFuture<>();
+        when(client.query(any(), any(), any())).thenReturn(remote);
+
+        CompletableFuture<QueryResult<String, Long>> future = distributed.queryAsync(streams, Queried.immediately());
+        assertFalse(future.isDone());
+
+        remote.complete(new QueryResultBuilder<>()
+            .setServer(REMOTE_SERVER)
+            .setStatus(QueryStatus.SUCCESS)
+            .setSuccessResultSet(Collections.singletonList(
+                new SuccessResultSet<>(REMOTE_SERVER, true, Collections.singletonList(KV.of("key", 42L)))))
+            .build());
+        assertTrue(future.isDone());
+        assertEquals(QueryStatus.SUCCESS, future.join().getStatus());
+    }
+
     @Test
     public void shouldQueryLocalAndRemoteKVStateStoreGivenAllQuery() {
         Query<String, Long> all = new QueryBuilder(STORE_NAME).keyValue().all();
@@ -168,6 +203,270 @@ public class DistributedQueryTest {
         assertEquals(42L, success.get(1).getRecords().get(0).value());
     }
 
+    @Test
+    public void shouldQueryOnlyLocalInstanceGivenAllQueryOnGlobalStore() {
+        Query<String, Long> all = new QueryBuilder(STORE_NAME).keyValue().all();
+        distributed = new DistributedQuery<>(client, all.prepare());
+        when(streams.applicationServer()).thenReturn("local:1234");
+        when(streams.isGlobalStore(STORE_NAME)).thenReturn(true);
+        when(streams.allMetadataForStore(any()))
+            .thenReturn(Arrays.asList(
+                newServerMetadata("local", true),
+                newServerMetadata("remote", false))
+            );
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.all()).thenReturn(new InMemoryKeyValueIterator<>("key", 42L));
+        when(streams.localKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+
+        QueryResult<String, Long> result = distributed.query(streams, Queried.immediately());
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+        List<SuccessResultSet<String, Long>> success = result.getResult().getSuccess();
+        assertEquals(1, success.size());
+        assertEquals(42L, success.get(0).getRecords().get(0).value());
+        verify(client, never()).query(any(), any(), any());
+    }
+
+    @Test
+    public void shouldReturnPartialResultGivenAllQueryAndRemoteHostMissingDeadline() {
+        Query<String, Long> all = new QueryBuilder(STORE_NAME).keyValue().all();
+        distributed = new DistributedQuery<>(client, all.prepare());
+        when(streams.applicationServer()).thenReturn("local:1234");
+        when(streams.allMetadataForStore(any()))
+            .thenReturn(Arrays.asList(
+                newServerMetadata("local", true),
+                newServerMetadata("remote", false))
+            );
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.all()).thenReturn(new InMemoryKeyValueIterator<>("key", 42L));
+        when(streams.localKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+        when(client.query(any(), any(), any())).thenReturn(new CompletableFuture<>());
+
+        QueryResult<String, Long> result = distributed.query(streams, Queried.with(Duration.ofMillis(50)));
+        assertEquals(QueryStatus.PARTIAL, result.getStatus());
+        assertTrue(result.isTimeout());
+        assertEquals(1, result.getResult().getSuccess().size());
+        assertEquals(42L, result.getResult().getSuccess().get(0).getRecords().get(0).value());
+        assertEquals(1, result.getResult().getFailure().size());
+        assertEquals(REMOTE_SERVER, result.getResult().getFailure().get(0).getServer());
+
+        // the deadline is propagated to the remote host.
+        ArgumentCaptor<Queried> options = ArgumentCaptor.forClass(Queried.class);
+        verify(client).query(any(), any(), options.capture());
+        assertNotNull(options.getValue().deadline());
+    }
+
+    @Test
+    public void shouldCombineLocalAndRemotePartialAggregatesGivenAllQueryWithAggregation() {
+        Query<String, Long> all = new QueryBuilder(STORE_NAME).keyValue().all();
+        distributed = new DistributedQuery<>(client, all.prepare());
+        when(streams.applicationServer()).thenReturn("local:1234");
+        when(streams.allMetadataForStore(any()))
+            .thenReturn(Arrays.asList(
+                newServerMetadata("local", true),
+                newServerMetadata("remote", false))
+            );
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.all()).thenReturn(new InMemoryKeyValueIterator<>(List.of(
+            KeyValue.pair("k1", 1L), KeyValue.pair("k3", 3L), KeyValue.pair("k5", 5L))));
+        when(streams.localKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+
+        // the remote host returns its partial aggregate.
+        when(client.query(any(), any(), any()))
+            .thenReturn(CompletableFuture.completedFuture(
+                new QueryResultBuilder<>()
+                    .setServer(REMOTE_SERVER)
+                    .setStatus(QueryStatus.SUCCESS)
+                    .setSuccessResultSet(Collections.singletonList(
+                        new SuccessResultSet<>(REMOTE_SERVER, true, List.of(KV.of("sum", 10)))))
+                    .build()
+            ));
+
+        QueryResult<String, Long> result = distributed.query(
+            streams, Queried.immediately().withAggregation(Aggregation.sum(null)));
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+        assertEquals(1, result.getResult().getSuccess().size());
+        assertEquals(List.of(KV.of("sum", 19L)), result.getResult().getSuccess().get(0).getRecords());
+
+        ArgumentCaptor<Queried> options = ArgumentCaptor.forClass(Queried.class);
+        verify(client).query(any(), any(), options.capture());
+        assertEquals(Aggregation.sum(null), options.getValue().aggregation());
+    }
+
+    @Test
+    public void shouldAggregateRemoteRecordsGivenKeyQueryWithAggregation() {
+        distributed = new DistributedQuery<>(client, buildKeyValueQuery());
+        when(streams.applicationServer()).thenReturn("local:1234");
+        when(streams.findMetadataForStoreAndKey(any(), any(), any()))
+            .thenReturn(Optional.of(newKeyQueryMetadata("remote")));
+        when(streams.isSameHost(new HostInfo("remote", 1234))).thenReturn(false);
+
+        // values are only returned deserialized if requested, otherwise they are opaque to the caller.
+        when(client.query(any(), any(), any())).thenAnswer(invocation -> {
+            final Queried queried = (Queried) invocation.getArguments()[2];
+            final Object value = queried.decodedValues() ? 42L : new Object();
+            return CompletableFuture.completedFuture(new QueryResultBuilder<>()
+                .setServer(REMOTE_SERVER)
+                .setStatus(QueryStatus.SUCCESS)
+                .setSuccessResultSet(Collections.singletonList(
+                    new SuccessResultSet<>(REMOTE_SERVER, true, List.of(KV.of("key", value)))))
+                .build());
+        });
+
+        QueryResult<String, Long> result = distributed.query(
+            streams, Queried.immediately().withAggregation(Aggregation.sum(null)));
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+        assertEquals(List.of(KV.of("sum", 42L)), result.getResult().getSuccess().get(0).getRecords());
+
+        ArgumentCaptor<Queried> options = ArgumentCaptor.forClass(Queried.class);
+        verify(client).query(any(), any(), options.capture());
+        assertTrue(options.getValue().decodedValues());
+        assertNull(options.getValue().aggregation());
+    }
+
+    @Test
+    public void shouldMergeLocalAndRemoteRecordsSortedByKeyGivenOrderedAllQuery() {
+        Query<String, Long> all = new QueryBuilder(STORE_NAME).keyValue().all();
+        distributed = new DistributedQuery<>(client, all.prepare());
+        when(streams.applicationServer()).thenReturn("local:1234");
+        when(streams.allMetadataForStore(any()))
+            .thenReturn(Arrays.asList(
+                newServerMetadata("local", true),
+                newServerMetadata("remote", false))
+            );
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.all()).thenReturn(new InMemoryKeyValueIterator<>(List.of(
+            KeyValue.pair("k1", 1L), KeyValue.pair("k3", 3L), KeyValue.pair("k5", 5L))));
+        when(streams.localKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+
+        when(client.query(any(), any(), any()))
+            .thenReturn(CompletableFuture.completedFuture(
+                new QueryResultBuilder<>()
+                    .setServer(REMOTE_SERVER)
+                    .setStatus(QueryStatus.SUCCESS)
+                    .setSuccessResultSet(Collections.singletonList(
+                        new SuccessResultSet<>(REMOTE_SERVER, true, List.of(KV.of("k2", 2L), KV.of("k4", 4L)))))
+                    .build()
+            ));
+
+        QueryResult<String, Long> result = distributed.query(streams, Queried.immediately()
+            .withLimit(3L)
+            .withOrdered(true));
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+
+        List<SuccessResultSet<String, Long>> success = result.getResult().getSuccess();
+        assertEquals(1, success.size());
+        assertEquals(List.of(KV.of("k1", 1L), KV.of("k2", 2L), KV.of("k3", 3L)), success.get(0).getRecords());
+
+        ContinuationToken token = ContinuationToken.decode(result.getContinuation());
+        assertEquals("k3", token.position(ContinuationToken.sortedScope()).get().lastKey());
+    }
+
+    @Test
+    public void shouldSendOneRequestPerRemoteHostGivenMultiGetQuery() {
+        Query<String, Long> multiGet = new QueryBuilder(STORE_NAME).keyValue().multiGet();
+        distributed = new DistributedQuery<>(client, multiGet.prepare(new QueryParams(new HashMap<>() {{
+            put(KeyValueQueryBuilder.QUERY_PARAM_KEYS, List.of("k1", "k2", "k3"));
+        }})));
+        when(streams.applicationId()).thenReturn("app");
+        when(streams.applicationServer()).thenReturn("local:1234");
+        when(streams.findMetadataForStoreAndKey(matches(STORE_NAME), eq("k1"), any()))
+            .thenReturn(Optional.of(newKeyQueryMetadata("local")));
+        when(streams.findMetadataForStoreAndKey(matches(STORE_NAME), eq("k2"), any()))
+            .thenReturn(Optional.of(newKeyQueryMetadata("remote")));
+        when(streams.findMetadataForStoreAndKey(matches(STORE_NAME), eq("k3"), any()))
+            .thenReturn(Optional.of(newKeyQueryMetadata("remote")));
+        when(streams.isSameHost(new HostInfo("local", 1234))).thenReturn(true);
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.get("k1")).thenReturn(1L);
+        when(streams.localKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+
+        QueryResult<String, Long> result = distributed.query(streams, Queried.immediately());
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+        assertEquals(2, result.getResult().getSuccess().size());
+
+        ArgumentCaptor<PreparedQuery> captor = ArgumentCaptor.forClass(PreparedQuery.class);
+        verify(client, times(1)).query(eq(new ServerHostInfo("app", "remote", 1234, false)), captor.capture(), any());
+        assertEquals(List.of("k2", "k3"), captor.getValue().keys());
+    }
+
+    @Test
+    public void shouldAnswerFromLocalStandbyGivenHedgedKeyQueryAndActiveHostNotAnswering() {
+        distributed = new DistributedQuery<>(client, buildKeyValueQuery());
+        mockLocalStandbyForKeyOwnedByRemote(0L);
+        when(client.query(any(), any(), any())).thenReturn(new CompletableFuture<>());
+
+        QueryResult<String, Long> result = distributed.query(streams, Queried.immediately()
+            .withHedgeDelay(Duration.ofMillis(10)));
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+        List<SuccessResultSet<String, Long>> success = result.getResult().getSuccess();
+        assertEquals("local:1234", success.get(0).getServer());
+        assertEquals(24L, success.get(0).getRecords().get(0).value());
+    }
+
+    @Test
+    public void shouldAnswerFromActiveHostGivenHedgedKeyQueryAndStandbyLaggingBehind() {
+        distributed = new DistributedQuery<>(client, buildKeyValueQuery());
+        mockLocalStandbyForKeyOwnedByRemote(100L);
+        final QueryResult<Object, Object> remote = new QueryResultBuilder<>()
+            .setServer(REMOTE_SERVER)
+            .setStatus(QueryStatus.SUCCESS)
+            .setSuccessResultSet(Collections.singletonList(
+                new SuccessResultSet<>(REMOTE_SERVER, true, Collections.singletonList(KV.of("key", 42L)))))
+            .build();
+        when(client.query(any(), any(), any())).thenReturn(CompletableFuture.supplyAsync(
+            () -> remote,
+            CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS))
+        );
+
+        QueryResult<String, Long> result = distributed.query(streams, Queried.immediately()
+            .withHedgeDelay(Duration.ofMillis(10))
+            .withMaxStaleness(10L));
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+        assertEquals(42L, result.getResult().getSuccess().get(0).getRecords().get(0).value());
+    }
+
+    @Test
+    public void shouldAnswerFromLocalStandbyWithoutQueryingActiveHostGivenLagWithinMaxStaleness() {
+        distributed = new DistributedQuery<>(client, buildKeyValueQuery());
+        mockLocalStandbyForKeyOwnedByRemote(5L);
+
+        QueryResult<String, Long> result = distributed.query(streams, Queried.immediately().withMaxStaleness(10L));
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+        assertEquals(24L, result.getResult().getSuccess().get(0).getRecords().get(0).value());
+        verify(client, never()).query(any(), any(), any());
+    }
+
+    @Test
+    public void shouldQueryActiveHostGivenLocalStandbyLagExceedingMaxStaleness() {
+        distributed = new DistributedQuery<>(client, buildKeyValueQuery());
+        mockLocalStandbyForKeyOwnedByRemote(100L);
+
+        QueryResult<String, Long> result = distributed.query(streams, Queried.immediately().withMaxStaleness(10L));
+        assertEquals(QueryStatus.SUCCESS, result.getStatus());
+        assertEquals(42L, result.getResult().getSuccess().get(0).getRecords().get(0).value());
+    }
+
+    private void mockLocalStandbyForKeyOwnedByRemote(final long standbyLag) {
+        when(streams.applicationServer()).thenReturn("local:1234");
+        when(streams.findMetadataForStoreAndKey(any(), any(), any()))
+            .thenReturn(Optional.of(new KeyQueryMetadata(
+                new HostInfo("remote", 1234),
+                Collections.singleton(new HostInfo("local", 1234)),
+                0)));
+        when(streams.isSameHost(new HostInfo("local", 1234))).thenReturn(true);
+        when(streams.localStorePartitionLag(STORE_NAME, 0)).thenReturn(Optional.of(standbyLag));
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.get("key")).thenReturn(24L);
+        when(streams.localStoreReplica(matches(STORE_NAME), any(), eq(0)))
+            .thenReturn(new LocalStoreAccessor<>(() -> store));
+    }
+
     private PreparedQuery<String, Long> buildKeyValueQuery() {
         Query<String, Long> query = new QueryBuilder(STORE_NAME).keyValue().get();
         return query.prepare(new QueryParams(new HashMap<>() {{
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.InMemoryKeyValueIterator;
+import io.streamthoughts.azkarra.api.errors.AzkarraException;
+import io.streamthoughts.azkarra.api.monad.Try;
+import org.apache.kafka.streams.KeyValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IteratorPublisherTest {
+
+    private InMemoryKeyValueIterator<String, String> iterator;
+
+    @BeforeEach
+    public void setUp() {
+        iterator = new InMemoryKeyValueIterator<>(List.of(
+            KeyValue.pair("k1", "v1"),
+            KeyValue.pair("k2", "v2"),
+            KeyValue.pair("k3", "v3")
+        ));
+    }
+
+    @Test
+    public void shouldOnlyEmitRequestedRecords() {
+        final RecordingSubscriber subscriber = subscribe(LocalStoreQuery.NO_LIMIT);
+
+        subscriber.subscription.request(2);
+        assertEquals(List.of("k1", "k2"), subscriber.records);
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(2);
+        assertEquals(List.of("k1", "k2", "k3"), subscriber.records);
+        assertTrue(subscriber.completed);
+        assertTrue(iterator.isClosed());
+    }
+
+    @Test
+    public void shouldCompleteAndCloseIteratorWhenLimitIsReached() {
+        final RecordingSubscriber subscriber = subscribe(1);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(List.of("k1"), subscriber.records);
+        assertTrue(subscriber.completed);
+        assertTrue(iterator.isClosed());
+    }
+
+    @Test
+    public void shouldCloseIteratorWhenSubscriptionIsCancelled() {
+        final RecordingSubscriber subscriber = subscribe(LocalStoreQuery.NO_LIMIT);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        assertEquals(List.of("k1"), subscriber.records);
+        assertFalse(subscriber.completed);
+        assertTrue(iterator.isClosed());
+    }
+
+    @Test
+    public void shouldSignalErrorGivenNonPositiveRequest() {
+        final RecordingSubscriber subscriber = subscribe(LocalStoreQuery.NO_LIMIT);
+
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void shouldSignalErrorGivenIteratorCannotBeOpened() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        IteratorPublisher.<String>ofList(() -> Try.failure(new AzkarraException("failed"))).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertNotNull(subscriber.error);
+        assertTrue(subscriber.records.isEmpty());
+    }
+
+    private RecordingSubscriber subscribe(final long limit) {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        IteratorPublisher.ofKeyValueIterator(() -> Try.success(iterator), kv -> kv.key, limit).subscribe(subscriber);
+        return subscriber;
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<String> {
+
+        final List<String> records = new ArrayList<>();
+        Flow.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final String item) {
+            records.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
+import io.streamthoughts.azkarra.api.query.result.QueryStatus;
+import io.streamthoughts.azkarra.api.time.Time;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryCoalescerTest {
+
+    private static final String APPLICATION_ID = "app";
+
+    private static final String SERVER = "server";
+
+    private final QueryCoalescer coalescer = new QueryCoalescer();
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    public void shouldShareExecutionGivenIdenticalInFlightQueries() {
+        final CompletableFuture<QueryResult<String, Long>> execution = new CompletableFuture<>();
+
+        CompletableFuture<QueryResult<String, Long>> first = execute("key", execution);
+        CompletableFuture<QueryResult<String, Long>> second = execute("key", execution);
+
+        assertSame(first, second);
+        assertEquals(1, executions.get());
+        assertEquals(1, coalescer.coalesced());
+
+        final QueryResult<String, Long> result = newResult();
+        execution.complete(result);
+        assertSame(result, first.join());
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    public void shouldNotShareExecutionGivenDifferentParameters() {
+        final CompletableFuture<QueryResult<String, Long>> execution = new CompletableFuture<>();
+        execute("k1", execution);
+        execute("k2", execution);
+        assertEquals(2, executions.get());
+        assertEquals(0, coalescer.coalesced());
+    }
+
+    @Test
+    public void shouldExecuteAgainGivenCompletedQuery() {
+        execute("key", CompletableFuture.completedFuture(newResult()));
+        execute("key", CompletableFuture.completedFuture(newResult()));
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyGivenFailedExecution() {
+        CompletableFuture<QueryResult<String, Long>> future = coalescer.execute(
+            APPLICATION_ID, SERVER, newQuery("key"), Queried.immediately(), () -> {
+                throw new IllegalStateException();
+            });
+        assertTrue(future.isCompletedExceptionally());
+        assertFalse(coalescer.inFlight() > 0);
+    }
+
+    @Test
+    public void shouldExecuteAgainGivenTimedOutExecutionWithEarlierDeadline() {
+        final CompletableFuture<QueryResult<String, Long>> leaderExecution = new CompletableFuture<>();
+        final long deadline = Time.SYSTEM.milliseconds() + 60_000;
+        execute("key", Queried.immediately().withDeadline(deadline), leaderExecution);
+
+        final QueryResult<String, Long> result = newResult();
+        CompletableFuture<QueryResult<String, Long>> joiner = execute(
+            "key", Queried.immediately(), CompletableFuture.completedFuture(result));
+        assertEquals(1, coalescer.coalesced());
+
+        leaderExecution.complete(newResult().timeout(true));
+        assertSame(result, joiner.join());
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    public void shouldReturnTimedOutResultGivenJoinerWithEarlierDeadline() throws Exception {
+        final CompletableFuture<QueryResult<String, Long>> leaderExecution = new CompletableFuture<>();
+        CompletableFuture<QueryResult<String, Long>> leader = execute("key", Queried.immediately(), leaderExecution);
+
+        final long deadline = Time.SYSTEM.milliseconds() + 10;
+        CompletableFuture<QueryResult<String, Long>> joiner = execute(
+            "key", Queried.immediately().withDeadline(deadline), leaderExecution);
+        assertEquals(1, coalescer.coalesced());
+
+        assertTrue(joiner.get(5, TimeUnit.SECONDS).isTimeout());
+        assertFalse(leader.isDone());
+        assertEquals(1, executions.get());
+    }
+
+    private CompletableFuture<QueryResult<String, Long>> execute(
+            final String key,
+            final CompletableFuture<QueryResult<String, Long>> execution) {
+        return execute(key, Queried.immediately(), execution);
+    }
+
+    private CompletableFuture<QueryResult<String, Long>> execute(
+            final String key,
+            final Queried options,
+            final CompletableFuture<QueryResult<String, Long>> execution) {
+        return coalescer.execute(APPLICATION_ID, SERVER, newQuery(key), options, () -> {
+            executions.incrementAndGet();
+            return execution;
+        });
+    }
+
+    private static QueryInfo newQuery(final String key) {
+        return new QueryInfo("store", StoreType.KEY_VALUE, StoreOperation.GET, new QueryParams(Map.of("key", key)));
+    }
+
+    private static QueryResult<String, Long> newResult() {
+        return new QueryResultBuilder<String, Long>().setServer("server").setStatus(QueryStatus.SUCCESS).build();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
+import io.streamthoughts.azkarra.api.query.result.QueryStatus;
+import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
+import io.streamthoughts.azkarra.api.time.Time;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryResultCacheTest {
+
+    private static final String STORE_NAME = "store";
+
+    private final MockTime time = new MockTime();
+
+    @Test
+    public void shouldReturnCachedResultGivenSameQueryAndParameters() {
+        QueryResultCache cache = new QueryResultCache(10, Duration.ofSeconds(1), Collections.emptyMap(), time);
+        QueryResult<String, Long> result = newResult(QueryStatus.SUCCESS);
+        cache.put(newQuery("key"), Queried.immediately(), result);
+
+        assertSame(result, cache.get(newQuery("key"), Queried.immediately()).get());
+        assertFalse(cache.get(newQuery("other"), Queried.immediately()).isPresent());
+        assertFalse(cache.get(newQuery("key"), Queried.locally()).isPresent());
+
+        QueryResultCacheStats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(1, stats.size());
+        assertTrue(stats.estimatedSizeInBytes() > 0);
+    }
+
+    @Test
+    public void shouldExpireResultsGivenStoreTtl() {
+        QueryResultCache cache = new QueryResultCache(
+            10, Duration.ofSeconds(10), Map.of(STORE_NAME, Duration.ofMillis(100)), time);
+        cache.put(newQuery("key"), Queried.immediately(), newResult(QueryStatus.SUCCESS));
+
+        time.sleep(Duration.ofMillis(100));
+        assertFalse(cache.get(newQuery("key"), Queried.immediately()).isPresent());
+        assertEquals(new QueryResultCacheStats(0, 1, 0, 0, 0), cache.stats());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedResultGivenMaxEntries() {
+        QueryResultCache cache = new QueryResultCache(2, Duration.ofSeconds(1), Collections.emptyMap(), time);
+        cache.put(newQuery("k1"), Queried.immediately(), newResult(QueryStatus.SUCCESS));
+        cache.put(newQuery("k2"), Queried.immediately(), newResult(QueryStatus.SUCCESS));
+        cache.get(newQuery("k1"), Queried.immediately());
+        cache.put(newQuery("k3"), Queried.immediately(), newResult(QueryStatus.SUCCESS));
+
+        assertTrue(cache.get(newQuery("k1"), Queried.immediately()).isPresent());
+        assertFalse(cache.get(newQuery("k2"), Queried.immediately()).isPresent());
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    public void shouldNotCacheIncompleteResults() {
+        QueryResultCache cache = new QueryResultCache(10, Duration.ofSeconds(1), Collections.emptyMap(), time);
+        cache.put(newQuery("key"), Queried.immediately(), newResult(QueryStatus.PARTIAL));
+        assertFalse(cache.get(newQuery("key"), Queried.immediately()).isPresent());
+    }
+
+    @Test
+    public void shouldRemoveAllResultsOnInvalidation() {
+        QueryResultCache cache = new QueryResultCache(10, Duration.ofSeconds(1), Collections.emptyMap(), time);
+        cache.put(newQuery("key"), Queried.immediately(), newResult(QueryStatus.SUCCESS));
+        cache.invalidateAll();
+        assertFalse(cache.get(newQuery("key"), Queried.immediately()).isPresent());
+        assertEquals(0, cache.stats().estimatedSizeInBytes());
+    }
+
+    @Test
+    public void shouldNotCacheResultGivenInvalidationDuringExecution() {
+        QueryResultCache cache = new QueryResultCache(10, Duration.ofSeconds(1), Collections.emptyMap(), time);
+        final long generation = cache.generation();
+        // the streams instance is rebalancing while the query is executed.
+        cache.invalidateAll();
+        cache.put(newQuery("key"), Queried.immediately(), newResult(QueryStatus.SUCCESS), generation);
+        assertFalse(cache.get(newQuery("key"), Queried.immediately()).isPresent());
+
+        cache.put(newQuery("key"), Queried.immediately(), newResult(QueryStatus.SUCCESS), cache.generation());
+        assertTrue(cache.get(newQuery("key"), Queried.immediately()).isPresent());
+    }
+
+    private static QueryInfo newQuery(final String key) {
+        return new QueryInfo(STORE_NAME, StoreType.KEY_VALUE, StoreOperation.GET, new QueryParams(Map.of("key", key)));
+    }
+
+    private static QueryResult<String, Long> newResult(final QueryStatus status) {
+        final SuccessResultSet<String, Long> rs = new SuccessResultSet<>("server", false, List.of(KV.of("key", 1L)));
+        return new QueryResultBuilder<String, Long>()
+            .setServer("server")
+            .setStatus(status)
+            .setSuccessResultSet(List.of(rs))
+            .build();
+    }
+
+    private static class MockTime implements Time {
+
+        private long milliseconds = 0L;
+
+        @Override
+        public long milliseconds() {
+            return milliseconds;
+        }
+
+        @Override
+        public long nanoseconds() {
+            return milliseconds * 1_000_000L;
+        }
+
+        @Override
+        public void sleep(final Duration duration) {
+            milliseconds += duration.toMillis();
+        }
+    }
+}
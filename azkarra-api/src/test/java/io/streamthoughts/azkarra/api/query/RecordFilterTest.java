@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class RecordFilterTest {
+
+    @Test
+    public void shouldMatchRecordsGivenKeyPrefix() {
+        RecordFilter filter = new RecordFilter("user-", null);
+        Assertions.assertTrue(filter.test(KV.of("user-1", "v1")));
+        Assertions.assertFalse(filter.test(KV.of("order-1", "v1")));
+        Assertions.assertFalse(filter.test(KV.of(null, "v1")));
+    }
+
+    @Test
+    public void shouldMatchRecordsGivenAllValueConditions() {
+        RecordFilter filter = new RecordFilter(null, List.of(
+            new RecordFilter.Condition("status", RecordFilter.Operator.EQ, "OPEN"),
+            new RecordFilter.Condition("order.amount", RecordFilter.Operator.GT, 10)
+        ));
+        Assertions.assertTrue(filter.test(KV.of("k1", Map.of("status", "OPEN", "order", Map.of("amount", 12.5)))));
+        Assertions.assertFalse(filter.test(KV.of("k2", Map.of("status", "OPEN", "order", Map.of("amount", 10L)))));
+        Assertions.assertFalse(filter.test(KV.of("k3", Map.of("status", "CLOSED", "order", Map.of("amount", 20)))));
+        Assertions.assertFalse(filter.test(KV.of("k4", Map.of("status", "OPEN"))));
+    }
+
+    @Test
+    public void shouldProjectNestedFieldsIdempotently() {
+        Projection projection = new Projection(List.of("status", "order.amount"));
+        Object projected = projection.apply(Map.of("status", "OPEN", "id", 1, "order", Map.of("amount", 10, "id", 2)));
+        Assertions.assertEquals(Map.of("status", "OPEN", "order", Map.of("amount", 10)), projected);
+        Assertions.assertEquals(projected, projection.apply(projected));
+    }
+}
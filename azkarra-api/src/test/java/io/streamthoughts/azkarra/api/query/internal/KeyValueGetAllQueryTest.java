@@ -21,14 +21,20 @@ package io.streamthoughts.azkarra.api.query.internal;
 import io.streamthoughts.azkarra.api.InMemoryKeyValueIterator;
 import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.ContinuationToken;
+import io.streamthoughts.azkarra.api.query.LocalScan;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.query.LocalStorePage;
+import io.streamthoughts.azkarra.api.query.RecordFilter;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.util.List;
+import java.util.TreeSet;
 
 import static org.mockito.Matchers.matches;
 import static org.mockito.Mockito.mock;
@@ -51,4 +57,112 @@ public class KeyValueGetAllQueryTest {
         Assertions.assertEquals(1, result.get().size());
         Assertions.assertEquals(KV.of("key", "value"), result.get().get(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldGetAllPageByPageGivenLocalPartitions() {
+        KeyValueGetAllQuery<String, String> query = new KeyValueGetAllQuery<>(STORE_NAME);
+        final var mkContainer = Mockito.mock(KafkaStreamsContainer.class);
+        when(mkContainer.localActivePartitionsForStore(STORE_NAME)).thenReturn(new TreeSet<>(List.of(0, 1)));
+
+        ReadOnlyKeyValueStore p0 = mock(ReadOnlyKeyValueStore.class);
+        when(p0.all()).thenAnswer(i -> new InMemoryKeyValueIterator<>(List.of(pair("k1", "v1"), pair("k2", "v2"))));
+        ReadOnlyKeyValueStore p1 = mock(ReadOnlyKeyValueStore.class);
+        when(p1.all()).thenAnswer(i -> new InMemoryKeyValueIterator<>(List.of(pair("k3", "v3"))));
+        when(mkContainer.localKeyValueStore(STORE_NAME, 0)).thenReturn(new LocalStoreAccessor<>(() -> p0));
+        when(mkContainer.localKeyValueStore(STORE_NAME, 1)).thenReturn(new LocalStoreAccessor<>(() -> p1));
+
+        LocalStorePage<String, String> first = query.execute(
+            mkContainer, LocalScan.of(2, ContinuationToken.empty())).get();
+        Assertions.assertEquals(List.of(KV.of("k1", "v1"), KV.of("k2", "v2")), first.records());
+        Assertions.assertTrue(first.continuation().hasMore());
+
+        ContinuationToken token = ContinuationToken.decode(first.continuation().encode());
+        LocalStorePage<String, String> second = query.execute(mkContainer, LocalScan.of(2, token)).get();
+        Assertions.assertEquals(List.of(KV.of("k3", "v3")), second.records());
+        Assertions.assertFalse(second.continuation().hasMore());
+    }
+
+    @Test
+    public void shouldGetAllPageByPageGivenLocalPartitionsScannedInParallel() {
+        KeyValueGetAllQuery<String, String> query = new KeyValueGetAllQuery<>(STORE_NAME);
+        final var mkContainer = Mockito.mock(KafkaStreamsContainer.class);
+        when(mkContainer.localActivePartitionsForStore(STORE_NAME)).thenReturn(new TreeSet<>(List.of(0, 1, 2)));
+
+        ReadOnlyKeyValueStore p0 = mock(ReadOnlyKeyValueStore.class);
+        when(p0.all()).thenAnswer(i -> new InMemoryKeyValueIterator<>(List.of(pair("k1", "v1"), pair("k2", "v2"))));
+        ReadOnlyKeyValueStore p1 = mock(ReadOnlyKeyValueStore.class);
+        when(p1.all()).thenAnswer(i -> new InMemoryKeyValueIterator<>(List.of(pair("k3", "v3"), pair("k4", "v4"))));
+        ReadOnlyKeyValueStore p2 = mock(ReadOnlyKeyValueStore.class);
+        when(p2.all()).thenAnswer(i -> new InMemoryKeyValueIterator<>(List.of(pair("k5", "v5"))));
+        when(mkContainer.localKeyValueStore(STORE_NAME, 0)).thenReturn(new LocalStoreAccessor<>(() -> p0));
+        when(mkContainer.localKeyValueStore(STORE_NAME, 1)).thenReturn(new LocalStoreAccessor<>(() -> p1));
+        when(mkContainer.localKeyValueStore(STORE_NAME, 2)).thenReturn(new LocalStoreAccessor<>(() -> p2));
+
+        LocalStorePage<String, String> first = query.execute(
+            mkContainer, LocalScan.of(3, ContinuationToken.empty()).withParallel(true)).get();
+        Assertions.assertEquals(List.of(KV.of("k1", "v1"), KV.of("k2", "v2"), KV.of("k3", "v3")), first.records());
+        Assertions.assertTrue(first.continuation().hasMore());
+
+        ContinuationToken token = ContinuationToken.decode(first.continuation().encode());
+        LocalStorePage<String, String> second = query.execute(
+            mkContainer, LocalScan.of(3, token).withParallel(true)).get();
+        Assertions.assertEquals(List.of(KV.of("k4", "v4"), KV.of("k5", "v5")), second.records());
+        Assertions.assertFalse(second.continuation().hasMore());
+    }
+
+    @Test
+    public void shouldStopScanAndResumeFromContinuationGivenExpiredDeadline() {
+        KeyValueGetAllQuery<String, String> query = new KeyValueGetAllQuery<>(STORE_NAME);
+        final var mkContainer = Mockito.mock(KafkaStreamsContainer.class);
+        when(mkContainer.localActivePartitionsForStore(STORE_NAME)).thenReturn(new TreeSet<>(List.of(0)));
+
+        ReadOnlyKeyValueStore p0 = mock(ReadOnlyKeyValueStore.class);
+        when(p0.all()).thenAnswer(i -> new InMemoryKeyValueIterator<>(List.of(pair("k1", "v1"), pair("k2", "v2"))));
+        when(mkContainer.localKeyValueStore(STORE_NAME, 0)).thenReturn(new LocalStoreAccessor<>(() -> p0));
+
+        final long expired = System.currentTimeMillis() - 1;
+        LocalStorePage<String, String> first = query.execute(
+            mkContainer, LocalScan.of(-1, ContinuationToken.empty()).withDeadline(expired)).get();
+        Assertions.assertTrue(first.records().isEmpty());
+        Assertions.assertTrue(first.continuation().hasMore());
+
+        ContinuationToken token = ContinuationToken.decode(first.continuation().encode());
+        LocalStorePage<String, String> second = query.execute(mkContainer, LocalScan.of(-1, token)).get();
+        Assertions.assertEquals(List.of(KV.of("k1", "v1"), KV.of("k2", "v2")), second.records());
+        Assertions.assertFalse(second.continuation().hasMore());
+    }
+
+    @Test
+    public void shouldGetAllPageByPageGivenFilterRejectingRecords() {
+        KeyValueGetAllQuery<String, String> query = new KeyValueGetAllQuery<>(STORE_NAME);
+        final var mkContainer = Mockito.mock(KafkaStreamsContainer.class);
+        when(mkContainer.localActivePartitionsForStore(STORE_NAME)).thenReturn(new TreeSet<>(List.of(0)));
+
+        ReadOnlyKeyValueStore p0 = mock(ReadOnlyKeyValueStore.class);
+        when(p0.all()).thenAnswer(i -> new InMemoryKeyValueIterator<>(
+            List.of(pair("k1", "a"), pair("k2", "b"), pair("k3", "a"), pair("k4", "b"))));
+        when(mkContainer.localKeyValueStore(STORE_NAME, 0)).thenReturn(new LocalStoreAccessor<>(() -> p0));
+
+        final RecordFilter filter = new RecordFilter(null, List.of(
+            new RecordFilter.Condition(null, RecordFilter.Operator.EQ, "a")));
+
+        LocalStorePage<String, String> first = query.execute(
+            mkContainer, LocalScan.of(1, ContinuationToken.empty()).withFilter(filter)).get();
+        Assertions.assertEquals(List.of(KV.of("k1", "a")), first.records());
+        Assertions.assertTrue(first.continuation().hasMore());
+
+        LocalStorePage<String, String> second = query.execute(
+            mkContainer, LocalScan.of(1, first.continuation()).withFilter(filter)).get();
+        Assertions.assertEquals(List.of(KV.of("k3", "a")), second.records());
+        Assertions.assertTrue(second.continuation().hasMore());
+
+        LocalStorePage<String, String> third = query.execute(
+            mkContainer, LocalScan.of(1, second.continuation()).withFilter(filter)).get();
+        Assertions.assertTrue(third.records().isEmpty());
+        Assertions.assertFalse(third.continuation().hasMore());
+    }
+
+    private static KeyValue<String, String> pair(final String key, final String value) {
+        return KeyValue.pair(key, value);
+    }
+}
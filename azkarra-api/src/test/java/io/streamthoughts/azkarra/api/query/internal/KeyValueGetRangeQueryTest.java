@@ -21,14 +21,21 @@ package io.streamthoughts.azkarra.api.query.internal;
 import io.streamthoughts.azkarra.api.InMemoryKeyValueIterator;
 import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.query.ContinuationToken;
+import io.streamthoughts.azkarra.api.query.ContinuationToken.Position;
+import io.streamthoughts.azkarra.api.query.LocalScan;
 import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.query.LocalStorePage;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.Matchers.matches;
 import static org.mockito.Mockito.mock;
@@ -53,4 +60,44 @@ public class KeyValueGetRangeQueryTest {
         Assertions.assertEquals(1, result.get().size());
         Assertions.assertEquals(KV.of("keyFrom", "value"), result.get().get(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldResumeRangeFromLastKeyGivenContinuationToken() {
+        KeyValueGetRangeQuery<String, String> query = new KeyValueGetRangeQuery<>(STORE_NAME, "k1", "k9");
+        final var mkContainer = Mockito.mock(KafkaStreamsContainer.class);
+        when(mkContainer.localActivePartitionsForStore(STORE_NAME)).thenReturn(Set.of(0));
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.range("k2", "k9")).thenReturn(new InMemoryKeyValueIterator<>(
+            List.of(KeyValue.pair("k2", "v2"), KeyValue.pair("k3", "v3")))
+        );
+        when(mkContainer.localKeyValueStore(STORE_NAME, 0)).thenReturn(new LocalStoreAccessor<>(() -> store));
+
+        final String scope = ContinuationToken.partitionScope(0);
+        final ContinuationToken token = new ContinuationToken(Map.of(scope, new Position(2, "k2", false)));
+
+        LocalStorePage<String, String> page = query.execute(mkContainer, LocalScan.of(10, token)).get();
+        Assertions.assertEquals(List.of(KV.of("k3", "v3")), page.records());
+        Assertions.assertEquals(new Position(3, "k3", true), page.continuation().position(scope).get());
+    }
+
+    @Test
+    public void shouldResumeRangeFromOffsetGivenHostScope() {
+        KeyValueGetRangeQuery<String, String> query = new KeyValueGetRangeQuery<>(STORE_NAME, "k1", "k9");
+        final var mkContainer = Mockito.mock(KafkaStreamsContainer.class);
+        when(mkContainer.applicationServer()).thenReturn("localhost:8080");
+
+        ReadOnlyKeyValueStore store = mock(ReadOnlyKeyValueStore.class);
+        when(store.range("k1", "k9")).thenReturn(new InMemoryKeyValueIterator<>(
+            List.of(KeyValue.pair("k1", "v1"), KeyValue.pair("k2", "v2"), KeyValue.pair("k3", "v3")))
+        );
+        when(mkContainer.localKeyValueStore(matches(STORE_NAME))).thenReturn(new LocalStoreAccessor<>(() -> store));
+
+        final String scope = ContinuationToken.hostScope("localhost:8080");
+        final ContinuationToken token = new ContinuationToken(Map.of(scope, new Position(2, "k2", false)));
+
+        LocalStorePage<String, String> page = query.execute(mkContainer, LocalScan.of(10, token)).get();
+        Assertions.assertEquals(List.of(KV.of("k3", "v3")), page.records());
+        Assertions.assertEquals(new Position(3, "k3", true), page.continuation().position(scope).get());
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query.internal;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.query.ContinuationToken;
+import io.streamthoughts.azkarra.api.query.LocalScan;
+import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.query.LocalStorePage;
+import io.streamthoughts.azkarra.api.query.QueryParams;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.streams.store.RawKeyValueStore;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.StateSerdes;
+import org.apache.kafka.streams.state.Stores;
+import org.apache.kafka.streams.state.ValueAndTimestamp;
+import org.apache.kafka.streams.state.internals.ValueAndTimestampSerde;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+
+public class KeyValuePrefixScanQueryTest {
+
+    public static final String STORE_NAME = "storeName";
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldScanKeysStartingWithPrefixPageByPage() {
+        final StateSerdes<Object, Object> serdes = (StateSerdes) StateSerdes.withBuiltinTypes(
+            STORE_NAME, String.class, String.class);
+        final KeyValueStore<Bytes, byte[]> store = Stores.inMemoryKeyValueStore(STORE_NAME).get();
+        for (String key : List.of("a|1", "a|2", "ab|1", "b|1")) {
+            store.put(Bytes.wrap(serdes.rawKey(key)), serdes.rawValue("v" + key));
+        }
+        final KafkaStreamsContainer mkContainer = mockContainer(new RawKeyValueStore(List.of(store), false, serdes));
+
+        final KeyValuePrefixScanQuery<String, String> query = buildQuery(false);
+        Assertions.assertEquals(
+            List.of(KV.of("a|1", "va|1"), KV.of("a|2", "va|2")),
+            query.execute(mkContainer).get()
+        );
+
+        LocalStorePage<String, String> first = query.execute(
+            mkContainer, LocalScan.of(1, ContinuationToken.empty())).get();
+        Assertions.assertEquals(List.of(KV.of("a|1", "va|1")), first.records());
+        Assertions.assertTrue(first.continuation().hasMore());
+
+        ContinuationToken token = ContinuationToken.decode(first.continuation().encode());
+        LocalStorePage<String, String> second = query.execute(mkContainer, LocalScan.of(1, token)).get();
+        Assertions.assertEquals(List.of(KV.of("a|2", "va|2")), second.records());
+        Assertions.assertFalse(second.continuation().hasMore());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldResumeByOffsetGivenCompositeStoreOverSeveralPartitions() {
+        final StateSerdes<Object, Object> serdes = (StateSerdes) StateSerdes.withBuiltinTypes(
+            STORE_NAME, String.class, String.class);
+        final KeyValueStore<Bytes, byte[]> p0 = Stores.inMemoryKeyValueStore(STORE_NAME).get();
+        final KeyValueStore<Bytes, byte[]> p1 = Stores.inMemoryKeyValueStore(STORE_NAME).get();
+        for (String key : List.of("a|1", "a|3")) {
+            p0.put(Bytes.wrap(serdes.rawKey(key)), serdes.rawValue("v" + key));
+        }
+        p1.put(Bytes.wrap(serdes.rawKey("a|2")), serdes.rawValue("va|2"));
+        final KafkaStreamsContainer mkContainer = mockContainer(new RawKeyValueStore(List.of(p0, p1), false, serdes));
+
+        final KeyValuePrefixScanQuery<String, String> query = buildQuery(false);
+        LocalStorePage<String, String> first = query.execute(
+            mkContainer, LocalScan.of(2, ContinuationToken.empty())).get();
+        Assertions.assertEquals(List.of(KV.of("a|1", "va|1"), KV.of("a|3", "va|3")), first.records());
+
+        ContinuationToken token = ContinuationToken.decode(first.continuation().encode());
+        LocalStorePage<String, String> second = query.execute(mkContainer, LocalScan.of(2, token)).get();
+        Assertions.assertEquals(List.of(KV.of("a|2", "va|2")), second.records());
+        Assertions.assertFalse(second.continuation().hasMore());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReturnTimestampGivenTimestampedStore() {
+        final StateSerdes<Object, Object> serdes = new StateSerdes(
+            STORE_NAME, Serdes.String(), new ValueAndTimestampSerde<>(Serdes.Long()));
+        final KeyValueStore<Bytes, byte[]> store = Stores.inMemoryKeyValueStore(STORE_NAME).get();
+        store.put(Bytes.wrap(serdes.rawKey("a|1")), serdes.rawValue(ValueAndTimestamp.make(10L, 42L)));
+        store.put(Bytes.wrap(serdes.rawKey("b|1")), serdes.rawValue(ValueAndTimestamp.make(20L, 43L)));
+        final KafkaStreamsContainer mkContainer = mockContainer(new RawKeyValueStore(List.of(store), true, serdes));
+
+        final KeyValuePrefixScanQuery<String, Long> query = buildQuery(true);
+        Assertions.assertEquals(List.of(new KV<>("a|1", 10L, 42L)), query.execute(mkContainer).get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldUseSerdesFromParametersGivenStoreWithUnknownSerdes() {
+        final StateSerdes<Object, Object> serdes = new StateSerdes(
+            STORE_NAME, Serdes.String(), new ValueAndTimestampSerde<>(Serdes.Long()));
+        final KeyValueStore<Bytes, byte[]> store = Stores.inMemoryKeyValueStore(STORE_NAME).get();
+        store.put(Bytes.wrap(serdes.rawKey("a|1")), serdes.rawValue(ValueAndTimestamp.make(10L, 42L)));
+        store.put(Bytes.wrap(serdes.rawKey("b|1")), serdes.rawValue(ValueAndTimestamp.make(20L, 43L)));
+        final KafkaStreamsContainer mkContainer = mockContainer(new RawKeyValueStore(List.of(store), true, null));
+
+        final QueryParams params = new QueryParams(Map.of(
+            KeyValueQueryBuilder.QUERY_PARAM_PREFIX, "a|",
+            RawKeyValueQueryBuilder.QUERY_PARAM_KEY_SERDE, "string",
+            RawKeyValueQueryBuilder.QUERY_PARAM_VALUE_SERDE, "long"));
+        final KeyValuePrefixScanQuery<String, Long> query = buildQuery(true, params);
+        Assertions.assertEquals(List.of(new KV<>("a|1", 10L, 42L)), query.execute(mkContainer).get());
+    }
+
+    @Test
+    public void shouldFailGivenStoreWithUnknownSerdesAndNoSerdeParameters() {
+        final KeyValueStore<Bytes, byte[]> store = Stores.inMemoryKeyValueStore(STORE_NAME).get();
+        final KafkaStreamsContainer mkContainer = mockContainer(new RawKeyValueStore(List.of(store), false, null));
+
+        final KeyValuePrefixScanQuery<String, String> query = buildQuery(false);
+        Assertions.assertTrue(query.execute(mkContainer).isFailure());
+    }
+
+    private static <K, V> KeyValuePrefixScanQuery<K, V> buildQuery(final boolean timestamped) {
+        return buildQuery(timestamped, new QueryParams(Map.of(KeyValueQueryBuilder.QUERY_PARAM_PREFIX, "a|")));
+    }
+
+    private static <K, V> KeyValuePrefixScanQuery<K, V> buildQuery(final boolean timestamped,
+                                                                   final QueryParams params) {
+        return (KeyValuePrefixScanQuery<K, V>) new KeyValueQueryBuilder.PrefixScanKeyValueQueryBuilder<K, V>(timestamped)
+            .build(STORE_NAME, params);
+    }
+
+    private static KafkaStreamsContainer mockContainer(final RawKeyValueStore store) {
+        final KafkaStreamsContainer mkContainer = Mockito.mock(KafkaStreamsContainer.class);
+        when(mkContainer.localRawKeyValueStore(STORE_NAME)).thenReturn(new LocalStoreAccessor<>(() -> store));
+        return mkContainer;
+    }
+}
@@ -22,6 +22,7 @@ import io.streamthoughts.azkarra.api.query.QueryParams;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -73,4 +74,21 @@ public class KeyValueQueryBuilderTest {
         assertNotNull(prepared);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldThrowInvalidQueryWhenBuildingKeyValueMultiGetGivenNoKeysParam() {
+        final Query query = new KeyValueQueryBuilder(STORE_NAME).multiGet();
+        InvalidQueryException exception = assertThrows(InvalidQueryException.class, query::prepare);
+        assertEquals(
+                exception.getMessage(),
+                "Missing requires parameters : [" + KeyValueQueryBuilder.QUERY_PARAM_KEYS + "]");
+    }
+
+    @Test
+    public void shouldSuccessWhenBuildingKeyValueMultiGetGivenSingleKeyParam() {
+        final Query<Object, Object> query = new KeyValueQueryBuilder(STORE_NAME).multiGet();
+        PreparedQuery<Object, Object> prepared = query.prepare(new QueryParams(new HashMap<>() {{
+            put(KeyValueQueryBuilder.QUERY_PARAM_KEYS, "key");
+        }}));
+        assertEquals(List.of("key"), prepared.keys());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.query.internal;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import io.streamthoughts.azkarra.api.query.LocalStoreQuery;
+import io.streamthoughts.azkarra.api.query.QueryParams;
+import io.streamthoughts.azkarra.api.query.StoreOperation;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.streams.store.RawKeyValueStore;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.Stores;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+
+public class RawKeyValueGetAllQueryTest {
+
+    public static final String STORE_NAME = "storeName";
+
+    @Test
+    public void shouldGetAllBytesGivenNoSerde() {
+        final KafkaStreamsContainer mkContainer = mockContainer(false, "value".getBytes());
+
+        LocalStoreQuery<Object, Object> query = buildQuery(StoreOperation.ALL, Map.of());
+        List<KV<Object, Object>> result = query.execute(mkContainer).get();
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertArrayEquals("key".getBytes(), (byte[]) result.get(0).key());
+        Assertions.assertArrayEquals("value".getBytes(), (byte[]) result.get(0).value());
+        Assertions.assertNull(result.get(0).timestamp());
+    }
+
+    @Test
+    public void shouldDecodeRecordsAndTimestampGivenSerdeNamesAndTimestampedStore() {
+        final byte[] value = ByteBuffer.allocate(Long.BYTES * 2).putLong(42L).putLong(100L).array();
+        final KafkaStreamsContainer mkContainer = mockContainer(true, value);
+
+        LocalStoreQuery<Object, Object> query = buildQuery(
+            StoreOperation.ALL,
+            Map.of(RawKeyValueQueryBuilder.QUERY_PARAM_KEY_SERDE, "string",
+                   RawKeyValueQueryBuilder.QUERY_PARAM_VALUE_SERDE, "long")
+        );
+        List<KV<Object, Object>> result = query.execute(mkContainer).get();
+        Assertions.assertEquals(List.of(new KV<>("key", 100L, 42L)), result);
+    }
+
+    @Test
+    public void shouldGetRangeGivenBase64Bounds() {
+        final KafkaStreamsContainer mkContainer = mockContainer(false, "value".getBytes());
+
+        final String bound = Base64.getEncoder().encodeToString("key".getBytes());
+        LocalStoreQuery<Object, Object> query = buildQuery(
+            StoreOperation.RANGE,
+            Map.of(KeyValueQueryBuilder.QUERY_PARAM_KEY_FROM, bound,
+                   KeyValueQueryBuilder.QUERY_PARAM_KEY_TO, bound,
+                   RawKeyValueQueryBuilder.QUERY_PARAM_VALUE_SERDE, "string")
+        );
+        List<KV<Object, Object>> result = query.execute(mkContainer).get();
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertEquals("value", result.get(0).value());
+    }
+
+    @Test
+    public void shouldThrowInvalidQueryExceptionGivenUnknownSerde() {
+        Assertions.assertThrows(InvalidQueryException.class, () ->
+            buildQuery(StoreOperation.ALL, Map.of(RawKeyValueQueryBuilder.QUERY_PARAM_KEY_SERDE, "unknown")));
+    }
+
+    private static LocalStoreQuery<Object, Object> buildQuery(final StoreOperation operation,
+                                                              final Map<String, Object> params) {
+        final LocalStoreQueryBuilder<Object, Object> builder = operation == StoreOperation.RANGE ?
+            new RawKeyValueQueryBuilder.RawGetRangeQueryBuilder() :
+            new RawKeyValueQueryBuilder.RawGetAllQueryBuilder();
+        return builder.build(STORE_NAME, new QueryParams(params));
+    }
+
+    private static KafkaStreamsContainer mockContainer(final boolean timestamped, final byte[] value) {
+        final KeyValueStore<Bytes, byte[]> store = Stores.inMemoryKeyValueStore(STORE_NAME).get();
+        store.put(Bytes.wrap(Serdes.String().serializer().serialize(null, "key")), value);
+
+        final KafkaStreamsContainer mkContainer = Mockito.mock(KafkaStreamsContainer.class);
+        when(mkContainer.localRawKeyValueStore(STORE_NAME))
+            .thenReturn(new LocalStoreAccessor<>(() -> new RawKeyValueStore(List.of(store), timestamped)));
+        return mkContainer;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.store;
+
+import io.streamthoughts.azkarra.api.query.LocalStoreAccessor;
+import org.apache.kafka.streams.state.QueryableStoreType;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class LocalStoreAccessorCacheTest {
+
+    private static final String STORE_NAME = "store";
+
+    private LocalStoreAccessorCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new LocalStoreAccessorCache();
+    }
+
+    @Test
+    public void shouldReturnCachedAccessorGivenSameStoreNameAndType() {
+        LocalStoreAccessor<?> first = getOrCreate(QueryableStoreTypes.keyValueStore());
+        LocalStoreAccessor<?> second = getOrCreate(QueryableStoreTypes.keyValueStore());
+
+        assertSame(first, second);
+        assertEquals(new LocalStoreAccessorCacheStats(1, 1, 1), cache.stats());
+    }
+
+    @Test
+    public void shouldReturnDistinctAccessorGivenDifferentStoreType() {
+        LocalStoreAccessor<?> kv = getOrCreate(QueryableStoreTypes.keyValueStore());
+        LocalStoreAccessor<?> timestamped = getOrCreate(QueryableStoreTypes.timestampedKeyValueStore());
+
+        assertNotSame(kv, timestamped);
+        assertEquals(new LocalStoreAccessorCacheStats(0, 2, 2), cache.stats());
+    }
+
+    @Test
+    public void shouldCreateNewAccessorAfterInvalidation() {
+        LocalStoreAccessor<?> before = getOrCreate(QueryableStoreTypes.keyValueStore());
+        cache.invalidateAll();
+        LocalStoreAccessor<?> after = getOrCreate(QueryableStoreTypes.keyValueStore());
+
+        assertNotSame(before, after);
+        assertEquals(new LocalStoreAccessorCacheStats(0, 2, 1), cache.stats());
+    }
+
+    private <T> LocalStoreAccessor<T> getOrCreate(final QueryableStoreType<T> storeType) {
+        return cache.getOrCreate(STORE_NAME, storeType, () -> new LocalStoreAccessor<>(() -> null));
+    }
+}
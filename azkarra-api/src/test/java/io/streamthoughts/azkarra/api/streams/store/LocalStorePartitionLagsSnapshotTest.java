@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LocalStorePartitionLagsSnapshotTest {
+
+    private static final String STORE_NAME = "store";
+
+    @Test
+    public void shouldGetOffsetLagOfLocalPartitionGivenUpdatedSnapshot() {
+        final LocalStorePartitionLagsSnapshot snapshot = new LocalStorePartitionLagsSnapshot();
+        snapshot.update(List.of(new LocalStorePartitionLags(STORE_NAME, List.of(
+            new PartitionLogOffsetsAndLag(0, 10, 15, 5),
+            new PartitionLogOffsetsAndLag(1, 20, 20, 0)
+        ))));
+        assertEquals(Optional.of(5L), snapshot.offsetLag(STORE_NAME, 0));
+        assertEquals(Optional.of(0L), snapshot.offsetLag(STORE_NAME, 1));
+        assertEquals(Optional.empty(), snapshot.offsetLag(STORE_NAME, 2));
+        assertEquals(Optional.empty(), snapshot.offsetLag("other", 0));
+
+        snapshot.clear();
+        assertEquals(Optional.empty(), snapshot.offsetLag(STORE_NAME, 0));
+    }
+}
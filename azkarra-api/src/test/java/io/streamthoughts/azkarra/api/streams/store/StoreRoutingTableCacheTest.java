@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class StoreRoutingTableCacheTest {
+
+    private static final String STORE_NAME = "store";
+
+    private final StoreRoutingTableCache cache = new StoreRoutingTableCache();
+
+    @Test
+    public void shouldRebuildRoutingTableOnlyAfterInvalidation() {
+        StoreRoutingTable first = cache.getOrBuild(STORE_NAME, this::newEmptyTable);
+        StoreRoutingTable second = cache.getOrBuild(STORE_NAME, this::newEmptyTable);
+        assertSame(first, second);
+        assertEquals(new StoreRoutingTableCacheStats(1, 1, 1), cache.stats());
+
+        cache.invalidateAll();
+        StoreRoutingTable third = cache.getOrBuild(STORE_NAME, this::newEmptyTable);
+        assertNotSame(first, third);
+        assertEquals(new StoreRoutingTableCacheStats(1, 2, 1), cache.stats());
+    }
+
+    private StoreRoutingTable newEmptyTable(final String storeName) {
+        return StoreRoutingTable.build(storeName, Collections.emptySet(), Collections.emptyList(), m -> null);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.streams.store;
+
+import io.streamthoughts.azkarra.api.streams.ServerHostInfo;
+import io.streamthoughts.azkarra.api.streams.ServerMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.common.utils.Utils;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.StreamsMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StoreRoutingTableTest {
+
+    private static final String STORE_NAME = "store";
+    private static final String TOPIC = "input";
+
+    private static final HostInfo HOST_1 = new HostInfo("host1", 1234);
+    private static final HostInfo HOST_2 = new HostInfo("host2", 1234);
+
+    @Test
+    public void shouldRouteKeysToActiveAndStandbyHostsGivenAllPartitionsAssigned() {
+        StoreRoutingTable table = StoreRoutingTable.build(
+            STORE_NAME,
+            Set.of(TOPIC),
+            List.of(
+                newStreamsMetadata(HOST_1, Set.of(tp(0), tp(2)), Set.of(tp(1))),
+                newStreamsMetadata(HOST_2, Set.of(tp(1)), Set.of(tp(0), tp(2)))
+            ),
+            StoreRoutingTableTest::newServerMetadata
+        );
+
+        assertTrue(table.isPartitioned());
+        assertEquals(TOPIC, table.topic());
+        assertEquals(2, table.servers().size());
+
+        for (String key : List.of("a", "b", "c", "d", "e")) {
+            final byte[] keyBytes = Serdes.String().serializer().serialize(TOPIC, key);
+            final int partition = Utils.toPositive(Utils.murmur2(keyBytes)) % 3;
+            final KeyQueryMetadata metadata = table.metadataForKey(keyBytes);
+            assertEquals(partition, metadata.getPartition());
+            assertEquals(partition == 1 ? HOST_2 : HOST_1, metadata.getActiveHost());
+            assertEquals(Set.of(partition == 1 ? HOST_1 : HOST_2), metadata.getStandbyHosts());
+        }
+    }
+
+    @Test
+    public void shouldNotBePartitionedGivenMissingActivePartition() {
+        StoreRoutingTable table = StoreRoutingTable.build(
+            STORE_NAME,
+            Set.of(TOPIC),
+            List.of(newStreamsMetadata(HOST_1, Set.of(tp(0), tp(2)), Collections.emptySet())),
+            StoreRoutingTableTest::newServerMetadata
+        );
+        assertFalse(table.isPartitioned());
+        assertEquals(1, table.servers().size());
+    }
+
+    @Test
+    public void shouldNotBePartitionedGivenMissingHighestActivePartitions() {
+        StoreRoutingTable table = StoreRoutingTable.build(
+            STORE_NAME,
+            Set.of(TOPIC),
+            List.of(newStreamsMetadata(HOST_1, Set.of(tp(0), tp(1)), Collections.emptySet())),
+            StoreRoutingTableTest::newServerMetadata,
+            topic -> 3
+        );
+        assertFalse(table.isPartitioned());
+    }
+
+    @Test
+    public void shouldNotBePartitionedGivenStandbyPartitionWithNoActiveHost() {
+        StoreRoutingTable table = StoreRoutingTable.build(
+            STORE_NAME,
+            Set.of(TOPIC),
+            List.of(
+                newStreamsMetadata(HOST_1, Set.of(tp(0), tp(1)), Collections.emptySet()),
+                newStreamsMetadata(HOST_2, Collections.emptySet(), Set.of(tp(2)))
+            ),
+            StoreRoutingTableTest::newServerMetadata,
+            topic -> null
+        );
+        assertFalse(table.isPartitioned());
+    }
+
+    @Test
+    public void shouldGetSourceTopicsGivenStoreMaterializedFromTopic() {
+        final StreamsBuilder builder = new StreamsBuilder();
+        builder.table(TOPIC, Materialized.<String, String, KeyValueStore<Bytes, byte[]>>as(STORE_NAME));
+
+        final Set<String> topics = StoreRoutingTable.sourceTopicsForStore(
+            builder.build().describe(), STORE_NAME, "app");
+        assertEquals(Set.of(TOPIC, "app-" + TOPIC), topics);
+    }
+
+    private static TopicPartition tp(final int partition) {
+        return new TopicPartition(TOPIC, partition);
+    }
+
+    private static StreamsMetadata newStreamsMetadata(final HostInfo host,
+                                                      final Set<TopicPartition> actives,
+                                                      final Set<TopicPartition> standbys) {
+        return new StreamsMetadata(host, Set.of(STORE_NAME), actives, Set.of(STORE_NAME), standbys);
+    }
+
+    private static ServerMetadata newServerMetadata(final StreamsMetadata metadata) {
+        return new ServerMetadata(
+            new ServerHostInfo("app", metadata.host(), metadata.port(), false),
+            Collections.emptySet(),
+            Collections.emptySet(),
+            Collections.emptySet(),
+            Collections.emptySet());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SortedMergeTest {
+
+    @Test
+    public void shouldMergeSortedListsGivenNoLimit() {
+        final List<Integer> merged = new ArrayList<>();
+        final int[] taken = SortedMerge.merge(
+            List.of(List.of(1, 4, 7), List.of(), List.of(2, 3, 8)),
+            Comparator.naturalOrder(),
+            -1,
+            merged
+        );
+        assertEquals(List.of(1, 2, 3, 4, 7, 8), merged);
+        assertArrayEquals(new int[]{3, 0, 3}, taken);
+    }
+
+    @Test
+    public void shouldStopMergingWhenLimitIsReached() {
+        final List<Integer> merged = new ArrayList<>();
+        final int[] taken = SortedMerge.merge(
+            List.of(List.of(1, 4, 7), List.of(2, 3, 8)),
+            Comparator.naturalOrder(),
+            3,
+            merged
+        );
+        assertEquals(List.of(1, 2, 3), merged);
+        assertArrayEquals(new int[]{1, 2}, taken);
+    }
+}
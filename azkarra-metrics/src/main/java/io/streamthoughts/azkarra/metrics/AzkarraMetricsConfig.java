@@ -30,6 +30,7 @@ public class AzkarraMetricsConfig {
     public static final String METRICS_ENABLE_CONFIG = "metrics.enable";
     public static final String METRICS_BINDERS_JVM_ENABLE_CONFIG = "metrics.binders.jvm.enable";
     public static final String METRICS_BINDERS_KAFKA_STREAMS_ENABLE_CONFIG = "metrics.binders.kafkastreams.enable";
+    public static final String METRICS_BINDERS_EVENT_LOOPS_ENABLE_CONFIG = "metrics.binders.eventloops.enable";
     public static final String METRICS_ENDPOINT_PROMETHEUS_ENABLE_CONFIG = "metrics.endpoints.prometheus.enable";
 
     private final Conf config;
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.metrics.binders;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.streamthoughts.azkarra.api.events.reactive.EventLoopGroup;
+import io.streamthoughts.azkarra.api.events.reactive.EventLoopGroup.EventLoopExecutor;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link MeterBinder} for the event-loops of the {@link EventLoopGroup} shared by event-stream publishers.
+ */
+public class EventLoopGroupMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "azkarra.event.loop.";
+
+    private static final String TAG_LOOP = "loop";
+
+    private final EventLoopGroup group;
+
+    /**
+     * Creates a new {@link EventLoopGroupMetrics} instance.
+     *
+     * @param group the {@link EventLoopGroup} to be monitored.
+     */
+    public EventLoopGroupMetrics(final EventLoopGroup group) {
+        this.group = Objects.requireNonNull(group, "group cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        for (EventLoopExecutor loop : group.loops()) {
+            final Tags tags = Tags.of(Tag.of(TAG_LOOP, String.valueOf(loop.index())));
+
+            // the rate of the busy time, in seconds per second, is the utilization of the event-loop.
+            FunctionCounter.builder(METRIC_PREFIX + "busy.time", loop,
+                    l -> (double) l.busyTimeNanos() / TimeUnit.SECONDS.toNanos(1))
+                .description("The total time the event-loop spent processing signals")
+                .baseUnit("seconds")
+                .tags(tags)
+                .register(registry);
+
+            FunctionCounter.builder(METRIC_PREFIX + "tasks.executed", loop, EventLoopExecutor::executedTasks)
+                .description("The number of runs executed by the event-loop")
+                .tags(tags)
+                .register(registry);
+
+            Gauge.builder(METRIC_PREFIX + "tasks.pending", loop, EventLoopExecutor::pendingTasks)
+                .description("The number of runs waiting to be executed by the event-loop")
+                .tags(tags)
+                .register(registry);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.metrics.binders;
+
+import io.streamthoughts.azkarra.api.annotations.Component;
+import io.streamthoughts.azkarra.api.annotations.ConditionalOn;
+import io.streamthoughts.azkarra.api.annotations.Factory;
+import io.streamthoughts.azkarra.api.components.BaseComponentModule;
+import io.streamthoughts.azkarra.api.events.reactive.EventLoopGroup;
+import io.streamthoughts.azkarra.metrics.AzkarraMetricsConfig;
+import io.streamthoughts.azkarra.metrics.annotations.ConditionalOnMetricsEnable;
+
+import javax.inject.Singleton;
+
+/**
+ * Factory to register the metrics binder of the event-stream event-loops.
+ */
+@Factory
+public class EventLoopMeterRegistryBinderFactory extends BaseComponentModule {
+
+    /**
+     * Return the event-loops metrics component.
+     *
+     * @return the {@link EventLoopGroupMetrics}.
+     */
+    @Component
+    @Singleton
+    @ConditionalOnMetricsEnable
+    @ConditionalOn(property = AzkarraMetricsConfig.METRICS_BINDERS_EVENT_LOOPS_ENABLE_CONFIG, havingValue = "true")
+    @ConditionalOn(components = EventLoopGroup.class)
+    public EventLoopGroupMetrics eventLoopGroupMetrics() {
+        return new EventLoopGroupMetrics(getComponent(EventLoopGroup.class));
+    }
+}
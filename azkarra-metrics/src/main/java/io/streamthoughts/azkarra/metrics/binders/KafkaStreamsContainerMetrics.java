@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.metrics.binders;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link MeterBinder} for the metrics maintained by a {@link KafkaStreamsContainer} itself
+ * (i.e. not reported by the {@link org.apache.kafka.streams.KafkaStreams} instance).
+ */
+public class KafkaStreamsContainerMetrics implements MeterBinder, AutoCloseable {
+
+    private static final String METRIC_PREFIX = "azkarra.streams.";
+
+    private final KafkaStreamsContainer container;
+
+    private final Iterable<Tag> tags;
+
+    private final List<Meter> meters = new LinkedList<>();
+
+    private MeterRegistry registry;
+
+    /**
+     * Creates a new {@link KafkaStreamsContainerMetrics} instance.
+     *
+     * @param container the {@link KafkaStreamsContainer} to be monitored.
+     * @param tags      the tags to apply to all meters.
+     */
+    public KafkaStreamsContainerMetrics(final KafkaStreamsContainer container,
+                                        final Iterable<Tag> tags) {
+        this.container = Objects.requireNonNull(container, "container cannot be null");
+        this.tags = Objects.requireNonNull(tags, "tags cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        this.registry = registry;
+        meters.add(FunctionCounter
+            .builder(METRIC_PREFIX + "store.accessor.cache.hits", container,
+                c -> c.localStoreAccessorCacheStats().hits())
+            .description("The number of local store accesses served from the cache")
+            .tags(tags)
+            .register(registry));
+
+        meters.add(FunctionCounter
+            .builder(METRIC_PREFIX + "store.accessor.cache.misses", container,
+                c -> c.localStoreAccessorCacheStats().misses())
+            .description("The number of local store accesses that required a new store lookup")
+            .tags(tags)
+            .register(registry));
+
+        meters.add(Gauge
+            .builder(METRIC_PREFIX + "store.accessor.cache.size", container,
+                c -> c.localStoreAccessorCacheStats().size())
+            .description("The number of local store accessors currently cached")
+            .tags(tags)
+            .register(registry));
+
+        meters.add(FunctionCounter
+            .builder(METRIC_PREFIX + "store.routing.cache.hits", container,
+                c -> c.storeRoutingTableCacheStats().hits())
+            .description("The number of queries routed using a cached store routing table")
+            .tags(tags)
+            .register(registry));
+
+        meters.add(FunctionCounter
+            .builder(METRIC_PREFIX + "store.routing.cache.rebuilds", container,
+                c -> c.storeRoutingTableCacheStats().rebuilds())
+            .description("The number of store routing tables built from the streams metadata")
+            .tags(tags)
+            .register(registry));
+
+        meters.add(Gauge
+            .builder(METRIC_PREFIX + "store.routing.cache.size", container,
+                c -> c.storeRoutingTableCacheStats().size())
+            .description("The number of store routing tables currently cached")
+            .tags(tags)
+            .register(registry));
+
+        meters.add(FunctionCounter
+            .builder(METRIC_PREFIX + "query.result.cache.hits", container,
+                c -> c.queryResultCache().stats().hits())
+            .description("The number of interactive queries answered from the result cache")
+            .tags(tags)
+            .register(registry));
+
+        meters.add(FunctionCounter
+            .builder(METRIC_PREFIX + "query.result.cache.misses", container,
+                c -> c.queryResultCache().stats().misses())
+            .description("The number of interactive queries not found in the result cache")
+            .tags(tags)
+            .register(registry));
+
+        meters.add(FunctionCounter
+            .builder(METRIC_PREFIX + "query.result.cache.evictions", container,
+                c -> c.queryResultCache().stats().evictions())
+            .description("The number of query results evicted because the result cache was full")
+            .tags(tags)
+            .register(registry));
+
+        meters.add(Gauge
+            .builder(METRIC_PREFIX + "query.result.cache.hit.ratio", container,
+                c -> c.queryResultCache().stats().hitRatio())
+            .description("The ratio of interactive queries answered from the result cache")
+            .tags(tags)
+            .register(registry));
+
+        meters.add(Gauge
+            .builder(METRIC_PREFIX + "query.result.cache.size", container,
+                c -> c.queryResultCache().stats().size())
+            .description("The number of query results currently cached")
+            .tags(tags)
+            .register(registry));
+
+        meters.add(Gauge
+            .builder(METRIC_PREFIX + "query.result.cache.memory", container,
+                c -> c.queryResultCache().stats().estimatedSizeInBytes())
+            .description("The estimated memory used by the cached query results")
+            .baseUnit("bytes")
+            .tags(tags)
+            .register(registry));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (registry != null) {
+            meters.forEach(registry::remove);
+        }
+        meters.clear();
+    }
+}
@@ -34,6 +34,7 @@ import io.streamthoughts.azkarra.api.streams.State;
 import io.streamthoughts.azkarra.api.streams.StateChangeEvent;
 import io.streamthoughts.azkarra.metrics.AzkarraMetricsConfig;
 import io.streamthoughts.azkarra.metrics.annotations.ConditionalOnMetricsEnable;
+import io.streamthoughts.azkarra.metrics.binders.KafkaStreamsContainerMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,6 +53,8 @@ public class MeterKafkaStreamsInterceptor extends BaseComponentModule implements
 
     private KafkaStreamsMetrics metrics;
 
+    private KafkaStreamsContainerMetrics containerMetrics;
+
     private boolean isEnable;
 
     /**
@@ -86,6 +89,10 @@ public class MeterKafkaStreamsInterceptor extends BaseComponentModule implements
                     MeterRegistry registry = getComponent(MeterRegistry.class, Qualifiers.byPrimary());
                     metrics = new KafkaStreamsMetrics(kafkaStreams, tags);
                     metrics.bindTo(registry);
+                    if (containerMetrics == null) {
+                        containerMetrics = new KafkaStreamsContainerMetrics(streamsContainer, tags);
+                        containerMetrics.bindTo(registry);
+                    }
                     LOG.info(
                         "Bind metrics for application = {} to MeterRegistry[{}] successfully.",
                         context.applicationId(),
@@ -104,6 +111,10 @@ public class MeterKafkaStreamsInterceptor extends BaseComponentModule implements
                        final StreamsLifecycleChain chain) {
         LOG.info("Closing the MeterKafkaStreamsInterceptor for application = {}.", context.applicationId());
         if (metrics != null) metrics.close();
+        if (containerMetrics != null) {
+            containerMetrics.close();
+            containerMetrics = null;
+        }
         chain.execute();
     }
 }
@@ -92,6 +92,13 @@ public class AsyncMulticastEventStreamPublisherVerificationTest extends FlowPubl
             super.drainTo(collection);
         }
 
+        @Override
+        public int drainTo(Collection<? super KV<K, V>> collection, int maxRecords) {
+            int drained = super.drainTo(collection, maxRecords);
+            mayScheduleClose();
+            return drained;
+        }
+
         private void mayScheduleClose() {
             if (isEmpty()) {
                 new Thread(() -> {
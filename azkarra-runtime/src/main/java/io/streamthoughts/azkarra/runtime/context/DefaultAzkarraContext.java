@@ -41,6 +41,7 @@ import io.streamthoughts.azkarra.api.errors.AlreadyExistsException;
 import io.streamthoughts.azkarra.api.errors.AzkarraContextException;
 import io.streamthoughts.azkarra.api.errors.AzkarraException;
 import io.streamthoughts.azkarra.api.errors.InvalidStreamsEnvironmentException;
+import io.streamthoughts.azkarra.api.events.reactive.EventLoopGroup;
 import io.streamthoughts.azkarra.api.providers.TopologyDescriptor;
 import io.streamthoughts.azkarra.api.streams.ApplicationId;
 import io.streamthoughts.azkarra.api.streams.ApplicationIdBuilder;
@@ -200,6 +201,13 @@ public class DefaultAzkarraContext implements AzkarraContext {
             new DefaultStreamThreadExceptionHandlerFactory(),
             withConditions(onMissingComponent(List.of(StreamThreadExceptionHandler.class)))
         );
+
+        // Register the event-loops shared by all event-stream publishers.
+        registerSingleton(
+            EventLoopGroup.class,
+            new DefaultEventLoopGroupFactory(),
+            withConditions(onMissingComponent(List.of(EventLoopGroup.class)))
+        );
     }
 
     /**
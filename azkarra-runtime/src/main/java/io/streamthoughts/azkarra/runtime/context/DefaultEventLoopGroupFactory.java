@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.runtime.context;
+
+import io.streamthoughts.azkarra.api.config.Conf;
+import io.streamthoughts.azkarra.api.config.Configurable;
+import io.streamthoughts.azkarra.api.events.reactive.EventLoopGroup;
+
+import java.util.function.Supplier;
+
+/**
+ * Creates the {@link EventLoopGroup} shared by the event-stream publishers of all streams applications.
+ *
+ * @since 0.8.0
+ */
+public class DefaultEventLoopGroupFactory implements Configurable, Supplier<EventLoopGroup> {
+
+    /** {@code event.streams.loop.threads} : the number of event-loop threads, default to the number of cores. */
+    public static String EVENT_STREAMS_LOOP_THREADS_CONFIG = "event.streams.loop.threads";
+
+    private Conf conf;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void configure(final Conf configuration) {
+        this.conf = configuration;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventLoopGroup get() {
+        final int numLoops = conf
+            .getOptionalInt(EVENT_STREAMS_LOOP_THREADS_CONFIG)
+            .orElse(Runtime.getRuntime().availableProcessors());
+        return new EventLoopGroup(numLoops);
+    }
+}
@@ -31,6 +31,9 @@ import io.streamthoughts.azkarra.api.errors.AlreadyExistsException;
 import io.streamthoughts.azkarra.api.errors.AzkarraException;
 import io.streamthoughts.azkarra.api.events.EventStream;
 import io.streamthoughts.azkarra.api.events.EventStreamProvider;
+import io.streamthoughts.azkarra.api.events.reactive.EventLoopGroup;
+import io.streamthoughts.azkarra.api.query.QueryResultCache;
+import io.streamthoughts.azkarra.api.query.QueryResultCacheConfig;
 import io.streamthoughts.azkarra.api.streams.ApplicationId;
 import io.streamthoughts.azkarra.api.streams.ApplicationIdBuilder;
 import io.streamthoughts.azkarra.api.streams.DefaultKafkaStreamsContainer;
@@ -361,6 +364,8 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
             .withTopologyDefinition(definition)
             .withKafkaStreamsFactory(topologyHolder.getKafkaStreamsFactory())
             .withInterceptors(topologyHolder.getAllInterceptors())
+            .withQueryResultCache(QueryResultCache.of(new QueryResultCacheConfig(topologyConfig)))
+            .withEventLoopGroup(getEventLoopGroup())
             .build();
 
         activeStreams.put(applicationId, kafkaStreamsContainer);
@@ -481,6 +486,13 @@ public class DefaultStreamsExecutionEnvironment implements StreamsExecutionEnvir
     }
 
 
+    private EventLoopGroup getEventLoopGroup() {
+        if (context != null && context.getComponentFactory().containsComponent(EventLoopGroup.class)) {
+            return context.getComponentFactory().getComponent(EventLoopGroup.class, context.getConfiguration());
+        }
+        return EventLoopGroup.defaultGroup();
+    }
+
     /**
      * {@inheritDoc}
      */
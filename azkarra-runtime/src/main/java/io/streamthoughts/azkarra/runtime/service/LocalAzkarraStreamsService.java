@@ -23,31 +23,25 @@ import io.streamthoughts.azkarra.api.AzkarraStreamsService;
 import io.streamthoughts.azkarra.api.Executed;
 import io.streamthoughts.azkarra.api.StreamsExecutionEnvironment;
 import io.streamthoughts.azkarra.api.config.Conf;
-import io.streamthoughts.azkarra.api.errors.Error;
-import io.streamthoughts.azkarra.api.errors.InvalidStreamsStateException;
 import io.streamthoughts.azkarra.api.errors.NotFoundException;
 import io.streamthoughts.azkarra.api.model.Environment;
+import io.streamthoughts.azkarra.api.model.KV;
 import io.streamthoughts.azkarra.api.model.Metric;
 import io.streamthoughts.azkarra.api.model.MetricGroup;
 import io.streamthoughts.azkarra.api.model.StreamsStatus;
 import io.streamthoughts.azkarra.api.model.StreamsTopologyGraph;
 import io.streamthoughts.azkarra.api.monad.Tuple;
 import io.streamthoughts.azkarra.api.providers.TopologyDescriptor;
-import io.streamthoughts.azkarra.api.query.DistributedQuery;
 import io.streamthoughts.azkarra.api.query.Queried;
+import io.streamthoughts.azkarra.api.query.QueryInfo;
 import io.streamthoughts.azkarra.api.query.QueryParams;
 import io.streamthoughts.azkarra.api.query.RemoteQueryClient;
 import io.streamthoughts.azkarra.api.query.internal.Query;
-import io.streamthoughts.azkarra.api.query.result.ErrorResultSet;
-import io.streamthoughts.azkarra.api.query.result.QueryError;
 import io.streamthoughts.azkarra.api.query.result.QueryResult;
-import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
-import io.streamthoughts.azkarra.api.query.result.QueryStatus;
 import io.streamthoughts.azkarra.api.streams.ApplicationId;
 import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
 import io.streamthoughts.azkarra.api.streams.ServerMetadata;
 import io.streamthoughts.azkarra.api.streams.consumer.ConsumerGroupOffsets;
-import io.streamthoughts.azkarra.api.time.Time;
 import io.streamthoughts.azkarra.runtime.env.DefaultStreamsExecutionEnvironment;
 import org.apache.kafka.common.MetricName;
 
@@ -61,6 +55,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -71,7 +67,7 @@ public class LocalAzkarraStreamsService implements AzkarraStreamsService {
 
     private final AzkarraContext context;
 
-    private RemoteQueryClient remoteQueryClient;
+    private final StreamsQueryExecutor executor;
 
     /**
      * Creates a new {@link LocalAzkarraStreamsService} instance.
@@ -84,7 +80,7 @@ public class LocalAzkarraStreamsService implements AzkarraStreamsService {
         Objects.requireNonNull(context, "context cannot be null");
         Objects.requireNonNull(remoteQueryClient, "remoteQueryClient cannot be null");
         this.context = context;;
-        this.remoteQueryClient = remoteQueryClient;
+        this.executor = new StreamsQueryExecutor(remoteQueryClient);
     }
 
     /**
@@ -311,35 +307,43 @@ public class LocalAzkarraStreamsService implements AzkarraStreamsService {
                                           final Query<K, V> query,
                                           final QueryParams parameters,
                                           final Queried options) {
-        final long now = Time.SYSTEM.milliseconds();
-
-        final KafkaStreamsContainer streams = getStreamsById(applicationId);
-
-        checkIsRunning(streams);
-
-        final Optional<List<Error>> errors = query.validate(parameters);
-        if (errors.isPresent()) {
-            QueryResultBuilder<K, V> queryBuilder = QueryResultBuilder.newBuilder();
-            final String server = streams.applicationServer();
-            return queryBuilder
-            .setServer(server)
-            .setTook(Time.SYSTEM.milliseconds() - now)
-            .setStatus(QueryStatus.INVALID)
-            .setFailedResultSet(new ErrorResultSet(server, false, QueryError.allOf(errors.get())))
-            .build();
-        }
+        return executor.query(getStreamsById(applicationId), query, parameters, options);
+    }
 
-        final DistributedQuery<K, V> distributed = new DistributedQuery<>(remoteQueryClient, query.prepare(parameters));
-        return distributed.query(streams, options);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <K, V> CompletableFuture<QueryResult<K, V>> queryAsync(final String applicationId,
+                                                                  final Query<K, V> query,
+                                                                  final QueryParams parameters,
+                                                                  final Queried options) {
+        return executor.queryAsync(getStreamsById(applicationId), query, parameters, options);
     }
 
-    private void checkIsRunning(final KafkaStreamsContainer streams) {
-        if (!streams.isRunning()) {
-            throw new InvalidStreamsStateException(
-                "streams instance for id '" + streams.applicationId() +
-                "' is not running (" + streams.state().value() + ")"
-            );
-        }
+    /**
+     * {@inheritDoc}
+     *
+     * Each query is dispatched by a thread of a pool bounded to the number of available processors, the queries
+     * to be forwarded to remote instances being sent once all the queries have been dispatched. The queries having
+     * no deadline are bounded by the latest deadline of the batch.
+     */
+    @Override
+    public CompletableFuture<List<QueryResult<Object, Object>>> queryBatchAsync(
+            final String applicationId,
+            final List<Tuple<QueryInfo, Queried>> queries) {
+        return executor.queryBatchAsync(getStreamsById(applicationId), queries);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <K, V> Flow.Publisher<KV<K, V>> publish(final String applicationId,
+                                                   final Query<K, V> query,
+                                                   final QueryParams parameters,
+                                                   final Queried options) {
+        return executor.publish(getStreamsById(applicationId), query, parameters, options);
     }
 
     private Collection<KafkaStreamsContainer> containers() {
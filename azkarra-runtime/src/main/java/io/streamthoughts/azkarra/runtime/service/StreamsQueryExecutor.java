@@ -0,0 +1,301 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.runtime.service;
+
+import io.streamthoughts.azkarra.api.errors.Error;
+import io.streamthoughts.azkarra.api.errors.InvalidStreamsStateException;
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Tuple;
+import io.streamthoughts.azkarra.api.query.BatchingRemoteQueryClient;
+import io.streamthoughts.azkarra.api.query.DistributedQuery;
+import io.streamthoughts.azkarra.api.query.IteratorPublisher;
+import io.streamthoughts.azkarra.api.query.Queried;
+import io.streamthoughts.azkarra.api.query.QueryCoalescer;
+import io.streamthoughts.azkarra.api.query.QueryInfo;
+import io.streamthoughts.azkarra.api.query.QueryParams;
+import io.streamthoughts.azkarra.api.query.QueryResultCache;
+import io.streamthoughts.azkarra.api.query.RemoteQueryClient;
+import io.streamthoughts.azkarra.api.query.internal.PreparedQuery;
+import io.streamthoughts.azkarra.api.query.internal.Query;
+import io.streamthoughts.azkarra.api.query.result.ErrorResultSet;
+import io.streamthoughts.azkarra.api.query.result.QueryError;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
+import io.streamthoughts.azkarra.api.query.result.QueryStatus;
+import io.streamthoughts.azkarra.api.streams.KafkaStreamsContainer;
+import io.streamthoughts.azkarra.api.time.Time;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Executes the interactive queries received by a {@link LocalAzkarraStreamsService}, either individually,
+ * by batch or as a stream of records.
+ *
+ * @since 0.8.0
+ */
+final class StreamsQueryExecutor {
+
+    private final RemoteQueryClient remoteQueryClient;
+
+    private final QueryCoalescer coalescer = new QueryCoalescer();
+
+    /**
+     * Creates a new {@link StreamsQueryExecutor} instance.
+     *
+     * @param remoteQueryClient the {@link RemoteQueryClient} used for forwarding queries to remote instances.
+     */
+    StreamsQueryExecutor(final RemoteQueryClient remoteQueryClient) {
+        this.remoteQueryClient = Objects.requireNonNull(remoteQueryClient, "remoteQueryClient cannot be null");
+    }
+
+    /**
+     * Executes the given query on the given streams instance and waits for its result.
+     *
+     * @param streams       the {@link KafkaStreamsContainer} to query.
+     * @param query         the {@link Query} to execute.
+     * @param parameters    the query parameters.
+     * @param options       the {@link Queried} options.
+     * @return              the {@link QueryResult}.
+     *
+     * @throws InvalidStreamsStateException if the streams instance is not running.
+     */
+    <K, V> QueryResult<K, V> query(final KafkaStreamsContainer streams,
+                                   final Query<K, V> query,
+                                   final QueryParams parameters,
+                                   final Queried options) {
+        return join(queryAsync(streams, query, parameters, options));
+    }
+
+    /**
+     * Executes the given query on the given streams instance, forwarding it to remote instances if needed.
+     *
+     * @param streams       the {@link KafkaStreamsContainer} to query.
+     * @param query         the {@link Query} to execute.
+     * @param parameters    the query parameters.
+     * @param options       the {@link Queried} options.
+     * @return              the future {@link QueryResult}.
+     *
+     * @throws InvalidStreamsStateException if the streams instance is not running.
+     */
+    <K, V> CompletableFuture<QueryResult<K, V>> queryAsync(final KafkaStreamsContainer streams,
+                                                           final Query<K, V> query,
+                                                           final QueryParams parameters,
+                                                           final Queried options) {
+        checkIsRunning(streams);
+        return queryAsync(streams, query, parameters, options, remoteQueryClient);
+    }
+
+    /**
+     * Executes the given queries on the given streams instance.
+     *
+     * Each query is dispatched by a thread of a pool bounded to the number of available processors, the queries
+     * to be forwarded to remote instances being sent once all the queries have been dispatched. The queries having
+     * no deadline are bounded by the latest deadline of the batch.
+     *
+     * @param streams   the {@link KafkaStreamsContainer} to query.
+     * @param queries   the queries to execute with their options.
+     * @return          the future {@link QueryResult}s, in the order of the queries.
+     *
+     * @throws InvalidStreamsStateException if the streams instance is not running.
+     */
+    CompletableFuture<List<QueryResult<Object, Object>>> queryBatchAsync(
+            final KafkaStreamsContainer streams,
+            final List<Tuple<QueryInfo, Queried>> queries) {
+        checkIsRunning(streams);
+
+        final Optional<Long> deadline = queries
+            .stream()
+            .map(q -> q.right().deadline())
+            .filter(Objects::nonNull)
+            .max(Long::compare);
+
+        final BatchingRemoteQueryClient batching = new BatchingRemoteQueryClient(remoteQueryClient);
+        final List<CompletableFuture<CompletableFuture<QueryResult<Object, Object>>>> dispatched = queries
+            .stream()
+            .map(q -> CompletableFuture.supplyAsync(() -> {
+                final QueryInfo info = q.left();
+                final Query<Object, Object> query = info.type().buildQuery(info.storeName(), info.operation());
+                final Queried options = q.right().deadline() == null && deadline.isPresent() ?
+                    q.right().withDeadline(deadline.get()) :
+                    q.right();
+                return queryAsync(streams, query, info.parameters(), options, batching);
+            }, BatchPool.INSTANCE))
+            .collect(Collectors.toList());
+
+        CompletableFuture
+            .allOf(dispatched.toArray(new CompletableFuture[0]))
+            .whenComplete((ignored, t) -> batching.flush());
+
+        // a failed query is reported in its own result, without failing the whole batch.
+        final List<CompletableFuture<QueryResult<Object, Object>>> results = dispatched
+            .stream()
+            .map(f -> f
+                .thenCompose(Function.identity())
+                .exceptionally(t -> errorQueryResult(streams, t)))
+            .collect(Collectors.toList());
+
+        return CompletableFuture
+            .allOf(results.toArray(new CompletableFuture[0]))
+            .thenApply(ignored -> results.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    private <K, V> CompletableFuture<QueryResult<K, V>> queryAsync(final KafkaStreamsContainer streams,
+                                                                   final Query<K, V> query,
+                                                                   final QueryParams parameters,
+                                                                   final Queried options,
+                                                                   final RemoteQueryClient client) {
+        final long now = Time.SYSTEM.milliseconds();
+
+        final Optional<List<Error>> errors = query.validate(parameters);
+        if (errors.isPresent()) {
+            return CompletableFuture.completedFuture(invalidQueryResult(streams, errors.get(), now));
+        }
+
+        final PreparedQuery<K, V> prepared = query.prepare(parameters);
+        final QueryResultCache cache = streams.queryResultCache();
+        final long generation = cache.generation();
+        final Optional<QueryResult<K, V>> cached = cache.get(prepared, options);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        // identical queries received concurrently (e.g. for a hot key) share a single execution.
+        return coalescer.execute(
+            streams.applicationId(),
+            streams.applicationServer(),
+            prepared,
+            options,
+            () -> new DistributedQuery<>(client, prepared)
+                .queryAsync(streams, options)
+                .whenComplete((result, t) -> {
+                    if (result != null) cache.put(prepared, options, result, generation);
+                })
+        );
+    }
+
+    /**
+     * Gets a {@link Flow.Publisher} emitting the records of the given query on the given streams instance.
+     *
+     * @param streams       the {@link KafkaStreamsContainer} to query.
+     * @param query         the {@link Query} to execute.
+     * @param parameters    the query parameters.
+     * @param options       the {@link Queried} options.
+     * @return              the {@link Flow.Publisher} of records.
+     *
+     * @throws InvalidStreamsStateException if the streams instance is not running.
+     */
+    <K, V> Flow.Publisher<KV<K, V>> publish(final KafkaStreamsContainer streams,
+                                            final Query<K, V> query,
+                                            final QueryParams parameters,
+                                            final Queried options) {
+        checkIsRunning(streams);
+
+        final Optional<List<Error>> errors = query.validate(parameters);
+        if (errors.isPresent()) {
+            final long now = Time.SYSTEM.milliseconds();
+            return IteratorPublisher.ofQueryResult(() -> invalidQueryResult(streams, errors.get(), now));
+        }
+
+        final DistributedQuery<K, V> distributed = new DistributedQuery<>(remoteQueryClient, query.prepare(parameters));
+        return distributed.publish(streams, options);
+    }
+
+    private static <K, V> QueryResult<K, V> invalidQueryResult(final KafkaStreamsContainer streams,
+                                                               final List<Error> errors,
+                                                               final long now) {
+        QueryResultBuilder<K, V> queryBuilder = QueryResultBuilder.newBuilder();
+        final String server = streams.applicationServer();
+        return queryBuilder
+            .setServer(server)
+            .setTook(Time.SYSTEM.milliseconds() - now)
+            .setStatus(QueryStatus.INVALID)
+            .setFailedResultSet(new ErrorResultSet(server, false, QueryError.allOf(errors)))
+            .build();
+    }
+
+    private static <K, V> QueryResult<K, V> errorQueryResult(final KafkaStreamsContainer streams,
+                                                             final Throwable t) {
+        final Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        final String server = streams.applicationServer();
+        return QueryResultBuilder.<K, V>newBuilder()
+            .setServer(server)
+            .setTook(0L)
+            .setStatus(QueryStatus.ERROR)
+            .setFailedResultSet(new ErrorResultSet(server, false, QueryError.of(cause)))
+            .build();
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static void checkIsRunning(final KafkaStreamsContainer streams) {
+        if (!streams.isRunning()) {
+            throw new InvalidStreamsStateException(
+                "streams instance for id '" + streams.applicationId() +
+                "' is not running (" + streams.state().value() + ")"
+            );
+        }
+    }
+
+    /**
+     * The pool used for dispatching the queries of a batch, shared by all applications.
+     */
+    private static final class BatchPool {
+
+        private static final ExecutorService INSTANCE = newBatchPool(Runtime.getRuntime().availableProcessors());
+
+        private static ExecutorService newBatchPool(final int numThreads) {
+            final AtomicInteger index = new AtomicInteger(0);
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                numThreads,
+                numThreads,
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    final Thread thread = new Thread(r, "azkarra-query-batch-" + index.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import io.undertow.util.Headers;
 import io.undertow.util.StatusCodes;
 import org.apache.avro.generic.GenericRecord;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Deque;
 import java.util.Map;
@@ -134,6 +135,21 @@ public class ExchangeHelper {
         exchange.getResponseSender().send(JSON.serialize(response), StandardCharsets.UTF_8);
     }
 
+    /**
+     * Static helper that can be used to write bytes to HTTP-response with the specified content type.
+     *
+     * @param exchange      the {@link HttpServerExchange} instance.
+     * @param contentType   the content type of the response.
+     * @param response      the bytes to send.
+     */
+    public static void sendBytesResponse(final HttpServerExchange exchange,
+                                         final String contentType,
+                                         final byte[] response) {
+        exchange.setStatusCode(StatusCodes.OK);
+        exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, contentType);
+        exchange.getResponseSender().send(ByteBuffer.wrap(response));
+    }
+
     private static Optional<String> getFirst(final String name,
                                              final Map<String, Deque<String>> parameters) {
         Deque<String> parameter = parameters.get(name);
@@ -43,6 +43,7 @@ import io.streamthoughts.azkarra.http.security.SecurityConfig;
 import io.streamthoughts.azkarra.http.security.SecurityMechanism;
 import io.streamthoughts.azkarra.http.security.handler.SecurityHandler;
 import io.streamthoughts.azkarra.http.security.handler.SecurityHandlerFactory;
+import io.streamthoughts.azkarra.http.serialization.binary.BinaryQueryResultSerdes;
 import io.streamthoughts.azkarra.http.serialization.json.SpecificJsonSerdes;
 import io.streamthoughts.azkarra.http.spi.RoutingHandlerProvider;
 import io.streamthoughts.azkarra.runtime.service.LocalAzkarraStreamsService;
@@ -69,6 +70,7 @@ import org.xnio.SslClientAuthMode;
 import javax.servlet.ServletException;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.ServiceLoader;
 
 /**
@@ -171,7 +173,10 @@ public class UndertowEmbeddedServer implements EmbeddedHttpServer {
     private void initializeAzkarraStreamsServiceComponent() {
         HttpRemoteQueryBuilder httpRemoteQueryBuilder = new HttpRemoteQueryBuilder()
                 .setBasePath(APIVersions.PATH_V1)
-                .setSerdes(new SpecificJsonSerdes<>(ExchangeHelper.JSON, QueryResult.class));
+                // values received in the binary format are not decoded; instances not supporting it answer in JSON.
+                .setSerdes(List.of(
+                    new BinaryQueryResultSerdes(ExchangeHelper.JSON, true),
+                    new SpecificJsonSerdes<>(ExchangeHelper.JSON, QueryResult.class)));
 
         if (serverConfig.isSslEnable()) {
             httpRemoteQueryBuilder.setSSLContextFactory(sslContextFactory);
@@ -38,6 +38,18 @@ public class QueryOptionsRequest {
 
     private final Long limit;
 
+    private String continuation;
+
+    private Boolean parallel;
+
+    private Boolean ordered;
+
+    private Long hedgeDelay;
+
+    private Long maxStaleness;
+
+    private Long deadline;
+
     @JsonCreator
     public QueryOptionsRequest(@JsonProperty("retries") final Integer retries,
                                @JsonProperty("retry_backoff_ms") final Long retryBackoff,
@@ -75,4 +87,64 @@ public class QueryOptionsRequest {
     public Long limit() {
         return limit;
     }
+
+    @JsonProperty("continuation")
+    public String continuation() {
+        return continuation;
+    }
+
+    @JsonProperty("continuation")
+    public void setContinuation(final String continuation) {
+        this.continuation = continuation;
+    }
+
+    @JsonProperty("parallel")
+    public Boolean isParallel() {
+        return parallel;
+    }
+
+    @JsonProperty("parallel")
+    public void setParallel(final Boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @JsonProperty("ordered")
+    public Boolean isOrdered() {
+        return ordered;
+    }
+
+    @JsonProperty("ordered")
+    public void setOrdered(final Boolean ordered) {
+        this.ordered = ordered;
+    }
+
+    @JsonProperty("hedge_delay_ms")
+    public Long getHedgeDelay() {
+        return hedgeDelay;
+    }
+
+    @JsonProperty("hedge_delay_ms")
+    public void setHedgeDelay(final Long hedgeDelay) {
+        this.hedgeDelay = hedgeDelay;
+    }
+
+    @JsonProperty("max_staleness")
+    public Long getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    @JsonProperty("max_staleness")
+    public void setMaxStaleness(final Long maxStaleness) {
+        this.maxStaleness = maxStaleness;
+    }
+
+    @JsonProperty("deadline_ms")
+    public Long getDeadline() {
+        return deadline;
+    }
+
+    @JsonProperty("deadline_ms")
+    public void setDeadline(final Long deadline) {
+        this.deadline = deadline;
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.handler;
+
+import io.streamthoughts.azkarra.api.AzkarraStreamsService;
+import io.streamthoughts.azkarra.api.monad.Tuple;
+import io.streamthoughts.azkarra.api.query.Queried;
+import io.streamthoughts.azkarra.api.query.QueryInfo;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.http.ExchangeHelper;
+import io.streamthoughts.azkarra.http.error.ExceptionDefaultHandler;
+import io.streamthoughts.azkarra.http.query.JsonQuerySerde;
+import io.undertow.server.HttpServerExchange;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Executes a batch of interactive queries, possibly on different stores, and sends all the results
+ * in a single response once all the queries complete.
+ *
+ * @since 0.8.0
+ */
+public class ApplicationQueryBatchHandler extends AbstractStreamHttpHandler implements WithApplication {
+
+    /**
+     * Creates a new {@link ApplicationQueryBatchHandler} instance.
+     *
+     * @param service   the {@link AzkarraStreamsService} instance.
+     */
+    public ApplicationQueryBatchHandler(final AzkarraStreamsService service) {
+        super(service);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handleRequest(final HttpServerExchange exchange, final String applicationId) throws Exception {
+        if (exchange.isBlocking()) {
+            handleBatch(exchange, applicationId, exchange.getInputStream().readAllBytes());
+            return;
+        }
+        exchange.getRequestReceiver().receiveFullBytes(
+            // the local stores are queried by worker threads, never by an I/O thread.
+            (ex, data) -> ex.dispatch(() -> handleBatch(ex, applicationId, data)),
+            ExceptionDefaultHandler::sendErrorMessage
+        );
+    }
+
+    private void handleBatch(final HttpServerExchange exchange,
+                             final String applicationId,
+                             final byte[] data) {
+        final CompletableFuture<List<QueryResult<Object, Object>>> future;
+        try {
+            final List<Tuple<QueryInfo, Queried>> queries = JsonQuerySerde.deserializeBatch(data);
+            future = service.queryBatchAsync(applicationId, queries);
+        } catch (final Exception e) {
+            ExceptionDefaultHandler.sendErrorMessage(exchange, e);
+            return;
+        }
+        future.whenComplete((results, t) -> {
+            if (t != null) {
+                final Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                ExceptionDefaultHandler.sendErrorMessage(exchange, cause);
+            } else {
+                ExchangeHelper.sendJsonResponse(exchange, results);
+            }
+        });
+    }
+}
@@ -26,17 +26,27 @@ import io.streamthoughts.azkarra.api.query.QueryInfo;
 import io.streamthoughts.azkarra.api.query.internal.Query;
 import io.streamthoughts.azkarra.api.query.result.QueryResult;
 import io.streamthoughts.azkarra.http.ExchangeHelper;
+import io.streamthoughts.azkarra.http.error.ExceptionDefaultHandler;
+import io.streamthoughts.azkarra.http.ndjson.NdJsonRecordSubscriber;
 import io.streamthoughts.azkarra.http.query.JsonQuerySerde;
+import io.streamthoughts.azkarra.http.serialization.binary.BinaryQueryResultSerdes;
+import io.streamthoughts.azkarra.serialization.Serdes;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
 
-import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 public class ApplicationQueryStoreHandler extends AbstractStreamHttpHandler implements WithApplication {
 
     private static final String QUERY_PARAM_STORE_NAME = "storeName";
 
+    private static final int STREAMING_BATCH_SIZE = 100;
+
+    private static final Serdes<QueryResult> BINARY = new BinaryQueryResultSerdes(ExchangeHelper.JSON, false);
+
     private final boolean onlySuccessKVRecords;
 
     /**
@@ -52,23 +62,93 @@ public class ApplicationQueryStoreHandler extends AbstractStreamHttpHandler impl
 
     /**
      * {@inheritDoc}
+     *
+     * If the exchange is not in blocking mode, the request body is read asynchronously and the response is sent
+     * once the query completes, so that no worker thread is parked while waiting for remote instances.
      */
     @Override
-    public void handleRequest(final HttpServerExchange exchange, final String applicationId) throws IOException {
+    public void handleRequest(final HttpServerExchange exchange, final String applicationId) throws Exception {
         final String store = ExchangeHelper.getQueryParam(exchange, QUERY_PARAM_STORE_NAME);
-        byte[] data = exchange.getInputStream().readAllBytes();
+        if (exchange.isBlocking()) {
+            handleQuery(exchange, applicationId, store, exchange.getInputStream().readAllBytes());
+            return;
+        }
+        exchange.getRequestReceiver().receiveFullBytes(
+            // the local store is queried by a worker thread, never by an I/O thread.
+            (ex, data) -> ex.dispatch(() -> handleAsyncQuery(ex, applicationId, store, data)),
+            ExceptionDefaultHandler::sendErrorMessage
+        );
+    }
+
+    private void handleQuery(final HttpServerExchange exchange,
+                             final String applicationId,
+                             final String store,
+                             final byte[] data) throws Exception {
         Tuple<QueryInfo, Queried> deserialized = JsonQuerySerde.deserialize(store, data);
 
         QueryInfo queryInfo = deserialized.left();
 
         Query<Object, Object> query = queryInfo.type().buildQuery(queryInfo.storeName(), queryInfo.operation());
+
+        if (onlySuccessKVRecords && acceptsNdJson(exchange)) {
+            final NdJsonRecordSubscriber<Object, Object> subscriber =
+                new NdJsonRecordSubscriber<>(exchange, ExchangeHelper.JSON, STREAMING_BATCH_SIZE);
+            service.publish(applicationId, query, queryInfo.parameters(), deserialized.right()).subscribe(subscriber);
+            subscriber.await();
+            return;
+        }
+
         final QueryResult<Object, Object> result = service.query(
             applicationId,
             query,
             queryInfo.parameters(),
             deserialized.right()
         );
-        ExchangeHelper.sendJsonResponse(exchange, onlySuccessKVRecords ? onlySuccessKVRecords(result): result);
+        sendQueryResult(exchange, result);
+    }
+
+    private void handleAsyncQuery(final HttpServerExchange exchange,
+                                  final String applicationId,
+                                  final String store,
+                                  final byte[] data) {
+        final CompletableFuture<QueryResult<Object, Object>> future;
+        try {
+            Tuple<QueryInfo, Queried> deserialized = JsonQuerySerde.deserialize(store, data);
+            QueryInfo queryInfo = deserialized.left();
+            Query<Object, Object> query = queryInfo.type().buildQuery(queryInfo.storeName(), queryInfo.operation());
+            future = service.queryAsync(applicationId, query, queryInfo.parameters(), deserialized.right());
+        } catch (final Exception e) {
+            ExceptionDefaultHandler.sendErrorMessage(exchange, e);
+            return;
+        }
+        future.whenComplete((result, t) -> {
+            if (t != null) {
+                final Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                ExceptionDefaultHandler.sendErrorMessage(exchange, cause);
+            } else {
+                sendQueryResult(exchange, result);
+            }
+        });
+    }
+
+    private void sendQueryResult(final HttpServerExchange exchange, final QueryResult<Object, Object> result) {
+        if (onlySuccessKVRecords) {
+            ExchangeHelper.sendJsonResponse(exchange, onlySuccessKVRecords(result));
+        } else if (accepts(exchange, BinaryQueryResultSerdes.CONTENT_TYPE)) {
+            // queries forwarded by other instances are answered using the binary format when supported.
+            ExchangeHelper.sendBytesResponse(exchange, BINARY.contentType(), BINARY.serialize(result));
+        } else {
+            ExchangeHelper.sendJsonResponse(exchange, result);
+        }
+    }
+
+    private static boolean acceptsNdJson(final HttpServerExchange exchange) {
+        return accepts(exchange, NdJsonRecordSubscriber.CONTENT_TYPE);
+    }
+
+    private static boolean accepts(final HttpServerExchange exchange, final String contentType) {
+        final String accept = exchange.getRequestHeaders().getFirst(Headers.ACCEPT);
+        return accept != null && accept.contains(contentType);
     }
 
     private static List<KV<Object, Object>> onlySuccessKVRecords(final QueryResult<Object, Object> result) {
@@ -67,6 +67,6 @@ public class HeadlessHttpHandler implements HttpHandler {
     }
 
     private boolean isNotQueryStore(final String path, final HttpString method) {
-        return !(method.equals(Methods.POST) && path.contains("/stores/"));
+        return !(method.equals(Methods.POST) && (path.contains("/stores/") || path.endsWith("/stores")));
     }
 }
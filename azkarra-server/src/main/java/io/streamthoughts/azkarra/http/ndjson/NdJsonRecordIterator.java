@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.ndjson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.streamthoughts.azkarra.api.errors.AzkarraException;
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.serialization.json.Json;
+import okio.BufferedSource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An iterator that lazily reads {@link KV} records from a newline-delimited JSON stream.
+ *
+ * A line is only read from the underlying source when a new record is requested, so that the remote
+ * server is naturally slowed down by the TCP flow-control when the records are consumed slowly.
+ *
+ * @param <K>   the record-key type
+ * @param <V>   the record-value type.
+ *
+ * @since 0.8.0
+ */
+public class NdJsonRecordIterator<K, V> implements Iterator<KV<K, V>>, Closeable {
+
+    private static final String ERROR_CODE_FIELD = "error_code";
+
+    private final BufferedSource source;
+    private final Closeable closeable;
+    private final Json json;
+
+    private KV<K, V> next;
+    private boolean done;
+
+    /**
+     * Creates a new {@link NdJsonRecordIterator} instance.
+     *
+     * @param source    the {@link BufferedSource} to read.
+     * @param closeable the resource to close once the stream is consumed.
+     * @param json      the {@link Json} deserializer.
+     */
+    public NdJsonRecordIterator(final BufferedSource source,
+                                final Closeable closeable,
+                                final Json json) {
+        this.source = Objects.requireNonNull(source, "source cannot be null");
+        this.closeable = Objects.requireNonNull(closeable, "closeable cannot be null");
+        this.json = Objects.requireNonNull(json, "json cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            next = readNext();
+            done = next == null;
+        }
+        return next != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KV<K, V> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final KV<K, V> record = next;
+        next = null;
+        return record;
+    }
+
+    @SuppressWarnings("unchecked")
+    private KV<K, V> readNext() {
+        String line;
+        try {
+            do {
+                line = source.readUtf8Line();
+            } while (line != null && line.isBlank());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (line == null) return null;
+
+        final JsonNode node = json.deserialize(line, JsonNode.class);
+        if (node.has(ERROR_CODE_FIELD)) {
+            throw new AzkarraException("Remote server failed to stream records: " + node.path("message").asText());
+        }
+        return json.deserialize(node, KV.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        closeable.close();
+    }
+}
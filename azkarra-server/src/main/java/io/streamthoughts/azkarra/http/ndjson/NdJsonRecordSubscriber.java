@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.ndjson;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.http.data.ErrorMessage;
+import io.streamthoughts.azkarra.serialization.json.Json;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.StatusCodes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+
+/**
+ * A subscriber that writes published {@link KV} records to a blocking HTTP response as newline-delimited JSON.
+ *
+ * Records are requested by batches; a new batch is only requested once the previous one has been written
+ * and flushed to the client, so that the publisher never produces faster than the client can consume.
+ *
+ * An error occurring before the first record is written is re-thrown by {@link #await()}, so that it can be
+ * reported with a regular error response. Otherwise, the error is sent as the last line of the response.
+ *
+ * @param <K>   the record-key type
+ * @param <V>   the record-value type.
+ *
+ * @since 0.8.0
+ */
+public class NdJsonRecordSubscriber<K, V> implements Flow.Subscriber<KV<K, V>> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NdJsonRecordSubscriber.class);
+
+    public static final String CONTENT_TYPE = "application/x-ndjson";
+
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServerExchange exchange;
+    private final Json json;
+    private final int batchSize;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private Flow.Subscription subscription;
+    private OutputStream os;
+    private int pending;
+
+    /**
+     * Creates a new {@link NdJsonRecordSubscriber} instance.
+     *
+     * @param exchange  the {@link HttpServerExchange} in blocking mode.
+     * @param json      the {@link Json} serializer.
+     * @param batchSize the number of records to request at once.
+     */
+    public NdJsonRecordSubscriber(final HttpServerExchange exchange,
+                                  final Json json,
+                                  final int batchSize) {
+        this.exchange = Objects.requireNonNull(exchange, "exchange cannot be null");
+        this.json = Objects.requireNonNull(json, "json cannot be null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be strictly positive, was " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription); // rule 2.13
+        if (this.subscription != null) {
+            subscription.cancel(); // Cancel the additional subscription
+        } else {
+            this.subscription = subscription;
+            this.pending = batchSize;
+            subscription.request(batchSize);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onNext(final KV<K, V> record) {
+        Objects.requireNonNull(record); // rule 2.13
+        if (completion.isDone()) return;
+        try {
+            writeLine(record);
+            if (--pending == 0) {
+                os.flush();
+                pending = batchSize;
+                subscription.request(batchSize);
+            }
+        } catch (final IOException e) {
+            LOG.debug("Failed to write records to client. Canceling subscription.", e);
+            subscription.cancel();
+            completion.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onError(final Throwable throwable) {
+        Objects.requireNonNull(throwable); // rule 2.13
+        if (os == null) {
+            completion.completeExceptionally(throwable);
+            return;
+        }
+        try {
+            LOG.error("Unexpected error while streaming records to /{}", exchange.getRelativePath(), throwable);
+            writeLine(ErrorMessage.of(throwable, exchange.getRelativePath()));
+            os.close();
+        } catch (final IOException e) {
+            LOG.debug("Failed to write error to client", e);
+        }
+        completion.complete(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onComplete() {
+        try {
+            startResponseIfNecessary();
+            os.close();
+            completion.complete(null);
+        } catch (final IOException e) {
+            completion.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Waits for the published records to be written.
+     *
+     * @throws Exception if an error happens before the first record was written.
+     */
+    public void await() throws Exception {
+        try {
+            completion.get();
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : new ExecutionException(cause);
+        }
+    }
+
+    private void writeLine(final Object object) throws IOException {
+        startResponseIfNecessary();
+        os.write(json.serialize(object).getBytes(StandardCharsets.UTF_8));
+        os.write(NEW_LINE);
+    }
+
+    private void startResponseIfNecessary() {
+        if (os == null) {
+            exchange.setStatusCode(StatusCodes.OK);
+            exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, CONTENT_TYPE);
+            os = exchange.getOutputStream();
+        }
+    }
+}
@@ -35,6 +35,7 @@ import okhttp3.Response;
 import okhttp3.Route;
 
 import javax.net.ssl.SSLContext;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -50,9 +51,21 @@ public class HttpRemoteQueryBuilder {
 
     private boolean enablePasswordAuthentication;
 
-    private Serdes<QueryResult> serdes;
+    private List<Serdes<QueryResult>> serdes;
 
     public HttpRemoteQueryBuilder setSerdes(final Serdes<QueryResult> serdes) {
+        this.serdes = List.of(serdes);
+        return this;
+    }
+
+    /**
+     * Sets the {@link Serdes} which can be used for reading query responses, by order of preference.
+     * The wire format is negotiated with each remote instance through the HTTP content type.
+     *
+     * @param serdes    the list of {@link Serdes}; the last one is used for responses of an unknown content type.
+     * @return  {@code this}
+     */
+    public HttpRemoteQueryBuilder setSerdes(final List<Serdes<QueryResult>> serdes) {
         this.serdes = serdes;
         return this;
     }
@@ -173,5 +186,13 @@ public class HttpRemoteQueryBuilder {
         public String buildURL(final String server, final String applicationId, final String store) {
             return schema + "://" + server + basePath + "applications/" + applicationId + "/stores/" + store;
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String buildBatchURL(final String server, final String applicationId) {
+            return schema + "://" + server + basePath + "applications/" + applicationId + "/stores";
+        }
     }
 }
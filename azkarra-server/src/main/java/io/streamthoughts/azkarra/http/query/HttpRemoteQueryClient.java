@@ -18,7 +18,12 @@
  */
 package io.streamthoughts.azkarra.http.query;
 
+import io.streamthoughts.azkarra.api.errors.AzkarraException;
 import io.streamthoughts.azkarra.api.errors.AzkarraRetriableException;
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Try;
+import io.streamthoughts.azkarra.api.monad.Tuple;
+import io.streamthoughts.azkarra.api.query.IteratorPublisher;
 import io.streamthoughts.azkarra.api.query.Queried;
 import io.streamthoughts.azkarra.api.query.QueryInfo;
 import io.streamthoughts.azkarra.api.query.RemoteQueryClient;
@@ -28,6 +33,9 @@ import io.streamthoughts.azkarra.api.query.result.QueryResult;
 import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
 import io.streamthoughts.azkarra.api.query.result.QueryStatus;
 import io.streamthoughts.azkarra.api.streams.ServerHostInfo;
+import io.streamthoughts.azkarra.http.ExchangeHelper;
+import io.streamthoughts.azkarra.http.ndjson.NdJsonRecordIterator;
+import io.streamthoughts.azkarra.http.ndjson.NdJsonRecordSubscriber;
 import io.streamthoughts.azkarra.serialization.Serdes;
 import okhttp3.Call;
 import okhttp3.Callback;
@@ -41,9 +49,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
 
 public class HttpRemoteQueryClient implements RemoteQueryClient {
 
@@ -53,9 +67,11 @@ public class HttpRemoteQueryClient implements RemoteQueryClient {
 
     private final QueryURLBuilder queryURLBuilder;
 
-    private final Serdes<QueryResult> serdes;
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json; charset=utf-8");
 
-    private final MediaType mediaType;
+    private final List<Serdes<QueryResult>> serdes;
+
+    private final String accept;
 
     /**
      * Creates a new {@link HttpRemoteQueryClient} instance.
@@ -66,10 +82,30 @@ public class HttpRemoteQueryClient implements RemoteQueryClient {
     public HttpRemoteQueryClient(final OkHttpClient httpClient,
                                  final QueryURLBuilder queryURLBuilder,
                                  final Serdes<QueryResult> serdes) {
+        this(httpClient, queryURLBuilder, List.of(Objects.requireNonNull(serdes, "serdes cannot be null")));
+    }
+
+    /**
+     * Creates a new {@link HttpRemoteQueryClient} instance.
+     *
+     * The content types of the given serdes are all accepted for query responses, by order of preference.
+     * A response whose content type does not match any of the serdes is read using the last one, which is expected
+     * to be the format supported by all instances (i.e. JSON).
+     *
+     * @param httpClient        the {@link OkHttpClient} instance.
+     * @param queryURLBuilder   the {@link QueryURLBuilder} instance.
+     * @param serdes            the {@link Serdes} used for reading query responses, by order of preference.
+     */
+    public HttpRemoteQueryClient(final OkHttpClient httpClient,
+                                 final QueryURLBuilder queryURLBuilder,
+                                 final List<Serdes<QueryResult>> serdes) {
         this.client =  Objects.requireNonNull(httpClient, "httpClient cannot be null");
         this.queryURLBuilder = Objects.requireNonNull(queryURLBuilder, "queryURLBuilder cannot be null");
-        this.serdes = Objects.requireNonNull(serdes, "serdes cannot be null");
-        this.mediaType = MediaType.get(serdes.contentType());
+        this.serdes = List.copyOf(Objects.requireNonNull(serdes, "serdes cannot be null"));
+        if (this.serdes.isEmpty()) {
+            throw new IllegalArgumentException("serdes cannot be empty");
+        }
+        this.accept = this.serdes.stream().map(Serdes::contentType).collect(Collectors.joining(", "));
     }
 
     /**
@@ -85,11 +121,18 @@ public class HttpRemoteQueryClient implements RemoteQueryClient {
 
         final String json = JsonQuerySerde.serialize(query, options);
 
+        // partial aggregates, and records aggregated by the caller, are always read using the default format
+        // in which values are deserialized.
+        final boolean decoded = options.aggregation() != null || options.decodedValues();
+        final List<Serdes<QueryResult>> accepted = decoded ?
+            serdes.subList(serdes.size() - 1, serdes.size()) :
+            serdes;
+
         Request request = new Request.Builder()
                 .url(path)
-                .addHeader("Accept", mediaType.toString())
-                .addHeader("Content-type", mediaType.toString())
-                .post(RequestBody.create(json, mediaType))
+                .addHeader("Accept", decoded ? accepted.get(0).contentType() : accept)
+                .addHeader("Content-type", JSON_MEDIA_TYPE.toString())
+                .post(RequestBody.create(json, JSON_MEDIA_TYPE))
                 .build();
 
         final QueryResultBuilder<K, V> builder = QueryResultBuilder.<K, V>newBuilder()
@@ -100,16 +143,161 @@ public class HttpRemoteQueryClient implements RemoteQueryClient {
         final CompletableFuture<QueryResult<K, V>> future = new CompletableFuture<>();
 
         LOG.debug("Forwarding state store query to remote server {}", server);
-        client.newCall(request).enqueue(new AsyncQueryCallback<>(server, future, builder, serdes));
+        client.newCall(request).enqueue(new AsyncQueryCallback<>(server, future, builder, accepted));
         return future;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The queries are sent in a single request, the results being read using JSON.
+     */
+    @Override
+    public CompletableFuture<List<QueryResult<Object, Object>>> queryBatch(
+            final ServerHostInfo serverInfo,
+            final List<Tuple<QueryInfo, Queried>> queries) {
+        final String server = serverInfo.hostAndPort();
+
+        final String json = JsonQuerySerde.serializeBatch(queries);
+
+        Request request = new Request.Builder()
+                .url(queryURLBuilder.buildBatchURL(server, serverInfo.id()))
+                .addHeader("Accept", JSON_MEDIA_TYPE.toString())
+                .addHeader("Content-type", JSON_MEDIA_TYPE.toString())
+                .post(RequestBody.create(json, JSON_MEDIA_TYPE))
+                .build();
+
+        final CompletableFuture<List<QueryResult<Object, Object>>> future = new CompletableFuture<>();
+
+        LOG.debug("Forwarding batch of {} state store queries to remote server {}", queries.size(), server);
+        client.newCall(request).enqueue(new AsyncBatchQueryCallback(server, future, queries));
+        return future;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The records are streamed from the remote server as newline-delimited JSON and are only read
+     * from the HTTP response when requested by the subscriber.
+     */
+    @Override
+    public <K, V> Flow.Publisher<KV<K, V>> publish(final ServerHostInfo serverInfo,
+                                                   final QueryInfo query,
+                                                   final Queried options) {
+        final String server = serverInfo.hostAndPort();
+
+        final String path = queryURLBuilder.buildURL(server, serverInfo.id(), query.storeName()) + "/records";
+
+        final String json = JsonQuerySerde.serialize(query, options);
+
+        Request request = new Request.Builder()
+                .url(path)
+                .addHeader("Accept", NdJsonRecordSubscriber.CONTENT_TYPE)
+                .addHeader("Content-type", JSON_MEDIA_TYPE.toString())
+                .post(RequestBody.create(json, JSON_MEDIA_TYPE))
+                .build();
+
+        return IteratorPublisher.ofIterator(() -> {
+            LOG.debug("Streaming state store query from remote server {}", server);
+            return Try.failable(() -> this.<K, V>openRecordStream(server, request));
+        });
+    }
+
+    private <K, V> Iterator<KV<K, V>> openRecordStream(final String server,
+                                                       final Request request) throws IOException {
+        final Response response;
+        try {
+            response = client.newCall(request).execute();
+        } catch (final IOException e) {
+            // Fail with the IOException so that the query can be retried by the caller.
+            throw new AzkarraRetriableException(e);
+        }
+
+        final ResponseBody body = response.body();
+        if (!response.isSuccessful()) {
+            try (body) {
+                throw new AzkarraException(
+                    "Invalid response from remote server '" + server + "' (code:'" + response.code() + "') : "
+                    + body.string());
+            }
+        }
+        return new NdJsonRecordIterator<>(body.source(), body, ExchangeHelper.JSON);
+    }
+
+    private static class AsyncBatchQueryCallback implements Callback {
+
+        private final String remoteServerName;
+        private final CompletableFuture<List<QueryResult<Object, Object>>> completableFuture;
+        private final List<Tuple<QueryInfo, Queried>> queries;
+
+        /**
+         * Creates a new {@link AsyncBatchQueryCallback} instance.
+         *
+         * @param remoteServerName  the remote server name.
+         * @param completableFuture the {@link CompletableFuture} instance.
+         * @param queries           the queries sent to the remote server.
+         */
+        AsyncBatchQueryCallback(final String remoteServerName,
+                                final CompletableFuture<List<QueryResult<Object, Object>>> completableFuture,
+                                final List<Tuple<QueryInfo, Queried>> queries) {
+            this.remoteServerName = remoteServerName;
+            this.completableFuture = completableFuture;
+            this.queries = queries;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onFailure(final Call call, final IOException e) {
+            completableFuture.completeExceptionally(new AzkarraRetriableException(e));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onResponse(final Call call, final Response response) {
+            try (ResponseBody responseBody = response.body()) {
+                try {
+                    final byte[] payload = responseBody.bytes();
+                    int code = response.code();
+                    if (code >= 200 && code < 300) {
+                        final QueryResult<Object, Object>[] results =
+                            ExchangeHelper.JSON.deserialize(payload, QueryResult[].class);
+                        completableFuture.complete(Arrays.asList(results));
+                    } else {
+                        completableFuture.complete(buildQueryResultsFor(new QueryError(
+                            "Invalid response from remote server (code:'" + code + "') : "
+                            + new String(payload, StandardCharsets.UTF_8))));
+                    }
+                } catch (final Exception e) {
+                    completableFuture.complete(buildQueryResultsFor(QueryError.of(e)));
+                }
+            }
+        }
+
+        private List<QueryResult<Object, Object>> buildQueryResultsFor(final QueryError e) {
+            return queries.stream()
+                .map(query -> QueryResultBuilder.<Object, Object>newBuilder()
+                    .setServer(remoteServerName)
+                    .setStoreName(query.left().storeName())
+                    .setStoreType(query.left().type().prettyName())
+                    .setStatus(QueryStatus.ERROR)
+                    .setFailedResultSet(new ErrorResultSet(remoteServerName, true, e))
+                    .setTook(0L)
+                    .build())
+                .collect(Collectors.toList());
+        }
+    }
+
     private static class AsyncQueryCallback<K, V> implements Callback {
 
         private final String remoteServerName;
         private final QueryResultBuilder<K, V> builder;
         private final CompletableFuture<QueryResult<K, V>> completableFuture;
-        private final Serdes<QueryResult> serdes;
+        private final List<Serdes<QueryResult>> serdes;
 
         /**
          * Creates a new {@link AsyncQueryCallback} instance.
@@ -120,7 +308,7 @@ public class HttpRemoteQueryClient implements RemoteQueryClient {
         AsyncQueryCallback(final String remoteServerName,
                            final CompletableFuture<QueryResult<K, V>> completableFuture,
                            final QueryResultBuilder<K, V> builder,
-                           final Serdes<QueryResult> serdes) {
+                           final List<Serdes<QueryResult>> serdes) {
             this.remoteServerName = remoteServerName;
             this.completableFuture = completableFuture;
             this.builder = builder;
@@ -148,7 +336,7 @@ public class HttpRemoteQueryClient implements RemoteQueryClient {
                     final byte[] payload = responseBody.bytes();
                     int code = response.code();
                     if (code >= 200 && code < 300) {
-                        completableFuture.complete(serdes.deserialize(payload));
+                        completableFuture.complete(serdesFor(response).deserialize(payload));
                     } else {
                         final QueryError error = new QueryError(
                             "Invalid response from remote server (code:'" + code + "') : "
@@ -162,6 +350,22 @@ public class HttpRemoteQueryClient implements RemoteQueryClient {
             }
         }
 
+        private Serdes<QueryResult> serdesFor(final Response response) {
+            final MediaType contentType = Optional.ofNullable(response.header("Content-Type"))
+                .map(MediaType::parse)
+                .orElse(null);
+            if (contentType != null) {
+                for (Serdes<QueryResult> s : serdes) {
+                    final MediaType mediaType = MediaType.get(s.contentType());
+                    if (mediaType.type().equals(contentType.type()) &&
+                        mediaType.subtype().equals(contentType.subtype())) {
+                        return s;
+                    }
+                }
+            }
+            return serdes.get(serdes.size() - 1);
+        }
+
         private QueryResult<K, V> buildQueryResultFor(final String remoteServerName, final QueryError e) {
             final ErrorResultSet result = new ErrorResultSet(remoteServerName, true, e);
             return builder.setStatus(QueryStatus.ERROR)
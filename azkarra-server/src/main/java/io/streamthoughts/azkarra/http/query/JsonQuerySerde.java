@@ -20,9 +20,12 @@ package io.streamthoughts.azkarra.http.query;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.streamthoughts.azkarra.api.monad.Tuple;
+import io.streamthoughts.azkarra.api.query.Aggregation;
+import io.streamthoughts.azkarra.api.query.Projection;
 import io.streamthoughts.azkarra.api.query.Queried;
 import io.streamthoughts.azkarra.api.query.QueryInfo;
 import io.streamthoughts.azkarra.api.query.QueryParams;
+import io.streamthoughts.azkarra.api.query.RecordFilter;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.http.data.QueryOptionsRequest;
@@ -48,72 +51,179 @@ import static java.util.Spliterators.spliteratorUnknownSize;
  */
 public class JsonQuerySerde {
 
+    private static final String STORE_JSON_FIELD = "store";
     private static final String QUERY_JSON_FIELD = "query";
     private static final String QUERY_TYPE_JSON_FIELD = "type";
     private static final String SET_OPTIONS_JSON_FIELD = "set_options";
+    private static final String AGGREGATE_JSON_FIELD = "aggregate";
+    private static final String AGGREGATE_PATH_JSON_FIELD = "path";
+    private static final String AGGREGATE_N_JSON_FIELD = "n";
+    private static final String FILTER_JSON_FIELD = "filter";
+    private static final String FILTER_KEY_PREFIX_JSON_FIELD = "key_prefix";
+    private static final String FILTER_VALUE_JSON_FIELD = "value";
+    private static final String CONDITION_PATH_JSON_FIELD = "path";
+    private static final String CONDITION_OP_JSON_FIELD = "op";
+    private static final String CONDITION_VALUE_JSON_FIELD = "value";
+    private static final String FIELDS_JSON_FIELD = "fields";
 
     private static final Json JSON = Json.getDefault();
 
     public static Tuple<QueryInfo, Queried> deserialize(final String storeName, final byte[] data) {
-
         try {
-            JsonNode jsonNode = JSON.deserialize(data);
+            return deserialize(storeName, JSON.deserialize(data));
+        } catch (final SerializationException e) {
+            throw new InvalidStateStoreQueryException("Invalid JSON query: " + e.getMessage(), e);
+        }
+    }
 
-            if (!jsonNode.has(QUERY_TYPE_JSON_FIELD)) {
-                throw new InvalidStateStoreQueryException("Invalid JSON query: missing 'type' field");
+    /**
+     * Deserializes a batch of queries, i.e. a JSON array of queries, each specifying the name of the queried store.
+     *
+     * @param data  the JSON data.
+     * @return      the {@link QueryInfo} with their {@link Queried} options, in the order of the array.
+     */
+    public static List<Tuple<QueryInfo, Queried>> deserializeBatch(final byte[] data) {
+        try {
+            final JsonNode jsonNode = JSON.deserialize(data);
+            if (!jsonNode.isArray() || jsonNode.size() == 0) {
+                throw new InvalidStateStoreQueryException("Invalid JSON batch: expected a non-empty array of queries");
+            }
+            final List<Tuple<QueryInfo, Queried>> queries = new ArrayList<>(jsonNode.size());
+            for (JsonNode query : jsonNode) {
+                final JsonNode store = query.get(STORE_JSON_FIELD);
+                if (store == null || !store.isTextual()) {
+                    throw new InvalidStateStoreQueryException("Invalid JSON query: missing 'store' field");
+                }
+                queries.add(deserialize(store.asText(), query));
             }
+            return queries;
+        } catch (final SerializationException e) {
+            throw new InvalidStateStoreQueryException("Invalid JSON batch: " + e.getMessage(), e);
+        }
+    }
 
-            String jsonType = jsonNode.get(QUERY_TYPE_JSON_FIELD).asText();
+    private static Tuple<QueryInfo, Queried> deserialize(final String storeName, final JsonNode jsonNode) {
+        if (!jsonNode.has(QUERY_TYPE_JSON_FIELD)) {
+            throw new InvalidStateStoreQueryException("Invalid JSON query: missing 'type' field");
+        }
 
-            Optional<StoreType> optionalStoreType = StoreType.parse(jsonType);
-            if (optionalStoreType.isEmpty()) {
-                throw new InvalidStateStoreQueryException("Invalid store type: " + jsonType);
-            }
+        String jsonType = jsonNode.get(QUERY_TYPE_JSON_FIELD).asText();
 
-            final StoreType storeType = optionalStoreType.get();
+        Optional<StoreType> optionalStoreType = StoreType.parse(jsonType);
+        if (optionalStoreType.isEmpty()) {
+            throw new InvalidStateStoreQueryException("Invalid store type: " + jsonType);
+        }
 
-            JsonNode jsonQuery = jsonNode.get(QUERY_JSON_FIELD);
-            if (jsonQuery == null) {
-                throw new InvalidStateStoreQueryException("Invalid JSON query: missing 'query' clause");
+        final StoreType storeType = optionalStoreType.get();
+
+        JsonNode jsonQuery = jsonNode.get(QUERY_JSON_FIELD);
+        if (jsonQuery == null) {
+            throw new InvalidStateStoreQueryException("Invalid JSON query: missing 'query' clause");
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> clauses = jsonQuery.fields();
+        List<Tuple<StoreOperation, QueryParams>> queries = new ArrayList<>();
+
+        while (clauses.hasNext()) {
+            Map.Entry<String, JsonNode> entry = clauses.next();
+
+            String clause = entry.getKey();
+
+            Optional<StoreOperation> storeOperation = StoreOperation.parse(clause);
+            if (storeOperation.isEmpty()) {
+                throw new InvalidStateStoreQueryException("Invalid query operation: " + clause);
             }
 
-            Iterator<Map.Entry<String, JsonNode>> clauses = jsonQuery.fields();
-            List<Tuple<StoreOperation, QueryParams>> queries = new ArrayList<>();
+            Map<String, Object> params = StreamSupport
+                    .stream(spliteratorUnknownSize(entry.getValue().fields(), 0), false)
+                    .collect(Collectors.toMap(Map.Entry::getKey, e -> getJsonNodeValue(e.getValue())));
 
-            while (clauses.hasNext()) {
-                Map.Entry<String, JsonNode> entry = clauses.next();
+            queries.add(Tuple.of(storeOperation.get(), new QueryParams(params)));
+        }
 
-                String clause = entry.getKey();
+        final JsonNode optionNode = jsonNode.get(SET_OPTIONS_JSON_FIELD);
 
-                Optional<StoreOperation> storeOperation = StoreOperation.parse(clause);
-                if (storeOperation.isEmpty()) {
-                    throw new InvalidStateStoreQueryException("Invalid query operation: " + clause);
-                }
+        final QueryOptionsRequest options = optionNode == null ?
+            null :
+                JSON.deserialize(optionNode, QueryOptionsRequest.class);
 
-                Map<String, Object> params = StreamSupport
-                        .stream(spliteratorUnknownSize(entry.getValue().fields(), 0), false)
-                        .collect(Collectors.toMap(Map.Entry::getKey, e -> getJsonNodeValue(e.getValue())));
+        final QueryInfo queryInfo = new QueryInfo(
+            storeName,
+            storeType,
+            queries.get(0).left(),
+            queries.get(0).right());
+        // only support a single query
+        return Tuple.of(queryInfo, withClauses(newQueried(options), jsonNode));
+    }
 
-                queries.add(Tuple.of(storeOperation.get(), new QueryParams(params)));
-            }
+    private static Queried withClauses(final Queried options, final JsonNode jsonNode) {
+        Queried queried = options;
+        final JsonNode aggregateNode = jsonNode.get(AGGREGATE_JSON_FIELD);
+        if (aggregateNode != null) {
+            queried = queried.withAggregation(newAggregation(aggregateNode));
+        }
+        final JsonNode filterNode = jsonNode.get(FILTER_JSON_FIELD);
+        if (filterNode != null) {
+            queried = queried.withFilter(newRecordFilter(filterNode));
+        }
+        final JsonNode fieldsNode = jsonNode.get(FIELDS_JSON_FIELD);
+        if (fieldsNode != null) {
+            queried = queried.withProjection(newProjection(fieldsNode));
+        }
+        return queried;
+    }
 
-            final JsonNode optionNode = jsonNode.get(SET_OPTIONS_JSON_FIELD);
+    private static Aggregation newAggregation(final JsonNode jsonNode) {
+        final Iterator<Map.Entry<String, JsonNode>> clauses = jsonNode.fields();
+        if (!clauses.hasNext()) {
+            throw new InvalidStateStoreQueryException("Invalid JSON query: empty 'aggregate' clause");
+        }
 
-            final QueryOptionsRequest options = optionNode == null ?
-                null :
-                    JSON.deserialize(optionNode, QueryOptionsRequest.class);
+        final Map.Entry<String, JsonNode> clause = clauses.next();
+        final Aggregation.Operator operator = Aggregation.Operator.parse(clause.getKey())
+            .orElseThrow(() -> new InvalidStateStoreQueryException("Invalid aggregation operator: " + clause.getKey()));
 
-            final QueryInfo queryInfo = new QueryInfo(
-                storeName,
-                storeType,
-                queries.get(0).left(),
-                queries.get(0).right());
-            // only support a single query
-            return Tuple.of(queryInfo, newQueried(options));
+        final JsonNode path = clause.getValue().get(AGGREGATE_PATH_JSON_FIELD);
+        final JsonNode n = clause.getValue().get(AGGREGATE_N_JSON_FIELD);
+        try {
+            return new Aggregation(operator, path == null ? null : path.asText(), n == null ? null : n.asInt());
+        } catch (final IllegalArgumentException e) {
+            throw new InvalidStateStoreQueryException("Invalid aggregation: " + e.getMessage());
+        }
+    }
 
-        } catch (final SerializationException e) {
-            throw new InvalidStateStoreQueryException("Invalid JSON query: " + e.getMessage(), e);
+    private static RecordFilter newRecordFilter(final JsonNode jsonNode) {
+        final JsonNode keyPrefix = jsonNode.get(FILTER_KEY_PREFIX_JSON_FIELD);
+        final JsonNode value = jsonNode.get(FILTER_VALUE_JSON_FIELD);
+        if (value != null && !value.isArray()) {
+            throw new InvalidStateStoreQueryException("Invalid JSON query: 'filter.value' must be an array");
         }
+        final List<RecordFilter.Condition> conditions = new ArrayList<>();
+        if (value != null) {
+            for (JsonNode condition : value) {
+                final JsonNode op = condition.get(CONDITION_OP_JSON_FIELD);
+                final RecordFilter.Operator operator = RecordFilter.Operator.parse(op == null ? null : op.asText())
+                    .orElseThrow(() -> new InvalidStateStoreQueryException("Invalid filter operator: " + op));
+                final JsonNode path = condition.get(CONDITION_PATH_JSON_FIELD);
+                final JsonNode constant = condition.get(CONDITION_VALUE_JSON_FIELD);
+                conditions.add(new RecordFilter.Condition(
+                    path == null ? null : path.asText(),
+                    operator,
+                    constant == null || constant.isNull() ? null : getJsonNodeValue(constant)
+                ));
+            }
+        }
+        return new RecordFilter(keyPrefix == null ? null : keyPrefix.asText(), conditions);
+    }
+
+    private static Projection newProjection(final JsonNode jsonNode) {
+        if (!jsonNode.isArray() || jsonNode.size() == 0) {
+            throw new InvalidStateStoreQueryException("Invalid JSON query: 'fields' must be a non-empty array");
+        }
+        return new Projection(StreamSupport
+            .stream(jsonNode.spliterator(), false)
+            .map(JsonNode::asText)
+            .collect(Collectors.toList()));
     }
 
     private static Object getJsonNodeValue(final JsonNode jsonNode) {
@@ -125,25 +235,88 @@ public class JsonQuerySerde {
             return jsonNode.asInt();
         if (jsonNode.isDouble())
             return jsonNode.doubleValue();
+        if (jsonNode.isArray())
+            return StreamSupport
+                .stream(jsonNode.spliterator(), false)
+                .map(JsonQuerySerde::getJsonNodeValue)
+                .collect(Collectors.toList());
 
         return jsonNode.asText();
     }
 
     public static String serialize(final QueryInfo query, final Queried options) {
+        return JSON.serialize(toJson(query, options));
+    }
 
+    /**
+     * Serializes a batch of queries into a JSON array, each query specifying the name of the queried store.
+     *
+     * @param queries   the {@link QueryInfo} with their {@link Queried} options.
+     * @return          the JSON string.
+     */
+    public static String serializeBatch(final List<Tuple<QueryInfo, Queried>> queries) {
+        final List<Map<String, Object>> json = new ArrayList<>(queries.size());
+        for (Tuple<QueryInfo, Queried> query : queries) {
+            final Map<String, Object> jsonQuery = toJson(query.left(), query.right());
+            jsonQuery.put(STORE_JSON_FIELD, query.left().storeName());
+            json.add(jsonQuery);
+        }
+        return JSON.serialize(json);
+    }
+
+    private static Map<String, Object> toJson(final QueryInfo query, final Queried options) {
         Map<String, Object> json = new HashMap<>();
         json.put(QUERY_TYPE_JSON_FIELD, query.type().prettyName());
         json.put(QUERY_JSON_FIELD, Collections.singletonMap(
             query.operation().prettyName(), query.parameters().originals())
         );
-        json.put(SET_OPTIONS_JSON_FIELD, new QueryOptionsRequest(
+        final QueryOptionsRequest request = new QueryOptionsRequest(
                 options.retries(),
                 options.retryBackoff().toMillis(),
                 options.queryTimeout().toMillis(),
                 options.remoteAccessAllowed(),
                 options.limit()
-        ));
-        return JSON.serialize(json);
+        );
+        request.setContinuation(options.continuation());
+        // only sent when enabled, for compatibility with instances not supporting it.
+        request.setParallel(options.parallel() ? Boolean.TRUE : null);
+        request.setOrdered(options.ordered() ? Boolean.TRUE : null);
+        request.setHedgeDelay(options.isHedged() ? options.hedgeDelay().toMillis() : null);
+        request.setMaxStaleness(options.maxStaleness());
+        request.setDeadline(options.deadline());
+        json.put(SET_OPTIONS_JSON_FIELD, request);
+        if (options.aggregation() != null) {
+            json.put(AGGREGATE_JSON_FIELD, serializeAggregation(options.aggregation()));
+        }
+        if (options.filter() != null) {
+            json.put(FILTER_JSON_FIELD, serializeRecordFilter(options.filter()));
+        }
+        if (options.projection() != null) {
+            json.put(FIELDS_JSON_FIELD, options.projection().fields());
+        }
+        return json;
+    }
+
+    private static Map<String, Object> serializeAggregation(final Aggregation aggregation) {
+        final Map<String, Object> params = new HashMap<>();
+        Optional.ofNullable(aggregation.path()).ifPresent(path -> params.put(AGGREGATE_PATH_JSON_FIELD, path));
+        Optional.ofNullable(aggregation.n()).ifPresent(n -> params.put(AGGREGATE_N_JSON_FIELD, n));
+        return Collections.singletonMap(aggregation.operator().prettyName(), params);
+    }
+
+    private static Map<String, Object> serializeRecordFilter(final RecordFilter filter) {
+        final Map<String, Object> json = new HashMap<>();
+        Optional.ofNullable(filter.keyPrefix()).ifPresent(prefix -> json.put(FILTER_KEY_PREFIX_JSON_FIELD, prefix));
+        final List<Map<String, Object>> conditions = new ArrayList<>();
+        for (RecordFilter.Condition condition : filter.conditions()) {
+            final Map<String, Object> params = new HashMap<>();
+            Optional.ofNullable(condition.path()).ifPresent(path -> params.put(CONDITION_PATH_JSON_FIELD, path));
+            params.put(CONDITION_OP_JSON_FIELD, condition.operator().prettyName());
+            params.put(CONDITION_VALUE_JSON_FIELD, condition.value());
+            conditions.add(params);
+        }
+        json.put(FILTER_VALUE_JSON_FIELD, conditions);
+        return json;
     }
 
     private static Queried newQueried(final QueryOptionsRequest options) {
@@ -154,7 +327,12 @@ public class JsonQuerySerde {
                 Duration.ofMillis(Optional.ofNullable(options.getRetryBackoff()).orElse(0L)),
                 Duration.ofMillis(Optional.ofNullable(options.getQueryTimeout()).orElse(0L)),
                 Optional.ofNullable(options.isRemoteAccessAllowed()).orElse(true),
-                Optional.ofNullable(options.limit()).orElse(-1L)
-            );
+                Optional.ofNullable(options.limit()).orElse(-1L))
+                .withContinuation(options.continuation())
+                .withParallel(Optional.ofNullable(options.isParallel()).orElse(false))
+                .withOrdered(Optional.ofNullable(options.isOrdered()).orElse(false))
+                .withHedgeDelay(Optional.ofNullable(options.getHedgeDelay()).map(Duration::ofMillis).orElse(null))
+                .withMaxStaleness(options.getMaxStaleness())
+                .withDeadline(options.getDeadline());
     }
 }
@@ -32,4 +32,15 @@ public interface QueryURLBuilder {
     String buildURL(final String server,
                     final String applicationId,
                     final String store);
+
+    /**
+     * Builds the URL used for sending a batch of queries to a remote server for the specified application.
+     *
+     * @param server            the application server name (i.e host:port).
+     * @param applicationId     the application id.
+     *
+     * @return                  the string url.
+     */
+    String buildBatchURL(final String server,
+                         final String applicationId);
 }
@@ -22,6 +22,7 @@ import io.streamthoughts.azkarra.api.AzkarraStreamsService;
 import io.streamthoughts.azkarra.http.APIVersions;
 import io.streamthoughts.azkarra.http.handler.ApplicationGetInstancesHandler;
 import io.streamthoughts.azkarra.http.handler.ApplicationGetTopologyHandler;
+import io.streamthoughts.azkarra.http.handler.ApplicationQueryBatchHandler;
 import io.streamthoughts.azkarra.http.handler.ApplicationQueryStoreHandler;
 import io.streamthoughts.azkarra.http.spi.RoutingHandlerProvider;
 import io.undertow.Handlers;
@@ -53,9 +54,15 @@ public class ApiApplicationsRoutes implements RoutingHandlerProvider {
             .get(templatePath("{id}/topology"),
                 new ApplicationGetTopologyHandler(service))
 
+            // non-blocking: the response is sent once all the queries of the batch complete.
+            .post(templatePath("{id}/stores"),
+                new ApplicationQueryBatchHandler(service))
+
+            // non-blocking: the response is sent once the query completes.
             .post(templatePath("{id}/stores/{storeName}"),
-                new BlockingHandler(new ApplicationQueryStoreHandler(service, false)))
+                new ApplicationQueryStoreHandler(service, false))
 
+            // blocking: records are streamed to the client.
             .post(templatePath("{id}/stores/{storeName}/records"),
                 new BlockingHandler(new ApplicationQueryStoreHandler(service, true)));
     }
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.serialization.binary;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.query.result.ErrorResultSet;
+import io.streamthoughts.azkarra.api.query.result.GlobalResultSet;
+import io.streamthoughts.azkarra.api.query.result.QueryError;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
+import io.streamthoughts.azkarra.api.query.result.QueryStatus;
+import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
+import io.streamthoughts.azkarra.serialization.Serdes;
+import io.streamthoughts.azkarra.serialization.SerializationException;
+import io.streamthoughts.azkarra.serialization.json.Json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link Serdes} which is used for exchanging {@link QueryResult} between instances using a compact binary format.
+ *
+ * Each record is written as a length-prefixed JSON key and a length-prefixed JSON value, while the result envelope
+ * (status, servers, errors) is written as length-prefixed strings. Keys and values are still encoded in JSON,
+ * as returned to the client, because the serdes of the queried store are not known by the instance receiving
+ * the result: this format does not save the encoding of records on the answering instance.
+ *
+ * What it saves is the decoding of values on the receiving instance: when values are passed through, they are
+ * deserialized as {@link RawJsonValue}, which are written as is in the JSON response sent to the client, without
+ * being materialized.
+ *
+ * @since 0.8.0
+ */
+public final class BinaryQueryResultSerdes implements Serdes<QueryResult> {
+
+    public static final String CONTENT_TYPE = "application/vnd.azkarra.query-result.v1+binary";
+
+    private static final byte MAGIC = 'A';
+    private static final byte VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+
+    private final Json json;
+
+    private final boolean passthroughValues;
+
+    /**
+     * Creates a new {@link BinaryQueryResultSerdes} instance.
+     *
+     * @param json              the {@link Json} instance used for encoding keys and values.
+     * @param passthroughValues {@code true} if values should be deserialized as {@link RawJsonValue}.
+     */
+    public BinaryQueryResultSerdes(final Json json, final boolean passthroughValues) {
+        this.json = Objects.requireNonNull(json, "the Json object cannot be null");
+        this.passthroughValues = passthroughValues;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] serialize(final QueryResult object) throws SerializationException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeQueryResult(out, (QueryResult<?, ?>) object);
+        } catch (final IOException e) {
+            throw new SerializationException("Failed to serialize query result", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public QueryResult deserialize(final byte[] data) throws SerializationException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            return readQueryResult(in);
+        } catch (final IOException e) {
+            throw new SerializationException("Failed to deserialize query result", e);
+        }
+    }
+
+    private void writeQueryResult(final DataOutputStream out, final QueryResult<?, ?> result) throws IOException {
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(result.getTook());
+        out.writeBoolean(result.isTimeout());
+        writeString(out, result.getServer());
+        writeString(out, result.getStatus() == null ? null : result.getStatus().name());
+        writeString(out, result.getContinuation());
+
+        final GlobalResultSet<?, ?> rs = result.getResult();
+        out.writeBoolean(rs != null);
+        if (rs == null) return;
+
+        writeString(out, rs.getStore());
+        writeString(out, rs.getType());
+        writeString(out, rs.getError());
+
+        final List<ErrorResultSet> failure = orEmpty(rs.getFailure());
+        out.writeInt(rs.getFailure() == null ? NULL_LENGTH : failure.size());
+        for (ErrorResultSet error : failure) {
+            writeString(out, error.getServer());
+            out.writeBoolean(error.isRemote());
+            final List<QueryError> errors = orEmpty(error.getErrors());
+            out.writeInt(errors.size());
+            for (QueryError e : errors) {
+                writeString(out, e.message());
+            }
+        }
+
+        final List<? extends SuccessResultSet<?, ?>> success = orEmpty(rs.getSuccess());
+        out.writeInt(rs.getSuccess() == null ? NULL_LENGTH : success.size());
+        for (SuccessResultSet<?, ?> set : success) {
+            writeString(out, set.getServer());
+            out.writeBoolean(set.isRemote());
+            final List<? extends KV<?, ?>> records = orEmpty(set.getRecords());
+            out.writeInt(records.size());
+            for (KV<?, ?> record : records) {
+                writeField(out, record.key());
+                writeField(out, record.value());
+                out.writeBoolean(record.timestamp() != null);
+                if (record.timestamp() != null) {
+                    out.writeLong(record.timestamp());
+                }
+            }
+        }
+    }
+
+    private QueryResult<Object, Object> readQueryResult(final DataInputStream in) throws IOException {
+        if (in.readByte() != MAGIC || in.readByte() != VERSION) {
+            throw new IOException("unsupported format");
+        }
+        final QueryResultBuilder<Object, Object> builder = QueryResultBuilder.newBuilder()
+            .setTook(in.readLong())
+            .setTimeout(in.readBoolean())
+            .setServer(readString(in));
+        final String status = readString(in);
+        builder.setStatus(status == null ? null : QueryStatus.valueOf(status));
+        builder.setContinuation(readString(in));
+
+        if (!in.readBoolean()) {
+            return builder.build();
+        }
+
+        builder.setStoreName(readString(in))
+            .setStoreType(readString(in))
+            .setError(readString(in));
+
+        final int numFailure = in.readInt();
+        final List<ErrorResultSet> failure = numFailure == NULL_LENGTH ? null : new ArrayList<>(numFailure);
+        for (int i = 0; i < numFailure; i++) {
+            failure.add(readErrorResultSet(in));
+        }
+
+        final int numSuccess = in.readInt();
+        final List<SuccessResultSet<Object, Object>> success = numSuccess == NULL_LENGTH ?
+            null :
+            new ArrayList<>(numSuccess);
+        for (int i = 0; i < numSuccess; i++) {
+            success.add(readSuccessResultSet(in));
+        }
+        return builder
+            .setFailedResultSet(failure)
+            .setSuccessResultSet(success)
+            .build();
+    }
+
+    private static ErrorResultSet readErrorResultSet(final DataInputStream in) throws IOException {
+        final String server = readString(in);
+        final boolean remote = in.readBoolean();
+        final int numErrors = in.readInt();
+        final List<QueryError> errors = new ArrayList<>(numErrors);
+        for (int i = 0; i < numErrors; i++) {
+            errors.add(new QueryError(readString(in)));
+        }
+        return new ErrorResultSet(server, remote, errors);
+    }
+
+    private SuccessResultSet<Object, Object> readSuccessResultSet(final DataInputStream in) throws IOException {
+        final String server = readString(in);
+        final boolean remote = in.readBoolean();
+        final int numRecords = in.readInt();
+        final List<KV<Object, Object>> records = new ArrayList<>(numRecords);
+        for (int i = 0; i < numRecords; i++) {
+            // keys are always materialized as they may be compared for merging sorted results.
+            final Object key = decode(readBytes(in));
+            final byte[] value = readBytes(in);
+            final Long timestamp = in.readBoolean() ? in.readLong() : null;
+            final Object decoded = passthroughValues && value != null ? new RawJsonValue(value) : decode(value);
+            records.add(new KV<>(key, decoded, timestamp));
+        }
+        return new SuccessResultSet<>(server, remote, records);
+    }
+
+    private void writeField(final DataOutputStream out, final Object field) throws IOException {
+        if (field == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        // values received from another instance are forwarded without being re-encoded.
+        final byte[] bytes = field instanceof RawJsonValue ?
+            ((RawJsonValue) field).bytes() :
+            json.unwrap().writeValueAsBytes(field);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private Object decode(final byte[] bytes) {
+        return bytes == null ? null : json.deserialize(bytes, Object.class);
+    }
+
+    private static void writeString(final DataOutputStream out, final String s) throws IOException {
+        if (s == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final byte[] bytes = readBytes(in);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static <T> List<T> orEmpty(final List<T> list) {
+        return list == null ? Collections.emptyList() : list;
+    }
+}
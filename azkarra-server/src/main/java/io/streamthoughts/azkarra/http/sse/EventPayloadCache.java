@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.sse;
+
+import io.streamthoughts.azkarra.api.model.KV;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of the serialized payloads of the records sent to {@link ServerSentEventSubscriber}s.
+ *
+ * An event-stream publisher dispatches the same record instance to all its subscribers, so records are
+ * looked up by identity: the record is serialized by the first subscriber and the payload is shared with
+ * all other subscribers. The cache is direct-mapped, i.e. a record evicts the one cached in the same slot.
+ *
+ * @since 0.8.0
+ */
+public final class EventPayloadCache {
+
+    private static final int DEFAULT_SIZE = 1024;
+
+    private final AtomicReferenceArray<Entry> entries;
+
+    private final int mask;
+
+    /**
+     * Creates a new {@link EventPayloadCache} instance.
+     */
+    public EventPayloadCache() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates a new {@link EventPayloadCache} instance.
+     *
+     * @param size  the number of cached payloads, rounded up to the next power of two.
+     */
+    public EventPayloadCache(final int size) {
+        if (size <= 0 || size > (1 << 30))
+            throw new IllegalArgumentException("size must be in [1, 2^30], was :" + size);
+        final int capacity = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Gets the payload of the given record, serializing it if it is not cached.
+     *
+     * @param record        the record.
+     * @param serializer    the function used for serializing the record.
+     *
+     * @return  the serialized payload.
+     */
+    public String getOrSerialize(final KV<?, ?> record, final Function<KV<?, ?>, String> serializer) {
+        final int index = System.identityHashCode(record) & mask;
+        final Entry entry = entries.get(index);
+        if (entry != null && entry.record == record) {
+            return entry.payload;
+        }
+        final String payload = serializer.apply(record);
+        entries.set(index, new Entry(record, payload));
+        return payload;
+    }
+
+    private static final class Entry {
+
+        private final KV<?, ?> record;
+        private final String payload;
+
+        Entry(final KV<?, ?> record, final String payload) {
+            this.record = record;
+            this.payload = payload;
+        }
+    }
+}
@@ -39,6 +39,8 @@ public class EventStreamConnectionCallback implements ServerSentEventConnectionC
 
     private final Json json;
 
+    private final EventPayloadCache payloads = new EventPayloadCache();
+
     /**
      * Creates a new {@link EventStreamConnectionCallback} instance.
      *
@@ -72,7 +74,8 @@ public class EventStreamConnectionCallback implements ServerSentEventConnectionC
                 connection.shutdown();
                 return;
             }
-            publisher.subscribe(new ServerSentEventSubscriber<>(connection, publisher.type(), applicationId, json));
+            publisher.subscribe(
+                new ServerSentEventSubscriber<>(connection, publisher.type(), applicationId, json, payloads));
 
         } catch (NotFoundException e) {
             LOG.error(e.getMessage());
@@ -45,6 +45,7 @@ public class ServerSentEventSubscriber<K, V> implements Flow.Subscriber<KV<K, V>
     private final String applicationId;
     private Flow.Subscription subscription;
     private final Json json;
+    private final EventPayloadCache payloads;
 
     /**
      * Creates a new {@link ServerSentEventSubscriber} instance.
@@ -58,10 +59,28 @@ public class ServerSentEventSubscriber<K, V> implements Flow.Subscriber<KV<K, V>
                                      final String eventType,
                                      final String applicationId,
                                      final Json json) {
+        this(connection, eventType, applicationId, json, null);
+    }
+
+    /**
+     * Creates a new {@link ServerSentEventSubscriber} instance.
+     *
+     * @param connection    the {@link ServerSentEventConnection}.
+     * @param eventType     the event type.
+     * @param applicationId the {@code application.id} of KafkaStreams, used for logging.
+     * @param json          the {@link Json} serializer.
+     * @param payloads      the {@link EventPayloadCache} shared with the other subscribers (can be {@code null}).
+     */
+    public ServerSentEventSubscriber(final ServerSentEventConnection connection,
+                                     final String eventType,
+                                     final String applicationId,
+                                     final Json json,
+                                     final EventPayloadCache payloads) {
         this.connection = connection;
         this.eventType = eventType;
         this.applicationId = applicationId;
         this.json = json;
+        this.payloads = payloads;
     }
 
     /**
@@ -85,7 +104,10 @@ public class ServerSentEventSubscriber<K, V> implements Flow.Subscriber<KV<K, V>
     public void onNext(final KV<K, V> record) {
         Objects.requireNonNull(record); // rule 2.13
         if (connection.isOpen()) {
-            final String payload = json.serialize(StreamedEvent.record(record));
+            // the payload is serialized once for all the subscribers receiving the same record.
+            final String payload = payloads != null ?
+                payloads.getOrSerialize(record, this::serialize) :
+                serialize(record);
             connection.send(payload, eventType, null, new ServerSentEventConnection.EventCallback() {
                 @Override
                 public void done(final ServerSentEventConnection connection,
@@ -145,6 +167,10 @@ public class ServerSentEventSubscriber<K, V> implements Flow.Subscriber<KV<K, V>
         closeConnection();
     }
 
+    private String serialize(final KV<?, ?> record) {
+        return json.serialize(StreamedEvent.record(record));
+    }
+
     private void closeConnection() {
         connection.shutdown();
     }
@@ -42,6 +42,7 @@ public class HeadlessHttpHandlerTest {
     @Test
     public void shouldAllowAccessForApiPostStoresRequestWhenHeadlessEnable() throws Exception {
         assertRequestStatusCode(Methods.POST, "/api/applications/42/stores/", StatusCodes.OK);
+        assertRequestStatusCode(Methods.POST, "/api/applications/42/stores", StatusCodes.OK);
     }
 
     @Test
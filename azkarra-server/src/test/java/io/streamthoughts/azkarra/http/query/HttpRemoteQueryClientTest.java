@@ -19,6 +19,7 @@
 package io.streamthoughts.azkarra.http.query;
 
 import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.monad.Tuple;
 import io.streamthoughts.azkarra.api.query.Queried;
 import io.streamthoughts.azkarra.api.query.QueryInfo;
 import io.streamthoughts.azkarra.api.query.QueryParams;
@@ -30,11 +31,14 @@ import io.streamthoughts.azkarra.api.query.result.QueryStatus;
 import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
 import io.streamthoughts.azkarra.api.streams.ServerHostInfo;
 import io.streamthoughts.azkarra.http.APIVersions;
+import io.streamthoughts.azkarra.http.serialization.binary.BinaryQueryResultSerdes;
 import io.streamthoughts.azkarra.http.serialization.json.SpecificJsonSerdes;
 import io.streamthoughts.azkarra.serialization.Serdes;
 import io.streamthoughts.azkarra.serialization.json.Json;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -104,6 +108,90 @@ public class HttpRemoteQueryClientTest {
         Assertions.assertEquals(queryResult, response);
     }
 
+    @Test
+    public void shouldQueryRemoteServerGivenBinaryResponse() throws ExecutionException, InterruptedException {
+        final Serdes<QueryResult> binary = new BinaryQueryResultSerdes(Json.getDefault(), false);
+        client = new HttpRemoteQueryBuilder()
+            .setSerdes(List.of(binary, SERDES))
+            .setBasePath(APIVersions.PATH_V1)
+            .build();
+
+        QueryResult<String, String> queryResult = newQueryResult();
+        server.enqueue(new MockResponse()
+            .setResponseCode(HttpURLConnection.HTTP_OK)
+            .setHeader("Content-Type", BinaryQueryResultSerdes.CONTENT_TYPE)
+            .setBody(new Buffer().write(binary.serialize(queryResult)))
+        );
+        // a remote server not supporting the binary format answers in JSON.
+        server.enqueue(new MockResponse()
+            .setResponseCode(HttpURLConnection.HTTP_OK)
+            .setBody(new String(SERDES.serialize(queryResult)))
+        );
+
+        QueryInfo query = new QueryInfo(TEST_STORE_NAME, StoreType.KEY_VALUE, StoreOperation.ALL, QueryParams.empty());
+        Assertions.assertEquals(queryResult, client.query(SERVER_INFO, query, Queried.immediately()).get());
+        Assertions.assertEquals(queryResult, client.query(SERVER_INFO, query, Queried.immediately()).get());
+
+        final String accept = server.takeRequest().getHeader("Accept");
+        Assertions.assertTrue(accept.startsWith(BinaryQueryResultSerdes.CONTENT_TYPE));
+    }
+
+    @Test
+    public void shouldAcceptOnlyJsonResponseGivenDecodedValues() throws Exception {
+        final Serdes<QueryResult> binary = new BinaryQueryResultSerdes(Json.getDefault(), true);
+        client = new HttpRemoteQueryBuilder()
+            .setSerdes(List.of(binary, SERDES))
+            .setBasePath(APIVersions.PATH_V1)
+            .build();
+
+        QueryResult<String, String> queryResult = newQueryResult();
+        server.enqueue(new MockResponse()
+            .setResponseCode(HttpURLConnection.HTTP_OK)
+            .setBody(new String(SERDES.serialize(queryResult)))
+        );
+
+        QueryInfo query = new QueryInfo(TEST_STORE_NAME, StoreType.KEY_VALUE, StoreOperation.GET, QueryParams.empty());
+        Queried options = Queried.immediately().withDecodedValues(true);
+        Assertions.assertEquals(queryResult, client.query(SERVER_INFO, query, options).get());
+
+        final String accept = server.takeRequest().getHeader("Accept");
+        Assertions.assertEquals(SERDES.contentType(), accept);
+    }
+
+    @Test
+    public void shouldQueryRemoteServerGivenBatchOfQueries() throws Exception {
+        QueryInfo all = new QueryInfo(TEST_STORE_NAME, StoreType.KEY_VALUE, StoreOperation.ALL, QueryParams.empty());
+        QueryInfo count = new QueryInfo("other", StoreType.KEY_VALUE, StoreOperation.COUNT, QueryParams.empty());
+
+        QueryResult<String, String> queryResult = newQueryResult();
+        server.enqueue(new MockResponse()
+            .setResponseCode(HttpURLConnection.HTTP_OK)
+            .setBody(Json.getDefault().serialize(List.of(queryResult, queryResult)))
+        );
+
+        List<QueryResult<Object, Object>> results = client.queryBatch(SERVER_INFO, List.of(
+            Tuple.of(all, Queried.immediately()),
+            Tuple.of(count, Queried.immediately()))
+        ).get();
+        Assertions.assertEquals(List.of(queryResult, queryResult), results);
+
+        RecordedRequest request = server.takeRequest();
+        Assertions.assertEquals(APIVersions.PATH_V1 + "/applications/test/stores", request.getPath());
+    }
+
+    @Test
+    public void shouldReturnErrorResultsGivenBatchAndInvalidResponse() throws Exception {
+        QueryInfo all = new QueryInfo(TEST_STORE_NAME, StoreType.KEY_VALUE, StoreOperation.ALL, QueryParams.empty());
+        server.enqueue(new MockResponse().setResponseCode(HttpURLConnection.HTTP_INTERNAL_ERROR));
+
+        List<QueryResult<Object, Object>> results = client.queryBatch(SERVER_INFO, List.of(
+            Tuple.of(all, Queried.immediately()),
+            Tuple.of(all, Queried.immediately()))
+        ).get();
+        Assertions.assertEquals(2, results.size());
+        results.forEach(rs -> Assertions.assertEquals(QueryStatus.ERROR, rs.getStatus()));
+    }
+
     private QueryResult<String, String> newQueryResult() {
         List<KV<String, String>> kv = singletonList(KV.of("k1", "v1"));
         return QueryResultBuilder.<String, String>newBuilder()
@@ -21,12 +21,18 @@ package io.streamthoughts.azkarra.http.query;
 import io.streamthoughts.azkarra.api.monad.Tuple;
 import io.streamthoughts.azkarra.api.query.QueryParams;
 import io.streamthoughts.azkarra.api.query.StoreOperation;
+import io.streamthoughts.azkarra.api.query.Aggregation;
+import io.streamthoughts.azkarra.api.query.Projection;
 import io.streamthoughts.azkarra.api.query.Queried;
 import io.streamthoughts.azkarra.api.query.QueryInfo;
+import io.streamthoughts.azkarra.api.query.RecordFilter;
 import io.streamthoughts.azkarra.api.query.StoreType;
 import io.streamthoughts.azkarra.http.error.InvalidStateStoreQueryException;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -75,6 +81,75 @@ public class JsonQuerySerdeTest {
         assertEquals(42, tuple.right().retryBackoff().toMillis());
     }
 
+    @Test
+    public void shouldDeserializeGivenValidJsonMultiGetQueryWithArrayOfKeys() {
+
+        String dataString = " { \"type\" : \"key_value\", \"query\" : {  \"multi_get\" : {\"keys\" : [\"foo\", \"bar\"]} } }";
+        Tuple<QueryInfo, Queried> tuple = JsonQuerySerde.deserialize("store", dataString.getBytes());
+        assertEquals(StoreOperation.MULTI_GET, tuple.left().operation());
+        assertEquals(List.of("foo", "bar"), tuple.left().parameters().getValue("keys"));
+    }
+
+    @Test
+    public void shouldSerializeAndDeserializeGivenJsonQueryWithAggregation() {
+
+        String dataString = " { \"type\" : \"key_value\", \"query\" : {  \"all\" : {} }, \"aggregate\" : {\"top_n\": {\"n\": 10, \"path\": \"score\"}} }";
+        Tuple<QueryInfo, Queried> tuple = JsonQuerySerde.deserialize("store", dataString.getBytes());
+        assertEquals(Aggregation.topN(10, "score"), tuple.right().aggregation());
+
+        String serialized = JsonQuerySerde.serialize(tuple.left(), tuple.right());
+        assertEquals(tuple.right(), JsonQuerySerde.deserialize("store", serialized.getBytes()).right());
+    }
+
+    @Test
+    public void shouldSerializeAndDeserializeGivenJsonQueryWithFilterAndFields() {
+
+        String dataString = " { \"type\" : \"key_value\", \"query\" : {  \"all\" : {} }, " +
+            "\"filter\" : {\"key_prefix\": \"user-\", \"value\": [{\"path\": \"score\", \"op\": \"gte\", \"value\": 10}]}, " +
+            "\"fields\" : [\"name\", \"score\"] }";
+        Tuple<QueryInfo, Queried> tuple = JsonQuerySerde.deserialize("store", dataString.getBytes());
+        assertEquals(new RecordFilter("user-", List.of(
+            new RecordFilter.Condition("score", RecordFilter.Operator.GTE, 10))), tuple.right().filter());
+        assertEquals(new Projection(List.of("name", "score")), tuple.right().projection());
+
+        String serialized = JsonQuerySerde.serialize(tuple.left(), tuple.right());
+        assertEquals(tuple.right(), JsonQuerySerde.deserialize("store", serialized.getBytes()).right());
+    }
+
+    @Test
+    public void shouldSerializeAndDeserializeGivenBatchOfQueries() {
+        final List<Tuple<QueryInfo, Queried>> batch = List.of(
+            Tuple.of(
+                new QueryInfo("store-1", StoreType.KEY_VALUE, StoreOperation.GET, new QueryParams(Map.of("key", "k"))),
+                Queried.immediately()),
+            Tuple.of(
+                new QueryInfo("store-2", StoreType.WINDOW, StoreOperation.FETCH_ALL, QueryParams.empty()),
+                Queried.locally())
+        );
+        final String json = JsonQuerySerde.serializeBatch(batch);
+        final List<Tuple<QueryInfo, Queried>> deserialized = JsonQuerySerde.deserializeBatch(json.getBytes());
+        assertEquals(batch.size(), deserialized.size());
+        for (int i = 0; i < batch.size(); i++) {
+            final QueryInfo expected = batch.get(i).left();
+            final QueryInfo actual = deserialized.get(i).left();
+            assertEquals(expected.storeName(), actual.storeName());
+            assertEquals(expected.type(), actual.type());
+            assertEquals(expected.operation(), actual.operation());
+            assertEquals(expected.parameters().originals(), actual.parameters().originals());
+            assertEquals(batch.get(i).right(), deserialized.get(i).right());
+        }
+    }
+
+    @Test
+    public void shouldThrowExceptionGivenBatchWithQueryMissingStore() {
+        InvalidStateStoreQueryException exception = assertThrows(InvalidStateStoreQueryException.class, () -> {
+            String dataString = "[{ \"type\" : \"key_value\", \"query\" : { \"all\" : {} } }]";
+            JsonQuerySerde.deserializeBatch(dataString.getBytes());
+        });
+
+        assertEquals("Invalid JSON query: missing 'store' field", exception.getMessage());
+    }
+
     @Test
     public void shouldThrowExceptionGivenJsonQueryWithInvalidStoreType() {
         InvalidStateStoreQueryException exception = assertThrows(InvalidStateStoreQueryException.class, () -> {
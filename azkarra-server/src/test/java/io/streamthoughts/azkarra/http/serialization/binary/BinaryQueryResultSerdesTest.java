@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.serialization.binary;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import io.streamthoughts.azkarra.api.query.result.ErrorResultSet;
+import io.streamthoughts.azkarra.api.query.result.QueryError;
+import io.streamthoughts.azkarra.api.query.result.QueryResult;
+import io.streamthoughts.azkarra.api.query.result.QueryResultBuilder;
+import io.streamthoughts.azkarra.api.query.result.QueryStatus;
+import io.streamthoughts.azkarra.api.query.result.SuccessResultSet;
+import io.streamthoughts.azkarra.http.ExchangeHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+
+public class BinaryQueryResultSerdesTest {
+
+    @Test
+    public void shouldSerializeAndDeserializeQueryResult() {
+        final BinaryQueryResultSerdes serdes = new BinaryQueryResultSerdes(ExchangeHelper.JSON, false);
+        final QueryResult<Object, Object> result = newQueryResult();
+
+        final QueryResult deserialized = serdes.deserialize(serdes.serialize(result));
+        Assertions.assertEquals(result, deserialized);
+    }
+
+    @Test
+    public void shouldPassValuesThroughGivenPassthroughEnabled() {
+        final BinaryQueryResultSerdes serdes = new BinaryQueryResultSerdes(ExchangeHelper.JSON, true);
+        final QueryResult<Object, Object> result = newQueryResult();
+
+        final QueryResult<?, ?> deserialized = serdes.deserialize(serdes.serialize(result));
+        final KV<?, ?> record = deserialized.getResult().getSuccess().get(0).getRecords().get(0);
+        Assertions.assertEquals("k1", record.key());
+        Assertions.assertTrue(record.value() instanceof RawJsonValue);
+
+        // raw values are written as is, and can be forwarded again without being decoded.
+        Assertions.assertEquals(ExchangeHelper.JSON.serialize(result), ExchangeHelper.JSON.serialize(deserialized));
+        Assertions.assertEquals(deserialized, serdes.deserialize(serdes.serialize(deserialized)));
+    }
+
+    private static QueryResult<Object, Object> newQueryResult() {
+        final List<KV<Object, Object>> records = Arrays.asList(
+            KV.of("k1", Map.of("field", "value")),
+            KV.of("k2", 42, 1000L),
+            KV.of("k3", null)
+        );
+        return QueryResultBuilder.newBuilder()
+            .setServer("localhost:8080")
+            .setStatus(QueryStatus.PARTIAL)
+            .setStoreName("store")
+            .setStoreType("key_value")
+            .setTook(10)
+            .setTimeout(true)
+            .setContinuation("token")
+            .setSuccessResultSet(singletonList(new SuccessResultSet<>("localhost:8080", false, records)))
+            .setFailedResultSet(new ErrorResultSet("remote:8080", true, new QueryError("timed out")))
+            .build();
+    }
+}
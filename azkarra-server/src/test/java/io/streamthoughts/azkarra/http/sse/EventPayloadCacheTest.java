@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.azkarra.http.sse;
+
+import io.streamthoughts.azkarra.api.model.KV;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class EventPayloadCacheTest {
+
+    @Test
+    public void shouldSerializeSameRecordInstanceOnlyOnce() {
+        var cache = new EventPayloadCache();
+        var count = new AtomicInteger();
+        Function<KV<?, ?>, String> serializer = r -> {
+            count.incrementAndGet();
+            return r.key() + "=" + r.value();
+        };
+        var record = KV.of("k", "v");
+        Assertions.assertEquals("k=v", cache.getOrSerialize(record, serializer));
+        Assertions.assertEquals("k=v", cache.getOrSerialize(record, serializer));
+        Assertions.assertEquals(1, count.get());
+    }
+
+    @Test
+    public void shouldSerializeEqualButDistinctRecordInstances() {
+        var cache = new EventPayloadCache(1);
+        var count = new AtomicInteger();
+        Function<KV<?, ?>, String> serializer = r -> {
+            count.incrementAndGet();
+            return String.valueOf(r.value());
+        };
+        cache.getOrSerialize(KV.of("k", "v"), serializer);
+        cache.getOrSerialize(KV.of("k", "v"), serializer);
+        Assertions.assertEquals(2, count.get());
+    }
+
+    @Test
+    public void shouldThrowGivenInvalidSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new EventPayloadCache(0));
+    }
+}